@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.logging.log4j.message.MessageFactory;
+import org.apache.logging.log4j.message.ParameterizedMessageFactory;
+import org.apache.logging.log4j.message.ReusableMessageFactory;
+import org.apache.logging.log4j.message.StringFormatterMessageFactory;
+import org.apache.logging.log4j.simple.SimpleLoggerContext;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentLoggerRegistryTest {
+
+    private static final String NAME = "test";
+
+    private final SimpleLoggerContext context = new SimpleLoggerContext();
+
+    @Test
+    void default_message_factory_is_equivalent_to_null() {
+        final ConcurrentLoggerRegistry<ExtendedLogger> registry = new ConcurrentLoggerRegistry<>();
+        final ExtendedLogger logger = context.getLogger(NAME);
+        registry.putIfAbsent(NAME, null, logger);
+
+        final MessageFactory defaultFactory =
+                AbstractLogger.DEFAULT_MESSAGE_FACTORY_CLASS == ReusableMessageFactory.class
+                        ? ReusableMessageFactory.INSTANCE
+                        : ParameterizedMessageFactory.INSTANCE;
+        assertThat(registry.getLogger(NAME)).isSameAs(logger);
+        assertThat(registry.getLogger(NAME, defaultFactory)).isSameAs(logger);
+        assertThat(registry.hasLogger(NAME)).isTrue();
+        assertThat(registry.hasLogger(NAME, defaultFactory)).isTrue();
+        assertThat(registry.hasLogger(NAME, AbstractLogger.DEFAULT_MESSAGE_FACTORY_CLASS))
+                .isTrue();
+        assertThat(registry.getLoggers()).containsExactly(logger);
+    }
+
+    @Test
+    void other_message_factories_are_kept_apart() {
+        final ConcurrentLoggerRegistry<ExtendedLogger> registry = new ConcurrentLoggerRegistry<>();
+        final ExtendedLogger defaultLogger = context.getLogger(NAME);
+        final ExtendedLogger otherLogger = context.getLogger("other");
+        final MessageFactory factory = StringFormatterMessageFactory.INSTANCE;
+        registry.putIfAbsent(NAME, null, defaultLogger);
+        registry.putIfAbsent(NAME, factory, otherLogger);
+
+        assertThat(registry.getLogger(NAME)).isSameAs(defaultLogger);
+        assertThat(registry.getLogger(NAME, factory)).isSameAs(otherLogger);
+        assertThat(registry.hasLogger(NAME, factory.getClass())).isTrue();
+        assertThat(registry.hasLogger("missing", factory)).isFalse();
+        assertThat(registry.getLoggers()).containsExactlyInAnyOrder(defaultLogger, otherLogger);
+    }
+
+    @Test
+    void logger_names_of_classes() {
+        assertThat(ConcurrentLoggerRegistry.getLoggerName(ConcurrentLoggerRegistryTest.class))
+                .isEqualTo(ConcurrentLoggerRegistryTest.class.getCanonicalName());
+        final Object anonymous = new Object() {};
+        assertThat(ConcurrentLoggerRegistry.getLoggerName(anonymous.getClass()))
+                .isEqualTo(anonymous.getClass().getName());
+    }
+}
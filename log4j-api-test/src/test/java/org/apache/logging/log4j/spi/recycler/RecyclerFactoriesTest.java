@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.spi.recycler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class RecyclerFactoriesTest {
+
+    @Test
+    void dummy_never_reuses_objects() {
+        final Recycler<StringBuilder> recycler =
+                RecyclerFactories.ofSpec("dummy").create(StringBuilder::new);
+        final StringBuilder first = recycler.acquire();
+        recycler.release(first);
+        assertThat(recycler.acquire()).isNotSameAs(first);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"threadLocal", "threadLocal:capacity=2", "striped", "striped:capacity=2"})
+    void released_objects_are_reused_and_cleaned(final String spec) {
+        final Recycler<StringBuilder> recycler =
+                RecyclerFactories.ofSpec(spec).create(StringBuilder::new, builder -> builder.setLength(0));
+        final StringBuilder first = recycler.acquire();
+        first.append("dirty");
+        recycler.release(first);
+        final StringBuilder second = recycler.acquire();
+        assertThat(second).isSameAs(first);
+        assertThat(second).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"threadLocal:capacity=2", "striped:capacity=2"})
+    void acquired_objects_are_distinct(final String spec) {
+        final Recycler<Object> recycler = RecyclerFactories.ofSpec(spec).create(Object::new);
+        final Object first = recycler.acquire();
+        final Object second = recycler.acquire();
+        assertThat(second).isNotSameAs(first);
+        recycler.release(first);
+        recycler.release(second);
+        assertThat(recycler.acquire()).isIn(first, second);
+    }
+
+    @Test
+    void striped_capacity_is_bounded() {
+        final Recycler<Object> recycler =
+                RecyclerFactories.ofSpec("striped:capacity=4").create(Object::new);
+        final List<Object> objects = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            objects.add(recycler.acquire());
+        }
+        objects.forEach(recycler::release);
+        final List<Object> reused = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            final Object object = recycler.acquire();
+            if (objects.contains(object)) {
+                reused.add(object);
+            }
+        }
+        assertThat(reused).hasSizeBetween(1, 4).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void striped_recycler_is_shared_between_threads() throws InterruptedException {
+        final Recycler<Object> recycler =
+                RecyclerFactories.ofSpec("striped:capacity=1").create(Object::new);
+        final AtomicReference<Object> released = new AtomicReference<>();
+        final Thread thread = new Thread(() -> {
+            final Object object = recycler.acquire();
+            released.set(object);
+            recycler.release(object);
+        });
+        thread.start();
+        thread.join();
+        assertThat(recycler.acquire()).isSameAs(released.get());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"threadLocal:", "striped:capacity=0", "striped:capacity=x", "com.example.Missing"})
+    void invalid_specs_are_rejected(final String spec) {
+        assertThatThrownBy(() -> RecyclerFactories.ofSpec(spec)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void custom_factory_is_instantiated() {
+        assertThat(RecyclerFactories.ofSpec(TestRecyclerFactory.class.getName()))
+                .isInstanceOf(TestRecyclerFactory.class);
+    }
+
+    public static final class TestRecyclerFactory implements RecyclerFactory {
+
+        @Override
+        public <V> Recycler<V> create(final Supplier<V> supplier, final Consumer<V> cleaner) {
+            return RecyclerFactories.ofSpec("dummy").create(supplier, cleaner);
+        }
+    }
+}
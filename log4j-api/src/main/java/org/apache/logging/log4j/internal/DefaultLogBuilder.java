@@ -25,6 +25,7 @@ import org.apache.logging.log4j.Marker;
 import org.apache.logging.log4j.message.Message;
 import org.apache.logging.log4j.message.SimpleMessage;
 import org.apache.logging.log4j.spi.ExtendedLogger;
+import org.apache.logging.log4j.spi.recycler.Recycler;
 import org.apache.logging.log4j.status.StatusLogger;
 import org.apache.logging.log4j.util.LambdaUtil;
 import org.apache.logging.log4j.util.StackLocatorUtil;
@@ -47,6 +48,7 @@ public class DefaultLogBuilder implements BridgeAware, LogBuilder {
     private volatile boolean inUse;
     private long threadId;
     private String fqcn = FQCN;
+    private Recycler<DefaultLogBuilder> recycler;
 
     public DefaultLogBuilder(final ExtendedLogger logger, final Level level) {
         this.logger = logger;
@@ -75,10 +77,25 @@ public class DefaultLogBuilder implements BridgeAware, LogBuilder {
         this.marker = null;
         this.throwable = null;
         this.location = null;
+        this.threadId = Thread.currentThread().getId();
         this.inUse = true;
         return this;
     }
 
+    /**
+     * This method should be considered internal. It is used to reset a pooled LogBuilder for a new log message.
+     * The LogBuilder returns itself to the recycler once the message has been logged.
+     * @param level The logging level for this event.
+     * @param recycler The recycler this instance was acquired from.
+     * @return This LogBuilder instance.
+     * @since 2.24.0
+     */
+    public LogBuilder reset(
+            final ExtendedLogger logger, final Level level, final Recycler<DefaultLogBuilder> recycler) {
+        this.recycler = recycler;
+        return reset(logger, level);
+    }
+
     @Override
     public LogBuilder withMarker(final Marker marker) {
         this.marker = marker;
@@ -271,6 +288,15 @@ public class DefaultLogBuilder implements BridgeAware, LogBuilder {
             logger.logMessage(level, marker, fqcn, location, message, throwable);
         } finally {
             inUse = false;
+            if (recycler != null) {
+                final Recycler<DefaultLogBuilder> current = recycler;
+                logger = null;
+                marker = null;
+                throwable = null;
+                location = null;
+                recycler = null;
+                current.release(this);
+            }
         }
     }
 
@@ -17,11 +17,13 @@
 package org.apache.logging.log4j.message;
 
 import java.io.Serializable;
+import org.apache.logging.log4j.spi.recycler.Recycler;
+import org.apache.logging.log4j.spi.recycler.RecyclerFactories;
 import org.apache.logging.log4j.util.PerformanceSensitive;
 
 /**
  * Implementation of the {@link MessageFactory} interface that avoids allocating temporary objects where possible.
- * Message instances are cached in a ThreadLocal and reused when a new message is requested within the same thread.
+ * Message instances are kept in a {@link Recycler} and reused once they have been {@linkplain #release released}.
  * @see ParameterizedMessageFactory
  * @see ReusableSimpleMessage
  * @see ReusableObjectMessage
@@ -29,11 +31,6 @@ import org.apache.logging.log4j.util.PerformanceSensitive;
  * @since 2.6
  */
 @PerformanceSensitive("allocation")
-/*
- * https://errorprone.info/bugpattern/ThreadLocalUsage
- * Instance thread locals are not a problem here, since this class is almost a singleton.
- */
-@SuppressWarnings("ThreadLocalUsage")
 public final class ReusableMessageFactory implements MessageFactory2, Serializable {
 
     /**
@@ -42,51 +39,64 @@ public final class ReusableMessageFactory implements MessageFactory2, Serializab
     public static final ReusableMessageFactory INSTANCE = new ReusableMessageFactory();
 
     private static final long serialVersionUID = 1L;
-    private final transient ThreadLocal<ReusableParameterizedMessage> threadLocalParameterized = new ThreadLocal<>();
-    private final transient ThreadLocal<ReusableSimpleMessage> threadLocalSimpleMessage = new ThreadLocal<>();
-    private final transient ThreadLocal<ReusableObjectMessage> threadLocalObjectMessage = new ThreadLocal<>();
+
+    private static final Recycler<ReusableParameterizedMessage> PARAMETERIZED_RECYCLER =
+            RecyclerFactories.getDefault().create(ReusableParameterizedMessage::new);
+    private static final Recycler<ReusableSimpleMessage> SIMPLE_RECYCLER =
+            RecyclerFactories.getDefault().create(ReusableSimpleMessage::new);
+    private static final Recycler<ReusableObjectMessage> OBJECT_RECYCLER =
+            RecyclerFactories.getDefault().create(ReusableObjectMessage::new);
 
     /**
      * Constructs a message factory.
      */
     public ReusableMessageFactory() {}
 
-    private ReusableParameterizedMessage getParameterized() {
-        ReusableParameterizedMessage result = threadLocalParameterized.get();
-        if (result == null) {
-            result = new ReusableParameterizedMessage();
-            threadLocalParameterized.set(result);
-        }
-        return result.reserved ? new ReusableParameterizedMessage().reserve() : result.reserve();
+    private static ReusableParameterizedMessage getParameterized() {
+        return PARAMETERIZED_RECYCLER.acquire().reserve();
     }
 
-    private ReusableSimpleMessage getSimple() {
-        ReusableSimpleMessage result = threadLocalSimpleMessage.get();
-        if (result == null) {
-            result = new ReusableSimpleMessage();
-            threadLocalSimpleMessage.set(result);
-        }
+    private static ReusableSimpleMessage getSimple() {
+        final ReusableSimpleMessage result = SIMPLE_RECYCLER.acquire();
+        result.reserved = true;
         return result;
     }
 
-    private ReusableObjectMessage getObject() {
-        ReusableObjectMessage result = threadLocalObjectMessage.get();
-        if (result == null) {
-            result = new ReusableObjectMessage();
-            threadLocalObjectMessage.set(result);
-        }
+    private static ReusableObjectMessage getObject() {
+        final ReusableObjectMessage result = OBJECT_RECYCLER.acquire();
+        result.reserved = true;
         return result;
     }
 
     /**
      * Invokes {@link Clearable#clear()} when possible.
-     * This flag is used internally to verify that a reusable message is no longer in use and
-     * can be reused.
+     * Messages created by this factory are then made available to subsequent calls.
      * @param message the message to make available again
      * @since 2.7
      */
     public static void release(final Message message) { // LOG4J2-1583
-        if (message instanceof Clearable) {
+        if (message instanceof ReusableParameterizedMessage) {
+            final ReusableParameterizedMessage parameterized = (ReusableParameterizedMessage) message;
+            final boolean reserved = parameterized.reserved;
+            parameterized.clear();
+            if (reserved) {
+                PARAMETERIZED_RECYCLER.release(parameterized);
+            }
+        } else if (message instanceof ReusableSimpleMessage) {
+            final ReusableSimpleMessage simple = (ReusableSimpleMessage) message;
+            final boolean reserved = simple.reserved;
+            simple.clear();
+            if (reserved) {
+                SIMPLE_RECYCLER.release(simple);
+            }
+        } else if (message instanceof ReusableObjectMessage) {
+            final ReusableObjectMessage object = (ReusableObjectMessage) message;
+            final boolean reserved = object.reserved;
+            object.clear();
+            if (reserved) {
+                OBJECT_RECYCLER.release(object);
+            }
+        } else if (message instanceof Clearable) {
             ((Clearable) message).clear();
         }
     }
@@ -28,6 +28,7 @@ public class ReusableObjectMessage implements ReusableMessage, ParameterVisitabl
     private static final long serialVersionUID = 6922476812535519960L;
 
     private transient Object obj;
+    transient boolean reserved = false; // prevents reuse by a nested logging call
 
     public void set(final Object object) {
         this.obj = object;
@@ -133,6 +134,7 @@ public class ReusableObjectMessage implements ReusableMessage, ParameterVisitabl
 
     @Override
     public void clear() {
+        reserved = false;
         obj = null;
     }
 
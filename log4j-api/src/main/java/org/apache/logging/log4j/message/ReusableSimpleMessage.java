@@ -27,6 +27,7 @@ import org.apache.logging.log4j.util.PerformanceSensitive;
 public class ReusableSimpleMessage implements ReusableMessage, CharSequence, ParameterVisitable, Clearable {
     private static final long serialVersionUID = -9199974506498249809L;
     private CharSequence charSequence;
+    transient boolean reserved = false; // prevents reuse by a nested logging call
 
     public void set(final String message) {
         this.charSequence = message;
@@ -107,6 +108,7 @@ public class ReusableSimpleMessage implements ReusableMessage, CharSequence, Par
 
     @Override
     public void clear() {
+        reserved = false;
         charSequence = null;
     }
 
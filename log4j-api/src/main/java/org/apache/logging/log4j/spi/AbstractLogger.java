@@ -32,6 +32,8 @@ import org.apache.logging.log4j.message.MessageFactory2;
 import org.apache.logging.log4j.message.ParameterizedMessageFactory;
 import org.apache.logging.log4j.message.ReusableMessageFactory;
 import org.apache.logging.log4j.message.StringFormattedMessage;
+import org.apache.logging.log4j.spi.recycler.Recycler;
+import org.apache.logging.log4j.spi.recycler.RecyclerFactories;
 import org.apache.logging.log4j.status.StatusLogger;
 import org.apache.logging.log4j.util.Constants;
 import org.apache.logging.log4j.util.LambdaUtil;
@@ -103,7 +105,6 @@ public abstract class AbstractLogger implements ExtendedLogger, LocationAwareLog
     private final MessageFactory2 messageFactory;
     private final FlowMessageFactory flowMessageFactory;
     private static final ThreadLocal<int[]> recursionDepthHolder = new ThreadLocal<>(); // LOG4J2-1518, LOG4J2-2031
-    private static final ThreadLocal<DefaultLogBuilder> logBuilder = ThreadLocal.withInitial(DefaultLogBuilder::new);
 
     /**
      * Constructs an instance named after this class.
@@ -3836,11 +3837,15 @@ public abstract class AbstractLogger implements ExtendedLogger, LocationAwareLog
      */
     protected LogBuilder getLogBuilder(final Level level) {
         if (Constants.ENABLE_THREADLOCALS) {
-            final DefaultLogBuilder builder = logBuilder.get();
-            if (!builder.isInUse()) {
-                return builder.reset(this, level);
-            }
+            final Recycler<DefaultLogBuilder> recycler = LogBuilderRecyclerHolder.RECYCLER;
+            return recycler.acquire().reset(this, level, recycler);
         }
         return new DefaultLogBuilder(this, level);
     }
+
+    // Lazily initialized: the default recycler factory reads properties, which requires the status logger.
+    private static final class LogBuilderRecyclerHolder {
+        private static final Recycler<DefaultLogBuilder> RECYCLER =
+                RecyclerFactories.getDefault().create(DefaultLogBuilder::new);
+    }
 }
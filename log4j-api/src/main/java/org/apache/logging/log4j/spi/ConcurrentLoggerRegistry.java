@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.spi;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.logging.log4j.message.MessageFactory;
+import org.apache.logging.log4j.util.PerformanceSensitive;
+
+/**
+ * A {@link LoggerRegistry} specialized for loggers that use the default message factory.
+ * <p>
+ * These loggers are kept in a single flat concurrent map, so that looking them up requires neither a message factory
+ * lookup nor any allocation. Loggers with other message factories are stored as in {@link LoggerRegistry}.
+ * </p>
+ *
+ * @param <T> subtype of {@code ExtendedLogger}
+ * @since 2.24.0
+ */
+@PerformanceSensitive("allocation")
+public class ConcurrentLoggerRegistry<T extends ExtendedLogger> extends LoggerRegistry<T> {
+
+    private static final Class<? extends MessageFactory> DEFAULT_FACTORY_CLASS =
+            AbstractLogger.DEFAULT_MESSAGE_FACTORY_CLASS;
+
+    private static final ClassValue<String> LOGGER_NAMES = new ClassValue<String>() {
+        @Override
+        protected String computeValue(final Class<?> type) {
+            final String canonicalName = type.getCanonicalName();
+            return canonicalName != null ? canonicalName : type.getName();
+        }
+    };
+
+    private final ConcurrentMap<String, T> defaultLoggers = new ConcurrentHashMap<>();
+
+    public ConcurrentLoggerRegistry() {
+        super(new ConcurrentMapFactory<T>());
+    }
+
+    /**
+     * Returns the name of the logger associated with a class.
+     * <p>
+     * This is the canonical name of the class or its binary name if the class does not have a canonical name. The
+     * result is cached per class.
+     * </p>
+     * @param type A class.
+     * @return The name of the logger.
+     */
+    public static String getLoggerName(final Class<?> type) {
+        return LOGGER_NAMES.get(type);
+    }
+
+    private static boolean isDefault(final MessageFactory messageFactory) {
+        return messageFactory == null || messageFactory.getClass() == DEFAULT_FACTORY_CLASS;
+    }
+
+    private static boolean isDefault(final Class<? extends MessageFactory> messageFactoryClass) {
+        return messageFactoryClass == null || messageFactoryClass == DEFAULT_FACTORY_CLASS;
+    }
+
+    @Override
+    public T getLogger(final String name) {
+        return defaultLoggers.get(name);
+    }
+
+    @Override
+    public T getLogger(final String name, final MessageFactory messageFactory) {
+        return isDefault(messageFactory) ? defaultLoggers.get(name) : super.getLogger(name, messageFactory);
+    }
+
+    @Override
+    public Collection<T> getLoggers(final Collection<T> destination) {
+        destination.addAll(defaultLoggers.values());
+        return super.getLoggers(destination);
+    }
+
+    @Override
+    public boolean hasLogger(final String name) {
+        return defaultLoggers.containsKey(name);
+    }
+
+    @Override
+    public boolean hasLogger(final String name, final MessageFactory messageFactory) {
+        return isDefault(messageFactory) ? defaultLoggers.containsKey(name) : super.hasLogger(name, messageFactory);
+    }
+
+    @Override
+    public boolean hasLogger(final String name, final Class<? extends MessageFactory> messageFactoryClass) {
+        return isDefault(messageFactoryClass)
+                ? defaultLoggers.containsKey(name)
+                : super.hasLogger(name, messageFactoryClass);
+    }
+
+    @Override
+    public void putIfAbsent(final String name, final MessageFactory messageFactory, final T logger) {
+        if (isDefault(messageFactory)) {
+            defaultLoggers.putIfAbsent(name, logger);
+        } else {
+            super.putIfAbsent(name, messageFactory, logger);
+        }
+    }
+}
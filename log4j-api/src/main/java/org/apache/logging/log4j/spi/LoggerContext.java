@@ -42,8 +42,7 @@ public interface LoggerContext {
      * @since 2.14.0
      */
     default ExtendedLogger getLogger(Class<?> cls) {
-        final String canonicalName = cls.getCanonicalName();
-        return getLogger(canonicalName != null ? canonicalName : cls.getName());
+        return getLogger(ConcurrentLoggerRegistry.getLoggerName(cls));
     }
 
     /**
@@ -55,8 +54,7 @@ public interface LoggerContext {
      * @since 2.14.0
      */
     default ExtendedLogger getLogger(Class<?> cls, MessageFactory messageFactory) {
-        final String canonicalName = cls.getCanonicalName();
-        return getLogger(canonicalName != null ? canonicalName : cls.getName(), messageFactory);
+        return getLogger(ConcurrentLoggerRegistry.getLoggerName(cls), messageFactory);
     }
 
     /**
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.spi.recycler;
+
+/**
+ * A pool of reusable objects.
+ * <p>
+ * Each acquired object must be released at most once and must not be used after it was released.
+ * </p>
+ *
+ * @param <V> the type of the pooled objects
+ * @since 2.24.0
+ */
+public interface Recycler<V> {
+
+    /**
+     * Returns a pooled object, or a new one if none is available.
+     *
+     * @return an object ready for use
+     */
+    V acquire();
+
+    /**
+     * Returns an object to the pool.
+     *
+     * @param value an object previously acquired from this recycler
+     */
+    void release(V value);
+}
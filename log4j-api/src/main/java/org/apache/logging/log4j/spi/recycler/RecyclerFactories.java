@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.spi.recycler;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.status.StatusLogger;
+import org.apache.logging.log4j.util.Constants;
+import org.apache.logging.log4j.util.LoaderUtil;
+import org.apache.logging.log4j.util.PropertiesUtil;
+
+/**
+ * Provides the {@link RecyclerFactory} used by the garbage-free code paths of Log4j.
+ *
+ * @since 2.24.0
+ */
+public final class RecyclerFactories {
+
+    /**
+     * The property ({@value}) that selects the default recycler factory.
+     *
+     * @see #ofSpec(String)
+     */
+    public static final String RECYCLER_FACTORY_PROPERTY = "log4j2.recyclerFactory";
+
+    private static final int DEFAULT_THREAD_LOCAL_CAPACITY = 4;
+
+    private static final int DEFAULT_STRIPED_CAPACITY =
+            Math.max(2 * Runtime.getRuntime().availableProcessors() + 1, 8);
+
+    private static final RecyclerFactory DEFAULT = readDefault();
+
+    private RecyclerFactories() {}
+
+    private static RecyclerFactory readDefault() {
+        final String spec = PropertiesUtil.getProperties().getStringProperty(RECYCLER_FACTORY_PROPERTY);
+        try {
+            return ofSpec(spec);
+        } catch (final IllegalArgumentException error) {
+            StatusLogger.getLogger()
+                    .error("Invalid value for property {}, using the default recycler factory.", spec, error);
+            return ofSpec(null);
+        }
+    }
+
+    /**
+     * Returns the recycler factory selected by the {@value #RECYCLER_FACTORY_PROPERTY} property.
+     *
+     * @return the default recycler factory
+     */
+    public static RecyclerFactory getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Creates a recycler factory from its specification.
+     * <p>
+     * Supported values are:
+     * </p>
+     * <dl>
+     *     <dt>{@code threadLocal[:capacity=<n>]}</dt>
+     *     <dd>keeps up to {@code n} (default 4) objects per platform thread; virtual threads use a striped pool,</dd>
+     *     <dt>{@code striped[:capacity=<n>]}</dt>
+     *     <dd>a lock-free pool of {@code n} objects shared by all threads, by default twice the number of
+     *     processors,</dd>
+     *     <dt>{@code dummy}</dt>
+     *     <dd>does not pool: a new object is created each time,</dd>
+     *     <dt>a class name</dt>
+     *     <dd>a {@link RecyclerFactory} implementation with a public no-arg constructor.</dd>
+     * </dl>
+     * <p>
+     * If the specification is {@code null}, {@code threadLocal} is used if thread locals are enabled and
+     * {@code striped} otherwise.
+     * </p>
+     *
+     * @param spec a specification or {@code null}
+     * @return a recycler factory
+     * @throws IllegalArgumentException if the specification is invalid
+     */
+    public static RecyclerFactory ofSpec(final String spec) {
+        if (spec == null) {
+            return Constants.ENABLE_THREADLOCALS
+                    ? threadLocal(DEFAULT_THREAD_LOCAL_CAPACITY)
+                    : striped(DEFAULT_STRIPED_CAPACITY);
+        }
+        final String trimmed = spec.trim();
+        if ("dummy".equals(trimmed)) {
+            return dummy();
+        }
+        if (trimmed.startsWith("threadLocal")) {
+            return threadLocal(readCapacity(trimmed, "threadLocal", DEFAULT_THREAD_LOCAL_CAPACITY));
+        }
+        if (trimmed.startsWith("striped")) {
+            return striped(readCapacity(trimmed, "striped", DEFAULT_STRIPED_CAPACITY));
+        }
+        try {
+            return LoaderUtil.newCheckedInstanceOf(trimmed, RecyclerFactory.class);
+        } catch (final ReflectiveOperationException | ClassCastException | LinkageError error) {
+            throw new IllegalArgumentException("Invalid recycler factory: " + spec, error);
+        }
+    }
+
+    private static RecyclerFactory dummy() {
+        return new RecyclerFactory() {
+            @Override
+            public <V> Recycler<V> create(final Supplier<V> supplier, final Consumer<V> cleaner) {
+                return new DummyRecycler<>(supplier);
+            }
+        };
+    }
+
+    private static RecyclerFactory threadLocal(final int capacity) {
+        return new RecyclerFactory() {
+            @Override
+            public <V> Recycler<V> create(final Supplier<V> supplier, final Consumer<V> cleaner) {
+                return new ThreadLocalRecycler<>(
+                        supplier,
+                        cleaner,
+                        capacity,
+                        new StripedRecycler<>(supplier, cleaner, DEFAULT_STRIPED_CAPACITY));
+            }
+        };
+    }
+
+    private static RecyclerFactory striped(final int capacity) {
+        return new RecyclerFactory() {
+            @Override
+            public <V> Recycler<V> create(final Supplier<V> supplier, final Consumer<V> cleaner) {
+                return new StripedRecycler<>(supplier, cleaner, capacity);
+            }
+        };
+    }
+
+    private static int readCapacity(final String spec, final String name, final int defaultCapacity) {
+        final String parameters = spec.substring(name.length()).trim();
+        if (parameters.isEmpty()) {
+            return defaultCapacity;
+        }
+        final String prefix = ":capacity=";
+        if (!parameters.startsWith(prefix)) {
+            throw new IllegalArgumentException("Invalid recycler factory: " + spec);
+        }
+        try {
+            final int capacity =
+                    Integer.parseInt(parameters.substring(prefix.length()).trim());
+            if (capacity > 0) {
+                return capacity;
+            }
+        } catch (final NumberFormatException ignored) {
+            // reported below
+        }
+        throw new IllegalArgumentException("Invalid capacity in recycler factory: " + spec);
+    }
+}
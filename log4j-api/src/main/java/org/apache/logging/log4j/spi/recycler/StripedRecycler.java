@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.spi.recycler;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A bounded, lock-free pool shared by all threads.
+ * <p>
+ * The pool is an array of slots. Each thread starts searching at a slot derived from its identifier, so that
+ * concurrent threads mostly touch different slots. Acquiring from an empty pool creates a new object and releasing to
+ * a full pool drops the object; neither allocates.
+ * </p>
+ */
+final class StripedRecycler<V> implements Recycler<V> {
+
+    private final Supplier<V> supplier;
+
+    private final Consumer<V> cleaner;
+
+    private final AtomicReferenceArray<V> slots;
+
+    private final int mask;
+
+    StripedRecycler(final Supplier<V> supplier, final Consumer<V> cleaner, final int capacity) {
+        this.supplier = supplier;
+        this.cleaner = cleaner;
+        final int size = capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    // Visible for tests
+    int getCapacity() {
+        return slots.length();
+    }
+
+    @Override
+    public V acquire() {
+        final int start = stripe();
+        for (int i = 0; i <= mask; i++) {
+            final int index = (start + i) & mask;
+            final V value = slots.get(index);
+            if (value != null && slots.compareAndSet(index, value, null)) {
+                cleaner.accept(value);
+                return value;
+            }
+        }
+        return supplier.get();
+    }
+
+    @Override
+    public void release(final V value) {
+        final int start = stripe();
+        for (int i = 0; i <= mask; i++) {
+            final int index = (start + i) & mask;
+            if (slots.get(index) == null && slots.compareAndSet(index, null, value)) {
+                return;
+            }
+        }
+    }
+
+    private int stripe() {
+        // Fibonacci hashing spreads the sequential thread identifiers
+        return (int) ((Thread.currentThread().getId() * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+    }
+}
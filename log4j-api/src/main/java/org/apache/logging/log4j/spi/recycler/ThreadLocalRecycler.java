@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.spi.recycler;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A recycler that keeps a few objects per platform thread and uses a shared pool on virtual threads.
+ * <p>
+ * Caching objects in a {@link ThreadLocal} gives no reuse on virtual threads, which are usually created for a single
+ * task, and keeps one copy per virtual thread alive. Virtual threads therefore use a {@link StripedRecycler}.
+ * </p>
+ */
+final class ThreadLocalRecycler<V> implements Recycler<V> {
+
+    private final Supplier<V> supplier;
+
+    private final Consumer<V> cleaner;
+
+    private final int capacity;
+
+    private final ThreadLocal<Deque<V>> holder;
+
+    private final Recycler<V> virtualThreadRecycler;
+
+    ThreadLocalRecycler(
+            final Supplier<V> supplier,
+            final Consumer<V> cleaner,
+            final int capacity,
+            final Recycler<V> virtualThreadRecycler) {
+        this.supplier = supplier;
+        this.cleaner = cleaner;
+        this.capacity = capacity;
+        this.holder = ThreadLocal.withInitial(() -> new ArrayDeque<>(capacity));
+        this.virtualThreadRecycler = virtualThreadRecycler;
+    }
+
+    @Override
+    public V acquire() {
+        if (VirtualThreads.isCurrentThreadVirtual()) {
+            return virtualThreadRecycler.acquire();
+        }
+        final V value = holder.get().pollFirst();
+        if (value == null) {
+            return supplier.get();
+        }
+        cleaner.accept(value);
+        return value;
+    }
+
+    @Override
+    public void release(final V value) {
+        if (VirtualThreads.isCurrentThreadVirtual()) {
+            virtualThreadRecycler.release(value);
+            return;
+        }
+        final Deque<V> queue = holder.get();
+        if (queue.size() < capacity) {
+            queue.offerFirst(value);
+        }
+    }
+}
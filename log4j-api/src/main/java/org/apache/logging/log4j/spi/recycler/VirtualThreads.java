@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.spi.recycler;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import org.apache.logging.log4j.util.InternalApi;
+
+/**
+ * Detects virtual threads on Java 21 and later.
+ *
+ * @since 2.24.0
+ */
+@InternalApi
+public final class VirtualThreads {
+
+    private static final MethodHandle IS_VIRTUAL = findIsVirtual();
+
+    private VirtualThreads() {}
+
+    private static MethodHandle findIsVirtual() {
+        try {
+            return MethodHandles.publicLookup()
+                    .findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+        } catch (final NoSuchMethodException | IllegalAccessException ignored) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks whether the current thread is a virtual thread.
+     *
+     * @return {@code true} if the current thread is virtual
+     */
+    public static boolean isCurrentThreadVirtual() {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(Thread.currentThread());
+        } catch (final Throwable ignored) {
+            return false;
+        }
+    }
+}
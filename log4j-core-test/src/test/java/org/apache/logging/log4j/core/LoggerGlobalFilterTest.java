@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.core.Filter.Result;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import org.apache.logging.log4j.core.filter.AbstractFilter;
+import org.apache.logging.log4j.core.filter.CompositeFilter;
+import org.apache.logging.log4j.core.filter.MarkerFilter;
+import org.apache.logging.log4j.core.filter.ThresholdFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the precomputed level checks of {@link Logger} honor the configuration filter.
+ */
+class LoggerGlobalFilterTest {
+
+    private static final Marker AUDIT = MarkerManager.getMarker("AUDIT");
+
+    private LoggerContext context;
+
+    private Configuration configuration;
+
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext(LoggerGlobalFilterTest.class.getSimpleName());
+        configuration = new DefaultConfiguration();
+        context.start(configuration);
+        logger = context.getLogger(LoggerGlobalFilterTest.class.getName());
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.stop();
+    }
+
+    private void setFilter(final Filter filter) {
+        configuration.addFilter(filter);
+        context.updateLoggers();
+    }
+
+    @Test
+    void filter_that_never_accepts_cannot_enable_levels() {
+        setFilter(CompositeFilter.createFilters(new Filter[] {
+            ThresholdFilter.createFilter(Level.DEBUG, Result.NEUTRAL, Result.DENY),
+            MarkerFilter.createFilter(AUDIT.getName(), Result.DENY, Result.NEUTRAL)
+        }));
+        assertThat(logger.isDebugEnabled()).isFalse();
+        assertThat(logger.isErrorEnabled()).isTrue();
+        assertThat(logger.isErrorEnabled(AUDIT)).isFalse();
+    }
+
+    @Test
+    void threshold_filter_enables_levels_up_to_its_level() {
+        setFilter(ThresholdFilter.createFilter(Level.DEBUG, Result.ACCEPT, Result.NEUTRAL));
+        assertThat(logger.isDebugEnabled()).isTrue();
+        assertThat(logger.isTraceEnabled()).isFalse();
+    }
+
+    @Test
+    void custom_filter_is_always_evaluated() {
+        setFilter(new AbstractFilter() {
+            @Override
+            public Result filter(
+                    final Logger logger, final Level level, final Marker marker, final Object msg, final Throwable t) {
+                return Result.ACCEPT;
+            }
+        });
+        assertThat(logger.isTraceEnabled()).isTrue();
+    }
+
+    @Test
+    void filter_added_without_update_is_evaluated() {
+        assertThat(logger.isDebugEnabled()).isFalse();
+        configuration.addFilter(ThresholdFilter.createFilter(Level.DEBUG, Result.ACCEPT, Result.NEUTRAL));
+        assertThat(logger.isDebugEnabled()).isTrue();
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.appender;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import org.apache.logging.log4j.core.impl.ContextDataFactory;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.core.tools.BinaryLogRenderer;
+import org.apache.logging.log4j.core.util.internal.BinaryLogReader;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.spi.MutableThreadContextStack;
+import org.apache.logging.log4j.util.StringMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests {@link BinaryFileAppender} with {@link BinaryLogReader} and {@link BinaryLogRenderer}.
+ */
+class BinaryFileAppenderTest {
+
+    private static final int EVENT_COUNT = 1000;
+
+    private static final String PATTERN = "%d{UNIX_MILLIS} %-5level [%t] %logger %marker %X %x %l - %msg%n%throwable";
+
+    @TempDir
+    File directory;
+
+    private final Configuration configuration = new DefaultConfiguration();
+
+    private final PatternLayout layout =
+            PatternLayout.newBuilder().withPattern(PATTERN).build();
+
+    @Test
+    void events_are_rendered_like_the_original_events() throws IOException {
+        final File file = new File(directory, "test.bin");
+        final List<LogEvent> events = createEvents(0, EVENT_COUNT);
+        write(file, true, events);
+
+        final List<LogEvent> readEvents = new ArrayList<>();
+        int blockCount = 0;
+        try (final BinaryLogReader reader = new BinaryLogReader(file.toPath())) {
+            BinaryLogReader.Block block;
+            while ((block = reader.nextBlock()) != null) {
+                blockCount++;
+                assertThat(block.getFirstTimeMillis()).isLessThanOrEqualTo(block.getLastTimeMillis());
+                readEvents.addAll(block.getEvents());
+            }
+            assertThat(reader.getSkippedByteCount()).isZero();
+        }
+        assertThat(blockCount).isGreaterThan(1);
+        assertThat(render(readEvents)).isEqualTo(render(events));
+    }
+
+    @Test
+    void strings_are_written_once_per_block() throws IOException {
+        final File file = new File(directory, "test.bin");
+        final List<LogEvent> events = createEvents(0, EVENT_COUNT);
+        write(file, true, events);
+        final long textLength = render(events).getBytes(StandardCharsets.UTF_8).length;
+        assertThat(file.length()).isLessThan(textLength / 3);
+    }
+
+    @Test
+    void events_are_appended_to_existing_file() throws IOException {
+        final File file = new File(directory, "test.bin");
+        final List<LogEvent> events = createEvents(0, 10);
+        write(file, true, events.subList(0, 5));
+        write(file, true, events.subList(5, 10));
+        assertThat(renderFile(file)).isEqualTo(render(events));
+
+        write(file, false, events.subList(0, 5));
+        assertThat(renderFile(file)).isEqualTo(render(events.subList(0, 5)));
+    }
+
+    @Test
+    void corrupted_blocks_are_skipped() throws IOException {
+        final File file = new File(directory, "test.bin");
+        final List<LogEvent> events = createEvents(0, EVENT_COUNT);
+        write(file, true, events);
+
+        final List<BinaryLogReader.Block> blocks = new ArrayList<>();
+        try (final BinaryLogReader reader = new BinaryLogReader(file.toPath())) {
+            BinaryLogReader.Block block;
+            while ((block = reader.nextBlock()) != null) {
+                blocks.add(block);
+            }
+        }
+        assertThat(blocks).hasSizeGreaterThan(2);
+        final BinaryLogReader.Block corrupted = blocks.get(1);
+        try (final RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            final long offset = corrupted.getOffset() + 100;
+            raf.seek(offset);
+            final int value = raf.read();
+            raf.seek(offset);
+            raf.write(value ^ 0xFF);
+        }
+
+        final List<LogEvent> readEvents = new ArrayList<>();
+        try (final BinaryLogReader reader = new BinaryLogReader(file.toPath())) {
+            BinaryLogReader.Block block;
+            while ((block = reader.nextBlock()) != null) {
+                readEvents.addAll(block.getEvents());
+            }
+            assertThat(reader.getSkippedByteCount()).isPositive();
+        }
+        final int first = blocks.get(0).getEventCount();
+        final List<LogEvent> expected = new ArrayList<>(events.subList(0, first));
+        expected.addAll(events.subList(first + corrupted.getEventCount(), EVENT_COUNT));
+        assertThat(render(readEvents)).isEqualTo(render(expected));
+    }
+
+    @Test
+    void renderer_filters_events_by_time() throws IOException {
+        final File file = new File(directory, "test.bin");
+        final List<LogEvent> events = createEvents(0, EVENT_COUNT);
+        write(file, true, events);
+        final long from = events.get(100).getTimeMillis();
+        final long to = events.get(200).getTimeMillis();
+        final List<LogEvent> expected = events.stream()
+                .filter(event -> event.getTimeMillis() >= from && event.getTimeMillis() < to)
+                .collect(Collectors.toList());
+        assertThat(renderFile(file, "--from=" + from, "--to=" + to)).isEqualTo(render(expected));
+    }
+
+    private void write(final File file, final boolean append, final List<LogEvent> events) {
+        final BinaryFileAppender appender = BinaryFileAppender.newBuilder()
+                .setName("BinaryFile")
+                .setConfiguration(configuration)
+                .setFileName(file.getPath())
+                .setAppend(append)
+                .setBlockSize(4096)
+                .setIncludeLocation(true)
+                .build();
+        appender.start();
+        for (final LogEvent event : events) {
+            appender.append(event);
+        }
+        appender.stop();
+        assertThat(appender.getWrittenByteCount()).isPositive();
+    }
+
+    private String renderFile(final File file, final String... options) {
+        final String[] args = new String[options.length + 3];
+        args[0] = "--pattern=" + PATTERN;
+        args[1] = "--charset=UTF-8";
+        System.arraycopy(options, 0, args, 2, options.length);
+        args[args.length - 1] = file.getPath();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final PrintStream out = System.out;
+        try {
+            System.setOut(new PrintStream(bytes, true));
+            BinaryLogRenderer.main(args);
+        } finally {
+            System.setOut(out);
+        }
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private String render(final List<LogEvent> events) {
+        return events.stream().map(layout::toSerializable).collect(Collectors.joining());
+    }
+
+    private static List<LogEvent> createEvents(final int start, final int end) {
+        final long time = 1_700_000_000_000L;
+        final List<LogEvent> events = new ArrayList<>();
+        for (int i = start; i < end; i++) {
+            final Log4jLogEvent.Builder builder = Log4jLogEvent.newBuilder()
+                    .setLoggerName("org.example.Logger" + i % 7)
+                    .setLevel(i % 5 == 0 ? Level.WARN : Level.INFO)
+                    .setThreadName("worker-" + i % 3)
+                    .setThreadId(i % 3)
+                    .setThreadPriority(5)
+                    .setTimeMillis(time + i * 7L - (i % 4 == 0 ? 3 : 0))
+                    .setMessage(
+                            i % 2 == 0
+                                    ? new ParameterizedMessage(
+                                            "Request {} for {} took {} ms, café 😀", i, "user" + i % 11, new int[] {
+                                                i, i + 1
+                                            })
+                                    : new SimpleMessage("Cache refreshed"));
+            if (i % 10 == 0) {
+                builder.setMarker(MarkerManager.getMarker("AUDIT"));
+            }
+            if (i % 3 == 0) {
+                final StringMap contextData = ContextDataFactory.createContextData();
+                contextData.putValue("requestId", "r" + i);
+                contextData.putValue("tenant", "t" + i % 2);
+                builder.setContextData(contextData);
+                builder.setContextStack(new MutableThreadContextStack(Collections.singletonList("outer")));
+            }
+            if (i % 4 == 0) {
+                builder.setSource(new StackTraceElement("org.example.Service", "handle", "Service.java", 40 + i % 4))
+                        .setIncludeLocation(true);
+            }
+            if (i % 50 == 0) {
+                final Exception cause = new IllegalStateException("cause " + i);
+                final Exception thrown = new RuntimeException("failure " + i, cause);
+                final Exception suppressed = new IOException("suppressed");
+                thrown.addSuppressed(suppressed);
+                // without class loader and module names, which the binary format does not keep
+                for (final Exception exception : new Exception[] {cause, thrown, suppressed}) {
+                    exception.setStackTrace(new StackTraceElement[] {
+                        new StackTraceElement("org.example.Service", "call", "Service.java", 12),
+                        new StackTraceElement("org.example.Service", "handle", "Service.java", 42),
+                        new StackTraceElement("org.example.Main", "main", null, -1)
+                    });
+                }
+                builder.setThrown(thrown);
+            }
+            events.add(builder.build());
+        }
+        return events;
+    }
+}
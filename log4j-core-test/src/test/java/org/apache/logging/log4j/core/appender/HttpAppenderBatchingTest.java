@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.appender;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link HttpAppender} with batching enabled against an in-process HTTP server.
+ */
+class HttpAppenderBatchingTest {
+
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+
+    private final Queue<Integer> statuses = new ConcurrentLinkedQueue<>();
+
+    private HttpServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/logs", exchange -> {
+            final byte[] body = readFully(exchange.getRequestBody());
+            requests.add(new Request(
+                    exchange.getRequestHeaders().getFirst("Content-Type"),
+                    exchange.getRequestHeaders().getFirst("Content-Encoding"),
+                    body));
+            final Integer status = statuses.poll();
+            exchange.sendResponseHeaders(status != null ? status : 200, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void events_are_sent_in_ndjson_batches() throws Exception {
+        final HttpAppender appender =
+                createAppender().setBatchSize(10).setLingerMillis(60_000).build();
+        assertNotNull(appender);
+        appender.start();
+        for (int i = 0; i < 25; i++) {
+            appender.append(createEvent(i));
+        }
+        appender.stop();
+
+        assertEquals(3, requests.size());
+        final StringBuilder received = new StringBuilder();
+        for (final Request request : requests) {
+            assertEquals("application/x-ndjson", request.contentType);
+            received.append(new String(request.body, StandardCharsets.UTF_8));
+        }
+        final String[] lines = received.toString().split("\n");
+        assertEquals(25, lines.length);
+        for (int i = 0; i < 25; i++) {
+            assertEquals("{\"message\":\"event " + i + "\"}", lines[i]);
+        }
+    }
+
+    @Test
+    void linger_time_sends_compressed_json_array() throws Exception {
+        final HttpAppender appender = createAppender()
+                .setBatchSize(100)
+                .setLingerMillis(50)
+                .setFraming(BatchingHttpManager.Framing.JSON_ARRAY)
+                .setCompress(true)
+                .build();
+        assertNotNull(appender);
+        appender.start();
+        for (int i = 0; i < 3; i++) {
+            appender.append(createEvent(i));
+        }
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (requests.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, requests.size(), "The batch should be sent after the linger time");
+        appender.stop();
+
+        final Request request = requests.get(0);
+        assertEquals("application/json", request.contentType);
+        assertEquals("gzip", request.contentEncoding);
+        final String body = new String(
+                readFully(new GZIPInputStream(new ByteArrayInputStream(request.body))), StandardCharsets.UTF_8);
+        assertEquals("[{\"message\":\"event 0\"},{\"message\":\"event 1\"},{\"message\":\"event 2\"}]", body);
+    }
+
+    @Test
+    void failed_batches_are_retried() throws Exception {
+        statuses.add(503);
+        statuses.add(500);
+        final HttpAppender appender = createAppender()
+                .setBatchSize(2)
+                .setLingerMillis(60_000)
+                .setMaxRetries(2)
+                .setRetryBackoffMillis(10)
+                .build();
+        assertNotNull(appender);
+        appender.start();
+        appender.append(createEvent(0));
+        appender.append(createEvent(1));
+        appender.stop();
+
+        assertEquals(3, requests.size());
+        for (final Request request : requests) {
+            assertEquals(
+                    "{\"message\":\"event 0\"}\n{\"message\":\"event 1\"}\n",
+                    new String(request.body, StandardCharsets.UTF_8));
+        }
+        assertTrue(statuses.isEmpty());
+    }
+
+    private HttpAppender.Builder<?> createAppender() throws IOException {
+        return HttpAppender.newBuilder()
+                .setName("Http")
+                .setConfiguration(new DefaultConfiguration())
+                .setLayout(PatternLayout.newBuilder()
+                        .withPattern("{\"message\":\"%m\"}%n")
+                        .build())
+                .setUrl(new URL("http://" + server.getAddress().getHostString() + ":"
+                        + server.getAddress().getPort() + "/logs"));
+    }
+
+    private static Log4jLogEvent createEvent(final int i) {
+        return Log4jLogEvent.newBuilder()
+                .setLoggerName(HttpAppenderBatchingTest.class.getName())
+                .setMessage(new SimpleMessage("event " + i))
+                .build();
+    }
+
+    private static byte[] readFully(final InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buf = new byte[4096];
+        int n;
+        while ((n = in.read(buf)) != -1) {
+            out.write(buf, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    private static final class Request {
+
+        private final String contentType;
+        private final String contentEncoding;
+        private final byte[] body;
+
+        Request(final String contentType, final String contentEncoding, final byte[] body) {
+            this.contentType = contentType;
+            this.contentEncoding = contentEncoding;
+            this.body = body;
+        }
+    }
+}
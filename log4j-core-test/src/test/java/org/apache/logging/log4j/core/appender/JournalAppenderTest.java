@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.appender;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.AppenderRef;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests {@link JournalAppender} with a target appender that fails until it is told to accept events.
+ */
+class JournalAppenderTest {
+
+    private static final int EVENT_COUNT = 100;
+
+    @TempDir
+    File directory;
+
+    private final Configuration configuration = new DefaultConfiguration();
+
+    private final ToggleAppender target = new ToggleAppender();
+
+    private JournalAppender appender;
+
+    @BeforeEach
+    void setUp() {
+        target.start();
+        configuration.addAppender(target);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (appender != null && !appender.isStopped()) {
+            appender.stop();
+        }
+    }
+
+    @Test
+    void events_are_delivered_in_order_once_target_recovers() {
+        target.failing = true;
+        appender = createAppender();
+        appender.start();
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            appender.append(createEvent(i));
+        }
+        assertThat(appender.getJournaledCount()).isEqualTo(EVENT_COUNT);
+        assertThat(appender.getPendingSize()).isPositive();
+        assertThat(target.messages).isEmpty();
+
+        target.failing = false;
+        await().atMost(Duration.ofSeconds(10)).until(() -> target.messages.size() == EVENT_COUNT);
+        assertThat(target.messages).isEqualTo(expectedMessages(0, EVENT_COUNT));
+        assertThat(appender.getDeliveredCount()).isEqualTo(EVENT_COUNT);
+        await().atMost(Duration.ofSeconds(10)).until(() -> appender.getPendingSize() == 0);
+    }
+
+    @Test
+    void undelivered_events_are_delivered_after_restart() {
+        target.failing = true;
+        appender = createAppender();
+        appender.start();
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            appender.append(createEvent(i));
+        }
+        appender.stop();
+        assertThat(target.messages).isEmpty();
+
+        target.failing = false;
+        appender = createAppender();
+        appender.start();
+        appender.append(createEvent(EVENT_COUNT));
+        await().atMost(Duration.ofSeconds(10)).until(() -> target.messages.size() == EVENT_COUNT + 1);
+        assertThat(target.messages).isEqualTo(expectedMessages(0, EVENT_COUNT + 1));
+    }
+
+    @Test
+    void events_are_dropped_when_journal_is_full() {
+        target.failing = true;
+        appender = createBuilder().setMaxSize(16 * 1024).build();
+        appender.start();
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            appender.append(createEvent(i));
+        }
+        assertThat(appender.getDroppedCount()).isPositive();
+        assertThat(appender.getJournaledCount() + appender.getDroppedCount()).isEqualTo(EVENT_COUNT);
+
+        target.failing = false;
+        await().atMost(Duration.ofSeconds(10)).until(() -> target.messages.size() == appender.getJournaledCount());
+        assertThat(target.messages).isEqualTo(expectedMessages(0, (int) appender.getJournaledCount()));
+    }
+
+    private JournalAppender createAppender() {
+        return createBuilder().build();
+    }
+
+    private JournalAppender.Builder<?> createBuilder() {
+        return JournalAppender.newBuilder()
+                .setName("Journal")
+                .setConfiguration(configuration)
+                .setAppenderRef(AppenderRef.createAppenderRef(target.getName(), null, null))
+                .setDirectory(directory.getPath())
+                .setSegmentSize(4096)
+                .setRetryIntervalMillis(10);
+    }
+
+    private static List<String> expectedMessages(final int from, final int to) {
+        return IntStream.range(from, to).mapToObj(i -> "event " + i).collect(Collectors.toList());
+    }
+
+    private static LogEvent createEvent(final int i) {
+        return Log4jLogEvent.newBuilder()
+                .setLoggerName(JournalAppenderTest.class.getName())
+                .setMessage(new SimpleMessage("event " + i))
+                .build();
+    }
+
+    private static final class ToggleAppender extends AbstractAppender {
+
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+
+        private volatile boolean failing;
+
+        private ToggleAppender() {
+            super("Target", null, null, false, Property.EMPTY_ARRAY);
+        }
+
+        @Override
+        public void append(final LogEvent event) {
+            if (failing) {
+                throw new AppenderLoggingException("Target is down");
+            }
+            messages.add(event.getMessage().getFormattedMessage());
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.appender;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.test.junit.CleanUpFiles;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests {@link FileAppender} with striped buffers enabled.
+ */
+@CleanUpFiles(StripedBuffersFileAppenderTest.FILE_NAME)
+class StripedBuffersFileAppenderTest {
+
+    static final String FILE_NAME = "target/stripedBuffersFileAppenderTest.log";
+    private static final Path PATH = Paths.get(FILE_NAME);
+    private static final Pattern LINE = Pattern.compile("(\\d+) (\\d+) (x*)");
+    private static final int THREADS = 8;
+    private static final int EVENTS_PER_THREAD = 2_000;
+    private static final int BUFFER_SIZE = 128;
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void concurrent_writes_are_neither_lost_nor_interleaved(final boolean immediateFlush) throws Exception {
+        final FileAppender appender = FileAppender.newBuilder()
+                .withFileName(FILE_NAME)
+                .withAppend(false)
+                .setName("test")
+                .setImmediateFlush(immediateFlush)
+                .setIgnoreExceptions(false)
+                .setBufferSize(BUFFER_SIZE)
+                .setStripedBuffers(true)
+                .setLayout(PatternLayout.newBuilder().withPattern("%m%n").build())
+                .build();
+        appender.start();
+        final CountDownLatch start = new CountDownLatch(1);
+        final Thread[] threads = new Thread[THREADS];
+        final Throwable[] failures = new Throwable[THREADS];
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                final int threadIndex = i;
+                threads[i] = new Thread(() -> {
+                    try {
+                        start.await();
+                        for (int seq = 0; seq < EVENTS_PER_THREAD; seq++) {
+                            appender.append(createEvent(threadIndex, seq));
+                        }
+                    } catch (final Throwable t) {
+                        failures[threadIndex] = t;
+                    }
+                });
+                threads[i].start();
+            }
+            start.countDown();
+            for (final Thread thread : threads) {
+                thread.join();
+            }
+        } finally {
+            appender.stop();
+        }
+        for (final Throwable failure : failures) {
+            if (failure != null) {
+                throw new AssertionError(failure);
+            }
+        }
+
+        final List<String> lines = Files.readAllLines(PATH, StandardCharsets.UTF_8);
+        assertEquals(THREADS * EVENTS_PER_THREAD, lines.size());
+        final int[] nextSequence = new int[THREADS];
+        for (final String line : lines) {
+            final Matcher matcher = LINE.matcher(line);
+            assertTrue(matcher.matches(), "Corrupted line: " + line);
+            final int threadIndex = Integer.parseInt(matcher.group(1));
+            final int seq = Integer.parseInt(matcher.group(2));
+            assertEquals(nextSequence[threadIndex]++, seq, "Out of order event for thread " + threadIndex);
+            assertEquals(payloadLength(seq), matcher.group(3).length());
+        }
+    }
+
+    private static LogEvent createEvent(final int threadIndex, final int seq) {
+        final StringBuilder message =
+                new StringBuilder().append(threadIndex).append(' ').append(seq).append(' ');
+        for (int i = payloadLength(seq); i > 0; i--) {
+            message.append('x');
+        }
+        return Log4jLogEvent.newBuilder()
+                .setLoggerName("TestLogger")
+                .setLoggerFqcn(StripedBuffersFileAppenderTest.class.getName())
+                .setLevel(Level.INFO)
+                .setMessage(new SimpleMessage(message.toString()))
+                .build();
+    }
+
+    /**
+     * Every tenth event is larger than the thread-confined buffer.
+     */
+    private static int payloadLength(final int seq) {
+        return seq % 10 == 0 ? 3 * BUFFER_SIZE : seq % 50;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.appender.rolling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.luben.zstd.ZstdInputStream;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractOutputStreamAppender;
+import org.apache.logging.log4j.core.appender.RollingFileAppender;
+import org.apache.logging.log4j.core.appender.RollingRandomAccessFileAppender;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Tests {@link StreamingCompression} with both rolling file appenders.
+ */
+class StreamingCompressionTest {
+
+    private static final int LINE_COUNT = 500;
+
+    @ParameterizedTest
+    @CsvSource({"gz, false", "zst, false", "gz, true", "zst, true"})
+    void rolled_and_active_files_can_be_decompressed(
+            final String extension, final boolean randomAccess, @TempDir final File tempDir) throws IOException {
+        final Configuration configuration = new DefaultConfiguration();
+        final AbstractOutputStreamAppender<? extends RollingFileManager> appender = createAppender(
+                configuration,
+                tempDir,
+                extension,
+                randomAccess,
+                SizeBasedTriggeringPolicy.createPolicy("2 KB"),
+                StreamingCompression.newBuilder().build());
+        assertNotNull(appender);
+        appender.start();
+        for (int i = 0; i < LINE_COUNT; i++) {
+            appender.append(createEvent(i));
+        }
+        appender.stop();
+
+        final File[] rolledFiles = tempDir.listFiles((dir, name) -> name.endsWith("." + extension));
+        assertNotNull(rolledFiles);
+        assertTrue(rolledFiles.length > 1, "Expected several rollovers");
+        final List<String> lines = new ArrayList<>();
+        for (final File file : rolledFiles) {
+            lines.addAll(decompress(file, extension));
+        }
+        lines.addAll(decompress(new File(tempDir, "app.log"), extension));
+        assertEquals(LINE_COUNT, lines.size());
+        for (int i = 0; i < LINE_COUNT; i++) {
+            assertTrue(lines.contains(createMessage(i)), "Missing line " + i);
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"false, false", "true, false", "false, true", "true, true"})
+    void file_size_counts_compressed_or_raw_bytes(
+            final boolean countCompressedBytes, final boolean randomAccess, @TempDir final File tempDir) {
+        final Configuration configuration = new DefaultConfiguration();
+        final AbstractOutputStreamAppender<? extends RollingFileManager> appender = createAppender(
+                configuration,
+                tempDir,
+                "gz",
+                randomAccess,
+                SizeBasedTriggeringPolicy.createPolicy("1 GB"),
+                StreamingCompression.newBuilder()
+                        .setFrameInterval(60_000)
+                        .setCountCompressedBytes(countCompressedBytes)
+                        .build());
+        assertNotNull(appender);
+        appender.start();
+        long rawSize = 0;
+        for (int i = 0; i < LINE_COUNT; i++) {
+            appender.append(createEvent(i));
+            rawSize += createMessage(i).length() + System.lineSeparator().length();
+        }
+        final RollingFileManager manager = appender.getManager();
+        manager.flush();
+        final long fileSize = manager.getFileSize();
+        final long compressedSize = new File(tempDir, "app.log").length();
+        appender.stop();
+
+        if (countCompressedBytes) {
+            assertEquals(compressedSize, fileSize);
+            assertTrue(fileSize < rawSize, "Compressed size should be smaller than raw size");
+        } else {
+            assertEquals(rawSize, fileSize);
+        }
+    }
+
+    @Test
+    void unsupported_file_pattern_disables_streaming_compression(@TempDir final File tempDir) {
+        final RollingFileManager manager = RollingFileManager.getFileManager(
+                new File(tempDir, "app.log").getPath(),
+                new File(tempDir, "app-%i.log.zip").getPath(),
+                true,
+                false,
+                SizeBasedTriggeringPolicy.createPolicy("1 GB"),
+                DefaultRolloverStrategy.newBuilder().build(),
+                null,
+                PatternLayout.createDefaultLayout(),
+                0,
+                true,
+                false,
+                null,
+                null,
+                null,
+                new DefaultConfiguration(),
+                StreamingCompression.newBuilder().build());
+        assertNotNull(manager);
+        try {
+            assertNull(manager.getStreamingCompression());
+            assertFalse(StreamingCompression.isSupported(manager.getFileExtension()));
+        } finally {
+            manager.close();
+        }
+    }
+
+    private static AbstractOutputStreamAppender<? extends RollingFileManager> createAppender(
+            final Configuration configuration,
+            final File tempDir,
+            final String extension,
+            final boolean randomAccess,
+            final TriggeringPolicy policy,
+            final StreamingCompression streamingCompression) {
+        final String fileName = new File(tempDir, "app.log").getPath();
+        final String filePattern = new File(tempDir, "app-%i.log." + extension).getPath();
+        final RolloverStrategy strategy = DefaultRolloverStrategy.newBuilder()
+                .withMax("100")
+                .withConfig(configuration)
+                .build();
+        final PatternLayout layout =
+                PatternLayout.newBuilder().withPattern("%m%n").build();
+        if (randomAccess) {
+            return RollingRandomAccessFileAppender.newBuilder()
+                    .setName("RollingRandomAccessFile")
+                    .setConfiguration(configuration)
+                    .setLayout(layout)
+                    .withFileName(fileName)
+                    .withFilePattern(filePattern)
+                    .withPolicy(policy)
+                    .withStrategy(strategy)
+                    .setStreamingCompression(streamingCompression)
+                    .build();
+        }
+        return RollingFileAppender.newBuilder()
+                .setName("RollingFile")
+                .setConfiguration(configuration)
+                .setLayout(layout)
+                .withFileName(fileName)
+                .withFilePattern(filePattern)
+                .withPolicy(policy)
+                .withStrategy(strategy)
+                .setStreamingCompression(streamingCompression)
+                .build();
+    }
+
+    private static LogEvent createEvent(final int i) {
+        return Log4jLogEvent.newBuilder()
+                .setLoggerName(StreamingCompressionTest.class.getName())
+                .setMessage(new SimpleMessage(createMessage(i)))
+                .build();
+    }
+
+    private static String createMessage(final int i) {
+        return "Processed order " + i + " for customer " + Integer.toHexString(i * 0x9E3779B9);
+    }
+
+    private static List<String> decompress(final File file, final String extension) throws IOException {
+        final InputStream fileIn = Files.newInputStream(file.toPath());
+        final InputStream in = "gz".equals(extension) ? new GZIPInputStream(fileIn) : new ZstdInputStream(fileIn);
+        final List<String> lines = new ArrayList<>();
+        try (final BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+}
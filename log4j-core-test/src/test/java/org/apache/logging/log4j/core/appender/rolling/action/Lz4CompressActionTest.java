@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.appender.rolling.action;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.zip.Deflater;
+import org.apache.commons.compress.compressors.lz4.FramedLZ4CompressorInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests {@link Lz4CompressAction}.
+ */
+class Lz4CompressActionTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {Deflater.DEFAULT_COMPRESSION, 1, 6, 9})
+    void lz4_compressed_file_can_be_decompressed(final int compressionLevel, @TempDir final File tempDir)
+            throws IOException {
+        final byte[] content = createContent(1_000_000);
+        final File source = createSource(tempDir, content);
+        final File destination = new File(tempDir, "compressme.lz4");
+
+        assertTrue(Lz4CompressAction.execute(source, destination, true, compressionLevel));
+
+        assertFalse(source.exists(), "Source should have been deleted");
+        assertArrayEquals(
+                content, decompress(new FramedLZ4CompressorInputStream(Files.newInputStream(destination.toPath()))));
+    }
+
+    @Test
+    void execute_returns_false_if_source_does_not_exist(@TempDir final File tempDir) throws IOException {
+        final File missing = new File(tempDir, "missing");
+
+        assertFalse(new Lz4CompressAction(missing, new File(tempDir, "missing.lz4"), true, 3).execute());
+    }
+
+    private static File createSource(final File tempDir, final byte[] content) throws IOException {
+        final File source = new File(tempDir, "compressme");
+        Files.write(source.toPath(), content);
+        return source;
+    }
+
+    private static byte[] createContent(final int length) {
+        final StringBuilder sb = new StringBuilder(length + 100);
+        for (int i = 0; sb.length() < length; i++) {
+            sb.append("2024-01-01 00:00:00,000 INFO [main] org.example.Service - Processed request #")
+                    .append(i)
+                    .append('\n');
+        }
+        sb.setLength(length);
+        return sb.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] decompress(final InputStream compressed) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (final InputStream in = compressed) {
+            final byte[] buf = new byte[4096];
+            int n;
+            while ((n = in.read(buf)) != -1) {
+                out.write(buf, 0, n);
+            }
+        }
+        return out.toByteArray();
+    }
+}
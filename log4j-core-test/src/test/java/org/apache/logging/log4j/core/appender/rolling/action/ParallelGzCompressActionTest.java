@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.appender.rolling.action;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests {@link GzCompressAction} with a {@link CompressionExecutor}.
+ */
+class ParallelGzCompressActionTest {
+
+    private static final int BLOCK_SIZE = 1024;
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, BLOCK_SIZE - 1, BLOCK_SIZE, 37 * BLOCK_SIZE + 11})
+    void compressed_file_can_be_read_by_GZIPInputStream(final int length, @TempDir final File tempDir)
+            throws IOException {
+        final byte[] content = createContent(length);
+        final File source = new File(tempDir, "compressme");
+        Files.write(source.toPath(), content);
+        final File destination = new File(tempDir, "compressme.gz");
+        final CompressionExecutor executor = new CompressionExecutor("test", 3, BLOCK_SIZE);
+
+        final boolean actual = GzCompressAction.execute(source, destination, true, Deflater.BEST_SPEED, executor);
+
+        assertTrue(actual, "GzCompressAction should have succeeded");
+        assertFalse(source.exists(), "Source should have been deleted");
+        assertArrayEquals(content, gunzip(destination));
+        assertEquals(0, executor.getPendingFiles());
+        assertEquals(0, executor.getBacklogBytes());
+        assertEquals(1, executor.getCompletedFiles());
+    }
+
+    @Test
+    void execute_returns_false_if_source_does_not_exist(@TempDir final File tempDir) throws IOException {
+        final CompressionExecutor executor = new CompressionExecutor("test", 2, BLOCK_SIZE);
+        final GzCompressAction action = new GzCompressAction(
+                new File(tempDir, "missing"),
+                new File(tempDir, "missing.gz"),
+                true,
+                Deflater.DEFAULT_COMPRESSION,
+                executor);
+
+        assertFalse(action.execute());
+        assertEquals(0, executor.getCompletedFiles());
+    }
+
+    private static byte[] createContent(final int length) {
+        final StringBuilder sb = new StringBuilder(length + 100);
+        for (int i = 0; sb.length() < length; i++) {
+            sb.append("2024-01-01 00:00:00,000 INFO [main] org.example.Service - Processed request #")
+                    .append(i)
+                    .append('\n');
+        }
+        sb.setLength(length);
+        return sb.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] gunzip(final File file) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (final InputStream in = new GZIPInputStream(Files.newInputStream(file.toPath()))) {
+            final byte[] buf = new byte[4096];
+            int n;
+            while ((n = in.read(buf)) != -1) {
+                out.write(buf, 0, n);
+            }
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.jmx.RingBufferAdmin;
+import org.apache.logging.log4j.core.test.appender.ListAppender;
+import org.apache.logging.log4j.core.test.junit.LoggerContextSource;
+import org.apache.logging.log4j.core.test.junit.Named;
+import org.apache.logging.log4j.core.test.junit.Tags;
+import org.apache.logging.log4j.test.junit.SetTestProperty;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that an appender with its own consumer thread does not delay the other appenders.
+ */
+@SetTestProperty(key = "log4j2.asyncLoggerConfigConsumerGroups", value = "Blocking")
+@Tag(Tags.ASYNC_LOGGERS)
+class AsyncLoggerConfigConsumerGroupsTest {
+
+    private static final int EVENT_COUNT = 50;
+
+    @Test
+    @LoggerContextSource
+    void slow_appender_does_not_delay_other_appenders(
+            final LoggerContext ctx,
+            final @Named("Blocking") BlockingAppender blockingAppender,
+            final @Named("List") ListAppender listAppender) {
+        blockingAppender.countDownLatch = new CountDownLatch(1);
+        final Logger logger = ctx.getLogger(getClass());
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            logger.info("event {}", i);
+        }
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> listAppender.getMessages().size() == EVENT_COUNT);
+        assertThat(blockingAppender.logEvents).hasSizeLessThanOrEqualTo(1);
+
+        final RingBufferAdmin admin =
+                ((AsyncLoggerConfig) ctx.getConfiguration().getRootLogger()).createRingBufferAdmin(ctx.getName());
+        assertThat(admin.getConsumerNames()).containsExactly("default", "Blocking");
+        final long[] lags = admin.getConsumerLags();
+        assertThat(lags[0]).isZero();
+        assertThat(lags[1]).isGreaterThanOrEqualTo(EVENT_COUNT - 1);
+
+        blockingAppender.countDownLatch.countDown();
+        await().atMost(Duration.ofSeconds(10)).until(() -> blockingAppender.logEvents.size() == EVENT_COUNT);
+        assertThat(messages(blockingAppender.logEvents)).isEqualTo(expectedMessages());
+        assertThat(listAppender.getMessages()).isEqualTo(expectedMessages());
+        await().atMost(Duration.ofSeconds(10)).until(() -> admin.getConsumerLags()[1] == 0);
+    }
+
+    private static List<String> messages(final List<LogEvent> events) {
+        return events.stream()
+                .map(event -> event.getMessage().getFormattedMessage())
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> expectedMessages() {
+        return IntStream.range(0, EVENT_COUNT).mapToObj(i -> "event " + i).collect(Collectors.toList());
+    }
+}
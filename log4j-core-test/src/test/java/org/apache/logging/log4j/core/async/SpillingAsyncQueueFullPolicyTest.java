@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests {@link SpillingAsyncQueueFullPolicy} with a replayer that only accepts events once it is opened.
+ */
+class SpillingAsyncQueueFullPolicyTest {
+
+    private static final int EVENT_COUNT = 1000;
+
+    private final List<LogEvent> replayed = new CopyOnWriteArrayList<>();
+
+    private volatile boolean open;
+
+    private SpillingAsyncQueueFullPolicy policy;
+
+    @TempDir
+    File directory;
+
+    @AfterEach
+    void cleanUp() {
+        if (policy != null) {
+            open = true;
+            policy.stop(1, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void route_is_spill_only_when_started() {
+        policy = new SpillingAsyncQueueFullPolicy(directory, 0, 0);
+        final long otherThreadId = -1;
+        final long currentThreadId = Thread.currentThread().getId();
+        assertThat(policy.getRoute(otherThreadId, Level.INFO)).isEqualTo(EventRoute.ENQUEUE);
+        assertThat(policy.getRoute(currentThreadId, Level.INFO)).isEqualTo(EventRoute.SYNCHRONOUS);
+        policy.start("test", this::replay);
+        assertThat(policy.getRoute(otherThreadId, Level.INFO)).isEqualTo(EventRoute.SPILL);
+        assertThat(policy.getRoute(currentThreadId, Level.INFO)).isEqualTo(EventRoute.SPILL);
+        assertThat(policy.stop(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(policy.getRoute(otherThreadId, Level.INFO)).isEqualTo(EventRoute.ENQUEUE);
+    }
+
+    @Test
+    void spilled_events_are_replayed_in_order() {
+        policy = new SpillingAsyncQueueFullPolicy(directory, 1024 * 1024, 16 * 1024 * 1024);
+        policy.start("test", this::replay);
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            policy.spill("target", createEvent(i, null));
+        }
+        assertThat(policy.isSpilling()).isTrue();
+        assertThat(policy.getSpillCount()).isEqualTo(EVENT_COUNT);
+        assertThat(policy.getDiscardCount()).isZero();
+        assertThat(directory.listFiles()).hasSize(1);
+
+        open = true;
+        await("replay").atMost(Duration.ofSeconds(10)).until(() -> replayed.size() == EVENT_COUNT);
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            assertThat(replayed.get(i).getMessage().getFormattedMessage()).isEqualTo(createMessage(i));
+        }
+        await("pending").atMost(Duration.ofSeconds(10)).until(() -> !policy.isSpilling());
+        assertThat(policy.getReplayCount()).isEqualTo(EVENT_COUNT);
+
+        assertThat(policy.stop(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(directory.listFiles()).isEmpty();
+    }
+
+    @Test
+    void events_are_discarded_when_journal_is_full() {
+        policy = new SpillingAsyncQueueFullPolicy(directory, 4096, 8192);
+        policy.start("test", this::replay);
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            policy.spill("target", createEvent(i, null));
+        }
+        assertThat(policy.getSpillCount()).isPositive();
+        assertThat(policy.getDiscardCount()).isPositive();
+        assertThat(policy.getSpillCount() + policy.getDiscardCount()).isEqualTo(EVENT_COUNT);
+
+        assertThat(policy.stop(100, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(replayed).isEmpty();
+        assertThat(policy.getDiscardCount()).isEqualTo(EVENT_COUNT);
+        assertThat(directory.listFiles()).isEmpty();
+    }
+
+    @Test
+    void exception_is_replayed_with_its_stack_trace() {
+        policy = new SpillingAsyncQueueFullPolicy(directory, 0, 0);
+        policy.start("test", this::replay);
+        final IllegalStateException exception =
+                new IllegalStateException("Payment rejected", new IllegalArgumentException("Invalid card"));
+        policy.spill("target", createEvent(0, exception));
+
+        open = true;
+        await("replay").atMost(Duration.ofSeconds(10)).until(() -> replayed.size() == 1);
+        final Throwable thrown = replayed.get(0).getThrown();
+        assertThat(thrown).hasToString(exception.toString());
+        assertThat(thrown.getStackTrace()).isEqualTo(exception.getStackTrace());
+        assertThat(thrown.getCause()).hasToString(exception.getCause().toString());
+    }
+
+    private boolean replay(final String target, final LogEvent event) {
+        assertThat(target).isEqualTo("target");
+        if (!open) {
+            return false;
+        }
+        replayed.add(event);
+        return true;
+    }
+
+    private static LogEvent createEvent(final int i, final Throwable thrown) {
+        return Log4jLogEvent.newBuilder()
+                .setLoggerName(SpillingAsyncQueueFullPolicyTest.class.getName())
+                .setLevel(Level.INFO)
+                .setMessage(new SimpleMessage(createMessage(i)))
+                .setThrown(thrown)
+                .build();
+    }
+
+    private static String createMessage(final int i) {
+        return "Processed order " + i + " for customer " + Integer.toHexString(i * 0x9E3779B9);
+    }
+}
@@ -137,4 +137,51 @@ public class LoggerConfigTest {
         verify(appender, times(1)).append(any());
         verify(filter, times(1)).filter(any());
     }
+
+    private static Appender createAppender(final String name) {
+        final Appender appender = mock(Appender.class);
+        when(appender.isStarted()).thenReturn(true);
+        when(appender.getName()).thenReturn(name);
+        return appender;
+    }
+
+    @Test
+    public void testAdditiveHierarchy() {
+        final LoggerConfig root = new LoggerConfig.RootLogger();
+        final LoggerConfig parent = new LoggerConfig("a", Level.INFO, true);
+        final LoggerConfig child = new LoggerConfig("a.b", Level.INFO, true);
+        parent.setParent(root);
+        child.setParent(parent);
+        final Appender rootAppender = createAppender("root");
+        final Appender parentAppender = createAppender("parent");
+        final Appender childAppender = createAppender("child");
+        root.addAppender(rootAppender, null, null);
+        parent.addAppender(parentAppender, null, null);
+        child.addAppender(childAppender, null, null);
+
+        child.log(FQCN, FQCN, null, Level.INFO, new SimpleMessage(), null);
+        verify(childAppender, times(1)).append(any());
+        verify(parentAppender, times(1)).append(any());
+        verify(rootAppender, times(1)).append(any());
+
+        // A parent filter stops the delivery to the parent and its ancestors
+        final Filter filter = mock(Filter.class);
+        when(filter.filter(any())).thenReturn(Filter.Result.DENY);
+        parent.addFilter(filter);
+        child.log(FQCN, FQCN, null, Level.INFO, new SimpleMessage(), null);
+        verify(childAppender, times(2)).append(any());
+        verify(parentAppender, times(1)).append(any());
+        verify(rootAppender, times(1)).append(any());
+
+        // Changes to the hierarchy are taken into account
+        parent.removeFilter(filter);
+        parent.setAdditive(false);
+        final Appender newAppender = createAppender("new");
+        parent.addAppender(newAppender, null, null);
+        child.log(FQCN, FQCN, null, Level.INFO, new SimpleMessage(), null);
+        verify(childAppender, times(3)).append(any());
+        verify(parentAppender, times(2)).append(any());
+        verify(newAppender, times(1)).append(any());
+        verify(rootAppender, times(1)).append(any());
+    }
 }
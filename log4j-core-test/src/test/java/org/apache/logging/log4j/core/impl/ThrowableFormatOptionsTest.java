@@ -516,4 +516,26 @@ public final class ThrowableFormatOptionsTest {
                 Strings.LINE_SEPARATOR,
                 Arrays.asList("package1", "package2"));
     }
+
+    /**
+     * Test {@code %throwable{suppressRepeats} }
+     */
+    @Test
+    public void testSuppressRepeats() {
+        final ThrowableFormatOptions tfo =
+                test(new String[] {"full", "suppressRepeats"}, Integer.MAX_VALUE, Strings.LINE_SEPARATOR, null);
+        assertEquals(60_000, tfo.getRepeatSuppressionMillis());
+    }
+
+    /**
+     * Test {@code %throwable{suppressRepeats(5)} }
+     */
+    @Test
+    public void testSuppressRepeatsSeconds() {
+        final ThrowableFormatOptions tfo =
+                test(new String[] {"full", "suppressRepeats(5)"}, Integer.MAX_VALUE, Strings.LINE_SEPARATOR, null);
+        assertEquals(5_000, tfo.getRepeatSuppressionMillis());
+        assertEquals(
+                0, ThrowableFormatOptions.newInstance(new String[] {"full"}).getRepeatSuppressionMillis());
+    }
 }
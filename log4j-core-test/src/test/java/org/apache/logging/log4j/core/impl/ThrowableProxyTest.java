@@ -20,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -459,4 +460,22 @@ public class ThrowableProxyTest {
         e1.initCause(e2);
         LogManager.getLogger().error("Error", e1);
     }
+
+    @Test
+    public void testExtendedStackTraceIsCached() {
+        final Throwable[] throwables = new Throwable[2];
+        for (int i = 0; i < throwables.length; i++) {
+            throwables[i] = new IllegalStateException("message " + i, new IllegalArgumentException("cause"));
+        }
+        final ThrowableProxy first = new ThrowableProxy(throwables[0]);
+        assertTrue(ExtendedStackTraceCache.size() > 0);
+        final ThrowableProxy second = new ThrowableProxy(throwables[1]);
+        assertSame(first.getExtendedStackTrace(), second.getExtendedStackTrace());
+        assertSame(
+                first.getCauseProxy().getExtendedStackTrace(),
+                second.getCauseProxy().getExtendedStackTrace());
+        assertEquals(
+                first.getCauseProxy().getCommonElementCount(),
+                second.getCauseProxy().getCommonElementCount());
+    }
 }
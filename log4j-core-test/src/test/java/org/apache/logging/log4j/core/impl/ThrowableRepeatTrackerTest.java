@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ThrowableRepeatTrackerTest {
+
+    private static Throwable newException(final String message) {
+        final Exception exception = new IllegalStateException(message, new IllegalArgumentException("cause"));
+        exception.addSuppressed(new UnsupportedOperationException("suppressed"));
+        return exception;
+    }
+
+    @Test
+    void fingerprint_should_ignore_messages() {
+        final Throwable[] exceptions = new Throwable[2];
+        for (int i = 0; i < exceptions.length; i++) {
+            exceptions[i] = newException("message " + i);
+        }
+        assertThat(ThrowableRepeatTracker.fingerprint(exceptions[0]))
+                .isEqualTo(ThrowableRepeatTracker.fingerprint(exceptions[1]));
+    }
+
+    @Test
+    void fingerprint_should_depend_on_stack_trace() {
+        final Throwable first = newException("message");
+        final Throwable second = newException("message");
+        assertThat(ThrowableRepeatTracker.fingerprint(first)).isNotEqualTo(ThrowableRepeatTracker.fingerprint(second));
+        assertThat(ThrowableRepeatTracker.fingerprint(first))
+                .isNotEqualTo(ThrowableRepeatTracker.fingerprint(first.getCause()));
+    }
+
+    @Test
+    void fingerprint_of_proxy_should_match_fingerprint_of_throwable() {
+        final Throwable exception = newException("message");
+        final Throwable nested = new RuntimeException("outer", exception);
+        assertThat(ThrowableRepeatTracker.fingerprint(new ThrowableProxy(exception)))
+                .isEqualTo(ThrowableRepeatTracker.fingerprint(exception));
+        assertThat(ThrowableRepeatTracker.fingerprint(new ThrowableProxy(nested)))
+                .isEqualTo(ThrowableRepeatTracker.fingerprint(nested));
+    }
+
+    @Test
+    void isRepeated_should_respect_window() {
+        final ThrowableRepeatTracker tracker = new ThrowableRepeatTracker(1_000);
+        assertThat(tracker.isRepeated(42, 10_000)).isFalse();
+        assertThat(tracker.isRepeated(42, 10_999)).isTrue();
+        assertThat(tracker.isRepeated(43, 10_999)).isFalse();
+        assertThat(tracker.isRepeated(42, 11_000)).isFalse();
+        assertThat(tracker.isRepeated(42, 11_500)).isTrue();
+    }
+
+    @Test
+    void formatFingerprint_should_use_16_hex_digits() {
+        final StringBuilder buffer = new StringBuilder();
+        ThrowableRepeatTracker.formatFingerprint(buffer, 0xABCL);
+        assertThat(buffer).hasToString("0000000000000abc");
+    }
+}
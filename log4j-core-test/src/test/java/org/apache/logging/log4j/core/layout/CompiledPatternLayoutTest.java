@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.layout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.time.MutableInstant;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CompiledPatternLayoutTest {
+
+    private static final DefaultConfiguration CONFIGURATION = new DefaultConfiguration();
+
+    private static LogEvent createEvent() {
+        final MutableInstant instant = new MutableInstant();
+        instant.initFromEpochMilli(1_700_000_000_123L, 456_789);
+        return Log4jLogEvent.newBuilder()
+                .setLoggerName("org.apache.logging.log4j.core.layout.CompiledPatternLayoutTest")
+                .setLevel(Level.WARN)
+                .setMarker(MarkerManager.getMarker("AUDIT"))
+                .setThreadName("main")
+                .setInstant(instant)
+                .setMessage(new ParameterizedMessage("Hello, {}!", "world"))
+                .setThrown(new IllegalStateException("failure"))
+                .build();
+    }
+
+    private static PatternLayout createLayout(final String pattern, final boolean compiled) {
+        return PatternLayout.newBuilder()
+                .withConfiguration(CONFIGURATION)
+                .withPattern(pattern)
+                .withCompiled(compiled)
+                .build();
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "%m%n",
+                "%d [%t] %p %c - %m%n",
+                "%d{ISO8601} %-5p [%15.15t] %c{1.} %marker: %m%n",
+                "%r [%t] %p %c %notEmpty{%x }- %m%n",
+                "%level{WARN=W} %c{1} %msg{nolookups}%n",
+                "[%-10c{1}] [%10t] %5level literal ${sys:java.version}%n%xEx{short}",
+                "%replace{%logger %msg}{\\.}{/}"
+            })
+    void compiled_layout_matches_interpreted_layout(final String pattern) {
+        final LogEvent event = createEvent();
+        final String expected = createLayout(pattern, false).toSerializable(event);
+        final PatternLayout compiled = createLayout(pattern, true);
+        assertThat(compiled.toSerializable(event)).isEqualTo(expected);
+        final StringBuilder buffer = new StringBuilder("prefix");
+        compiled.serialize(event, buffer);
+        assertThat(buffer.toString()).isEqualTo("prefix" + expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"%m", "%c %p %t %L", "%C{1}.%M"})
+    void compiled_layout_reports_location_requirement(final String pattern) {
+        assertThat(createLayout(pattern, true).requiresLocation())
+                .isEqualTo(createLayout(pattern, false).requiresLocation());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"%m%n", "%d %-5p %c - %m%n"})
+    void compiled_layout_formats_messages_without_formatting_info(final String pattern) {
+        final LogEvent event = Log4jLogEvent.newBuilder()
+                .setLoggerName("logger")
+                .setLevel(Level.INFO)
+                .setMessage(new SimpleMessage("message"))
+                .build();
+        assertThat(createLayout(pattern, true).toSerializable(event))
+                .isEqualTo(createLayout(pattern, false).toSerializable(event));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.layout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class DirectStringBuilderEncoderTest {
+
+    private static final String[] TEXTS = {
+        "",
+        "Hello, world!\n",
+        "café à la crème",
+        "日本語のテキスト",
+        "emoji 😀 and 🎉",
+        "lone high \ud83d surrogate",
+        "lone low \ude00 surrogate",
+        "trailing high surrogate \ud83d",
+        "mixed Ā߿ࠀ￿\u0080"
+    };
+
+    static Stream<Arguments> texts() {
+        return Stream.of(StandardCharsets.UTF_8, StandardCharsets.US_ASCII, StandardCharsets.ISO_8859_1)
+                .flatMap(charset -> Arrays.stream(TEXTS).map(text -> Arguments.of(charset, text)));
+    }
+
+    private static byte[] encode(final Charset charset, final String text, final int bufferSize) {
+        final DirectStringBuilderEncoder encoder = new DirectStringBuilderEncoder(charset, bufferSize, bufferSize);
+        final SpyByteBufferDestination destination = new SpyByteBufferDestination(7, 4096);
+        encoder.encode(new StringBuilder(text), destination);
+        destination.drain(destination.getByteBuffer());
+        final ByteBuffer drained = destination.drained;
+        return Arrays.copyOf(drained.array(), drained.position());
+    }
+
+    @ParameterizedTest
+    @MethodSource("texts")
+    void encodes_like_the_jdk(final Charset charset, final String text) {
+        final byte[] expected = text.getBytes(charset);
+        assertThat(encode(charset, text, 8192)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @MethodSource("texts")
+    void encodes_text_larger_than_the_buffer(final Charset charset, final String text) {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            sb.append(text);
+        }
+        final String longText = sb.toString();
+        final byte[] expected = longText.getBytes(charset);
+        assertThat(encode(charset, longText, 7)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @MethodSource("texts")
+    void encodes_with_caller_provided_buffers(final Charset charset, final String text) {
+        final DirectStringBuilderEncoder encoder = new DirectStringBuilderEncoder(charset);
+        final char[] chars = new char[8];
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(16);
+        final SpyByteBufferDestination destination = new SpyByteBufferDestination(11, 4096);
+        encoder.encodeText(new StringBuilder(text), chars, byteBuffer, destination);
+        assertThat(byteBuffer.position()).isZero();
+        destination.drain(destination.getByteBuffer());
+        final ByteBuffer drained = destination.drained;
+        assertThat(Arrays.copyOf(drained.array(), drained.position())).isEqualTo(text.getBytes(charset));
+    }
+
+    @Test
+    void supports_only_standard_charsets() {
+        assertThat(DirectStringBuilderEncoder.isSupported(StandardCharsets.UTF_8))
+                .isTrue();
+        assertThat(DirectStringBuilderEncoder.isSupported(StandardCharsets.UTF_16))
+                .isFalse();
+    }
+}
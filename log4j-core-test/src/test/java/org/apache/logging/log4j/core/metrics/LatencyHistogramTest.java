@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void buckets_are_contiguous() {
+        long expectedLowest = 0;
+        for (int index = 0; index < LatencyHistogram.bucketIndex(Long.MAX_VALUE); index++) {
+            assertThat(LatencyHistogram.lowestValue(index)).isEqualTo(expectedLowest);
+            assertThat(LatencyHistogram.bucketIndex(LatencyHistogram.lowestValue(index)))
+                    .isEqualTo(index);
+            assertThat(LatencyHistogram.bucketIndex(LatencyHistogram.highestValue(index)))
+                    .isEqualTo(index);
+            expectedLowest = LatencyHistogram.highestValue(index) + 1;
+        }
+        assertThat(LatencyHistogram.highestValue(LatencyHistogram.bucketIndex(Long.MAX_VALUE)))
+                .isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void percentiles_have_bounded_error() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value);
+        }
+        assertThat(histogram.getCount()).isEqualTo(100_000);
+        assertThat(histogram.getTotal()).isEqualTo(100_000L * 100_001 / 2);
+        assertThat(histogram.getMax()).isEqualTo(100_000);
+        assertThat(histogram.getValueAtPercentile(50)).isBetween(50_000L, 56_250L);
+        assertThat(histogram.getValueAtPercentile(99)).isBetween(99_000L, 100_000L);
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(100_000);
+    }
+
+    @Test
+    void empty_and_negative_values() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        assertThat(histogram.getValueAtPercentile(99)).isZero();
+        histogram.record(-5);
+        assertThat(histogram.getCount()).isEqualTo(1);
+        assertThat(histogram.getMax()).isZero();
+        assertThat(histogram.getValueAtPercentile(50)).isZero();
+        assertThatThrownBy(() -> histogram.getValueAtPercentile(101)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.RollingFileAppender;
+import org.apache.logging.log4j.core.test.junit.LoggerContextSource;
+import org.apache.logging.log4j.core.test.junit.Named;
+import org.apache.logging.log4j.test.junit.SetTestProperty;
+import org.apache.logging.log4j.test.junit.TempLoggingDir;
+import org.junit.jupiter.api.Test;
+
+@SetTestProperty(key = MetricsRegistry.ENABLED_PROPERTY, value = "true")
+class MetricsRegistryTest {
+
+    private static final String MESSAGE = "This message is about fifty characters long......";
+
+    @TempLoggingDir
+    private static Path loggingPath;
+
+    @Test
+    @LoggerContextSource
+    void appender_and_manager_metrics_are_collected(
+            final LoggerContext context, @Named("RollingFile") final RollingFileAppender appender) {
+        final ComponentMetrics appenderMetrics = appender.getMetrics();
+        final ComponentMetrics managerMetrics = appender.getManager().getMetrics();
+        assertThat(appenderMetrics).isNotNull();
+        assertThat(managerMetrics).isNotNull();
+        assertThat(MetricsRegistry.getMetrics()).contains(appenderMetrics, managerMetrics);
+        assertThat(TestMetricsExporter.REGISTERED).contains(appenderMetrics, managerMetrics);
+
+        final Logger logger = context.getLogger(MetricsRegistryTest.class);
+        for (int i = 0; i < 100; i++) {
+            logger.info(MESSAGE);
+        }
+
+        assertThat(appenderMetrics.getType()).isEqualTo(ComponentMetrics.APPENDER);
+        assertThat(appenderMetrics.getEventCount()).isEqualTo(100);
+        assertThat(appenderMetrics.getDroppedEventCount()).isZero();
+        assertThat(appenderMetrics.getAppendLatency().getCount()).isEqualTo(100);
+        assertThat(appenderMetrics.getAppendLatency().getValueAtPercentile(99))
+                .isPositive()
+                .isLessThanOrEqualTo(appenderMetrics.getAppendLatency().getMax());
+
+        assertThat(managerMetrics.getType()).isEqualTo(ComponentMetrics.MANAGER);
+        assertThat(managerMetrics.getByteCount())
+                .isEqualTo(100L * (MESSAGE.length() + System.lineSeparator().length()));
+        assertThat(managerMetrics.getFlushLatency().getCount()).isGreaterThanOrEqualTo(100);
+        assertThat(managerMetrics.getRolloverDuration().getCount()).isGreaterThanOrEqualTo(4);
+
+        context.stop();
+        assertThat(MetricsRegistry.getMetrics()).doesNotContain(appenderMetrics, managerMetrics);
+        assertThat(TestMetricsExporter.REGISTERED).doesNotContain(appenderMetrics, managerMetrics);
+    }
+}
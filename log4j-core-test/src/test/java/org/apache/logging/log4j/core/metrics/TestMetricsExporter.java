@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.metrics;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the metrics registered through the {@link MetricsExporter} service.
+ */
+public class TestMetricsExporter implements MetricsExporter {
+
+    static final Set<ComponentMetrics> REGISTERED = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void register(final ComponentMetrics metrics) {
+        REGISTERED.add(metrics);
+    }
+
+    @Override
+    public void unregister(final ComponentMetrics metrics) {
+        REGISTERED.remove(metrics);
+    }
+}
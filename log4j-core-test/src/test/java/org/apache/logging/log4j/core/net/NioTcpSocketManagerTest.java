@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.net;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.SocketAppender;
+import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests {@link NioTcpSocketManager} through a non-blocking {@link SocketAppender}.
+ */
+class NioTcpSocketManagerTest {
+
+    private static final int EVENT_COUNT = 200;
+
+    private final List<String> lines = new CopyOnWriteArrayList<>();
+
+    private ServerSocket serverSocket;
+
+    private SocketAppender appender;
+
+    @AfterEach
+    void cleanUp() throws IOException {
+        if (appender != null) {
+            appender.stop();
+        }
+        if (serverSocket != null) {
+            serverSocket.close();
+        }
+    }
+
+    @Test
+    void events_are_sent_in_order() throws Exception {
+        final int port = startServer(0);
+        appender = createAppender(port, NioTcpSocketManager.OverflowPolicy.BLOCK, 512, null);
+        appender.start();
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            appender.append(createEvent(i));
+        }
+        awaitLines();
+        final NioTcpSocketManager manager = (NioTcpSocketManager) appender.getManager();
+        assertThat(manager.isConnected()).isTrue();
+        await("queue").atMost(Duration.ofSeconds(10)).until(() -> manager.getQueuedBytes() == 0);
+        assertThat(manager.getDroppedEvents()).isZero();
+        assertThat(manager.getWrittenBytes()).isEqualTo(expectedBytes());
+    }
+
+    @Test
+    void events_are_dropped_when_ring_buffer_is_full() throws Exception {
+        appender = createAppender(unusedPort(), NioTcpSocketManager.OverflowPolicy.DROP, 1024, null);
+        appender.start();
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            appender.append(createEvent(i));
+        }
+        final NioTcpSocketManager manager = (NioTcpSocketManager) appender.getManager();
+        assertThat(manager.isConnected()).isFalse();
+        assertThat(manager.getQueuedBytes()).isLessThanOrEqualTo(1024);
+        assertThat(manager.getDroppedEvents()).isPositive();
+        assertThat(manager.getQueuedBytes() + manager.getDroppedBytes()).isEqualTo(expectedBytes());
+    }
+
+    @Test
+    void spilled_events_are_sent_in_order_once_connected(@TempDir final File spillDirectory) throws Exception {
+        final int port = unusedPort();
+        appender = createAppender(port, NioTcpSocketManager.OverflowPolicy.SPILL, 1024, spillDirectory);
+        appender.start();
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            appender.append(createEvent(i));
+        }
+        final NioTcpSocketManager manager = (NioTcpSocketManager) appender.getManager();
+        assertThat(manager.getDroppedEvents()).isZero();
+        assertThat(manager.getSpilledBytes()).isPositive();
+        assertThat(manager.getQueuedBytes()).isEqualTo(expectedBytes());
+
+        startServer(port);
+        awaitLines();
+        await("queue").atMost(Duration.ofSeconds(10)).until(() -> manager.getQueuedBytes() == 0);
+    }
+
+    private SocketAppender createAppender(
+            final int port,
+            final NioTcpSocketManager.OverflowPolicy overflowPolicy,
+            final int ringBufferSize,
+            final File spillDirectory) {
+        return SocketAppender.newBuilder()
+                .setName("NioSocket")
+                .setConfiguration(new DefaultConfiguration())
+                .setLayout(PatternLayout.newBuilder().withPattern("%m%n").build())
+                .setHost(InetAddress.getLoopbackAddress().getHostAddress())
+                .setPort(port)
+                .setReconnectDelayMillis(100)
+                .setNonBlocking(true)
+                .setRingBufferSize(ringBufferSize)
+                .setOverflowPolicy(overflowPolicy)
+                .setSpillDirectory(spillDirectory != null ? spillDirectory.getAbsolutePath() : null)
+                .build();
+    }
+
+    private int startServer(final int port) throws IOException {
+        serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        final Thread thread = new Thread(
+                () -> {
+                    try (final Socket socket = serverSocket.accept();
+                            final BufferedReader reader = new BufferedReader(
+                                    new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+                        String line;
+                        while ((line = reader.readLine()) != null) {
+                            lines.add(line);
+                        }
+                    } catch (final IOException e) {
+                        // server closed
+                    }
+                },
+                "NioTcpSocketManagerTest-Server");
+        thread.setDaemon(true);
+        thread.start();
+        return serverSocket.getLocalPort();
+    }
+
+    private void awaitLines() {
+        await("lines")
+                .atMost(Duration.ofSeconds(10))
+                .pollInterval(Duration.ofMillis(10))
+                .until(() -> lines.size() >= EVENT_COUNT);
+        assertThat(lines).hasSize(EVENT_COUNT);
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            assertThat(lines.get(i)).isEqualTo(createMessage(i));
+        }
+    }
+
+    private static int unusedPort() throws IOException {
+        try (final ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            socket.setReuseAddress(true);
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long expectedBytes() {
+        long bytes = 0;
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            bytes += createMessage(i).length() + System.lineSeparator().length();
+        }
+        return bytes;
+    }
+
+    private static LogEvent createEvent(final int i) {
+        return Log4jLogEvent.newBuilder()
+                .setLoggerName(NioTcpSocketManagerTest.class.getName())
+                .setMessage(new SimpleMessage(createMessage(i)))
+                .build();
+    }
+
+    private static String createMessage(final int i) {
+        return "Processed order " + i + " for customer " + Integer.toHexString(i * 0x9E3779B9);
+    }
+}
@@ -178,4 +178,36 @@ public class ExtendedThrowablePatternConverterTest {
         assertTrue(ignorePackages.contains("org.eclipse"), ignorePackagesString);
         assertEquals("|", options.getSeparator());
     }
+
+    @Test
+    public void testSuppressRepeats() {
+        final ExtendedThrowablePatternConverter converter =
+                ExtendedThrowablePatternConverter.newInstance(null, new String[] {"full", "suppressRepeats(10)"});
+        final String[] results = new String[3];
+        for (int i = 0; i < results.length; i++) {
+            final LogEvent event = Log4jLogEvent.newBuilder() //
+                    .setLoggerName("testLogger") //
+                    .setLevel(Level.DEBUG) //
+                    .setMessage(new SimpleMessage("test exception")) //
+                    .setThrown(new IllegalArgumentException("IllegalArgument " + i))
+                    .setTimeMillis(1_000_000L + i * 6_000L)
+                    .build();
+            final StringBuilder sb = new StringBuilder();
+            converter.format(event, sb);
+            results[i] = sb.toString();
+        }
+        final String nl = Strings.LINE_SEPARATOR;
+        assertTrue(results[0].contains("\tat " + getClass().getName()), results[0]);
+        assertTrue(results[0].contains(nl + "\tStack trace id: "), results[0]);
+        final String id = results[0]
+                .substring(results[0].indexOf("Stack trace id: ") + 16)
+                .trim();
+        assertEquals(
+                "java.lang.IllegalArgumentException: IllegalArgument 1" + nl + "\tStack trace repeated, id: " + id + nl,
+                results[1]);
+        assertFalse(results[1].contains("\tat "), results[1]);
+        // the suppression window has elapsed
+        assertTrue(results[2].contains("\tat " + getClass().getName()), results[2]);
+        assertTrue(results[2].endsWith("\tStack trace id: " + id + nl), results[2]);
+    }
 }
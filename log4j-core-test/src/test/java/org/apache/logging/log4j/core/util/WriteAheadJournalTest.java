@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WriteAheadJournalTest {
+
+    private static final int SEGMENT_SIZE = 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void records_are_read_in_order() throws IOException {
+        try (final WriteAheadJournal journal = open(1024 * 1024)) {
+            for (int i = 0; i < 100; i++) {
+                assertThat(journal.append(record(i))).isGreaterThanOrEqualTo(0);
+            }
+            for (int i = 0; i < 100; i++) {
+                assertThat(journal.read()).isEqualTo(record(i));
+            }
+            assertThat(journal.read()).isNull();
+            assertThat(journal.getReadOffset()).isEqualTo(journal.getWriteOffset());
+        }
+    }
+
+    @Test
+    void rewind_makes_unacknowledged_records_readable_again() throws IOException {
+        try (final WriteAheadJournal journal = open(1024 * 1024)) {
+            journal.append(record(0));
+            journal.append(record(1));
+            assertThat(journal.read()).isEqualTo(record(0));
+            journal.acknowledge(journal.getReadOffset());
+            assertThat(journal.read()).isEqualTo(record(1));
+            journal.rewind();
+            assertThat(journal.read()).isEqualTo(record(1));
+        }
+    }
+
+    @Test
+    void unacknowledged_records_are_read_after_reopening() throws IOException {
+        try (final WriteAheadJournal journal = open(1024 * 1024)) {
+            for (int i = 0; i < 100; i++) {
+                journal.append(record(i));
+            }
+            for (int i = 0; i < 40; i++) {
+                journal.read();
+            }
+            journal.acknowledge(journal.getReadOffset());
+            // read but not acknowledged
+            journal.read();
+        }
+        try (final WriteAheadJournal journal = open(1024 * 1024)) {
+            for (int i = 40; i < 100; i++) {
+                assertThat(journal.read()).isEqualTo(record(i));
+            }
+            assertThat(journal.read()).isNull();
+            journal.append(record(100));
+            assertThat(journal.read()).isEqualTo(record(100));
+        }
+    }
+
+    @Test
+    void acknowledged_segments_are_deleted() throws IOException {
+        try (final WriteAheadJournal journal = open(1024 * 1024)) {
+            for (int i = 0; i < 100; i++) {
+                journal.append(record(i));
+            }
+            assertThat(journal.getSegmentCount()).isGreaterThan(2);
+            assertThat(segmentFiles()).hasSize(journal.getSegmentCount());
+            while (journal.read() != null) {
+                journal.acknowledge(journal.getReadOffset());
+            }
+            assertThat(journal.getSegmentCount()).isEqualTo(1);
+            assertThat(segmentFiles()).hasSize(1);
+            assertThat(journal.getPendingSize()).isZero();
+        }
+    }
+
+    @Test
+    void append_fails_when_journal_is_full() throws IOException {
+        try (final WriteAheadJournal journal = open(200)) {
+            int appended = 0;
+            while (journal.append(record(appended)) >= 0) {
+                appended++;
+            }
+            assertThat(appended).isPositive();
+            assertThat(journal.getPendingSize()).isLessThanOrEqualTo(200);
+            journal.read();
+            journal.acknowledge(journal.getReadOffset());
+            assertThat(journal.append(record(appended))).isGreaterThanOrEqualTo(0);
+        }
+        assertThatThrownBy(() -> {
+                    try (final WriteAheadJournal journal = open(1024 * 1024)) {
+                        journal.append(new byte[SEGMENT_SIZE]);
+                    }
+                })
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void torn_record_is_truncated_on_recovery() throws IOException {
+        final long tornOffset;
+        try (final WriteAheadJournal journal = open(1024 * 1024)) {
+            for (int i = 0; i < 10; i++) {
+                journal.append(record(i));
+            }
+            tornOffset = journal.append(record(10));
+        }
+        // simulates a crash in the middle of the last record
+        final Path segment = lastSegmentFile();
+        try (final FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+        try (final WriteAheadJournal journal = open(1024 * 1024)) {
+            assertThat(journal.getWriteOffset()).isEqualTo(tornOffset);
+            for (int i = 0; i < 10; i++) {
+                assertThat(journal.read()).isEqualTo(record(i));
+            }
+            assertThat(journal.read()).isNull();
+            journal.append(record(11));
+            assertThat(journal.read()).isEqualTo(record(11));
+        }
+    }
+
+    @Test
+    void corrupted_record_and_following_ones_are_removed_on_recovery() throws IOException {
+        try (final WriteAheadJournal journal = open(1024 * 1024)) {
+            for (int i = 0; i < 100; i++) {
+                journal.append(record(i));
+            }
+        }
+        final Path[] files = segmentFiles();
+        assertThat(files.length).isGreaterThan(2);
+        // corrupts the payload of the first record of the second segment
+        try (final FileChannel channel = FileChannel.open(files[1], StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {'X'}), 8);
+        }
+        final int recordsPerSegment;
+        try (final WriteAheadJournal journal = open(1024 * 1024)) {
+            int count = 0;
+            while (journal.read() != null) {
+                count++;
+            }
+            recordsPerSegment = count;
+            assertThat(journal.getSegmentCount()).isEqualTo(2);
+        }
+        assertThat(recordsPerSegment).isPositive().isLessThan(100);
+        assertThat(segmentFiles()).hasSize(2);
+    }
+
+    private WriteAheadJournal open(final long maxSize) throws IOException {
+        return WriteAheadJournal.open(directory, SEGMENT_SIZE, maxSize);
+    }
+
+    private Path[] segmentFiles() throws IOException {
+        try (final Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".wal"))
+                    .sorted()
+                    .toArray(Path[]::new);
+        }
+    }
+
+    private Path lastSegmentFile() throws IOException {
+        final Path[] files = segmentFiles();
+        return files[files.length - 1];
+    }
+
+    private static byte[] record(final int i) {
+        return ("Record number " + i + " of the journal").getBytes(StandardCharsets.UTF_8);
+    }
+}
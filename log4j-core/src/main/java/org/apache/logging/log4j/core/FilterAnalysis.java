@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core;
+
+import org.apache.logging.log4j.core.filter.CompositeFilter;
+import org.apache.logging.log4j.core.filter.ThresholdFilter;
+
+/**
+ * Determines which levels a filter can enable.
+ * <p>
+ * The filters provided by Log4j Core only return their {@link Filter#getOnMatch() onMatch} or
+ * {@link Filter#getOnMismatch() onMismatch} results, so a filter whose results are never
+ * {@link Filter.Result#ACCEPT ACCEPT} cannot enable an event disabled by level. Other filters are assumed to be able to
+ * accept any event.
+ * </p>
+ */
+final class FilterAnalysis {
+
+    private static final String FILTER_PACKAGE =
+            CompositeFilter.class.getPackage().getName();
+
+    private FilterAnalysis() {}
+
+    /**
+     * Returns the least specific level that a filter may accept.
+     *
+     * @param filter A filter or {@code null}.
+     * @return An {@link org.apache.logging.log4j.Level#intLevel() intLevel}, {@link Integer#MIN_VALUE} if the filter
+     * never accepts events or {@link Integer#MAX_VALUE} if it may accept events of any level.
+     */
+    static int getMaxAcceptedIntLevel(final Filter filter) {
+        if (filter == null) {
+            return Integer.MIN_VALUE;
+        }
+        if (filter instanceof CompositeFilter) {
+            int result = Integer.MIN_VALUE;
+            for (final Filter child : ((CompositeFilter) filter).getFiltersArray()) {
+                result = Math.max(result, getMaxAcceptedIntLevel(child));
+            }
+            return result;
+        }
+        if (!FILTER_PACKAGE.equals(filter.getClass().getPackage().getName())) {
+            return Integer.MAX_VALUE;
+        }
+        final boolean acceptsMatch = filter.getOnMatch() == Filter.Result.ACCEPT;
+        final boolean acceptsMismatch = filter.getOnMismatch() == Filter.Result.ACCEPT;
+        if (acceptsMismatch) {
+            return Integer.MAX_VALUE;
+        }
+        if (acceptsMatch) {
+            // ThresholdFilter only matches levels at least as specific as its own.
+            return filter instanceof ThresholdFilter
+                    ? ((ThresholdFilter) filter).getLevel().intLevel()
+                    : Integer.MAX_VALUE;
+        }
+        return Integer.MIN_VALUE;
+    }
+}
@@ -545,6 +545,13 @@ public class Logger extends AbstractLogger implements Supplier<LoggerConfig> {
         private final int intLevel;
         private final Logger logger;
         private final boolean requiresLocation;
+        /** The configuration filter analyzed by {@link #disabledIntLevel}. */
+        private final Filter analyzedFilter;
+        /**
+         * Events less specific than this level are disabled, whatever the result of {@link #analyzedFilter}: they
+         * are below {@link #intLevel} and the filter never accepts them.
+         */
+        private final int disabledIntLevel;
 
         public PrivateConfig(final Configuration config, final Logger logger) {
             this.config = config;
@@ -553,6 +560,8 @@ public class Logger extends AbstractLogger implements Supplier<LoggerConfig> {
             this.intLevel = this.loggerConfigLevel.intLevel();
             this.logger = logger;
             this.requiresLocation = this.loggerConfig.requiresLocation();
+            this.analyzedFilter = config.getFilter();
+            this.disabledIntLevel = Math.max(intLevel, FilterAnalysis.getMaxAcceptedIntLevel(analyzedFilter));
         }
 
         public PrivateConfig(final PrivateConfig pc, final Level level) {
@@ -562,6 +571,8 @@ public class Logger extends AbstractLogger implements Supplier<LoggerConfig> {
             this.intLevel = this.loggerConfigLevel.intLevel();
             this.logger = pc.logger;
             this.requiresLocation = this.loggerConfig.requiresLocation();
+            this.analyzedFilter = config.getFilter();
+            this.disabledIntLevel = Math.max(intLevel, FilterAnalysis.getMaxAcceptedIntLevel(analyzedFilter));
         }
 
         public PrivateConfig(final PrivateConfig pc, final LoggerConfig lc) {
@@ -571,6 +582,19 @@ public class Logger extends AbstractLogger implements Supplier<LoggerConfig> {
             this.intLevel = this.loggerConfigLevel.intLevel();
             this.logger = pc.logger;
             this.requiresLocation = this.loggerConfig.requiresLocation();
+            this.analyzedFilter = config.getFilter();
+            this.disabledIntLevel = Math.max(intLevel, FilterAnalysis.getMaxAcceptedIntLevel(analyzedFilter));
+        }
+
+        /**
+         * Checks if an event is disabled without evaluating the configuration filter.
+         * <p>
+         * The configuration filter can be replaced at any time, so the precomputed threshold is only used if the
+         * filter is still the one that was analyzed.
+         * </p>
+         */
+        private boolean isDisabled(final Filter filter, final Level level) {
+            return filter == analyzedFilter && level != null && level.intLevel() > disabledIntLevel;
         }
 
         // LOG4J2-151: changed visibility to public
@@ -585,6 +609,9 @@ public class Logger extends AbstractLogger implements Supplier<LoggerConfig> {
         boolean filter(final Level level, final Marker marker, final String msg) {
             final Filter filter = config.getFilter();
             if (filter != null) {
+                if (isDisabled(filter, level)) {
+                    return false;
+                }
                 final Filter.Result r = filter.filter(logger, level, marker, msg);
                 if (r != Filter.Result.NEUTRAL) {
                     return r == Filter.Result.ACCEPT;
@@ -596,6 +623,9 @@ public class Logger extends AbstractLogger implements Supplier<LoggerConfig> {
         boolean filter(final Level level, final Marker marker, final String msg, final Throwable t) {
             final Filter filter = config.getFilter();
             if (filter != null) {
+                if (isDisabled(filter, level)) {
+                    return false;
+                }
                 final Filter.Result r = filter.filter(logger, level, marker, (Object) msg, t);
                 if (r != Filter.Result.NEUTRAL) {
                     return r == Filter.Result.ACCEPT;
@@ -607,6 +637,9 @@ public class Logger extends AbstractLogger implements Supplier<LoggerConfig> {
         boolean filter(final Level level, final Marker marker, final String msg, final Object... p1) {
             final Filter filter = config.getFilter();
             if (filter != null) {
+                if (isDisabled(filter, level)) {
+                    return false;
+                }
                 final Filter.Result r = filter.filter(logger, level, marker, msg, p1);
                 if (r != Filter.Result.NEUTRAL) {
                     return r == Filter.Result.ACCEPT;
@@ -618,6 +651,9 @@ public class Logger extends AbstractLogger implements Supplier<LoggerConfig> {
         boolean filter(final Level level, final Marker marker, final String msg, final Object p0) {
             final Filter filter = config.getFilter();
             if (filter != null) {
+                if (isDisabled(filter, level)) {
+                    return false;
+                }
                 final Filter.Result r = filter.filter(logger, level, marker, msg, p0);
                 if (r != Filter.Result.NEUTRAL) {
                     return r == Filter.Result.ACCEPT;
@@ -629,6 +665,9 @@ public class Logger extends AbstractLogger implements Supplier<LoggerConfig> {
         boolean filter(final Level level, final Marker marker, final String msg, final Object p0, final Object p1) {
             final Filter filter = config.getFilter();
             if (filter != null) {
+                if (isDisabled(filter, level)) {
+                    return false;
+                }
                 final Filter.Result r = filter.filter(logger, level, marker, msg, p0, p1);
                 if (r != Filter.Result.NEUTRAL) {
                     return r == Filter.Result.ACCEPT;
@@ -646,6 +685,9 @@ public class Logger extends AbstractLogger implements Supplier<LoggerConfig> {
                 final Object p2) {
             final Filter filter = config.getFilter();
             if (filter != null) {
+                if (isDisabled(filter, level)) {
+                    return false;
+                }
                 final Filter.Result r = filter.filter(logger, level, marker, msg, p0, p1, p2);
                 if (r != Filter.Result.NEUTRAL) {
                     return r == Filter.Result.ACCEPT;
@@ -664,6 +706,9 @@ public class Logger extends AbstractLogger implements Supplier<LoggerConfig> {
                 final Object p3) {
             final Filter filter = config.getFilter();
             if (filter != null) {
+                if (isDisabled(filter, level)) {
+                    return false;
+                }
                 final Filter.Result r = filter.filter(logger, level, marker, msg, p0, p1, p2, p3);
                 if (r != Filter.Result.NEUTRAL) {
                     return r == Filter.Result.ACCEPT;
@@ -683,6 +728,9 @@ public class Logger extends AbstractLogger implements Supplier<LoggerConfig> {
                 final Object p4) {
             final Filter filter = config.getFilter();
             if (filter != null) {
+                if (isDisabled(filter, level)) {
+                    return false;
+                }
                 final Filter.Result r = filter.filter(logger, level, marker, msg, p0, p1, p2, p3, p4);
                 if (r != Filter.Result.NEUTRAL) {
                     return r == Filter.Result.ACCEPT;
@@ -703,6 +751,9 @@ public class Logger extends AbstractLogger implements Supplier<LoggerConfig> {
                 final Object p5) {
             final Filter filter = config.getFilter();
             if (filter != null) {
+                if (isDisabled(filter, level)) {
+                    return false;
+                }
                 final Filter.Result r = filter.filter(logger, level, marker, msg, p0, p1, p2, p3, p4, p5);
                 if (r != Filter.Result.NEUTRAL) {
                     return r == Filter.Result.ACCEPT;
@@ -724,6 +775,9 @@ public class Logger extends AbstractLogger implements Supplier<LoggerConfig> {
                 final Object p6) {
             final Filter filter = config.getFilter();
             if (filter != null) {
+                if (isDisabled(filter, level)) {
+                    return false;
+                }
                 final Filter.Result r = filter.filter(logger, level, marker, msg, p0, p1, p2, p3, p4, p5, p6);
                 if (r != Filter.Result.NEUTRAL) {
                     return r == Filter.Result.ACCEPT;
@@ -746,6 +800,9 @@ public class Logger extends AbstractLogger implements Supplier<LoggerConfig> {
                 final Object p7) {
             final Filter filter = config.getFilter();
             if (filter != null) {
+                if (isDisabled(filter, level)) {
+                    return false;
+                }
                 final Filter.Result r = filter.filter(logger, level, marker, msg, p0, p1, p2, p3, p4, p5, p6, p7);
                 if (r != Filter.Result.NEUTRAL) {
                     return r == Filter.Result.ACCEPT;
@@ -769,6 +826,9 @@ public class Logger extends AbstractLogger implements Supplier<LoggerConfig> {
                 final Object p8) {
             final Filter filter = config.getFilter();
             if (filter != null) {
+                if (isDisabled(filter, level)) {
+                    return false;
+                }
                 final Filter.Result r = filter.filter(logger, level, marker, msg, p0, p1, p2, p3, p4, p5, p6, p7, p8);
                 if (r != Filter.Result.NEUTRAL) {
                     return r == Filter.Result.ACCEPT;
@@ -793,6 +853,9 @@ public class Logger extends AbstractLogger implements Supplier<LoggerConfig> {
                 final Object p9) {
             final Filter filter = config.getFilter();
             if (filter != null) {
+                if (isDisabled(filter, level)) {
+                    return false;
+                }
                 final Filter.Result r =
                         filter.filter(logger, level, marker, msg, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
                 if (r != Filter.Result.NEUTRAL) {
@@ -805,6 +868,9 @@ public class Logger extends AbstractLogger implements Supplier<LoggerConfig> {
         boolean filter(final Level level, final Marker marker, final CharSequence msg, final Throwable t) {
             final Filter filter = config.getFilter();
             if (filter != null) {
+                if (isDisabled(filter, level)) {
+                    return false;
+                }
                 final Filter.Result r = filter.filter(logger, level, marker, msg, t);
                 if (r != Filter.Result.NEUTRAL) {
                     return r == Filter.Result.ACCEPT;
@@ -816,6 +882,9 @@ public class Logger extends AbstractLogger implements Supplier<LoggerConfig> {
         boolean filter(final Level level, final Marker marker, final Object msg, final Throwable t) {
             final Filter filter = config.getFilter();
             if (filter != null) {
+                if (isDisabled(filter, level)) {
+                    return false;
+                }
                 final Filter.Result r = filter.filter(logger, level, marker, msg, t);
                 if (r != Filter.Result.NEUTRAL) {
                     return r == Filter.Result.ACCEPT;
@@ -827,6 +896,9 @@ public class Logger extends AbstractLogger implements Supplier<LoggerConfig> {
         boolean filter(final Level level, final Marker marker, final Message msg, final Throwable t) {
             final Filter filter = config.getFilter();
             if (filter != null) {
+                if (isDisabled(filter, level)) {
+                    return false;
+                }
                 final Filter.Result r = filter.filter(logger, level, marker, msg, t);
                 if (r != Filter.Result.NEUTRAL) {
                     return r == Filter.Result.ACCEPT;
@@ -19,6 +19,7 @@ package org.apache.logging.log4j.core.appender;
 import java.io.Serializable;
 import java.nio.charset.Charset;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.core.Appender;
 import org.apache.logging.log4j.core.ErrorHandler;
 import org.apache.logging.log4j.core.Filter;
@@ -33,6 +34,8 @@ import org.apache.logging.log4j.core.config.plugins.validation.constraints.Requi
 import org.apache.logging.log4j.core.filter.AbstractFilterable;
 import org.apache.logging.log4j.core.impl.LocationAware;
 import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.core.metrics.ComponentMetrics;
+import org.apache.logging.log4j.core.metrics.MetricsRegistry;
 import org.apache.logging.log4j.core.util.Integers;
 
 /**
@@ -171,6 +174,7 @@ public abstract class AbstractAppender extends AbstractFilterable implements App
     private final String name;
     private final boolean ignoreExceptions;
     private final Layout<? extends Serializable> layout;
+    private final ComponentMetrics metrics;
 
     private ErrorHandler handler = new DefaultErrorHandler(this);
 
@@ -231,6 +235,19 @@ public abstract class AbstractAppender extends AbstractFilterable implements App
         this.name = Objects.requireNonNull(name, "name");
         this.layout = layout;
         this.ignoreExceptions = ignoreExceptions;
+        this.metrics = MetricsRegistry.createMetrics(ComponentMetrics.APPENDER, name);
+    }
+
+    @Override
+    public void start() {
+        MetricsRegistry.register(metrics);
+        super.start();
+    }
+
+    @Override
+    protected boolean stop(final long timeout, final TimeUnit timeUnit, final boolean changeLifeCycleState) {
+        MetricsRegistry.unregister(metrics);
+        return super.stop(timeout, timeUnit, changeLifeCycleState);
     }
 
     /**
@@ -284,6 +301,16 @@ public abstract class AbstractAppender extends AbstractFilterable implements App
         return layout;
     }
 
+    /**
+     * Returns the metrics of the Appender.
+     *
+     * @return The metrics or {@code null} if metrics are disabled.
+     * @since 2.24.0
+     */
+    public ComponentMetrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * Returns the name of the Appender.
      *
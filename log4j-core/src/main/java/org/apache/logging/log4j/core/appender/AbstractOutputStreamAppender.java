@@ -48,6 +48,9 @@ public abstract class AbstractOutputStreamAppender<M extends OutputStreamManager
         @PluginBuilderAttribute
         private boolean immediateFlush = true;
 
+        @PluginBuilderAttribute
+        private boolean stripedBuffers;
+
         public int getBufferSize() {
             return bufferSize;
         }
@@ -60,6 +63,17 @@ public abstract class AbstractOutputStreamAppender<M extends OutputStreamManager
             return immediateFlush;
         }
 
+        /**
+         * Returns whether events are encoded into thread-confined buffers that are written to the manager by a
+         * flat-combining step.
+         *
+         * @return {@code true} if striped buffers are enabled
+         * @since 2.24.0
+         */
+        public boolean isStripedBuffers() {
+            return stripedBuffers;
+        }
+
         public B setImmediateFlush(final boolean immediateFlush) {
             this.immediateFlush = immediateFlush;
             return asBuilder();
@@ -75,6 +89,19 @@ public abstract class AbstractOutputStreamAppender<M extends OutputStreamManager
             return asBuilder();
         }
 
+        /**
+         * Enables encoding into thread-confined buffers, so that concurrent producers only contend on the manager to
+         * copy already encoded bytes. Only honored by appenders using direct encoders.
+         *
+         * @param stripedBuffers {@code true} to enable striped buffers
+         * @return this builder
+         * @since 2.24.0
+         */
+        public B setStripedBuffers(final boolean stripedBuffers) {
+            this.stripedBuffers = stripedBuffers;
+            return asBuilder();
+        }
+
         @Deprecated
         public B withImmediateFlush(final boolean immediateFlush) {
             this.immediateFlush = immediateFlush;
@@ -104,6 +131,8 @@ public abstract class AbstractOutputStreamAppender<M extends OutputStreamManager
 
     private final M manager;
 
+    private final StripedBufferWriter stripedBufferWriter;
+
     /**
      * Instantiates a WriterAppender and set the output destination to a new {@link java.io.OutputStreamWriter}
      * initialized with <code>os</code> as its {@link java.io.OutputStream}.
@@ -124,6 +153,7 @@ public abstract class AbstractOutputStreamAppender<M extends OutputStreamManager
         super(name, filter, layout, ignoreExceptions, Property.EMPTY_ARRAY);
         this.manager = manager;
         this.immediateFlush = immediateFlush;
+        this.stripedBufferWriter = null;
     }
 
     /**
@@ -147,9 +177,52 @@ public abstract class AbstractOutputStreamAppender<M extends OutputStreamManager
             final boolean immediateFlush,
             final Property[] properties,
             final M manager) {
+        this(name, layout, filter, ignoreExceptions, immediateFlush, properties, manager, false);
+    }
+
+    /**
+     * Instantiates a WriterAppender and set the output destination to a new {@link java.io.OutputStreamWriter}
+     * initialized with <code>os</code> as its {@link java.io.OutputStream}.
+     *
+     * @param name The name of the Appender.
+     * @param layout The layout to format the message.
+     * @param filter The filter to associate with the Appender.
+     * @param ignoreExceptions If true, exceptions will be logged and suppressed.
+     *                         If false errors will be logged and then passed to the application.
+     * @param immediateFlush Underlying output stream will be flushed at the end of each append operation.
+     * @param properties optional properties
+     * @param manager The OutputStreamManager.
+     * @param stripedBuffers If true, events are encoded into thread-confined buffers before being handed to the
+     *                       manager.
+     * @since 2.24.0
+     */
+    protected AbstractOutputStreamAppender(
+            final String name,
+            final Layout<? extends Serializable> layout,
+            final Filter filter,
+            final boolean ignoreExceptions,
+            final boolean immediateFlush,
+            final Property[] properties,
+            final M manager,
+            final boolean stripedBuffers) {
         super(name, filter, layout, ignoreExceptions, properties);
         this.manager = manager;
         this.immediateFlush = immediateFlush;
+        this.stripedBufferWriter = createStripedBufferWriter(name, manager, stripedBuffers);
+    }
+
+    private static StripedBufferWriter createStripedBufferWriter(
+            final String name, final OutputStreamManager manager, final boolean stripedBuffers) {
+        if (!stripedBuffers || manager == null) {
+            return null;
+        }
+        if (!Constants.ENABLE_THREADLOCALS || !Constants.ENABLE_DIRECT_ENCODERS) {
+            LOGGER.warn(
+                    "Striped buffers require thread locals and direct encoders to be enabled, ignoring them for appender {}",
+                    name);
+            return null;
+        }
+        return new StripedBufferWriter(manager, manager.getByteBuffer().capacity());
     }
 
     /**
@@ -224,6 +297,10 @@ public abstract class AbstractOutputStreamAppender<M extends OutputStreamManager
     }
 
     protected void directEncodeEvent(final LogEvent event) {
+        if (stripedBufferWriter != null) {
+            stripedBufferWriter.encode(getLayout(), event, this.immediateFlush || event.isEndOfBatch());
+            return;
+        }
         getLayout().encode(event, manager);
         if (this.immediateFlush || event.isEndOfBatch()) {
             manager.flush();
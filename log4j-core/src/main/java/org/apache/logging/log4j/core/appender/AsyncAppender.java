@@ -34,6 +34,7 @@ import org.apache.logging.log4j.core.async.BlockingQueueFactory;
 import org.apache.logging.log4j.core.async.DiscardingAsyncQueueFullPolicy;
 import org.apache.logging.log4j.core.async.EventRoute;
 import org.apache.logging.log4j.core.async.InternalAsyncUtil;
+import org.apache.logging.log4j.core.async.SpillingAsyncQueueFullPolicy;
 import org.apache.logging.log4j.core.config.AppenderControl;
 import org.apache.logging.log4j.core.config.AppenderRef;
 import org.apache.logging.log4j.core.config.Configuration;
@@ -71,6 +72,7 @@ public final class AsyncAppender extends AbstractAppender {
     private AppenderControl errorAppender;
     private AsyncAppenderEventDispatcher dispatcher;
     private AsyncQueueFullPolicy asyncQueueFullPolicy;
+    private SpillingAsyncQueueFullPolicy spillingPolicy;
 
     private AsyncAppender(
             final String name,
@@ -117,11 +119,15 @@ public final class AsyncAppender extends AbstractAppender {
             }
         }
         if (appenders.size() > 0) {
-            dispatcher = new AsyncAppenderEventDispatcher(getName(), errorAppender, appenders, queue);
+            dispatcher = new AsyncAppenderEventDispatcher(getName(), errorAppender, appenders, queue, getMetrics());
         } else if (errorRef == null) {
             throw new ConfigurationException("No appenders are available for AsyncAppender " + getName());
         }
         asyncQueueFullPolicy = AsyncQueueFullPolicyFactory.create();
+        spillingPolicy = SpillingAsyncQueueFullPolicy.asSpilling(asyncQueueFullPolicy);
+        if (spillingPolicy != null) {
+            spillingPolicy.start("AsyncAppender-" + getName(), (target, event) -> transfer(event));
+        }
 
         dispatcher.start();
         super.start();
@@ -132,6 +138,10 @@ public final class AsyncAppender extends AbstractAppender {
         setStopping();
         super.stop(timeout, timeUnit, false);
         LOGGER.trace("AsyncAppender stopping. Queue still has {} events.", queue.size());
+        if (spillingPolicy != null) {
+            // replay the spilled events while the dispatcher is still running
+            spillingPolicy.stop(shutdownTimeout, TimeUnit.MILLISECONDS);
+        }
         try {
             dispatcher.stop(shutdownTimeout);
         } catch (final InterruptedException ignored) {
@@ -163,7 +173,8 @@ public final class AsyncAppender extends AbstractAppender {
         }
         final Log4jLogEvent memento = Log4jLogEvent.createMemento(logEvent, includeLocation);
         InternalAsyncUtil.makeMessageImmutable(logEvent.getMessage());
-        if (!transfer(memento)) {
+        // while events are spilled, new events are spilled after them to keep the order
+        if (isSpilling() || !transfer(memento)) {
             if (blocking) {
                 if (AbstractLogger.getRecursionDepth() > 1) { // LOG4J2-1518, LOG4J2-2031
                     // If queue is full AND we are in a recursive call, call appender directly to prevent deadlock
@@ -172,6 +183,9 @@ public final class AsyncAppender extends AbstractAppender {
                 } else {
                     // delegate to the event router (which may discard, enqueue and block, or log in current thread)
                     final EventRoute route = asyncQueueFullPolicy.getRoute(dispatcher.getId(), memento.getLevel());
+                    if (route == EventRoute.DISCARD && getMetrics() != null) {
+                        getMetrics().incrementDroppedEventCount();
+                    }
                     route.logMessage(this, memento);
                 }
             } else {
@@ -187,6 +201,24 @@ public final class AsyncAppender extends AbstractAppender {
                 : queue.offer(memento);
     }
 
+    private boolean isSpilling() {
+        return spillingPolicy != null && spillingPolicy.isSpilling();
+    }
+
+    /**
+     * FOR INTERNAL USE ONLY.
+     *
+     * @param logEvent the event to spill to disk
+     * @since 2.24.0
+     */
+    public void spill(final LogEvent logEvent) {
+        if (spillingPolicy != null) {
+            spillingPolicy.spill(getName(), logEvent);
+        } else {
+            logMessageInBackgroundThread(logEvent);
+        }
+    }
+
     /**
      * FOR INTERNAL USE ONLY.
      *
@@ -236,6 +268,8 @@ public final class AsyncAppender extends AbstractAppender {
     private void logToErrorAppenderIfNecessary(final boolean appendSuccessful, final LogEvent logEvent) {
         if (!appendSuccessful && errorAppender != null) {
             errorAppender.callAppender(logEvent);
+        } else if (!appendSuccessful && getMetrics() != null) {
+            getMetrics().incrementDroppedEventCount();
         }
     }
 
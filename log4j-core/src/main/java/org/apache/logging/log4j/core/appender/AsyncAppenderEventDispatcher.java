@@ -26,6 +26,10 @@ import org.apache.logging.log4j.core.Appender;
 import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.config.AppenderControl;
 import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.metrics.ComponentMetrics;
+import org.apache.logging.log4j.core.time.MutableInstant;
+import org.apache.logging.log4j.core.util.Clock;
+import org.apache.logging.log4j.core.util.ClockFactory;
 import org.apache.logging.log4j.core.util.Log4jThread;
 import org.apache.logging.log4j.status.StatusLogger;
 
@@ -45,17 +49,26 @@ class AsyncAppenderEventDispatcher extends Log4jThread {
 
     private final AtomicBoolean stoppedRef;
 
+    private final ComponentMetrics metrics;
+
+    private final Clock clock;
+
+    private final MutableInstant now = new MutableInstant();
+
     AsyncAppenderEventDispatcher(
             final String name,
             final AppenderControl errorAppender,
             final List<AppenderControl> appenders,
-            final BlockingQueue<LogEvent> queue) {
+            final BlockingQueue<LogEvent> queue,
+            final ComponentMetrics metrics) {
         super("AsyncAppenderEventDispatcher-" + THREAD_COUNTER.incrementAndGet() + "-" + name);
         this.setDaemon(true);
         this.errorAppender = errorAppender;
         this.appenders = appenders;
         this.queue = queue;
         this.stoppedRef = new AtomicBoolean();
+        this.metrics = metrics;
+        this.clock = metrics != null ? ClockFactory.getClock() : null;
     }
 
     /**
@@ -87,6 +100,9 @@ class AsyncAppenderEventDispatcher extends Log4jThread {
             if (event == STOP_EVENT) {
                 break;
             }
+            if (metrics != null) {
+                metrics.recordQueueWait(event.getInstant(), clock, now);
+            }
             event.setEndOfBatch(queue.isEmpty());
             dispatch(event);
         }
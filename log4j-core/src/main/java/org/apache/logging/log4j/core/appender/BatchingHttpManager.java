@@ -0,0 +1,386 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.appender;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.util.ExecutorServices;
+import org.apache.logging.log4j.core.util.Log4jThreadFactory;
+
+/**
+ * Sends log events over HTTP in batches.
+ * <p>
+ * Events are encoded on the logging thread and appended to the current batch. A batch is sent when it contains
+ * {@code batchSize} events or {@code batchBytes} bytes, or once its first event is older than the linger time.
+ * Batches are sent by background threads, with at most {@code maxInFlightRequests} concurrent requests: when all of
+ * them are in flight, logging threads block until a request completes. Failed requests are retried with an
+ * exponential backoff.
+ * </p>
+ *
+ * @since 2.24.0
+ */
+public class BatchingHttpManager extends HttpManager {
+
+    /**
+     * How the events of a batch are combined in a request body.
+     */
+    public enum Framing {
+
+        /**
+         * One event per line, see <a href="https://github.com/ndjson/ndjson-spec">NDJSON</a>.
+         */
+        NDJSON("application/x-ndjson"),
+
+        /**
+         * A JSON array of events.
+         */
+        JSON_ARRAY("application/json");
+
+        private final String contentType;
+
+        Framing(final String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+    }
+
+    private static final int INITIAL_BATCH_CAPACITY = 8192;
+
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 30_000;
+
+    private final HttpURLConnectionManager connectionManager;
+    private final int batchSize;
+    private final int batchBytes;
+    private final long lingerNanos;
+    private final Framing framing;
+    private final boolean compress;
+    private final int maxInFlightRequests;
+    private final int maxRetries;
+    private final long retryBackoffMillis;
+    private final Semaphore inFlightRequests;
+
+    private volatile ExecutorService sender;
+    private volatile ScheduledExecutorService lingerTimer;
+
+    // guarded by this
+    private Batch batch;
+
+    /**
+     * Creates a new manager.
+     *
+     * @param configuration The configuration.
+     * @param loggerContext The logger context.
+     * @param name The name of the manager.
+     * @param connectionManager The manager used to send the requests.
+     * @param batchSize The maximum number of events in a batch.
+     * @param batchBytes The maximum size of a batch in bytes, before compression.
+     * @param lingerMillis The maximum time an event waits for a batch to fill up, in milliseconds.
+     * @param framing How the events are combined in a request body.
+     * @param compress If true, the request bodies are compressed with GZIP.
+     * @param maxInFlightRequests The maximum number of concurrent requests.
+     * @param maxRetries The number of times a failed request is retried.
+     * @param retryBackoffMillis The delay before the first retry, doubled at each retry, in milliseconds.
+     */
+    public BatchingHttpManager(
+            final Configuration configuration,
+            final LoggerContext loggerContext,
+            final String name,
+            final HttpURLConnectionManager connectionManager,
+            final int batchSize,
+            final int batchBytes,
+            final long lingerMillis,
+            final Framing framing,
+            final boolean compress,
+            final int maxInFlightRequests,
+            final int maxRetries,
+            final long retryBackoffMillis) {
+        super(configuration, loggerContext, name);
+        this.connectionManager = Objects.requireNonNull(connectionManager, "connectionManager");
+        this.batchSize = batchSize;
+        this.batchBytes = batchBytes;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        this.framing = Objects.requireNonNull(framing, "framing");
+        this.compress = compress;
+        this.maxInFlightRequests = maxInFlightRequests;
+        this.maxRetries = maxRetries;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.inFlightRequests = new Semaphore(maxInFlightRequests);
+    }
+
+    @Override
+    public void startup() {
+        sender = Executors.newFixedThreadPool(
+                maxInFlightRequests, Log4jThreadFactory.createDaemonThreadFactory("HttpAppender-" + getName()));
+        lingerTimer = Executors.newSingleThreadScheduledExecutor(
+                Log4jThreadFactory.createDaemonThreadFactory("HttpAppender-Linger-" + getName()));
+        final long period = Math.max(1, TimeUnit.NANOSECONDS.toMillis(lingerNanos) / 4);
+        lingerTimer.scheduleWithFixedDelay(this::sendExpiredBatch, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void send(final Layout<?> layout, final LogEvent event) {
+        final byte[] bytes = layout.toByteArray(event);
+        Batch full = null;
+        synchronized (this) {
+            if (batch == null) {
+                batch = new Batch(framing);
+            }
+            batch.add(bytes);
+            if (batch.count >= batchSize || batch.size >= batchBytes) {
+                full = batch;
+                batch = null;
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+    }
+
+    private void sendExpiredBatch() {
+        Batch expired = null;
+        synchronized (this) {
+            if (batch != null && System.nanoTime() - batch.createdNanos >= lingerNanos) {
+                expired = batch;
+                batch = null;
+            }
+        }
+        if (expired != null) {
+            try {
+                dispatch(expired);
+            } catch (final AppenderLoggingException e) {
+                logError("Unable to send batch of " + expired.count + " events", e);
+            }
+        }
+    }
+
+    /**
+     * Hands a batch over to a sender thread, waiting for a request to complete if too many are in flight.
+     */
+    private void dispatch(final Batch full) {
+        final ExecutorService executor = sender;
+        if (executor == null) {
+            throw new AppenderLoggingException("HTTP manager " + getName() + " is not started");
+        }
+        inFlightRequests.acquireUninterruptibly();
+        try {
+            executor.execute(() -> {
+                try {
+                    sendWithRetries(full);
+                } finally {
+                    inFlightRequests.release();
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            inFlightRequests.release();
+            throw new AppenderLoggingException("HTTP manager " + getName() + " is stopped", e);
+        }
+    }
+
+    private void sendWithRetries(final Batch full) {
+        byte[] body = full.finish();
+        int length = full.size;
+        String contentEncoding = null;
+        if (compress) {
+            try {
+                body = gzip(body, length);
+                length = body.length;
+                contentEncoding = "gzip";
+            } catch (final IOException e) {
+                logError("Unable to compress batch of " + full.count + " events", e);
+                return;
+            }
+        }
+        for (int attempt = 0; ; attempt++) {
+            try {
+                connectionManager.send(framing.getContentType(), contentEncoding, body, length);
+                return;
+            } catch (final IOException e) {
+                if (attempt >= maxRetries) {
+                    logError(
+                            "Unable to send batch of " + full.count + " events after " + (attempt + 1) + " attempts",
+                            e);
+                    return;
+                }
+                final long backoffMillis = getRetryBackoffMillis(attempt);
+                logWarn("Unable to send batch of " + full.count + " events, retrying in " + backoffMillis + " ms", e);
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (final InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    logError("Interrupted while retrying to send batch of " + full.count + " events", ie);
+                    return;
+                }
+            }
+        }
+    }
+
+    private long getRetryBackoffMillis(final int attempt) {
+        final int shift = Math.min(attempt, 30);
+        return Math.min(MAX_RETRY_BACKOFF_MILLIS, retryBackoffMillis << shift);
+    }
+
+    private static byte[] gzip(final byte[] body, final int length) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(length / 4 + 64);
+        try (final GZIPOutputStream gzip = new GZIPOutputStream(out, INITIAL_BATCH_CAPACITY)) {
+            gzip.write(body, 0, length);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Sends the pending events and waits for the requests in flight. If the timeout is zero, waits until all batches
+     * have been sent or their retries are exhausted.
+     */
+    @Override
+    protected boolean releaseSub(final long timeout, final TimeUnit timeUnit) {
+        final ScheduledExecutorService timer = lingerTimer;
+        if (timer != null) {
+            // a running timer task may still dispatch the current batch
+            timer.shutdown();
+            try {
+                timer.awaitTermination(1, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        final Batch last;
+        synchronized (this) {
+            last = batch;
+            batch = null;
+        }
+        if (last != null && sender != null) {
+            dispatch(last);
+        }
+        if (timeout > 0) {
+            return ExecutorServices.shutdown(sender, timeout, timeUnit, toString());
+        }
+        final ExecutorService executor = sender;
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getBatchBytes() {
+        return batchBytes;
+    }
+
+    public long getLingerMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lingerNanos);
+    }
+
+    public Framing getFraming() {
+        return framing;
+    }
+
+    public boolean isCompress() {
+        return compress;
+    }
+
+    public int getMaxInFlightRequests() {
+        return maxInFlightRequests;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public long getRetryBackoffMillis() {
+        return retryBackoffMillis;
+    }
+
+    /**
+     * The events waiting to be sent in a single request, already framed.
+     */
+    private static final class Batch {
+
+        private final Framing framing;
+        private final long createdNanos = System.nanoTime();
+        private byte[] buffer = new byte[INITIAL_BATCH_CAPACITY];
+        private int size;
+        private int count;
+
+        Batch(final Framing framing) {
+            this.framing = framing;
+            if (framing == Framing.JSON_ARRAY) {
+                append((byte) '[');
+            }
+        }
+
+        void add(final byte[] event) {
+            // layouts usually end events with a line separator
+            int length = event.length;
+            while (length > 0 && (event[length - 1] == '\n' || event[length - 1] == '\r')) {
+                length--;
+            }
+            if (framing == Framing.JSON_ARRAY && count > 0) {
+                append((byte) ',');
+            }
+            ensureCapacity(length + 1);
+            System.arraycopy(event, 0, buffer, size, length);
+            size += length;
+            if (framing == Framing.NDJSON) {
+                append((byte) '\n');
+            }
+            count++;
+        }
+
+        byte[] finish() {
+            if (framing == Framing.JSON_ARRAY) {
+                append((byte) ']');
+            }
+            return buffer;
+        }
+
+        private void append(final byte b) {
+            ensureCapacity(1);
+            buffer[size++] = b;
+        }
+
+        private void ensureCapacity(final int additional) {
+            if (size + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+            }
+        }
+    }
+}
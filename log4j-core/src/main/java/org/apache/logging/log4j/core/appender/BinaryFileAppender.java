@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.appender;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginBuilderAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginBuilderFactory;
+import org.apache.logging.log4j.core.config.plugins.validation.constraints.Required;
+import org.apache.logging.log4j.core.util.internal.BinaryLogWriter;
+
+/**
+ * Writes events to a file in a compact binary format, which the {@code BinaryLogRenderer} command line tool renders
+ * back to text with any pattern.
+ * <p>
+ * Events are written in blocks: logger names, thread names, levels, markers, stack trace elements and the format
+ * strings of parameterized messages are written once per block, and of a parameterized message only the formatted
+ * parameters are written for each event. A block is written to the file when it reaches {@code blockSize} bytes, at the
+ * end of a batch of asynchronous events, when {@code immediateFlush} is set, and when the appender stops.
+ * </p>
+ *
+ * @since 2.24.0
+ */
+@Plugin(name = "BinaryFile", category = Core.CATEGORY_NAME, elementType = Appender.ELEMENT_TYPE, printObject = true)
+public final class BinaryFileAppender extends AbstractAppender {
+
+    /**
+     * Builds BinaryFileAppender instances.
+     *
+     * @param <B> The type to build
+     */
+    public static class Builder<B extends Builder<B>> extends AbstractAppender.Builder<B>
+            implements org.apache.logging.log4j.core.util.Builder<BinaryFileAppender> {
+
+        @PluginBuilderAttribute
+        @Required(message = "No file name provided for BinaryFileAppender")
+        private String fileName;
+
+        @PluginBuilderAttribute
+        private boolean append = true;
+
+        @PluginBuilderAttribute
+        private int blockSize = BinaryLogWriter.DEFAULT_BLOCK_SIZE;
+
+        @PluginBuilderAttribute
+        private boolean immediateFlush;
+
+        @PluginBuilderAttribute
+        private boolean includeLocation;
+
+        @Override
+        public BinaryFileAppender build() {
+            if (blockSize <= 0) {
+                LOGGER.error("BinaryFileAppender '{}': blockSize must be positive", getName());
+                return null;
+            }
+            final BinaryFileManager manager;
+            try {
+                manager = BinaryFileManager.getBinaryFileManager(
+                        getConfiguration().getLoggerContext(), fileName, append, blockSize, includeLocation);
+            } catch (final IllegalStateException e) {
+                LOGGER.error("BinaryFileAppender '{}': unable to open file {}", getName(), fileName, e);
+                return null;
+            }
+            return new BinaryFileAppender(
+                    getName(), getFilter(), isIgnoreExceptions(), getPropertyArray(), manager, immediateFlush);
+        }
+
+        public String getFileName() {
+            return fileName;
+        }
+
+        public boolean isAppend() {
+            return append;
+        }
+
+        public int getBlockSize() {
+            return blockSize;
+        }
+
+        public boolean isImmediateFlush() {
+            return immediateFlush;
+        }
+
+        public boolean isIncludeLocation() {
+            return includeLocation;
+        }
+
+        public B setFileName(final String fileName) {
+            this.fileName = fileName;
+            return asBuilder();
+        }
+
+        public B setAppend(final boolean append) {
+            this.append = append;
+            return asBuilder();
+        }
+
+        /**
+         * Sets the size in bytes above which a block is written to the file. Larger blocks repeat fewer strings.
+         *
+         * @param blockSize the size of a block.
+         * @return this builder
+         */
+        public B setBlockSize(final int blockSize) {
+            this.blockSize = blockSize;
+            return asBuilder();
+        }
+
+        /**
+         * Sets whether to write a block after each event. Each block then holds a single event, and repeats all its
+         * strings.
+         *
+         * @param immediateFlush whether to write a block after each event.
+         * @return this builder
+         */
+        public B setImmediateFlush(final boolean immediateFlush) {
+            this.immediateFlush = immediateFlush;
+            return asBuilder();
+        }
+
+        public B setIncludeLocation(final boolean includeLocation) {
+            this.includeLocation = includeLocation;
+            return asBuilder();
+        }
+    }
+
+    /**
+     * @return a builder for a BinaryFileAppender.
+     */
+    @PluginBuilderFactory
+    public static <B extends Builder<B>> B newBuilder() {
+        return new Builder<B>().asBuilder();
+    }
+
+    private final BinaryFileManager manager;
+    private final boolean immediateFlush;
+
+    private BinaryFileAppender(
+            final String name,
+            final Filter filter,
+            final boolean ignoreExceptions,
+            final Property[] properties,
+            final BinaryFileManager manager,
+            final boolean immediateFlush) {
+        super(name, filter, null, ignoreExceptions, properties);
+        this.manager = manager;
+        this.immediateFlush = immediateFlush;
+    }
+
+    @Override
+    public boolean stop(final long timeout, final TimeUnit timeUnit) {
+        setStopping();
+        boolean stopped = super.stop(timeout, timeUnit, false);
+        stopped &= manager.stop(timeout, timeUnit);
+        setStopped();
+        return stopped;
+    }
+
+    @Override
+    public void append(final LogEvent event) {
+        try {
+            manager.write(event, immediateFlush || event.isEndOfBatch());
+        } catch (final IOException e) {
+            throw new AppenderLoggingException("Unable to write to binary log file " + manager.getName(), e);
+        }
+    }
+
+    /**
+     * Returns the number of bytes of blocks written to the file since it was opened.
+     *
+     * @return the number of written bytes, excluding the file header.
+     */
+    public long getWrittenByteCount() {
+        return manager.getWrittenByteCount();
+    }
+
+    /**
+     * Returns the name of the file.
+     *
+     * @return the absolute path of the file.
+     */
+    public String getFileName() {
+        return manager.getName();
+    }
+}
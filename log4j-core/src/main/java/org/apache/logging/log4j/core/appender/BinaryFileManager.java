@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.appender;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.util.FileUtils;
+import org.apache.logging.log4j.core.util.internal.BinaryLogWriter;
+
+/**
+ * Writes the blocks of a binary log file for the {@link BinaryFileAppender}s of successive configurations.
+ */
+final class BinaryFileManager extends AbstractManager {
+
+    private static final BinaryFileManagerFactory FACTORY = new BinaryFileManagerFactory();
+
+    private final OutputStream out;
+    private final BinaryLogWriter writer;
+    private long writtenByteCount;
+
+    private BinaryFileManager(
+            final LoggerContext loggerContext,
+            final String name,
+            final OutputStream out,
+            final BinaryLogWriter writer) {
+        super(loggerContext, name);
+        this.out = out;
+        this.writer = writer;
+    }
+
+    static BinaryFileManager getBinaryFileManager(
+            final LoggerContext loggerContext,
+            final String fileName,
+            final boolean append,
+            final int blockSize,
+            final boolean includeLocation) {
+        final String name =
+                new File(fileName).getAbsoluteFile().toPath().normalize().toString();
+        return getManager(name, FACTORY, new FactoryData(loggerContext, append, blockSize, includeLocation));
+    }
+
+    /**
+     * Appends an event to the current block, and writes the block if it is full or if {@code flush} is true.
+     */
+    synchronized void write(final LogEvent event, final boolean flush) throws IOException {
+        if (writer.append(event) || flush) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the current block, if it contains events.
+     */
+    synchronized void flush() throws IOException {
+        if (writer.hasEvents()) {
+            writtenByteCount += writer.writeBlock(out);
+            out.flush();
+        }
+    }
+
+    /**
+     * Returns the number of bytes of blocks written since the file was opened.
+     */
+    synchronized long getWrittenByteCount() {
+        return writtenByteCount;
+    }
+
+    @Override
+    protected synchronized boolean releaseSub(final long timeout, final TimeUnit timeUnit) {
+        boolean closed = true;
+        try {
+            flush();
+        } catch (final IOException e) {
+            logError("Unable to write the last block", e);
+            closed = false;
+        }
+        try {
+            out.close();
+        } catch (final IOException e) {
+            logError("Unable to close file", e);
+            closed = false;
+        }
+        return closed;
+    }
+
+    private static final class FactoryData {
+        private final LoggerContext loggerContext;
+        private final boolean append;
+        private final int blockSize;
+        private final boolean includeLocation;
+
+        FactoryData(
+                final LoggerContext loggerContext,
+                final boolean append,
+                final int blockSize,
+                final boolean includeLocation) {
+            this.loggerContext = loggerContext;
+            this.append = append;
+            this.blockSize = blockSize;
+            this.includeLocation = includeLocation;
+        }
+
+        @Override
+        public String toString() {
+            return "FactoryData[append=" + append + ", blockSize=" + blockSize + ", includeLocation=" + includeLocation
+                    + ']';
+        }
+    }
+
+    private static final class BinaryFileManagerFactory implements ManagerFactory<BinaryFileManager, FactoryData> {
+
+        @Override
+        @SuppressFBWarnings(
+                value = "PATH_TRAVERSAL_IN",
+                justification = "The file name should be specified in the configuration file.")
+        public BinaryFileManager createManager(final String name, final FactoryData data) {
+            final File file = new File(name);
+            try {
+                FileUtils.makeParentDirs(file);
+                boolean writeHeader = !data.append || file.length() == 0;
+                if (!writeHeader) {
+                    final byte[] header = new byte[BinaryLogWriter.FILE_HEADER.length];
+                    try (final InputStream in = Files.newInputStream(file.toPath())) {
+                        if (in.read(header) != header.length || !Arrays.equals(header, BinaryLogWriter.FILE_HEADER)) {
+                            LOGGER.error("Unable to append to {}: not a binary log file", name);
+                            return null;
+                        }
+                    }
+                }
+                final OutputStream out = new FileOutputStream(file, !writeHeader);
+                if (writeHeader) {
+                    out.write(BinaryLogWriter.FILE_HEADER);
+                }
+                return new BinaryFileManager(
+                        data.loggerContext, name, out, new BinaryLogWriter(data.blockSize, data.includeLocation));
+            } catch (final IOException e) {
+                LOGGER.error("Unable to open binary log file {}", name, e);
+                return null;
+            }
+        }
+    }
+}
@@ -106,8 +106,9 @@ public final class ConsoleAppender extends AbstractOutputStreamAppender<OutputSt
             final OutputStreamManager manager,
             final boolean ignoreExceptions,
             final Target target,
-            final Property[] properties) {
-        super(name, layout, filter, ignoreExceptions, true, properties, manager);
+            final Property[] properties,
+            final boolean stripedBuffers) {
+        super(name, layout, filter, ignoreExceptions, true, properties, manager, stripedBuffers);
         this.target = target;
     }
 
@@ -143,7 +144,14 @@ public final class ConsoleAppender extends AbstractOutputStreamAppender<OutputSt
         final boolean ignoreExceptions = Booleans.parseBoolean(ignore, true);
         final Target target = targetStr == null ? DEFAULT_TARGET : Target.valueOf(targetStr);
         return new ConsoleAppender(
-                name, layout, filter, getManager(target, isFollow, false, layout), ignoreExceptions, target, null);
+                name,
+                layout,
+                filter,
+                getManager(target, isFollow, false, layout),
+                ignoreExceptions,
+                target,
+                null,
+                false);
     }
 
     /**
@@ -185,7 +193,14 @@ public final class ConsoleAppender extends AbstractOutputStreamAppender<OutputSt
             return null;
         }
         return new ConsoleAppender(
-                name, layout, filter, getManager(target, follow, direct, layout), ignoreExceptions, target, null);
+                name,
+                layout,
+                filter,
+                getManager(target, follow, direct, layout),
+                ignoreExceptions,
+                target,
+                null,
+                false);
     }
 
     public static ConsoleAppender createDefaultAppenderForLayout(final Layout<? extends Serializable> layout) {
@@ -197,7 +212,8 @@ public final class ConsoleAppender extends AbstractOutputStreamAppender<OutputSt
                 getDefaultManager(DEFAULT_TARGET, false, false, layout),
                 true,
                 DEFAULT_TARGET,
-                null);
+                null,
+                false);
     }
 
     @PluginBuilderFactory
@@ -254,7 +270,8 @@ public final class ConsoleAppender extends AbstractOutputStreamAppender<OutputSt
                     getManager(target, follow, direct, layout),
                     isIgnoreExceptions(),
                     target,
-                    getPropertyArray());
+                    getPropertyArray(),
+                    isStripedBuffers());
         }
     }
 
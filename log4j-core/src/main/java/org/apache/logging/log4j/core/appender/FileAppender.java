@@ -125,7 +125,8 @@ public final class FileAppender extends AbstractOutputStreamAppender<FileManager
                     isIgnoreExceptions(),
                     !bufferedIo || isImmediateFlush(),
                     advertise ? getConfiguration().getAdvertiser() : null,
-                    getPropertyArray());
+                    getPropertyArray(),
+                    isStripedBuffers());
         }
 
         public String getAdvertiseUri() {
@@ -288,9 +289,10 @@ public final class FileAppender extends AbstractOutputStreamAppender<FileManager
             final boolean ignoreExceptions,
             final boolean immediateFlush,
             final Advertiser advertiser,
-            final Property[] properties) {
+            final Property[] properties,
+            final boolean stripedBuffers) {
 
-        super(name, layout, filter, ignoreExceptions, immediateFlush, properties, manager);
+        super(name, layout, filter, ignoreExceptions, immediateFlush, properties, manager, stripedBuffers);
         if (advertiser != null) {
             final Map<String, String> configuration = new HashMap<>(layout.getContentFormat());
             configuration.putAll(manager.getContentFormat());
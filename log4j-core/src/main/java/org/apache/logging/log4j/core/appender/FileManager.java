@@ -248,7 +248,7 @@ public class FileManager extends OutputStreamManager {
         LOGGER.debug("Now writing to {} at {}", filename, new Date());
         final File file = new File(filename);
         createParentDir(file);
-        final FileOutputStream fos = new FileOutputStream(file, isAppend);
+        final OutputStream os = wrapOutputStream(new FileOutputStream(file, isAppend));
         if (file.exists() && file.length() == 0) {
             try {
                 final FileTime now = FileTime.fromMillis(System.currentTimeMillis());
@@ -256,9 +256,22 @@ public class FileManager extends OutputStreamManager {
             } catch (Exception ex) {
                 LOGGER.warn("Unable to set current file time for {}", filename);
             }
-            writeHeader(fos);
+            writeHeader(os);
         }
         defineAttributeView(Paths.get(filename));
+        return os;
+    }
+
+    /**
+     * Wraps the stream writing to a newly opened file. Subclasses may override to transform the content written to
+     * the file, for example to compress it. The header is written to the returned stream.
+     *
+     * @param fos the stream writing to the file.
+     * @return the stream used to write to the file.
+     * @throws IOException if the stream cannot be wrapped.
+     * @since 2.24.0
+     */
+    protected OutputStream wrapOutputStream(final FileOutputStream fos) throws IOException {
         return fos;
     }
 
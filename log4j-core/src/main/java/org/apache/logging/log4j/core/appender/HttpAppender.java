@@ -39,6 +39,14 @@ import org.apache.logging.log4j.core.net.ssl.SslConfiguration;
 @Plugin(name = "Http", category = Node.CATEGORY, elementType = Appender.ELEMENT_TYPE, printObject = true)
 public final class HttpAppender extends AbstractAppender {
 
+    private static final int DEFAULT_BATCH_BYTES = 1024 * 1024;
+
+    private static final long DEFAULT_LINGER_MILLIS = 1000;
+
+    private static final int DEFAULT_MAX_RETRIES = 3;
+
+    private static final long DEFAULT_RETRY_BACKOFF_MILLIS = 100;
+
     /**
      * Builds HttpAppender instances.
      * @param <B> The type to build
@@ -68,9 +76,39 @@ public final class HttpAppender extends AbstractAppender {
         @PluginBuilderAttribute
         private boolean verifyHostname = true;
 
+        @PluginBuilderAttribute
+        private int batchSize;
+
+        @PluginBuilderAttribute
+        private int batchBytes = DEFAULT_BATCH_BYTES;
+
+        @PluginBuilderAttribute
+        private long lingerMillis = DEFAULT_LINGER_MILLIS;
+
+        @PluginBuilderAttribute
+        private BatchingHttpManager.Framing framing = BatchingHttpManager.Framing.NDJSON;
+
+        @PluginBuilderAttribute
+        private boolean compress;
+
+        @PluginBuilderAttribute
+        private int maxInFlightRequests = 1;
+
+        @PluginBuilderAttribute
+        private int maxRetries = DEFAULT_MAX_RETRIES;
+
+        @PluginBuilderAttribute
+        private long retryBackoffMillis = DEFAULT_RETRY_BACKOFF_MILLIS;
+
         @Override
         public HttpAppender build() {
-            final HttpManager httpManager = new HttpURLConnectionManager(
+            if (batchSize > 0 && (batchBytes <= 0 || lingerMillis <= 0 || maxInFlightRequests <= 0)) {
+                LOGGER.error(
+                        "HttpAppender '{}': batchBytes, lingerMillis and maxInFlightRequests must be positive",
+                        getName());
+                return null;
+            }
+            final HttpURLConnectionManager connectionManager = new HttpURLConnectionManager(
                     getConfiguration(),
                     getConfiguration().getLoggerContext(),
                     getName(),
@@ -81,6 +119,21 @@ public final class HttpAppender extends AbstractAppender {
                     headers,
                     sslConfiguration,
                     verifyHostname);
+            final HttpManager httpManager = batchSize > 0
+                    ? new BatchingHttpManager(
+                            getConfiguration(),
+                            getConfiguration().getLoggerContext(),
+                            getName(),
+                            connectionManager,
+                            batchSize,
+                            batchBytes,
+                            lingerMillis,
+                            framing,
+                            compress,
+                            maxInFlightRequests,
+                            Math.max(0, maxRetries),
+                            retryBackoffMillis)
+                    : connectionManager;
             return new HttpAppender(
                     getName(), getLayout(), getFilter(), isIgnoreExceptions(), httpManager, getPropertyArray());
         }
@@ -147,6 +200,107 @@ public final class HttpAppender extends AbstractAppender {
             this.verifyHostname = verifyHostname;
             return asBuilder();
         }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public int getBatchBytes() {
+            return batchBytes;
+        }
+
+        public long getLingerMillis() {
+            return lingerMillis;
+        }
+
+        public BatchingHttpManager.Framing getFraming() {
+            return framing;
+        }
+
+        public boolean isCompress() {
+            return compress;
+        }
+
+        public int getMaxInFlightRequests() {
+            return maxInFlightRequests;
+        }
+
+        public int getMaxRetries() {
+            return maxRetries;
+        }
+
+        public long getRetryBackoffMillis() {
+            return retryBackoffMillis;
+        }
+
+        /**
+         * Sends events in batches of up to {@code batchSize} events, from background threads.
+         *
+         * @param batchSize The maximum number of events in a request; if zero or less, each event is sent
+         *                  synchronously in its own request.
+         * @return this builder
+         * @since 2.24.0
+         */
+        public B setBatchSize(final int batchSize) {
+            this.batchSize = batchSize;
+            return asBuilder();
+        }
+
+        /**
+         * @since 2.24.0
+         */
+        public B setBatchBytes(final int batchBytes) {
+            this.batchBytes = batchBytes;
+            return asBuilder();
+        }
+
+        /**
+         * @since 2.24.0
+         */
+        public B setLingerMillis(final long lingerMillis) {
+            this.lingerMillis = lingerMillis;
+            return asBuilder();
+        }
+
+        /**
+         * @since 2.24.0
+         */
+        public B setFraming(final BatchingHttpManager.Framing framing) {
+            this.framing = framing;
+            return asBuilder();
+        }
+
+        /**
+         * @since 2.24.0
+         */
+        public B setCompress(final boolean compress) {
+            this.compress = compress;
+            return asBuilder();
+        }
+
+        /**
+         * @since 2.24.0
+         */
+        public B setMaxInFlightRequests(final int maxInFlightRequests) {
+            this.maxInFlightRequests = maxInFlightRequests;
+            return asBuilder();
+        }
+
+        /**
+         * @since 2.24.0
+         */
+        public B setMaxRetries(final int maxRetries) {
+            this.maxRetries = maxRetries;
+            return asBuilder();
+        }
+
+        /**
+         * @since 2.24.0
+         */
+        public B setRetryBackoffMillis(final long retryBackoffMillis) {
+            this.retryBackoffMillis = retryBackoffMillis;
+            return asBuilder();
+        }
     }
 
     /**
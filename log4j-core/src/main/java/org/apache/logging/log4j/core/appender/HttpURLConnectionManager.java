@@ -77,10 +77,28 @@ public class HttpURLConnectionManager extends HttpManager {
     }
 
     @Override
+    public void send(final Layout<?> layout, final LogEvent event) throws IOException {
+        final byte[] msg = layout.toByteArray(event);
+        send(layout.getContentType(), null, msg, msg.length);
+    }
+
+    /**
+     * Sends a request body.
+     * <p>
+     * The response is fully read, so that the connection can be reused by the keep-alive cache of the JDK.
+     * </p>
+     *
+     * @param contentType The content type of the body, may be null.
+     * @param contentEncoding The content encoding of the body, may be null.
+     * @param body The buffer containing the body.
+     * @param length The length of the body.
+     * @throws IOException if the request fails or the server returns an error status.
+     */
     @SuppressFBWarnings(
             value = "URLCONNECTION_SSRF_FD",
             justification = "This connection URL is specified in a configuration file.")
-    public void send(final Layout<?> layout, final LogEvent event) throws IOException {
+    void send(final String contentType, final String contentEncoding, final byte[] body, final int length)
+            throws IOException {
         final HttpURLConnection urlConnection = (HttpURLConnection) url.openConnection();
         urlConnection.setAllowUserInteraction(false);
         urlConnection.setDoOutput(true);
@@ -92,8 +110,11 @@ public class HttpURLConnectionManager extends HttpManager {
         if (readTimeoutMillis > 0) {
             urlConnection.setReadTimeout(readTimeoutMillis);
         }
-        if (layout.getContentType() != null) {
-            urlConnection.setRequestProperty("Content-Type", layout.getContentType());
+        if (contentType != null) {
+            urlConnection.setRequestProperty("Content-Type", contentType);
+        }
+        if (contentEncoding != null) {
+            urlConnection.setRequestProperty("Content-Encoding", contentEncoding);
         }
         for (final Property header : headers) {
             urlConnection.setRequestProperty(
@@ -106,11 +127,10 @@ public class HttpURLConnectionManager extends HttpManager {
             ((HttpsURLConnection) urlConnection).setHostnameVerifier(LaxHostnameVerifier.INSTANCE);
         }
 
-        final byte[] msg = layout.toByteArray(event);
-        urlConnection.setFixedLengthStreamingMode(msg.length);
+        urlConnection.setFixedLengthStreamingMode(length);
         urlConnection.connect();
         try (final OutputStream os = urlConnection.getOutputStream()) {
-            os.write(msg);
+            os.write(body, 0, length);
         }
 
         final byte[] buffer = new byte[1024];
@@ -0,0 +1,492 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.appender;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.AppenderControl;
+import org.apache.logging.log4j.core.config.AppenderRef;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.ConfigurationException;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginBuilderAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginBuilderFactory;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.validation.constraints.Required;
+import org.apache.logging.log4j.core.util.Log4jThreadFactory;
+import org.apache.logging.log4j.core.util.WriteAheadJournal;
+import org.apache.logging.log4j.core.util.internal.SerializedLogEvents;
+import org.apache.logging.log4j.util.FilteredObjectInputStream;
+
+/**
+ * Writes events to a durable {@link WriteAheadJournal} on local disk, and delivers them from a background thread to
+ * another appender, usually a network appender. An event is removed from the journal once the target appender has
+ * accepted it, so that events survive a restart of the application and an outage of the destination: they are
+ * delivered at least once.
+ * <p>
+ * The target appender must not ignore exceptions, otherwise failed deliveries cannot be detected. When a delivery
+ * fails, it is retried every {@code retryIntervalMillis} milliseconds, and later events stay in the journal, in order.
+ * </p>
+ *
+ * @since 2.24.0
+ */
+@Plugin(name = "Journal", category = Core.CATEGORY_NAME, elementType = Appender.ELEMENT_TYPE, printObject = true)
+public final class JournalAppender extends AbstractAppender {
+
+    private static final long DEFAULT_RETRY_INTERVAL_MILLIS = 1000;
+
+    private static final long DEFAULT_SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+    /**
+     * Builds JournalAppender instances.
+     *
+     * @param <B> The type to build
+     */
+    public static class Builder<B extends Builder<B>> extends AbstractAppender.Builder<B>
+            implements org.apache.logging.log4j.core.util.Builder<JournalAppender> {
+
+        @PluginElement("AppenderRef")
+        @Required(message = "No appender reference provided to JournalAppender")
+        private AppenderRef appenderRef;
+
+        @PluginBuilderAttribute
+        @Required(message = "No directory provided for JournalAppender")
+        private String directory;
+
+        @PluginBuilderAttribute
+        private int segmentSize = WriteAheadJournal.DEFAULT_SEGMENT_SIZE;
+
+        @PluginBuilderAttribute
+        private long maxSize = WriteAheadJournal.DEFAULT_MAX_SIZE;
+
+        @PluginBuilderAttribute
+        private int syncBatchSize = 1;
+
+        @PluginBuilderAttribute
+        private long retryIntervalMillis = DEFAULT_RETRY_INTERVAL_MILLIS;
+
+        @PluginBuilderAttribute
+        private long shutdownTimeoutMillis = DEFAULT_SHUTDOWN_TIMEOUT_MILLIS;
+
+        @PluginBuilderAttribute
+        private boolean includeLocation;
+
+        @Override
+        public JournalAppender build() {
+            if (segmentSize <= 0 || maxSize <= 0 || retryIntervalMillis <= 0) {
+                LOGGER.error(
+                        "JournalAppender '{}': segmentSize, maxSize and retryIntervalMillis must be positive",
+                        getName());
+                return null;
+            }
+            final JournalManager manager;
+            try {
+                manager = JournalManager.getJournalManager(
+                        getConfiguration().getLoggerContext(), directory, segmentSize, maxSize);
+            } catch (final IllegalStateException e) {
+                LOGGER.error("JournalAppender '{}': unable to open journal {}", getName(), directory, e);
+                return null;
+            }
+            return new JournalAppender(
+                    getName(),
+                    getFilter(),
+                    isIgnoreExceptions(),
+                    getPropertyArray(),
+                    getConfiguration(),
+                    appenderRef,
+                    manager,
+                    syncBatchSize,
+                    retryIntervalMillis,
+                    shutdownTimeoutMillis,
+                    includeLocation);
+        }
+
+        public AppenderRef getAppenderRef() {
+            return appenderRef;
+        }
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public int getSegmentSize() {
+            return segmentSize;
+        }
+
+        public long getMaxSize() {
+            return maxSize;
+        }
+
+        public int getSyncBatchSize() {
+            return syncBatchSize;
+        }
+
+        public long getRetryIntervalMillis() {
+            return retryIntervalMillis;
+        }
+
+        public long getShutdownTimeoutMillis() {
+            return shutdownTimeoutMillis;
+        }
+
+        public boolean isIncludeLocation() {
+            return includeLocation;
+        }
+
+        public B setAppenderRef(final AppenderRef appenderRef) {
+            this.appenderRef = appenderRef;
+            return asBuilder();
+        }
+
+        public B setDirectory(final String directory) {
+            this.directory = directory;
+            return asBuilder();
+        }
+
+        public B setSegmentSize(final int segmentSize) {
+            this.segmentSize = segmentSize;
+            return asBuilder();
+        }
+
+        /**
+         * Sets the maximum size in bytes of the events not yet delivered: when it is reached, new events are dropped.
+         *
+         * @param maxSize the maximum size of the journal.
+         * @return this builder
+         */
+        public B setMaxSize(final long maxSize) {
+            this.maxSize = maxSize;
+            return asBuilder();
+        }
+
+        /**
+         * Sets the number of events after which the journal is forced to the storage device. The journal is also
+         * forced whenever all the events have been delivered.
+         *
+         * @param syncBatchSize the number of events between two syncs; if zero or less, the journal is only forced
+         *                      when all the events have been delivered.
+         * @return this builder
+         */
+        public B setSyncBatchSize(final int syncBatchSize) {
+            this.syncBatchSize = syncBatchSize;
+            return asBuilder();
+        }
+
+        public B setRetryIntervalMillis(final long retryIntervalMillis) {
+            this.retryIntervalMillis = retryIntervalMillis;
+            return asBuilder();
+        }
+
+        public B setShutdownTimeoutMillis(final long shutdownTimeoutMillis) {
+            this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+            return asBuilder();
+        }
+
+        public B setIncludeLocation(final boolean includeLocation) {
+            this.includeLocation = includeLocation;
+            return asBuilder();
+        }
+    }
+
+    /**
+     * @return a builder for a JournalAppender.
+     */
+    @PluginBuilderFactory
+    public static <B extends Builder<B>> B newBuilder() {
+        return new Builder<B>().asBuilder();
+    }
+
+    private final Configuration configuration;
+    private final AppenderRef appenderRef;
+    private final JournalManager manager;
+    private final int syncBatchSize;
+    private final long retryIntervalMillis;
+    private final long shutdownTimeoutMillis;
+    private final boolean includeLocation;
+    private final Object signal = new Object();
+    private final AtomicLong journaledCount = new AtomicLong();
+    private final AtomicLong deliveredCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private boolean signalled;
+    private volatile boolean stopping;
+    private AppenderControl target;
+    private Thread deliveryThread;
+
+    private JournalAppender(
+            final String name,
+            final Filter filter,
+            final boolean ignoreExceptions,
+            final Property[] properties,
+            final Configuration configuration,
+            final AppenderRef appenderRef,
+            final JournalManager manager,
+            final int syncBatchSize,
+            final long retryIntervalMillis,
+            final long shutdownTimeoutMillis,
+            final boolean includeLocation) {
+        super(name, filter, null, ignoreExceptions, properties);
+        this.configuration = configuration;
+        this.appenderRef = appenderRef;
+        this.manager = manager;
+        this.syncBatchSize = syncBatchSize;
+        this.retryIntervalMillis = retryIntervalMillis;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.includeLocation = includeLocation;
+    }
+
+    @Override
+    public void start() {
+        final Appender appender = configuration.getAppender(appenderRef.getRef());
+        if (appender == null) {
+            throw new ConfigurationException("No appender named " + appenderRef.getRef() + " was configured");
+        }
+        if (appender.ignoreExceptions()) {
+            LOGGER.warn(
+                    "JournalAppender {}: appender {} ignores exceptions, failed deliveries will not be retried. "
+                            + "Set its ignoreExceptions attribute to false.",
+                    getName(),
+                    appender.getName());
+        }
+        target = new AppenderControl(appender, appenderRef.getLevel(), appenderRef.getFilter());
+        manager.setConsumer(this);
+        deliveryThread = Log4jThreadFactory.createDaemonThreadFactory("Journal-" + getName())
+                .newThread(this::deliver);
+        deliveryThread.start();
+        super.start();
+    }
+
+    @Override
+    public boolean stop(final long timeout, final TimeUnit timeUnit) {
+        setStopping();
+        super.stop(timeout, timeUnit, false);
+        stopping = true;
+        signal();
+        try {
+            deliveryThread.join(shutdownTimeoutMillis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (deliveryThread.isAlive()) {
+            deliveryThread.interrupt();
+        }
+        final long pendingSize = manager.getPendingSize();
+        if (pendingSize > 0) {
+            LOGGER.info(
+                    "JournalAppender {}: {} bytes of events not delivered, kept in journal {}",
+                    getName(),
+                    pendingSize,
+                    manager.getName());
+        }
+        final boolean stopped = manager.stop(timeout, timeUnit);
+        setStopped();
+        return stopped;
+    }
+
+    @Override
+    public void append(final LogEvent event) {
+        final byte[] record;
+        try {
+            record = serialize(event);
+        } catch (final IOException e) {
+            error("Unable to serialize event for journal " + manager.getName(), event, e);
+            droppedCount.incrementAndGet();
+            return;
+        }
+        final long offset;
+        try {
+            offset = manager.append(record, syncBatchSize);
+        } catch (final IOException e) {
+            throw new AppenderLoggingException("Unable to write to journal " + manager.getName(), e);
+        }
+        if (offset < 0) {
+            error("Journal " + manager.getName() + " is full, dropping event", event, null);
+            droppedCount.incrementAndGet();
+            return;
+        }
+        journaledCount.incrementAndGet();
+        signal();
+    }
+
+    private byte[] serialize(final LogEvent event) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            SerializedLogEvents.write(out, event, includeLocation);
+        }
+        return bytes.toByteArray();
+    }
+
+    private void deliver() {
+        boolean failing = false;
+        while (!Thread.currentThread().isInterrupted()) {
+            final byte[] record;
+            try {
+                record = manager.read(this);
+            } catch (final IOException e) {
+                if (stopping) {
+                    return;
+                }
+                LOGGER.error("JournalAppender {}: unable to read journal {}", getName(), manager.getName(), e);
+                await(retryIntervalMillis);
+                continue;
+            }
+            if (record == null) {
+                if (stopping) {
+                    return;
+                }
+                try {
+                    manager.sync();
+                } catch (final IOException e) {
+                    LOGGER.error("JournalAppender {}: unable to sync journal {}", getName(), manager.getName(), e);
+                }
+                await(0);
+                continue;
+            }
+            final LogEvent event;
+            try (final ObjectInputStream in = new FilteredObjectInputStream(new ByteArrayInputStream(record))) {
+                event = SerializedLogEvents.read(in);
+            } catch (final IOException | ClassNotFoundException | RuntimeException e) {
+                LOGGER.error("JournalAppender {}: unable to deserialize event, dropping it", getName(), e);
+                droppedCount.incrementAndGet();
+                acknowledge();
+                continue;
+            }
+            try {
+                target.callAppender(event);
+            } catch (final RuntimeException e) {
+                manager.rewind(this);
+                if (!failing) {
+                    LOGGER.warn(
+                            "JournalAppender {}: unable to deliver event to {}, retrying every {} ms",
+                            getName(),
+                            appenderRef.getRef(),
+                            retryIntervalMillis,
+                            e);
+                    failing = true;
+                }
+                if (stopping) {
+                    return;
+                }
+                await(retryIntervalMillis);
+                continue;
+            }
+            if (failing) {
+                LOGGER.info("JournalAppender {}: delivering events to {} again", getName(), appenderRef.getRef());
+                failing = false;
+            }
+            deliveredCount.incrementAndGet();
+            acknowledge();
+        }
+    }
+
+    private void acknowledge() {
+        try {
+            manager.acknowledge(this);
+        } catch (final IOException e) {
+            LOGGER.error("JournalAppender {}: unable to acknowledge events in {}", getName(), manager.getName(), e);
+        }
+    }
+
+    private void signal() {
+        synchronized (signal) {
+            signalled = true;
+            signal.notifyAll();
+        }
+    }
+
+    /**
+     * Waits until the appender is stopping or, if {@code timeoutMillis} is zero, until an event is appended.
+     */
+    private void await(final long timeoutMillis) {
+        synchronized (signal) {
+            final long deadline = System.currentTimeMillis() + timeoutMillis;
+            try {
+                while (!stopping) {
+                    if (timeoutMillis == 0) {
+                        if (signalled) {
+                            break;
+                        }
+                        signal.wait();
+                    } else {
+                        final long remaining = deadline - System.currentTimeMillis();
+                        if (remaining <= 0) {
+                            break;
+                        }
+                        signal.wait(remaining);
+                    }
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            signalled = false;
+        }
+    }
+
+    /**
+     * Returns the number of events written to the journal.
+     *
+     * @return the number of journaled events.
+     */
+    public long getJournaledCount() {
+        return journaledCount.get();
+    }
+
+    /**
+     * Returns the number of events delivered to the target appender.
+     *
+     * @return the number of delivered events.
+     */
+    public long getDeliveredCount() {
+        return deliveredCount.get();
+    }
+
+    /**
+     * Returns the number of events dropped because the journal was full or an event could not be serialized.
+     *
+     * @return the number of dropped events.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Returns the size in bytes of the events not yet delivered.
+     *
+     * @return the pending size.
+     */
+    public long getPendingSize() {
+        return manager.getPendingSize();
+    }
+
+    /**
+     * Returns the name of the target appender.
+     *
+     * @return the name of the target appender.
+     */
+    public String getAppenderRef() {
+        return appenderRef.getRef();
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.appender;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.util.WriteAheadJournal;
+
+/**
+ * Shares the {@link WriteAheadJournal} of a directory between the {@link JournalAppender}s of successive
+ * configurations.
+ * <p>
+ * Only the current consumer, the last one {@linkplain #setConsumer(Object) set}, reads and acknowledges records: when
+ * the configuration changes, the new appender reads again the records not acknowledged by the previous one.
+ * </p>
+ */
+final class JournalManager extends AbstractManager {
+
+    private static final JournalManagerFactory FACTORY = new JournalManagerFactory();
+
+    private final WriteAheadJournal journal;
+    private Object consumer;
+    private int unsyncedCount;
+
+    private JournalManager(final LoggerContext loggerContext, final String name, final WriteAheadJournal journal) {
+        super(loggerContext, name);
+        this.journal = journal;
+    }
+
+    static JournalManager getJournalManager(
+            final LoggerContext loggerContext, final String directory, final int segmentSize, final long maxSize) {
+        final String name = Paths.get(directory).toAbsolutePath().normalize().toString();
+        return getManager(name, FACTORY, new FactoryData(loggerContext, segmentSize, maxSize));
+    }
+
+    synchronized void setConsumer(final Object consumer) {
+        this.consumer = consumer;
+        journal.rewind();
+    }
+
+    /**
+     * Appends a record, and syncs the journal every {@code syncBatchSize} records.
+     *
+     * @return the offset of the record, or {@code -1} if the journal is full.
+     */
+    synchronized long append(final byte[] record, final int syncBatchSize) throws IOException {
+        final long offset = journal.append(record);
+        if (offset >= 0 && syncBatchSize > 0 && ++unsyncedCount >= syncBatchSize) {
+            journal.sync();
+            unsyncedCount = 0;
+        }
+        return offset;
+    }
+
+    /**
+     * Returns the next record for a consumer, or {@code null} if there is none or the consumer is not the current one.
+     */
+    synchronized byte[] read(final Object consumer) throws IOException {
+        return consumer == this.consumer ? journal.read() : null;
+    }
+
+    /**
+     * Acknowledges the records read by a consumer, if it is the current one.
+     */
+    synchronized void acknowledge(final Object consumer) throws IOException {
+        if (consumer == this.consumer) {
+            journal.acknowledge(journal.getReadOffset());
+        }
+    }
+
+    /**
+     * Makes the records read by a consumer since its last acknowledgement readable again, if it is the current one.
+     */
+    synchronized void rewind(final Object consumer) {
+        if (consumer == this.consumer) {
+            journal.rewind();
+        }
+    }
+
+    synchronized void sync() throws IOException {
+        journal.sync();
+        unsyncedCount = 0;
+    }
+
+    synchronized long getPendingSize() {
+        return journal.getPendingSize();
+    }
+
+    WriteAheadJournal getJournal() {
+        return journal;
+    }
+
+    @Override
+    protected synchronized boolean releaseSub(final long timeout, final TimeUnit timeUnit) {
+        try {
+            journal.close();
+            return true;
+        } catch (final IOException e) {
+            logError("Unable to close journal", e);
+            return false;
+        }
+    }
+
+    private static final class FactoryData {
+        private final LoggerContext loggerContext;
+        private final int segmentSize;
+        private final long maxSize;
+
+        FactoryData(final LoggerContext loggerContext, final int segmentSize, final long maxSize) {
+            this.loggerContext = loggerContext;
+            this.segmentSize = segmentSize;
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public String toString() {
+            return "FactoryData[segmentSize=" + segmentSize + ", maxSize=" + maxSize + ']';
+        }
+    }
+
+    private static final class JournalManagerFactory implements ManagerFactory<JournalManager, FactoryData> {
+
+        @Override
+        @SuppressFBWarnings(
+                value = "PATH_TRAVERSAL_IN",
+                justification = "The journal directory should be specified in the configuration file.")
+        public JournalManager createManager(final String name, final FactoryData data) {
+            final Path directory = Paths.get(name);
+            try {
+                final WriteAheadJournal journal = WriteAheadJournal.open(directory, data.segmentSize, data.maxSize);
+                if (journal.getPendingSize() > 0) {
+                    LOGGER.info(
+                            "Journal {} contains {} bytes of events not yet delivered", name, journal.getPendingSize());
+                }
+                return new JournalManager(data.loggerContext, name, journal);
+            } catch (final IOException e) {
+                LOGGER.error("Unable to open journal {}", name, e);
+                return null;
+            }
+        }
+    }
+}
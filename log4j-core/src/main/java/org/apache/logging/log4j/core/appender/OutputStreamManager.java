@@ -27,6 +27,8 @@ import org.apache.logging.log4j.core.Layout;
 import org.apache.logging.log4j.core.LoggerContext;
 import org.apache.logging.log4j.core.layout.ByteBufferDestination;
 import org.apache.logging.log4j.core.layout.ByteBufferDestinationHelper;
+import org.apache.logging.log4j.core.metrics.ComponentMetrics;
+import org.apache.logging.log4j.core.metrics.MetricsRegistry;
 import org.apache.logging.log4j.core.util.Constants;
 
 /**
@@ -38,6 +40,7 @@ public class OutputStreamManager extends AbstractManager implements ByteBufferDe
     protected ByteBuffer byteBuffer;
     private volatile OutputStream outputStream;
     private boolean skipFooter;
+    private final ComponentMetrics metrics;
 
     protected OutputStreamManager(
             final OutputStream os, final String streamName, final Layout<?> layout, final boolean writeHeader) {
@@ -65,6 +68,7 @@ public class OutputStreamManager extends AbstractManager implements ByteBufferDe
             final boolean writeHeader,
             final ByteBuffer byteBuffer) {
         super(null, streamName);
+        this.metrics = registerMetrics(streamName);
         this.outputStream = os;
         this.layout = layout;
         if (writeHeader) {
@@ -85,6 +89,7 @@ public class OutputStreamManager extends AbstractManager implements ByteBufferDe
             final boolean writeHeader,
             final ByteBuffer byteBuffer) {
         super(loggerContext, streamName);
+        this.metrics = registerMetrics(streamName);
         if (createOnDemand && os != null) {
             LOGGER.error(
                     "Invalid OutputStreamManager configuration for '{}': You cannot both set the OutputStream and request on-demand.",
@@ -125,6 +130,31 @@ public class OutputStreamManager extends AbstractManager implements ByteBufferDe
         this.skipFooter = skipFooter;
     }
 
+    private static ComponentMetrics registerMetrics(final String streamName) {
+        final ComponentMetrics metrics = MetricsRegistry.createMetrics(ComponentMetrics.MANAGER, streamName);
+        MetricsRegistry.register(metrics);
+        return metrics;
+    }
+
+    /**
+     * Returns the metrics of this manager.
+     *
+     * @return the metrics or {@code null} if metrics are disabled
+     * @since 2.24.0
+     */
+    public ComponentMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public boolean stop(final long timeout, final TimeUnit timeUnit) {
+        final boolean stopped = super.stop(timeout, timeUnit);
+        if (getCount() <= 0) {
+            MetricsRegistry.unregister(metrics);
+        }
+        return stopped;
+    }
+
     /**
      * Default hook to write footer during close.
      */
@@ -261,6 +291,9 @@ public class OutputStreamManager extends AbstractManager implements ByteBufferDe
     protected synchronized void writeToDestination(final byte[] bytes, final int offset, final int length) {
         try {
             getOutputStream().write(bytes, offset, length);
+            if (metrics != null) {
+                metrics.addBytes(length);
+            }
         } catch (final IOException ex) {
             throw new AppenderLoggingException("Error writing to stream " + getName(), ex);
         }
@@ -274,7 +307,11 @@ public class OutputStreamManager extends AbstractManager implements ByteBufferDe
         final OutputStream stream = outputStream; // access volatile field only once per method
         if (stream != null) {
             try {
+                final long startNanos = metrics != null ? System.nanoTime() : 0;
                 stream.flush();
+                if (metrics != null) {
+                    metrics.getFlushLatency().record(System.nanoTime() - startNanos);
+                }
             } catch (final IOException ex) {
                 throw new AppenderLoggingException("Error flushing stream " + getName(), ex);
             }
@@ -97,7 +97,8 @@ public final class RandomAccessFileAppender extends AbstractOutputStreamAppender
                     isIgnoreExceptions(),
                     immediateFlush,
                     advertise ? getConfiguration().getAdvertiser() : null,
-                    getPropertyArray());
+                    getPropertyArray(),
+                    isStripedBuffers());
         }
 
         public B setFileName(final String fileName) {
@@ -134,9 +135,10 @@ public final class RandomAccessFileAppender extends AbstractOutputStreamAppender
             final boolean ignoreExceptions,
             final boolean immediateFlush,
             final Advertiser advertiser,
-            final Property[] properties) {
+            final Property[] properties,
+            final boolean stripedBuffers) {
 
-        super(name, layout, filter, ignoreExceptions, immediateFlush, properties, manager);
+        super(name, layout, filter, ignoreExceptions, immediateFlush, properties, manager, stripedBuffers);
         if (advertiser != null) {
             final Map<String, String> configuration = new HashMap<>(layout.getContentFormat());
             configuration.putAll(manager.getContentFormat());
@@ -110,6 +110,9 @@ public class RandomAccessFileManager extends OutputStreamManager {
     protected void writeToDestination(final byte[] bytes, final int offset, final int length) {
         try {
             randomAccessFile.write(bytes, offset, length);
+            if (getMetrics() != null) {
+                getMetrics().addBytes(length);
+            }
         } catch (final IOException ex) {
             final String msg = "Error writing to RandomAccessFile " + getName();
             throw new AppenderLoggingException(msg, ex);
@@ -31,6 +31,7 @@ import org.apache.logging.log4j.core.appender.rolling.DirectFileRolloverStrategy
 import org.apache.logging.log4j.core.appender.rolling.DirectWriteRolloverStrategy;
 import org.apache.logging.log4j.core.appender.rolling.RollingFileManager;
 import org.apache.logging.log4j.core.appender.rolling.RolloverStrategy;
+import org.apache.logging.log4j.core.appender.rolling.StreamingCompression;
 import org.apache.logging.log4j.core.appender.rolling.TriggeringPolicy;
 import org.apache.logging.log4j.core.config.Configuration;
 import org.apache.logging.log4j.core.config.Property;
@@ -85,6 +86,9 @@ public final class RollingFileAppender extends AbstractOutputStreamAppender<Roll
         @PluginElement("Strategy")
         private RolloverStrategy strategy;
 
+        @PluginElement("StreamingCompression")
+        private StreamingCompression streamingCompression;
+
         @PluginBuilderAttribute
         private boolean advertise;
 
@@ -156,7 +160,8 @@ public final class RollingFileAppender extends AbstractOutputStreamAppender<Roll
                     filePermissions,
                     fileOwner,
                     fileGroup,
-                    getConfiguration());
+                    getConfiguration(),
+                    streamingCompression);
             if (manager == null) {
                 return null;
             }
@@ -173,7 +178,8 @@ public final class RollingFileAppender extends AbstractOutputStreamAppender<Roll
                     isIgnoreExceptions(),
                     !isBufferedIo || isImmediateFlush(),
                     advertise ? getConfiguration().getAdvertiser() : null,
-                    getPropertyArray());
+                    getPropertyArray(),
+                    isStripedBuffers());
         }
 
         public String getAdvertiseUri() {
@@ -283,6 +289,25 @@ public final class RollingFileAppender extends AbstractOutputStreamAppender<Roll
             this.fileGroup = fileGroup;
             return asBuilder();
         }
+
+        /**
+         * @since 2.24.0
+         */
+        public StreamingCompression getStreamingCompression() {
+            return streamingCompression;
+        }
+
+        /**
+         * Compresses the active file while it is written, instead of compressing it on rollover.
+         *
+         * @param streamingCompression The streaming compression configuration.
+         * @return This builder for chaining convenience
+         * @since 2.24.0
+         */
+        public B setStreamingCompression(final StreamingCompression streamingCompression) {
+            this.streamingCompression = streamingCompression;
+            return asBuilder();
+        }
     }
 
     private static final int DEFAULT_BUFFER_SIZE = 8192;
@@ -302,8 +327,9 @@ public final class RollingFileAppender extends AbstractOutputStreamAppender<Roll
             final boolean ignoreExceptions,
             final boolean immediateFlush,
             final Advertiser advertiser,
-            final Property[] properties) {
-        super(name, layout, filter, ignoreExceptions, immediateFlush, properties, manager);
+            final Property[] properties,
+            final boolean stripedBuffers) {
+        super(name, layout, filter, ignoreExceptions, immediateFlush, properties, manager, stripedBuffers);
         if (advertiser != null) {
             final Map<String, String> configuration = new HashMap<>(layout.getContentFormat());
             configuration.put("contentType", layout.getContentType());
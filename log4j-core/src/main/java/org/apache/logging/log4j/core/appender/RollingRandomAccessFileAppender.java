@@ -31,6 +31,7 @@ import org.apache.logging.log4j.core.appender.rolling.DirectFileRolloverStrategy
 import org.apache.logging.log4j.core.appender.rolling.DirectWriteRolloverStrategy;
 import org.apache.logging.log4j.core.appender.rolling.RollingRandomAccessFileManager;
 import org.apache.logging.log4j.core.appender.rolling.RolloverStrategy;
+import org.apache.logging.log4j.core.appender.rolling.StreamingCompression;
 import org.apache.logging.log4j.core.appender.rolling.TriggeringPolicy;
 import org.apache.logging.log4j.core.config.Configuration;
 import org.apache.logging.log4j.core.config.Property;
@@ -78,6 +79,9 @@ public final class RollingRandomAccessFileAppender
         @PluginElement("Strategy")
         private RolloverStrategy strategy;
 
+        @PluginElement("StreamingCompression")
+        private StreamingCompression streamingCompression;
+
         @PluginBuilderAttribute("advertise")
         private boolean advertise;
 
@@ -147,7 +151,8 @@ public final class RollingRandomAccessFileAppender
                             filePermissions,
                             fileOwner,
                             fileGroup,
-                            getConfiguration());
+                            getConfiguration(),
+                            streamingCompression);
             if (manager == null) {
                 return null;
             }
@@ -165,7 +170,8 @@ public final class RollingRandomAccessFileAppender
                     immediateFlush,
                     bufferSize,
                     advertise ? getConfiguration().getAdvertiser() : null,
-                    getPropertyArray());
+                    getPropertyArray(),
+                    isStripedBuffers());
         }
 
         public B withFileName(final String fileName) {
@@ -217,6 +223,25 @@ public final class RollingRandomAccessFileAppender
             this.fileGroup = fileGroup;
             return asBuilder();
         }
+
+        /**
+         * @since 2.24.0
+         */
+        public StreamingCompression getStreamingCompression() {
+            return streamingCompression;
+        }
+
+        /**
+         * Compresses the active file while it is written, instead of compressing it on rollover.
+         *
+         * @param streamingCompression The streaming compression configuration.
+         * @return This builder for chaining convenience
+         * @since 2.24.0
+         */
+        public B setStreamingCompression(final StreamingCompression streamingCompression) {
+            this.streamingCompression = streamingCompression;
+            return asBuilder();
+        }
     }
 
     private final String fileName;
@@ -235,8 +260,9 @@ public final class RollingRandomAccessFileAppender
             final boolean immediateFlush,
             final int bufferSize,
             final Advertiser advertiser,
-            final Property[] properties) {
-        super(name, layout, filter, ignoreExceptions, immediateFlush, properties, manager);
+            final Property[] properties,
+            final boolean stripedBuffers) {
+        super(name, layout, filter, ignoreExceptions, immediateFlush, properties, manager, stripedBuffers);
         if (advertiser != null) {
             final Map<String, String> configuration = new HashMap<>(layout.getContentFormat());
             configuration.put("contentType", layout.getContentType());
@@ -39,6 +39,7 @@ import org.apache.logging.log4j.core.config.plugins.validation.constraints.Valid
 import org.apache.logging.log4j.core.net.AbstractSocketManager;
 import org.apache.logging.log4j.core.net.Advertiser;
 import org.apache.logging.log4j.core.net.DatagramSocketManager;
+import org.apache.logging.log4j.core.net.NioTcpSocketManager;
 import org.apache.logging.log4j.core.net.Protocol;
 import org.apache.logging.log4j.core.net.SocketOptions;
 import org.apache.logging.log4j.core.net.SslSocketManager;
@@ -102,6 +103,21 @@ public class SocketAppender extends AbstractOutputStreamAppender<AbstractSocketM
         @PluginAliases({"SslConfig"})
         private SslConfiguration sslConfiguration;
 
+        @PluginBuilderAttribute
+        private boolean nonBlocking;
+
+        @PluginBuilderAttribute
+        private int ringBufferSize = NioTcpSocketManager.DEFAULT_RING_BUFFER_SIZE;
+
+        @PluginBuilderAttribute
+        private NioTcpSocketManager.OverflowPolicy overflowPolicy = NioTcpSocketManager.OverflowPolicy.BLOCK;
+
+        @PluginBuilderAttribute
+        private String spillDirectory;
+
+        @PluginBuilderAttribute
+        private long maxSpillBytes = NioTcpSocketManager.DEFAULT_MAX_SPILL_BYTES;
+
         public boolean getAdvertise() {
             return advertise;
         }
@@ -236,6 +252,83 @@ public class SocketAppender extends AbstractOutputStreamAppender<AbstractSocketM
         public SocketOptions getSocketOptions() {
             return socketOptions;
         }
+
+        /**
+         * @since 2.24.0
+         */
+        public boolean isNonBlocking() {
+            return nonBlocking;
+        }
+
+        /**
+         * @since 2.24.0
+         */
+        public int getRingBufferSize() {
+            return ringBufferSize;
+        }
+
+        /**
+         * @since 2.24.0
+         */
+        public NioTcpSocketManager.OverflowPolicy getOverflowPolicy() {
+            return overflowPolicy;
+        }
+
+        /**
+         * @since 2.24.0
+         */
+        public String getSpillDirectory() {
+            return spillDirectory;
+        }
+
+        /**
+         * @since 2.24.0
+         */
+        public long getMaxSpillBytes() {
+            return maxSpillBytes;
+        }
+
+        /**
+         * Sends TCP events from a background thread, see {@link NioTcpSocketManager}.
+         *
+         * @since 2.24.0
+         */
+        public B setNonBlocking(final boolean nonBlocking) {
+            this.nonBlocking = nonBlocking;
+            return asBuilder();
+        }
+
+        /**
+         * @since 2.24.0
+         */
+        public B setRingBufferSize(final int ringBufferSize) {
+            this.ringBufferSize = ringBufferSize;
+            return asBuilder();
+        }
+
+        /**
+         * @since 2.24.0
+         */
+        public B setOverflowPolicy(final NioTcpSocketManager.OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+            return asBuilder();
+        }
+
+        /**
+         * @since 2.24.0
+         */
+        public B setSpillDirectory(final String spillDirectory) {
+            this.spillDirectory = spillDirectory;
+            return asBuilder();
+        }
+
+        /**
+         * @since 2.24.0
+         */
+        public B setMaxSpillBytes(final long maxSpillBytes) {
+            this.maxSpillBytes = maxSpillBytes;
+            return asBuilder();
+        }
     }
 
     /**
@@ -271,18 +364,41 @@ public class SocketAppender extends AbstractOutputStreamAppender<AbstractSocketM
                 immediateFlush = true;
             }
 
-            final AbstractSocketManager manager = SocketAppender.createSocketManager(
-                    name,
-                    actualProtocol,
-                    getHost(),
-                    getPort(),
-                    getConnectTimeoutMillis(),
-                    getSslConfiguration(),
-                    getReconnectDelayMillis(),
-                    getImmediateFail(),
-                    layout,
-                    getBufferSize(),
-                    getSocketOptions());
+            final AbstractSocketManager manager;
+            if (isNonBlocking() && actualProtocol == Protocol.TCP && getSslConfiguration() == null) {
+                manager = NioTcpSocketManager.getSocketManager(
+                        getHost(),
+                        getPort(),
+                        getConnectTimeoutMillis(),
+                        getReconnectDelayMillis(),
+                        layout,
+                        getBufferSize(),
+                        getSocketOptions(),
+                        getRingBufferSize(),
+                        getOverflowPolicy(),
+                        getSpillDirectory(),
+                        getMaxSpillBytes());
+                if (manager == null) {
+                    return null;
+                }
+            } else {
+                if (isNonBlocking()) {
+                    AbstractLifeCycle.LOGGER.warn(
+                            "SocketAppender {}: nonBlocking is only supported with TCP without SSL, ignoring it", name);
+                }
+                manager = SocketAppender.createSocketManager(
+                        name,
+                        actualProtocol,
+                        getHost(),
+                        getPort(),
+                        getConnectTimeoutMillis(),
+                        getSslConfiguration(),
+                        getReconnectDelayMillis(),
+                        getImmediateFail(),
+                        layout,
+                        getBufferSize(),
+                        getSocketOptions());
+            }
 
             return new SocketAppender(
                     name,
@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.appender;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.layout.ByteBufferDestination;
+import org.apache.logging.log4j.core.layout.ByteBufferDestinationHelper;
+
+/**
+ * Encodes log events into thread-confined buffers and hands the encoded bytes to an {@link OutputStreamManager}
+ * using flat combining.
+ * <p>
+ * Each producer thread encodes into its own {@link ByteBufferDestination}, so the layout never runs under the
+ * manager lock. The encoded buffer is then published on a lock-free stack and the producer competes for the
+ * combiner lock: whichever thread wins writes <em>all</em> published buffers to the manager in a single critical
+ * section, while the other producers find their buffers already written once they get the lock. A producer only
+ * returns after its own buffer has been written, so events of a single thread keep their order.
+ * </p>
+ * <p>
+ * If a single event does not fit in the thread-confined buffer, the producer keeps the combiner lock until the
+ * event has been completely written, so that events are never interleaved.
+ * </p>
+ */
+final class StripedBufferWriter {
+
+    private final OutputStreamManager manager;
+
+    private final int bufferSize;
+
+    private final ThreadLocal<Slot> slots = new ThreadLocal<>();
+
+    private final AtomicReference<Slot> published = new AtomicReference<>();
+
+    private final ReentrantLock combinerLock = new ReentrantLock();
+
+    StripedBufferWriter(final OutputStreamManager manager, final int bufferSize) {
+        this.manager = manager;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Encodes the given event with the given layout and writes it to the manager.
+     *
+     * @param layout the layout used to encode the event
+     * @param event the event to encode
+     * @param flush if {@code true} the manager is flushed before this method returns
+     * @throws AppenderLoggingException if an error occurs while writing to the manager
+     */
+    void encode(final Layout<?> layout, final LogEvent event, final boolean flush) {
+        final Slot slot = getSlot();
+        try {
+            layout.encode(event, slot);
+        } catch (final RuntimeException ex) {
+            slot.abort();
+            throw ex;
+        }
+        slot.submit(flush);
+    }
+
+    private Slot getSlot() {
+        Slot slot = slots.get();
+        if (slot == null) {
+            slot = new Slot(bufferSize);
+            slots.set(slot);
+        }
+        return slot;
+    }
+
+    /**
+     * Writes all published slots to the manager. Must be called with the combiner lock held.
+     */
+    private void combine() {
+        Slot batch = published.getAndSet(null);
+        if (batch == null) {
+            return;
+        }
+        // the stack is in LIFO order, restore the publication order
+        Slot ordered = null;
+        while (batch != null) {
+            final Slot next = batch.next;
+            batch.next = ordered;
+            ordered = batch;
+            batch = next;
+        }
+        boolean flush = false;
+        RuntimeException failure = null;
+        synchronized (manager) {
+            for (Slot slot = ordered; slot != null; slot = slot.next) {
+                flush |= slot.flushRequested;
+                if (failure == null) {
+                    try {
+                        slot.writeTo(manager);
+                    } catch (final RuntimeException ex) {
+                        failure = ex;
+                    }
+                }
+            }
+            if (flush && failure == null) {
+                try {
+                    manager.flush();
+                } catch (final RuntimeException ex) {
+                    failure = ex;
+                }
+            }
+        }
+        Slot slot = ordered;
+        while (slot != null) {
+            final Slot next = slot.next;
+            slot.next = null;
+            slot.complete(failure);
+            slot = next;
+        }
+    }
+
+    /**
+     * A thread-confined buffer together with the state needed to publish it to the combiner.
+     */
+    private final class Slot implements ByteBufferDestination {
+
+        private final ByteBuffer buffer;
+
+        /** Link to the next slot on the publication stack, guarded by the publication protocol. */
+        private Slot next;
+
+        private boolean flushRequested;
+
+        /** Whether this thread holds the combiner lock while writing an event larger than the buffer. */
+        private boolean overflowing;
+
+        private volatile boolean completed;
+
+        private volatile RuntimeException failure;
+
+        Slot(final int bufferSize) {
+            this.buffer = ByteBuffer.wrap(new byte[bufferSize]);
+        }
+
+        @Override
+        public ByteBuffer getByteBuffer() {
+            return buffer;
+        }
+
+        @Override
+        public ByteBuffer drain(final ByteBuffer buf) {
+            // The event does not fit in the buffer: keep the combiner lock until the whole event is written.
+            if (!overflowing) {
+                combinerLock.lock();
+                overflowing = true;
+            }
+            synchronized (manager) {
+                writeTo(manager);
+            }
+            return buf;
+        }
+
+        @Override
+        public void writeBytes(final ByteBuffer data) {
+            ByteBufferDestinationHelper.writeToUnsynchronized(data, this);
+        }
+
+        @Override
+        public void writeBytes(final byte[] data, final int offset, final int length) {
+            ByteBufferDestinationHelper.writeToUnsynchronized(data, offset, length, this);
+        }
+
+        void submit(final boolean flush) {
+            if (overflowing) {
+                submitOverflow(flush);
+                return;
+            }
+            if (buffer.position() == 0 && !flush) {
+                return;
+            }
+            flushRequested = flush;
+            completed = false;
+            failure = null;
+            Slot head;
+            do {
+                head = published.get();
+                next = head;
+            } while (!published.compareAndSet(head, this));
+            combinerLock.lock();
+            try {
+                if (!completed) {
+                    combine();
+                }
+            } finally {
+                combinerLock.unlock();
+            }
+            final RuntimeException ex = failure;
+            if (ex != null) {
+                failure = null;
+                throw ex;
+            }
+        }
+
+        private void submitOverflow(final boolean flush) {
+            try {
+                synchronized (manager) {
+                    writeTo(manager);
+                    if (flush) {
+                        manager.flush();
+                    }
+                }
+                combine();
+            } finally {
+                overflowing = false;
+                combinerLock.unlock();
+            }
+        }
+
+        void abort() {
+            ((Buffer) buffer).clear();
+            if (overflowing) {
+                overflowing = false;
+                combinerLock.unlock();
+            }
+        }
+
+        void writeTo(final OutputStreamManager destination) {
+            ((Buffer) buffer).flip();
+            try {
+                if (buffer.remaining() > 0) {
+                    destination.writeBytes(buffer);
+                }
+            } finally {
+                ((Buffer) buffer).clear();
+            }
+        }
+
+        void complete(final RuntimeException ex) {
+            failure = ex;
+            completed = true;
+        }
+    }
+}
@@ -32,6 +32,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LoggingException;
 import org.apache.logging.log4j.core.appender.rolling.action.Action;
 import org.apache.logging.log4j.core.appender.rolling.action.CompositeAction;
+import org.apache.logging.log4j.core.appender.rolling.action.CompressionExecutor;
 import org.apache.logging.log4j.core.lookup.StrSubstitutor;
 import org.apache.logging.log4j.core.pattern.NotANumber;
 import org.apache.logging.log4j.core.util.Integers;
@@ -72,6 +73,43 @@ public abstract class AbstractRolloverStrategy implements RolloverStrategy {
         return new CompositeAction(all, stopOnError);
     }
 
+    /**
+     * Creates the executor used to compress rolled over files in parallel.
+     *
+     * @param compressionThreads The number of compression threads.
+     * @return A new executor or {@code null} if the number of threads is not positive.
+     * @since 2.24.0
+     */
+    protected static CompressionExecutor createCompressionExecutor(final int compressionThreads) {
+        if (compressionThreads <= 0) {
+            return null;
+        }
+        LOGGER.debug("Compressing rolled over files with {} threads", compressionThreads);
+        return new CompressionExecutor(
+                "RolloverCompression", compressionThreads, CompressionExecutor.DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Resolves the dictionary used to compress rolled over files.
+     *
+     * @param compressionDictionary The path of the dictionary, may be null.
+     * @return The dictionary file or {@code null} if no dictionary is configured.
+     * @since 2.24.0
+     */
+    @SuppressFBWarnings(
+            value = "PATH_TRAVERSAL_IN",
+            justification = "The name of the accessed file is based on a configuration value.")
+    protected static File createCompressionDictionary(final String compressionDictionary) {
+        if (compressionDictionary == null || compressionDictionary.trim().isEmpty()) {
+            return null;
+        }
+        final File dictionary = new File(compressionDictionary.trim());
+        if (!dictionary.isFile()) {
+            LOGGER.warn("Compression dictionary {} does not exist", dictionary);
+        }
+        return dictionary;
+    }
+
     protected int suffixLength(final String lowFilename) {
         for (final FileExtension extension : FileExtension.values()) {
             if (extension.isExtensionFor(lowFilename)) {
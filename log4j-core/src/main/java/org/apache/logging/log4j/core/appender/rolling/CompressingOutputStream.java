@@ -0,0 +1,317 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.appender.rolling;
+
+import com.github.luben.zstd.EndDirective;
+import com.github.luben.zstd.ZstdCompressCtx;
+import com.github.luben.zstd.ZstdOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Compresses the active file of a rolling appender while it is being written.
+ * <p>
+ * The content is written as a sequence of independent frames: GZIP members or Zstandard frames. Both formats allow
+ * concatenated frames, so the file is a valid compressed file once the last frame has been ended, and a rollover only
+ * needs to rename it. A frame is ended when more than the frame interval has elapsed since it was started; with an
+ * interval of zero every write to this stream ends a frame. A flush that does not end a frame still pushes all
+ * pending data to the file, so it can be read by streaming decoders.
+ * </p>
+ * <p>
+ * This class is not thread-safe: it is only used under the lock of its manager.
+ * </p>
+ */
+final class CompressingOutputStream extends OutputStream {
+
+    private final OutputStream out;
+
+    private final Codec codec;
+
+    private final long frameIntervalNanos;
+
+    private boolean frameStarted;
+
+    private long frameStartNanos;
+
+    private long compressedSize;
+
+    private boolean closed;
+
+    CompressingOutputStream(
+            final OutputStream out,
+            final FileExtension fileExtension,
+            final int compressionLevel,
+            final long frameIntervalMillis) {
+        this.out = out;
+        this.codec =
+                fileExtension == FileExtension.ZSTD ? new ZstdCodec(compressionLevel) : new GzipCodec(compressionLevel);
+        this.frameIntervalNanos = frameIntervalMillis * 1_000_000L;
+    }
+
+    /**
+     * Returns the number of compressed bytes written to the underlying stream.
+     *
+     * @return the compressed size in bytes.
+     */
+    long getCompressedSize() {
+        return compressedSize;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return;
+        }
+        if (!frameStarted) {
+            frameStarted = true;
+            frameStartNanos = System.nanoTime();
+            codec.startFrame(this);
+        }
+        codec.write(this, b, off, len);
+        if (isFrameExpired()) {
+            endFrame();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (frameStarted) {
+            if (isFrameExpired()) {
+                endFrame();
+            } else {
+                codec.flush(this);
+            }
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (frameStarted) {
+                endFrame();
+            }
+        } finally {
+            try {
+                codec.close();
+            } finally {
+                out.close();
+            }
+        }
+    }
+
+    private boolean isFrameExpired() {
+        return System.nanoTime() - frameStartNanos >= frameIntervalNanos;
+    }
+
+    private void endFrame() throws IOException {
+        frameStarted = false;
+        codec.endFrame(this);
+    }
+
+    void writeCompressed(final byte[] b, final int off, final int len) throws IOException {
+        if (len > 0) {
+            out.write(b, off, len);
+            compressedSize += len;
+        }
+    }
+
+    /**
+     * A compression format that supports concatenated frames.
+     */
+    private abstract static class Codec {
+
+        abstract void startFrame(CompressingOutputStream stream) throws IOException;
+
+        abstract void write(CompressingOutputStream stream, byte[] b, int off, int len) throws IOException;
+
+        abstract void flush(CompressingOutputStream stream) throws IOException;
+
+        abstract void endFrame(CompressingOutputStream stream) throws IOException;
+
+        abstract void close();
+    }
+
+    /**
+     * Writes each frame as a GZIP member, reusing a single deflater.
+     */
+    private static final class GzipCodec extends Codec {
+
+        private static final byte[] HEADER = {
+            0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff,
+        };
+
+        private static final int TRAILER_SIZE = 8;
+
+        private final Deflater deflater;
+
+        private final CRC32 crc = new CRC32();
+
+        private final byte[] buf = new byte[8192];
+
+        GzipCodec(final int compressionLevel) {
+            this.deflater = new Deflater(compressionLevel, true);
+        }
+
+        @Override
+        void startFrame(final CompressingOutputStream stream) throws IOException {
+            deflater.reset();
+            crc.reset();
+            stream.writeCompressed(HEADER, 0, HEADER.length);
+        }
+
+        @Override
+        void write(final CompressingOutputStream stream, final byte[] b, final int off, final int len)
+                throws IOException {
+            crc.update(b, off, len);
+            deflater.setInput(b, off, len);
+            while (!deflater.needsInput()) {
+                deflate(stream, Deflater.NO_FLUSH);
+            }
+        }
+
+        @Override
+        void flush(final CompressingOutputStream stream) throws IOException {
+            int n;
+            do {
+                n = deflate(stream, Deflater.SYNC_FLUSH);
+            } while (n == buf.length);
+        }
+
+        @Override
+        void endFrame(final CompressingOutputStream stream) throws IOException {
+            deflater.finish();
+            while (!deflater.finished()) {
+                deflate(stream, Deflater.NO_FLUSH);
+            }
+            final byte[] trailer = new byte[TRAILER_SIZE];
+            writeInt(trailer, 0, crc.getValue());
+            writeInt(trailer, 4, deflater.getBytesRead());
+            stream.writeCompressed(trailer, 0, TRAILER_SIZE);
+        }
+
+        @Override
+        void close() {
+            deflater.end();
+        }
+
+        private int deflate(final CompressingOutputStream stream, final int flush) throws IOException {
+            final int n = deflater.deflate(buf, 0, buf.length, flush);
+            stream.writeCompressed(buf, 0, n);
+            return n;
+        }
+
+        private static void writeInt(final byte[] b, final int off, final long value) {
+            b[off] = (byte) value;
+            b[off + 1] = (byte) (value >> 8);
+            b[off + 2] = (byte) (value >> 16);
+            b[off + 3] = (byte) (value >> 24);
+        }
+    }
+
+    /**
+     * Writes each frame as a Zstandard frame, reusing a single compression context.
+     */
+    private static final class ZstdCodec extends Codec {
+
+        private static final int INPUT_SIZE = 128 * 1024;
+
+        private final ZstdCompressCtx ctx = new ZstdCompressCtx();
+
+        private final ByteBuffer src = ByteBuffer.allocateDirect(INPUT_SIZE);
+
+        private final ByteBuffer dst = ByteBuffer.allocateDirect((int) ZstdOutputStream.recommendedCOutSize());
+
+        private final byte[] buf = new byte[dst.capacity()];
+
+        ZstdCodec(final int compressionLevel) {
+            ctx.setLevel(compressionLevel == Deflater.DEFAULT_COMPRESSION ? 3 : compressionLevel);
+            ctx.setChecksum(true);
+        }
+
+        @Override
+        void startFrame(final CompressingOutputStream stream) {
+            // a new frame is started automatically after the previous one has been ended
+        }
+
+        @Override
+        void write(final CompressingOutputStream stream, final byte[] b, final int off, final int len)
+                throws IOException {
+            int offset = off;
+            int remaining = len;
+            while (remaining > 0) {
+                final int chunk = Math.min(remaining, INPUT_SIZE);
+                ((Buffer) src).clear();
+                src.put(b, offset, chunk);
+                ((Buffer) src).flip();
+                while (src.hasRemaining()) {
+                    compress(stream, EndDirective.CONTINUE);
+                }
+                offset += chunk;
+                remaining -= chunk;
+            }
+        }
+
+        @Override
+        void flush(final CompressingOutputStream stream) throws IOException {
+            drain(stream, EndDirective.FLUSH);
+        }
+
+        @Override
+        void endFrame(final CompressingOutputStream stream) throws IOException {
+            drain(stream, EndDirective.END);
+        }
+
+        @Override
+        void close() {
+            ctx.close();
+        }
+
+        private void drain(final CompressingOutputStream stream, final EndDirective directive) throws IOException {
+            ((Buffer) src).clear();
+            ((Buffer) src).flip();
+            boolean done;
+            do {
+                done = compress(stream, directive);
+            } while (!done);
+        }
+
+        private boolean compress(final CompressingOutputStream stream, final EndDirective directive)
+                throws IOException {
+            final boolean done = ctx.compressDirectByteBufferStream(dst, src, directive);
+            ((Buffer) dst).flip();
+            final int n = dst.remaining();
+            dst.get(buf, 0, n);
+            ((Buffer) dst).clear();
+            stream.writeCompressed(buf, 0, n);
+            return done;
+        }
+    }
+}
@@ -31,6 +31,7 @@ import java.util.zip.Deflater;
 import org.apache.logging.log4j.core.Core;
 import org.apache.logging.log4j.core.appender.rolling.action.Action;
 import org.apache.logging.log4j.core.appender.rolling.action.CompositeAction;
+import org.apache.logging.log4j.core.appender.rolling.action.CompressionExecutor;
 import org.apache.logging.log4j.core.appender.rolling.action.FileRenameAction;
 import org.apache.logging.log4j.core.appender.rolling.action.PathCondition;
 import org.apache.logging.log4j.core.appender.rolling.action.PosixViewAttributeAction;
@@ -109,6 +110,15 @@ public class DefaultRolloverStrategy extends AbstractRolloverStrategy {
         @PluginBuilderAttribute(value = "tempCompressedFilePattern")
         private String tempCompressedFilePattern;
 
+        @PluginBuilderAttribute("compressionThreads")
+        private String compressionThreadsStr;
+
+        @PluginBuilderAttribute("compressionWindowLog")
+        private String compressionWindowLogStr;
+
+        @PluginBuilderAttribute("compressionDictionary")
+        private String compressionDictionary;
+
         @PluginConfiguration
         private Configuration config;
 
@@ -145,6 +155,10 @@ public class DefaultRolloverStrategy extends AbstractRolloverStrategy {
             final String trimmedCompressionLevelStr =
                     compressionLevelStr != null ? compressionLevelStr.trim() : compressionLevelStr;
             final int compressionLevel = Integers.parseInt(trimmedCompressionLevelStr, Deflater.DEFAULT_COMPRESSION);
+            final int compressionThreads =
+                    Integers.parseInt(compressionThreadsStr != null ? compressionThreadsStr.trim() : null, 0);
+            final int compressionWindowLog =
+                    Integers.parseInt(compressionWindowLogStr != null ? compressionWindowLogStr.trim() : null, 0);
             // The config object can be null when this object is built programmatically.
             final StrSubstitutor nonNullStrSubstitutor =
                     config != null ? config.getStrSubstitutor() : new StrSubstitutor();
@@ -156,7 +170,10 @@ public class DefaultRolloverStrategy extends AbstractRolloverStrategy {
                     nonNullStrSubstitutor,
                     customActions,
                     stopCustomActionsOnError,
-                    tempCompressedFilePattern);
+                    tempCompressedFilePattern,
+                    compressionThreads,
+                    compressionWindowLog,
+                    compressionDictionary);
         }
 
         public String getMax() {
@@ -265,6 +282,57 @@ public class DefaultRolloverStrategy extends AbstractRolloverStrategy {
             return this;
         }
 
+        public String getCompressionThreadsStr() {
+            return compressionThreadsStr;
+        }
+
+        /**
+         * Defines the number of threads used to compress rolled over files.
+         *
+         * @param compressionThreadsStr The number of threads compressing blocks of a rolled over file in parallel; if
+         *            zero or absent, files are compressed by a single thread. Applies only to GZ files.
+         * @return This builder for chaining convenience
+         * @since 2.24.0
+         */
+        public Builder withCompressionThreadsStr(final String compressionThreadsStr) {
+            this.compressionThreadsStr = compressionThreadsStr;
+            return this;
+        }
+
+        public String getCompressionWindowLogStr() {
+            return compressionWindowLogStr;
+        }
+
+        /**
+         * Defines the long distance matching window used to compress rolled over files.
+         *
+         * @param compressionWindowLogStr The base 2 logarithm of the window size; if zero or absent, the window of
+         *            the compression level is used. Applies only to ZSTD files.
+         * @return This builder for chaining convenience
+         * @since 2.24.0
+         */
+        public Builder withCompressionWindowLogStr(final String compressionWindowLogStr) {
+            this.compressionWindowLogStr = compressionWindowLogStr;
+            return this;
+        }
+
+        public String getCompressionDictionary() {
+            return compressionDictionary;
+        }
+
+        /**
+         * Defines the dictionary used to compress rolled over files.
+         *
+         * @param compressionDictionary The path of a dictionary trained on similar log files, for example with
+         *            {@code zstd --train}. Applies only to ZSTD files.
+         * @return This builder for chaining convenience
+         * @since 2.24.0
+         */
+        public Builder withCompressionDictionary(final String compressionDictionary) {
+            this.compressionDictionary = compressionDictionary;
+            return this;
+        }
+
         public Configuration getConfig() {
             return config;
         }
@@ -339,6 +407,9 @@ public class DefaultRolloverStrategy extends AbstractRolloverStrategy {
     private final List<Action> customActions;
     private final boolean stopCustomActionsOnError;
     private final PatternProcessor tempCompressedFilePattern;
+    private final CompressionExecutor compressionExecutor;
+    private final int compressionWindowLog;
+    private final File compressionDictionary;
 
     /**
      * Constructs a new instance.
@@ -388,6 +459,48 @@ public class DefaultRolloverStrategy extends AbstractRolloverStrategy {
             final Action[] customActions,
             final boolean stopCustomActionsOnError,
             final String tempCompressedFilePatternString) {
+        this(
+                minIndex,
+                maxIndex,
+                useMax,
+                compressionLevel,
+                strSubstitutor,
+                customActions,
+                stopCustomActionsOnError,
+                tempCompressedFilePatternString,
+                0,
+                0,
+                null);
+    }
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param minIndex The minimum index.
+     * @param maxIndex The maximum index.
+     * @param customActions custom actions to perform asynchronously after rollover
+     * @param stopCustomActionsOnError whether to stop executing asynchronous actions if an error occurs
+     * @param tempCompressedFilePatternString File pattern of the working file
+     *                                     used during compression, if null no temporary file are used
+     * @param compressionThreads The number of threads compressing blocks of a rolled over file in parallel,
+     *                           if zero files are compressed by a single thread
+     * @param compressionWindowLog The base 2 logarithm of the long distance matching window used to compress ZSTD
+     *                             files, if zero the window of the compression level is used
+     * @param compressionDictionary The path of the dictionary used to compress ZSTD files, may be null
+     * @since 2.24.0
+     */
+    protected DefaultRolloverStrategy(
+            final int minIndex,
+            final int maxIndex,
+            final boolean useMax,
+            final int compressionLevel,
+            final StrSubstitutor strSubstitutor,
+            final Action[] customActions,
+            final boolean stopCustomActionsOnError,
+            final String tempCompressedFilePatternString,
+            final int compressionThreads,
+            final int compressionWindowLog,
+            final String compressionDictionary) {
         super(strSubstitutor);
         this.minIndex = minIndex;
         this.maxIndex = maxIndex;
@@ -397,6 +510,9 @@ public class DefaultRolloverStrategy extends AbstractRolloverStrategy {
         this.customActions = customActions == null ? Collections.<Action>emptyList() : Arrays.asList(customActions);
         this.tempCompressedFilePattern =
                 tempCompressedFilePatternString != null ? new PatternProcessor(tempCompressedFilePatternString) : null;
+        this.compressionExecutor = createCompressionExecutor(compressionThreads);
+        this.compressionWindowLog = compressionWindowLog;
+        this.compressionDictionary = createCompressionDictionary(compressionDictionary);
     }
 
     public int getCompressionLevel() {
@@ -427,6 +543,36 @@ public class DefaultRolloverStrategy extends AbstractRolloverStrategy {
         return tempCompressedFilePattern;
     }
 
+    /**
+     * Returns the executor compressing rolled over files in parallel.
+     *
+     * @return the compression executor or {@code null} if files are compressed by a single thread.
+     * @since 2.24.0
+     */
+    public CompressionExecutor getCompressionExecutor() {
+        return compressionExecutor;
+    }
+
+    /**
+     * Returns the long distance matching window used to compress ZSTD files.
+     *
+     * @return the base 2 logarithm of the window size or zero if the window of the compression level is used.
+     * @since 2.24.0
+     */
+    public int getCompressionWindowLog() {
+        return compressionWindowLog;
+    }
+
+    /**
+     * Returns the dictionary used to compress ZSTD files.
+     *
+     * @return the dictionary or {@code null} if none is used.
+     * @since 2.24.0
+     */
+    public File getCompressionDictionary() {
+        return compressionDictionary;
+    }
+
     private int purge(final int lowIndex, final int highIndex, final RollingFileManager manager) {
         return useMax ? purgeAscending(lowIndex, highIndex, manager) : purgeDescending(lowIndex, highIndex, manager);
     }
@@ -586,7 +732,10 @@ public class DefaultRolloverStrategy extends AbstractRolloverStrategy {
         Action compressAction = null;
 
         final FileExtension fileExtension = manager.getFileExtension();
-        if (fileExtension != null) {
+        if (fileExtension != null && manager.getStreamingCompression() != null) {
+            // the current file is already compressed
+            LOGGER.debug("Current file {} is compressed while written, renaming it to {}", currentFileName, renameTo);
+        } else if (fileExtension != null) {
             final File renameToFile = new File(renameTo);
             renameTo = renameTo.substring(0, renameTo.length() - fileExtension.length());
             if (tempCompressedFilePattern != null) {
@@ -600,11 +749,25 @@ public class DefaultRolloverStrategy extends AbstractRolloverStrategy {
                 }
                 compressAction = new CompositeAction(
                         Arrays.asList(
-                                fileExtension.createCompressAction(renameTo, tmpCompressedName, true, compressionLevel),
+                                fileExtension.createCompressAction(
+                                        renameTo,
+                                        tmpCompressedName,
+                                        true,
+                                        compressionLevel,
+                                        compressionExecutor,
+                                        compressionWindowLog,
+                                        compressionDictionary),
                                 new FileRenameAction(tmpCompressedNameFile, renameToFile, true)),
                         true);
             } else {
-                compressAction = fileExtension.createCompressAction(renameTo, compressedName, true, compressionLevel);
+                compressAction = fileExtension.createCompressAction(
+                        renameTo,
+                        compressedName,
+                        true,
+                        compressionLevel,
+                        compressionExecutor,
+                        compressionWindowLog,
+                        compressionDictionary);
             }
         }
 
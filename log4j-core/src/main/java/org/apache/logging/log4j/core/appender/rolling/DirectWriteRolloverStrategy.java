@@ -30,6 +30,7 @@ import java.util.zip.Deflater;
 import org.apache.logging.log4j.core.Core;
 import org.apache.logging.log4j.core.appender.rolling.action.Action;
 import org.apache.logging.log4j.core.appender.rolling.action.CompositeAction;
+import org.apache.logging.log4j.core.appender.rolling.action.CompressionExecutor;
 import org.apache.logging.log4j.core.appender.rolling.action.FileRenameAction;
 import org.apache.logging.log4j.core.appender.rolling.action.PathCondition;
 import org.apache.logging.log4j.core.appender.rolling.action.PosixViewAttributeAction;
@@ -80,6 +81,15 @@ public class DirectWriteRolloverStrategy extends AbstractRolloverStrategy implem
         @PluginBuilderAttribute(value = "tempCompressedFilePattern")
         private String tempCompressedFilePattern;
 
+        @PluginBuilderAttribute("compressionThreads")
+        private String compressionThreadsStr;
+
+        @PluginBuilderAttribute("compressionWindowLog")
+        private String compressionWindowLogStr;
+
+        @PluginBuilderAttribute("compressionDictionary")
+        private String compressionDictionary;
+
         @PluginConfiguration
         private Configuration config;
 
@@ -96,13 +106,18 @@ public class DirectWriteRolloverStrategy extends AbstractRolloverStrategy implem
                 }
             }
             final int compressionLevel = Integers.parseInt(compressionLevelStr, Deflater.DEFAULT_COMPRESSION);
+            final int compressionThreads = Integers.parseInt(compressionThreadsStr, 0);
+            final int compressionWindowLog = Integers.parseInt(compressionWindowLogStr, 0);
             return new DirectWriteRolloverStrategy(
                     maxIndex,
                     compressionLevel,
                     config.getStrSubstitutor(),
                     customActions,
                     stopCustomActionsOnError,
-                    tempCompressedFilePattern);
+                    tempCompressedFilePattern,
+                    compressionThreads,
+                    compressionWindowLog,
+                    compressionDictionary);
         }
 
         public String getMaxFiles() {
@@ -180,6 +195,57 @@ public class DirectWriteRolloverStrategy extends AbstractRolloverStrategy implem
             return this;
         }
 
+        public String getCompressionThreadsStr() {
+            return compressionThreadsStr;
+        }
+
+        /**
+         * Defines the number of threads used to compress rolled over files.
+         *
+         * @param compressionThreadsStr The number of threads compressing blocks of a rolled over file in parallel; if
+         *            zero or absent, files are compressed by a single thread. Applies only to GZ files.
+         * @return This builder for chaining convenience
+         * @since 2.24.0
+         */
+        public Builder withCompressionThreadsStr(final String compressionThreadsStr) {
+            this.compressionThreadsStr = compressionThreadsStr;
+            return this;
+        }
+
+        public String getCompressionWindowLogStr() {
+            return compressionWindowLogStr;
+        }
+
+        /**
+         * Defines the long distance matching window used to compress rolled over files.
+         *
+         * @param compressionWindowLogStr The base 2 logarithm of the window size; if zero or absent, the window of
+         *            the compression level is used. Applies only to ZSTD files.
+         * @return This builder for chaining convenience
+         * @since 2.24.0
+         */
+        public Builder withCompressionWindowLogStr(final String compressionWindowLogStr) {
+            this.compressionWindowLogStr = compressionWindowLogStr;
+            return this;
+        }
+
+        public String getCompressionDictionary() {
+            return compressionDictionary;
+        }
+
+        /**
+         * Defines the dictionary used to compress rolled over files.
+         *
+         * @param compressionDictionary The path of a dictionary trained on similar log files, for example with
+         *            {@code zstd --train}. Applies only to ZSTD files.
+         * @return This builder for chaining convenience
+         * @since 2.24.0
+         */
+        public Builder withCompressionDictionary(final String compressionDictionary) {
+            this.compressionDictionary = compressionDictionary;
+            return this;
+        }
+
         public Configuration getConfig() {
             return config;
         }
@@ -244,6 +310,9 @@ public class DirectWriteRolloverStrategy extends AbstractRolloverStrategy implem
     private int nextIndex = -1;
     private final PatternProcessor tempCompressedFilePattern;
     private volatile boolean usePrevTime = false;
+    private final CompressionExecutor compressionExecutor;
+    private final int compressionWindowLog;
+    private final File compressionDictionary;
 
     /**
      * Constructs a new instance.
@@ -279,6 +348,43 @@ public class DirectWriteRolloverStrategy extends AbstractRolloverStrategy implem
             final Action[] customActions,
             final boolean stopCustomActionsOnError,
             final String tempCompressedFilePatternString) {
+        this(
+                maxFiles,
+                compressionLevel,
+                strSubstitutor,
+                customActions,
+                stopCustomActionsOnError,
+                tempCompressedFilePatternString,
+                0,
+                0,
+                null);
+    }
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param maxFiles The maximum number of files that match the date portion of the pattern to keep.
+     * @param customActions custom actions to perform asynchronously after rollover
+     * @param stopCustomActionsOnError whether to stop executing asynchronous actions if an error occurs
+     * @param tempCompressedFilePatternString File pattern of the working file
+     *                                     used during compression, if null no temporary file are used
+     * @param compressionThreads The number of threads compressing blocks of a rolled over file in parallel,
+     *                           if zero files are compressed by a single thread
+     * @param compressionWindowLog The base 2 logarithm of the long distance matching window used to compress ZSTD
+     *                             files, if zero the window of the compression level is used
+     * @param compressionDictionary The path of the dictionary used to compress ZSTD files, may be null
+     * @since 2.24.0
+     */
+    protected DirectWriteRolloverStrategy(
+            final int maxFiles,
+            final int compressionLevel,
+            final StrSubstitutor strSubstitutor,
+            final Action[] customActions,
+            final boolean stopCustomActionsOnError,
+            final String tempCompressedFilePatternString,
+            final int compressionThreads,
+            final int compressionWindowLog,
+            final String compressionDictionary) {
         super(strSubstitutor);
         this.maxFiles = maxFiles;
         this.compressionLevel = compressionLevel;
@@ -286,6 +392,9 @@ public class DirectWriteRolloverStrategy extends AbstractRolloverStrategy implem
         this.customActions = customActions == null ? Collections.<Action>emptyList() : Arrays.asList(customActions);
         this.tempCompressedFilePattern =
                 tempCompressedFilePatternString != null ? new PatternProcessor(tempCompressedFilePatternString) : null;
+        this.compressionExecutor = createCompressionExecutor(compressionThreads);
+        this.compressionWindowLog = compressionWindowLog;
+        this.compressionDictionary = createCompressionDictionary(compressionDictionary);
     }
 
     public int getCompressionLevel() {
@@ -308,6 +417,36 @@ public class DirectWriteRolloverStrategy extends AbstractRolloverStrategy implem
         return tempCompressedFilePattern;
     }
 
+    /**
+     * Returns the executor compressing rolled over files in parallel.
+     *
+     * @return the compression executor or {@code null} if files are compressed by a single thread.
+     * @since 2.24.0
+     */
+    public CompressionExecutor getCompressionExecutor() {
+        return compressionExecutor;
+    }
+
+    /**
+     * Returns the long distance matching window used to compress ZSTD files.
+     *
+     * @return the base 2 logarithm of the window size or zero if the window of the compression level is used.
+     * @since 2.24.0
+     */
+    public int getCompressionWindowLog() {
+        return compressionWindowLog;
+    }
+
+    /**
+     * Returns the dictionary used to compress ZSTD files.
+     *
+     * @return the dictionary or {@code null} if none is used.
+     * @since 2.24.0
+     */
+    public File getCompressionDictionary() {
+        return compressionDictionary;
+    }
+
     private int purge(final RollingFileManager manager) {
         final SortedMap<Integer, Path> eligibleFiles = getEligibleFiles(manager);
         LOGGER.debug("Found {} eligible files, max is  {}", eligibleFiles.size(), maxFiles);
@@ -375,7 +514,10 @@ public class DirectWriteRolloverStrategy extends AbstractRolloverStrategy implem
         final FileExtension fileExtension = manager.getFileExtension();
         if (fileExtension != null) {
             compressedName += fileExtension.getExtension();
-            if (tempCompressedFilePattern != null) {
+            if (manager.getStreamingCompression() != null) {
+                // the current file is already compressed
+                compressAction = new FileRenameAction(new File(sourceName), new File(compressedName), true);
+            } else if (tempCompressedFilePattern != null) {
                 final StringBuilder buf = new StringBuilder();
                 tempCompressedFilePattern.formatFileName(strSubstitutor, buf, fileIndex);
                 final String tmpCompressedName = buf.toString();
@@ -387,11 +529,24 @@ public class DirectWriteRolloverStrategy extends AbstractRolloverStrategy implem
                 compressAction = new CompositeAction(
                         Arrays.asList(
                                 fileExtension.createCompressAction(
-                                        sourceName, tmpCompressedName, true, compressionLevel),
+                                        sourceName,
+                                        tmpCompressedName,
+                                        true,
+                                        compressionLevel,
+                                        compressionExecutor,
+                                        compressionWindowLog,
+                                        compressionDictionary),
                                 new FileRenameAction(tmpCompressedNameFile, new File(compressedName), true)),
                         true);
             } else {
-                compressAction = fileExtension.createCompressAction(sourceName, compressedName, true, compressionLevel);
+                compressAction = fileExtension.createCompressAction(
+                        sourceName,
+                        compressedName,
+                        true,
+                        compressionLevel,
+                        compressionExecutor,
+                        compressionWindowLog,
+                        compressionDictionary);
             }
         }
 
@@ -21,8 +21,11 @@ import java.io.File;
 import java.util.Objects;
 import org.apache.logging.log4j.core.appender.rolling.action.Action;
 import org.apache.logging.log4j.core.appender.rolling.action.CommonsCompressAction;
+import org.apache.logging.log4j.core.appender.rolling.action.CompressionExecutor;
 import org.apache.logging.log4j.core.appender.rolling.action.GzCompressAction;
+import org.apache.logging.log4j.core.appender.rolling.action.Lz4CompressAction;
 import org.apache.logging.log4j.core.appender.rolling.action.ZipCompressAction;
+import org.apache.logging.log4j.core.appender.rolling.action.ZstdCompressAction;
 
 /**
  *  Enumerates over supported file extensions for compression.
@@ -47,6 +50,19 @@ public enum FileExtension {
                 final int compressionLevel) {
             return new GzCompressAction(source(renameTo), target(compressedName), deleteSource, compressionLevel);
         }
+
+        @Override
+        public Action createCompressAction(
+                final String renameTo,
+                final String compressedName,
+                final boolean deleteSource,
+                final int compressionLevel,
+                final CompressionExecutor compressionExecutor,
+                final int compressionWindowLog,
+                final File compressionDictionary) {
+            return new GzCompressAction(
+                    source(renameTo), target(compressedName), deleteSource, compressionLevel, compressionExecutor);
+        }
     },
     BZIP2(".bz2") {
         @Override
@@ -99,8 +115,35 @@ public enum FileExtension {
                 final String compressedName,
                 final boolean deleteSource,
                 final int compressionLevel) {
-            // One of "gz", "bzip2", "xz", "zstd", "pack200", or "deflate".
-            return new CommonsCompressAction("zstd", source(renameTo), target(compressedName), deleteSource);
+            return new ZstdCompressAction(source(renameTo), target(compressedName), deleteSource, compressionLevel);
+        }
+
+        @Override
+        public Action createCompressAction(
+                final String renameTo,
+                final String compressedName,
+                final boolean deleteSource,
+                final int compressionLevel,
+                final CompressionExecutor compressionExecutor,
+                final int compressionWindowLog,
+                final File compressionDictionary) {
+            return new ZstdCompressAction(
+                    source(renameTo),
+                    target(compressedName),
+                    deleteSource,
+                    compressionLevel,
+                    compressionWindowLog,
+                    compressionDictionary);
+        }
+    },
+    LZ4(".lz4") {
+        @Override
+        public Action createCompressAction(
+                final String renameTo,
+                final String compressedName,
+                final boolean deleteSource,
+                final int compressionLevel) {
+            return new Lz4CompressAction(source(renameTo), target(compressedName), deleteSource, compressionLevel);
         }
     };
 
@@ -132,6 +175,32 @@ public enum FileExtension {
     public abstract Action createCompressAction(
             String renameTo, String compressedName, boolean deleteSource, int compressionLevel);
 
+    /**
+     * Creates an action that compresses a file with the given options. Options that do not apply to the
+     * compression format are ignored.
+     *
+     * @param renameTo the file to compress.
+     * @param compressedName the compressed file.
+     * @param deleteSource if true, the source file is deleted after compression.
+     * @param compressionLevel the compression level.
+     * @param compressionExecutor the executor used to compress blocks in parallel, may be null; applies to GZ.
+     * @param compressionWindowLog the base 2 logarithm of the long distance matching window, or 0 for the default
+     *                             window; applies to ZSTD.
+     * @param compressionDictionary the compression dictionary, may be null; applies to ZSTD.
+     * @return the compression action.
+     * @since 2.24.0
+     */
+    public Action createCompressAction(
+            final String renameTo,
+            final String compressedName,
+            final boolean deleteSource,
+            final int compressionLevel,
+            final CompressionExecutor compressionExecutor,
+            final int compressionWindowLog,
+            final File compressionDictionary) {
+        return createCompressAction(renameTo, compressedName, deleteSource, compressionLevel);
+    }
+
     public String getExtension() {
         return extension;
     }
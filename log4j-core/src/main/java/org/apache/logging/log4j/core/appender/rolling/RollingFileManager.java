@@ -72,6 +72,8 @@ public class RollingFileManager extends FileManager {
     private volatile boolean initialized;
     private volatile String fileName;
     private final boolean directWrite;
+    private final StreamingCompression streamingCompression;
+    private volatile CompressingOutputStream compressingStream;
     private final CopyOnWriteArrayList<RolloverListener> rolloverListeners = new CopyOnWriteArrayList<>();
 
     /* This executor pool will create a new Thread for every work async action to be performed. Using it allows
@@ -143,6 +145,7 @@ public class RollingFileManager extends FileManager {
         this.patternProcessor.setPrevFileTime(initialTime);
         this.fileName = fileName;
         this.directWrite = rolloverStrategy instanceof DirectWriteRolloverStrategy;
+        this.streamingCompression = null;
     }
 
     @Deprecated
@@ -180,6 +183,7 @@ public class RollingFileManager extends FileManager {
         this.patternProcessor.setPrevFileTime(initialTime);
         this.fileName = fileName;
         this.directWrite = rolloverStrategy instanceof DirectWriteRolloverStrategy;
+        this.streamingCompression = null;
     }
 
     /**
@@ -203,6 +207,52 @@ public class RollingFileManager extends FileManager {
             final String fileGroup,
             final boolean writeHeader,
             final ByteBuffer buffer) {
+        this(
+                loggerContext,
+                fileName,
+                pattern,
+                os,
+                append,
+                createOnDemand,
+                size,
+                initialTime,
+                triggeringPolicy,
+                rolloverStrategy,
+                advertiseURI,
+                layout,
+                filePermissions,
+                fileOwner,
+                fileGroup,
+                writeHeader,
+                buffer,
+                null);
+    }
+
+    /**
+     * @param streamingCompression The configuration used to compress the active file, or null if the file is
+     *                             compressed on rollover. If not null, {@code os} must be a stream created by the
+     *                             configuration.
+     * @since 2.24.0
+     */
+    protected RollingFileManager(
+            final LoggerContext loggerContext,
+            final String fileName,
+            final String pattern,
+            final OutputStream os,
+            final boolean append,
+            final boolean createOnDemand,
+            final long size,
+            final long initialTime,
+            final TriggeringPolicy triggeringPolicy,
+            final RolloverStrategy rolloverStrategy,
+            final String advertiseURI,
+            final Layout<? extends Serializable> layout,
+            final String filePermissions,
+            final String fileOwner,
+            final String fileGroup,
+            final boolean writeHeader,
+            final ByteBuffer buffer,
+            final StreamingCompression streamingCompression) {
         super(
                 loggerContext,
                 fileName != null ? fileName : pattern,
@@ -225,6 +275,8 @@ public class RollingFileManager extends FileManager {
         this.rolloverStrategy = rolloverStrategy;
         this.fileName = fileName;
         this.directWrite = rolloverStrategy instanceof DirectFileRolloverStrategy;
+        this.streamingCompression = streamingCompression;
+        this.compressingStream = os instanceof CompressingOutputStream ? (CompressingOutputStream) os : null;
     }
 
     @SuppressFBWarnings(
@@ -296,6 +348,63 @@ public class RollingFileManager extends FileManager {
             final String fileOwner,
             final String fileGroup,
             final Configuration configuration) {
+        return getFileManager(
+                fileName,
+                pattern,
+                append,
+                bufferedIO,
+                policy,
+                strategy,
+                advertiseURI,
+                layout,
+                bufferSize,
+                immediateFlush,
+                createOnDemand,
+                filePermissions,
+                fileOwner,
+                fileGroup,
+                configuration,
+                null);
+    }
+
+    /**
+     * Returns a RollingFileManager.
+     * @param fileName The file name.
+     * @param pattern The pattern for rolling file.
+     * @param append true if the file should be appended to.
+     * @param bufferedIO true if data should be buffered.
+     * @param policy The TriggeringPolicy.
+     * @param strategy The RolloverStrategy.
+     * @param advertiseURI the URI to use when advertising the file
+     * @param layout The Layout.
+     * @param bufferSize buffer size to use if bufferedIO is true
+     * @param immediateFlush flush on every write or not
+     * @param createOnDemand true if you want to lazy-create the file (a.k.a. on-demand.)
+     * @param filePermissions File permissions
+     * @param fileOwner File owner
+     * @param fileGroup File group
+     * @param configuration The configuration.
+     * @param streamingCompression The configuration used to compress the active file, may be null.
+     * @return A RollingFileManager.
+     * @since 2.24.0
+     */
+    public static RollingFileManager getFileManager(
+            final String fileName,
+            final String pattern,
+            final boolean append,
+            final boolean bufferedIO,
+            final TriggeringPolicy policy,
+            final RolloverStrategy strategy,
+            final String advertiseURI,
+            final Layout<? extends Serializable> layout,
+            final int bufferSize,
+            final boolean immediateFlush,
+            final boolean createOnDemand,
+            final String filePermissions,
+            final String fileOwner,
+            final String fileGroup,
+            final Configuration configuration,
+            final StreamingCompression streamingCompression) {
 
         if (strategy instanceof DirectWriteRolloverStrategy && fileName != null) {
             LOGGER.error("The fileName attribute must not be specified with the DirectWriteRolloverStrategy");
@@ -321,7 +430,8 @@ public class RollingFileManager extends FileManager {
                                 filePermissions,
                                 fileOwner,
                                 fileGroup,
-                                configuration),
+                                configuration,
+                                streamingCompression),
                         factory));
     }
 
@@ -372,6 +482,55 @@ public class RollingFileManager extends FileManager {
         return patternProcessor.getFileExtension();
     }
 
+    /**
+     * Returns the configuration used to compress the active file.
+     *
+     * @return the streaming compression configuration or {@code null} if files are compressed on rollover.
+     * @since 2.24.0
+     */
+    public StreamingCompression getStreamingCompression() {
+        return streamingCompression;
+    }
+
+    @Override
+    protected OutputStream wrapOutputStream(final FileOutputStream fos) throws IOException {
+        return streamingCompression != null ? createCompressingStream(fos) : fos;
+    }
+
+    /**
+     * Creates the stream compressing the active file and uses it to compute the file size.
+     */
+    CompressingOutputStream createCompressingStream(final OutputStream out) {
+        final CompressingOutputStream stream = streamingCompression.createOutputStream(out, getFileExtension());
+        compressingStream = stream;
+        return stream;
+    }
+
+    /**
+     * Determines if the size of the file is the number of compressed bytes written to it.
+     */
+    boolean isCountingCompressedBytes() {
+        return compressingStream != null && streamingCompression.isCountCompressedBytes();
+    }
+
+    /**
+     * Checks that the active file can be compressed in the format of the file pattern.
+     *
+     * @return the configuration or {@code null} if streaming compression is disabled.
+     */
+    static StreamingCompression checkStreamingCompression(
+            final StreamingCompression streamingCompression, final String pattern) {
+        if (streamingCompression != null
+                && !StreamingCompression.isSupported(new PatternProcessor(pattern).getFileExtension())) {
+            LOGGER.error(
+                    "Streaming compression requires a file pattern ending with .gz or .zst, files matching {} will"
+                            + " be compressed on rollover",
+                    pattern);
+            return null;
+        }
+        return streamingCompression;
+    }
+
     // override to make visible for unit tests
     @Override
     protected synchronized void write(
@@ -381,7 +540,9 @@ public class RollingFileManager extends FileManager {
 
     @Override
     protected synchronized void writeToDestination(final byte[] bytes, final int offset, final int length) {
-        size += length;
+        if (!isCountingCompressedBytes()) {
+            size += length;
+        }
         super.writeToDestination(bytes, offset, length);
     }
 
@@ -394,10 +555,15 @@ public class RollingFileManager extends FileManager {
     }
 
     /**
-     * Returns the current size of the file.
+     * Returns the current size of the file. If the active file is compressed, this is either the number of
+     * compressed bytes written to the file or the number of uncompressed bytes, as configured.
      * @return The size of the file in bytes.
      */
     public long getFileSize() {
+        final CompressingOutputStream stream = compressingStream;
+        if (stream != null && streamingCompression.isCountCompressedBytes()) {
+            return size + stream.getCompressedSize();
+        }
         return size + byteBuffer.position();
     }
 
@@ -499,6 +665,7 @@ public class RollingFileManager extends FileManager {
         }
 
         final boolean interrupted = Thread.interrupted(); // clear interrupted state
+        final long startNanos = System.nanoTime();
         try {
             if (interrupted) {
                 LOGGER.warn("RollingFileManager cleared thread interrupted state, continue to rollover");
@@ -507,6 +674,7 @@ public class RollingFileManager extends FileManager {
             if (rollover(rolloverStrategy)) {
                 try {
                     size = 0;
+                    compressingStream = null;
                     initialTime = System.currentTimeMillis();
                     createFileAfterRollover();
                 } catch (final IOException e) {
@@ -517,6 +685,9 @@ public class RollingFileManager extends FileManager {
             if (interrupted) { // restore interrupted state
                 Thread.currentThread().interrupt();
             }
+            if (getMetrics() != null) {
+                getMetrics().getRolloverDuration().record(System.nanoTime() - startNanos);
+            }
         }
         if (rolloverListeners.size() > 0) {
             for (RolloverListener listener : rolloverListeners) {
@@ -734,6 +905,7 @@ public class RollingFileManager extends FileManager {
         private final String filePermissions;
         private final String fileOwner;
         private final String fileGroup;
+        private final StreamingCompression streamingCompression;
 
         /**
          * Creates the data for the factory.
@@ -749,6 +921,7 @@ public class RollingFileManager extends FileManager {
          * @param fileOwner File owner
          * @param fileGroup File group
          * @param configuration The configuration
+         * @param streamingCompression The configuration used to compress the active file, may be null
          */
         public FactoryData(
                 final String fileName,
@@ -765,7 +938,8 @@ public class RollingFileManager extends FileManager {
                 final String filePermissions,
                 final String fileOwner,
                 final String fileGroup,
-                final Configuration configuration) {
+                final Configuration configuration,
+                final StreamingCompression streamingCompression) {
             super(configuration);
             this.fileName = fileName;
             this.pattern = pattern;
@@ -781,6 +955,7 @@ public class RollingFileManager extends FileManager {
             this.filePermissions = filePermissions;
             this.fileOwner = fileOwner;
             this.fileGroup = fileGroup;
+            this.streamingCompression = streamingCompression;
         }
 
         public TriggeringPolicy getTriggeringPolicy() {
@@ -819,6 +994,8 @@ public class RollingFileManager extends FileManager {
             builder.append(filePermissions);
             builder.append(", fileOwner=");
             builder.append(fileOwner);
+            builder.append(", streamingCompression=");
+            builder.append(streamingCompression);
             builder.append("]");
             return builder.toString();
         }
@@ -873,9 +1050,15 @@ public class RollingFileManager extends FileManager {
             try {
                 final int actualSize = data.bufferedIO ? data.bufferSize : Constants.ENCODER_BYTE_BUFFER_SIZE;
                 final ByteBuffer buffer = ByteBuffer.wrap(new byte[actualSize]);
-                final OutputStream os = data.createOnDemand || data.fileName == null
+                final StreamingCompression streamingCompression =
+                        checkStreamingCompression(data.streamingCompression, data.pattern);
+                OutputStream os = data.createOnDemand || data.fileName == null
                         ? null
                         : new FileOutputStream(data.fileName, data.append);
+                if (os != null && streamingCompression != null) {
+                    os = streamingCompression.createOutputStream(
+                            os, new PatternProcessor(data.pattern).getFileExtension());
+                }
                 // LOG4J2-531 create file first so time has valid value.
                 final long initialTime = file == null || !file.exists() ? 0 : initialFileTime(file);
                 final boolean writeHeader = file != null && file.exists() && file.length() == 0;
@@ -897,7 +1080,8 @@ public class RollingFileManager extends FileManager {
                         data.fileOwner,
                         data.fileGroup,
                         writeHeader,
-                        buffer);
+                        buffer,
+                        streamingCompression);
                 if (os != null && rm.isAttributeViewEnabled()) {
                     rm.defineAttributeView(file.toPath());
                 }
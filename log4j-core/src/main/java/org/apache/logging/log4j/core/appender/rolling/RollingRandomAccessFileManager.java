@@ -47,6 +47,8 @@ public class RollingRandomAccessFileManager extends RollingFileManager {
 
     private RandomAccessFile randomAccessFile;
 
+    private CompressingOutputStream compressingStream;
+
     @Deprecated
     public RollingRandomAccessFileManager(
             final LoggerContext loggerContext,
@@ -107,6 +109,53 @@ public class RollingRandomAccessFileManager extends RollingFileManager {
             final String fileOwner,
             final String fileGroup,
             final boolean writeHeader) {
+        this(
+                loggerContext,
+                raf,
+                fileName,
+                pattern,
+                os,
+                append,
+                immediateFlush,
+                bufferSize,
+                size,
+                initialTime,
+                policy,
+                strategy,
+                advertiseURI,
+                layout,
+                filePermissions,
+                fileOwner,
+                fileGroup,
+                writeHeader,
+                null);
+    }
+
+    /**
+     * @param streamingCompression The configuration used to compress the active file, or null if the file is
+     *                             compressed on rollover.
+     * @since 2.24.0
+     */
+    public RollingRandomAccessFileManager(
+            final LoggerContext loggerContext,
+            final RandomAccessFile raf,
+            final String fileName,
+            final String pattern,
+            final OutputStream os,
+            final boolean append,
+            final boolean immediateFlush,
+            final int bufferSize,
+            final long size,
+            final long initialTime,
+            final TriggeringPolicy policy,
+            final RolloverStrategy strategy,
+            final String advertiseURI,
+            final Layout<? extends Serializable> layout,
+            final String filePermissions,
+            final String fileOwner,
+            final String fileGroup,
+            final boolean writeHeader,
+            final StreamingCompression streamingCompression) {
         super(
                 loggerContext,
                 fileName,
@@ -124,11 +173,19 @@ public class RollingRandomAccessFileManager extends RollingFileManager {
                 fileOwner,
                 fileGroup,
                 writeHeader,
-                ByteBuffer.wrap(new byte[bufferSize]));
-        this.randomAccessFile = raf;
+                ByteBuffer.wrap(new byte[bufferSize]),
+                streamingCompression);
+        setRandomAccessFile(raf);
         writeHeader();
     }
 
+    private void setRandomAccessFile(final RandomAccessFile raf) {
+        this.randomAccessFile = raf;
+        this.compressingStream = raf != null && getStreamingCompression() != null
+                ? createCompressingStream(new RandomAccessFileOutputStream(raf))
+                : null;
+    }
+
     /**
      * Writes the layout's header to the file if it exists.
      */
@@ -143,7 +200,11 @@ public class RollingRandomAccessFileManager extends RollingFileManager {
         try {
             if (randomAccessFile != null && randomAccessFile.length() == 0) {
                 // write to the file, not to the buffer: the buffer may not be empty
-                randomAccessFile.write(header, 0, header.length);
+                if (compressingStream != null) {
+                    compressingStream.write(header, 0, header.length);
+                } else {
+                    randomAccessFile.write(header, 0, header.length);
+                }
             }
         } catch (final IOException e) {
             logError("Unable to write header", e);
@@ -164,6 +225,42 @@ public class RollingRandomAccessFileManager extends RollingFileManager {
             final String fileOwner,
             final String fileGroup,
             final Configuration configuration) {
+        return getRollingRandomAccessFileManager(
+                fileName,
+                filePattern,
+                isAppend,
+                immediateFlush,
+                bufferSize,
+                policy,
+                strategy,
+                advertiseURI,
+                layout,
+                filePermissions,
+                fileOwner,
+                fileGroup,
+                configuration,
+                null);
+    }
+
+    /**
+     * @param streamingCompression The configuration used to compress the active file, may be null.
+     * @since 2.24.0
+     */
+    public static RollingRandomAccessFileManager getRollingRandomAccessFileManager(
+            final String fileName,
+            final String filePattern,
+            final boolean isAppend,
+            final boolean immediateFlush,
+            final int bufferSize,
+            final TriggeringPolicy policy,
+            final RolloverStrategy strategy,
+            final String advertiseURI,
+            final Layout<? extends Serializable> layout,
+            final String filePermissions,
+            final String fileOwner,
+            final String fileGroup,
+            final Configuration configuration,
+            final StreamingCompression streamingCompression) {
         if (strategy instanceof DirectWriteRolloverStrategy && fileName != null) {
             LOGGER.error("The fileName attribute must not be specified with the DirectWriteRolloverStrategy");
             return null;
@@ -186,7 +283,8 @@ public class RollingRandomAccessFileManager extends RollingFileManager {
                                 filePermissions,
                                 fileOwner,
                                 fileGroup,
-                                configuration),
+                                configuration,
+                                streamingCompression),
                         FACTORY));
     }
 
@@ -221,8 +319,17 @@ public class RollingRandomAccessFileManager extends RollingFileManager {
             if (randomAccessFile == null) {
                 createFileAfterRollover();
             }
-            randomAccessFile.write(bytes, offset, length);
-            size += length;
+            if (compressingStream != null) {
+                compressingStream.write(bytes, offset, length);
+            } else {
+                randomAccessFile.write(bytes, offset, length);
+            }
+            if (!isCountingCompressedBytes()) {
+                size += length;
+            }
+            if (getMetrics() != null) {
+                getMetrics().addBytes(length);
+            }
         } catch (final IOException ex) {
             final String msg = "Error writing to RandomAccessFile " + getName();
             throw new AppenderLoggingException(msg, ex);
@@ -244,7 +351,7 @@ public class RollingRandomAccessFileManager extends RollingFileManager {
             value = "PATH_TRAVERSAL_IN",
             justification = "The name of the accessed files is based on a configuration value.")
     private void createFileAfterRollover(final String fileName) throws IOException {
-        this.randomAccessFile = new RandomAccessFile(fileName, "rw");
+        setRandomAccessFile(new RandomAccessFile(fileName, "rw"));
         if (isAttributeViewEnabled()) {
             defineAttributeView(Paths.get(fileName));
         }
@@ -257,6 +364,14 @@ public class RollingRandomAccessFileManager extends RollingFileManager {
     @Override
     public synchronized void flush() {
         flushBuffer(byteBuffer);
+        if (compressingStream != null) {
+            try {
+                compressingStream.flush();
+            } catch (final IOException ex) {
+                final String msg = "Error flushing RandomAccessFile " + getName();
+                throw new AppenderLoggingException(msg, ex);
+            }
+        }
     }
 
     @Override
@@ -264,7 +379,12 @@ public class RollingRandomAccessFileManager extends RollingFileManager {
         flush();
         if (randomAccessFile != null) {
             try {
-                randomAccessFile.close();
+                if (compressingStream != null) {
+                    // also closes the file
+                    compressingStream.close();
+                } else {
+                    randomAccessFile.close();
+                }
                 return true;
             } catch (final IOException e) {
                 logError("Unable to close RandomAccessFile", e);
@@ -284,6 +404,33 @@ public class RollingRandomAccessFileManager extends RollingFileManager {
         return byteBuffer.capacity();
     }
 
+    /**
+     * Writes the output of the compressor to the file.
+     */
+    private static final class RandomAccessFileOutputStream extends OutputStream {
+
+        private final RandomAccessFile randomAccessFile;
+
+        RandomAccessFileOutputStream(final RandomAccessFile randomAccessFile) {
+            this.randomAccessFile = randomAccessFile;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            randomAccessFile.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            randomAccessFile.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            randomAccessFile.close();
+        }
+    }
+
     /**
      * Factory to create a RollingRandomAccessFileManager.
      */
@@ -340,6 +487,8 @@ public class RollingRandomAccessFileManager extends RollingFileManager {
                 }
             }
             final boolean writeHeader = !data.append || file == null || !file.exists();
+            final StreamingCompression streamingCompression =
+                    checkStreamingCompression(data.streamingCompression, data.pattern);
 
             final RollingRandomAccessFileManager rrm = new RollingRandomAccessFileManager(
                     data.getLoggerContext(),
@@ -359,7 +508,8 @@ public class RollingRandomAccessFileManager extends RollingFileManager {
                     data.filePermissions,
                     data.fileOwner,
                     data.fileGroup,
-                    writeHeader);
+                    writeHeader,
+                    streamingCompression);
             if (rrm.isAttributeViewEnabled()) {
                 rrm.defineAttributeView(file.toPath());
             }
@@ -383,6 +533,7 @@ public class RollingRandomAccessFileManager extends RollingFileManager {
         private final String filePermissions;
         private final String fileOwner;
         private final String fileGroup;
+        private final StreamingCompression streamingCompression;
 
         /**
          * Create the data for the factory.
@@ -400,6 +551,7 @@ public class RollingRandomAccessFileManager extends RollingFileManager {
          * @param fileOwner File owner
          * @param fileGroup File group
          * @param configuration
+         * @param streamingCompression
          */
         public FactoryData(
                 final String fileName,
@@ -414,7 +566,8 @@ public class RollingRandomAccessFileManager extends RollingFileManager {
                 final String filePermissions,
                 final String fileOwner,
                 final String fileGroup,
-                final Configuration configuration) {
+                final Configuration configuration,
+                final StreamingCompression streamingCompression) {
             super(configuration);
             this.fileName = fileName;
             this.pattern = pattern;
@@ -428,6 +581,7 @@ public class RollingRandomAccessFileManager extends RollingFileManager {
             this.filePermissions = filePermissions;
             this.fileOwner = fileOwner;
             this.fileGroup = fileGroup;
+            this.streamingCompression = streamingCompression;
         }
 
         public String getPattern() {
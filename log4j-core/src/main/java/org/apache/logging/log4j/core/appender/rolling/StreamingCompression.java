@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.appender.rolling;
+
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginBuilderAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginBuilderFactory;
+import org.apache.logging.log4j.status.StatusLogger;
+
+/**
+ * Compresses the active file of a rolling file appender while it is written, instead of compressing it on rollover.
+ * <p>
+ * The compression format is determined by the extension of the file pattern and must be either {@code .gz} or
+ * {@code .zst}. The active file is written as a sequence of GZIP members or Zstandard frames, so a rollover only
+ * renames it.
+ * </p>
+ *
+ * @since 2.24.0
+ */
+@Plugin(name = "StreamingCompression", category = Core.CATEGORY_NAME, printObject = true)
+public final class StreamingCompression {
+
+    public static class Builder implements org.apache.logging.log4j.core.util.Builder<StreamingCompression> {
+
+        @PluginBuilderAttribute
+        private int compressionLevel = Deflater.DEFAULT_COMPRESSION;
+
+        @PluginBuilderAttribute
+        private long frameInterval;
+
+        @PluginBuilderAttribute
+        private boolean countCompressedBytes = true;
+
+        @Override
+        public StreamingCompression build() {
+            if (frameInterval < 0) {
+                LOGGER.error("The frame interval must not be negative: {}", frameInterval);
+                return null;
+            }
+            return new StreamingCompression(compressionLevel, frameInterval, countCompressedBytes);
+        }
+
+        public int getCompressionLevel() {
+            return compressionLevel;
+        }
+
+        public long getFrameInterval() {
+            return frameInterval;
+        }
+
+        public boolean isCountCompressedBytes() {
+            return countCompressedBytes;
+        }
+
+        /**
+         * Defines the compression level.
+         *
+         * @param compressionLevel The GZIP level, 0 through 9, or the Zstandard level; if absent the default level
+         *            of the format is used.
+         * @return This builder for chaining convenience
+         */
+        public Builder setCompressionLevel(final int compressionLevel) {
+            this.compressionLevel = compressionLevel;
+            return this;
+        }
+
+        /**
+         * Defines how often a compressed frame is ended.
+         *
+         * @param frameInterval The minimum duration of a frame in milliseconds; if zero, a frame is ended every
+         *            time the buffer of the appender is written to the file.
+         * @return This builder for chaining convenience
+         */
+        public Builder setFrameInterval(final long frameInterval) {
+            this.frameInterval = frameInterval;
+            return this;
+        }
+
+        /**
+         * Defines how the size of the active file is computed.
+         *
+         * @param countCompressedBytes If true, size based triggering policies use the number of compressed bytes
+         *            written to the file, otherwise the number of uncompressed bytes.
+         * @return This builder for chaining convenience
+         */
+        public Builder setCountCompressedBytes(final boolean countCompressedBytes) {
+            this.countCompressedBytes = countCompressedBytes;
+            return this;
+        }
+    }
+
+    private static final Logger LOGGER = StatusLogger.getLogger();
+
+    private final int compressionLevel;
+
+    private final long frameInterval;
+
+    private final boolean countCompressedBytes;
+
+    private StreamingCompression(
+            final int compressionLevel, final long frameInterval, final boolean countCompressedBytes) {
+        this.compressionLevel = compressionLevel;
+        this.frameInterval = frameInterval;
+        this.countCompressedBytes = countCompressedBytes;
+    }
+
+    @PluginBuilderFactory
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Determines if the given compression format can be written while the file is active.
+     *
+     * @param fileExtension The extension of the file pattern, may be null.
+     * @return true if the format is GZ or ZSTD.
+     */
+    public static boolean isSupported(final FileExtension fileExtension) {
+        return fileExtension == FileExtension.GZ || fileExtension == FileExtension.ZSTD;
+    }
+
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    public long getFrameInterval() {
+        return frameInterval;
+    }
+
+    public boolean isCountCompressedBytes() {
+        return countCompressedBytes;
+    }
+
+    CompressingOutputStream createOutputStream(final OutputStream out, final FileExtension fileExtension) {
+        return new CompressingOutputStream(out, fileExtension, compressionLevel, frameInterval);
+    }
+
+    @Override
+    public String toString() {
+        return "StreamingCompression(compressionLevel=" + compressionLevel + ", frameInterval=" + frameInterval
+                + ", countCompressedBytes=" + countCompressedBytes + ")";
+    }
+}
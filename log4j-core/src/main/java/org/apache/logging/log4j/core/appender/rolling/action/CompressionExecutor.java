@@ -0,0 +1,303 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.appender.rolling.action;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+import org.apache.logging.log4j.core.util.Log4jThreadFactory;
+
+/**
+ * A bounded pool of worker threads that compresses rolled over files block by block.
+ * <p>
+ * The content of a file is split into blocks of {@link #getBlockSize()} bytes, each block is compressed as an
+ * independent GZIP member by one of the workers, and the members are concatenated in order. The result is a valid
+ * multi-member GZIP file (as produced by {@code pigz}) that can be read by any GZIP decoder, including
+ * {@link java.util.zip.GZIPInputStream}.
+ * </p>
+ * <p>
+ * The number of blocks waiting for a worker is bounded: when the queue is full the thread reading the file
+ * compresses the block itself. Idle worker threads terminate after a minute, so an executor that is no longer used
+ * does not need to be stopped.
+ * </p>
+ *
+ * @since 2.24.0
+ */
+public final class CompressionExecutor {
+
+    /**
+     * The default size of the blocks compressed in parallel.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 1024 * 1024;
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private final int threads;
+
+    private final int blockSize;
+
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicInteger pendingFiles = new AtomicInteger();
+
+    private final AtomicLong backlogBytes = new AtomicLong();
+
+    private final AtomicLong completedFiles = new AtomicLong();
+
+    /**
+     * Creates a new executor.
+     *
+     * @param name the name used for the worker threads.
+     * @param threads the number of worker threads, must be positive.
+     * @param blockSize the size of the blocks compressed in parallel, must be positive.
+     */
+    public CompressionExecutor(final String name, final int threads, final int blockSize) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("The number of compression threads must be positive: " + threads);
+        }
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("The compression block size must be positive: " + blockSize);
+        }
+        this.threads = threads;
+        this.blockSize = blockSize;
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<Runnable>(threads),
+                Log4jThreadFactory.createDaemonThreadFactory(name),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Returns the number of worker threads.
+     *
+     * @return the number of worker threads.
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Returns the size of the blocks compressed in parallel.
+     *
+     * @return the block size in bytes.
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Returns the number of blocks waiting for a worker thread.
+     *
+     * @return the compression queue depth.
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Returns the number of worker threads currently compressing a block.
+     *
+     * @return the number of active workers.
+     */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * Returns the number of uncompressed bytes that have been read but not yet written to a compressed file.
+     *
+     * @return the compression backlog in bytes.
+     */
+    public long getBacklogBytes() {
+        return backlogBytes.get();
+    }
+
+    /**
+     * Returns the number of files currently being compressed.
+     *
+     * @return the number of pending files.
+     */
+    public int getPendingFiles() {
+        return pendingFiles.get();
+    }
+
+    /**
+     * Returns the number of files compressed since this executor was created.
+     *
+     * @return the number of compressed files.
+     */
+    public long getCompletedFiles() {
+        return completedFiles.get();
+    }
+
+    /**
+     * Compresses the given input into a multi-member GZIP output.
+     * <p>
+     * The calling thread reads the input and writes the compressed members in order, while the blocks are
+     * compressed by the worker threads. At most two blocks per worker are in flight for each call.
+     * </p>
+     *
+     * @param input the uncompressed data.
+     * @param output the destination of the compressed data.
+     * @param compressionLevel the deflater compression level.
+     * @throws IOException if the input cannot be read or the output cannot be written.
+     */
+    void gzip(final InputStream input, final OutputStream output, final int compressionLevel) throws IOException {
+        final int maxInFlight = 2 * threads;
+        final ArrayDeque<Block> inFlight = new ArrayDeque<>(maxInFlight);
+        pendingFiles.incrementAndGet();
+        boolean success = false;
+        try {
+            Block block;
+            boolean empty = true;
+            while ((block = readBlock(input)) != null) {
+                empty = false;
+                if (inFlight.size() == maxInFlight) {
+                    writeBlock(inFlight.removeFirst(), output);
+                }
+                block.submit(compressionLevel);
+                inFlight.addLast(block);
+            }
+            while (!inFlight.isEmpty()) {
+                writeBlock(inFlight.removeFirst(), output);
+            }
+            if (empty) {
+                // An empty file still needs a GZIP header and trailer
+                output.write(gzipMember(new byte[0], 0, compressionLevel));
+            }
+            success = true;
+        } finally {
+            for (final Block block : inFlight) {
+                block.cancel();
+            }
+            pendingFiles.decrementAndGet();
+            if (success) {
+                completedFiles.incrementAndGet();
+            }
+        }
+    }
+
+    private Block readBlock(final InputStream input) throws IOException {
+        final byte[] data = new byte[blockSize];
+        int length = 0;
+        int n;
+        while (length < blockSize && (n = input.read(data, length, blockSize - length)) != -1) {
+            length += n;
+        }
+        return length == 0 ? null : new Block(data, length);
+    }
+
+    private void writeBlock(final Block block, final OutputStream output) throws IOException {
+        final byte[] member = block.get();
+        output.write(member);
+    }
+
+    private static byte[] gzipMember(final byte[] data, final int length, final int compressionLevel)
+            throws IOException {
+        final ByteArrayOutputStream member = new ByteArrayOutputStream(length / 4 + 64);
+        try (final OutputStream gzipOut = new LevelGZIPOutputStream(member, compressionLevel)) {
+            gzipOut.write(data, 0, length);
+        }
+        return member.toByteArray();
+    }
+
+    /**
+     * A block of uncompressed data and its future compressed GZIP member.
+     */
+    private final class Block {
+
+        private final byte[] data;
+
+        private final int length;
+
+        private Future<byte[]> member;
+
+        private boolean accounted;
+
+        Block(final byte[] data, final int length) {
+            this.data = data;
+            this.length = length;
+        }
+
+        void submit(final int compressionLevel) {
+            backlogBytes.addAndGet(length);
+            accounted = true;
+            member = executor.submit(() -> gzipMember(data, length, compressionLevel));
+        }
+
+        byte[] get() throws IOException {
+            try {
+                return member.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while compressing a block");
+            } catch (final ExecutionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                throw new IOException("Unable to compress a block", cause);
+            } finally {
+                release();
+            }
+        }
+
+        void cancel() {
+            if (member != null) {
+                member.cancel(false);
+            }
+            release();
+        }
+
+        private void release() {
+            if (accounted) {
+                accounted = false;
+                backlogBytes.addAndGet(-length);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return CompressionExecutor.class.getSimpleName() + "[threads=" + threads + ", blockSize=" + blockSize
+                + ", queueDepth=" + getQueueDepth() + ", pendingFiles=" + getPendingFiles() + ", backlogBytes="
+                + getBacklogBytes() + ']';
+    }
+
+    private static final class LevelGZIPOutputStream extends GZIPOutputStream {
+
+        LevelGZIPOutputStream(final OutputStream out, final int level) throws IOException {
+            super(out);
+            def.setLevel(level);
+        }
+    }
+}
@@ -55,6 +55,11 @@ public final class GzCompressAction extends AbstractAction {
      */
     private final int compressionLevel;
 
+    /**
+     * Executor used to compress blocks in parallel, may be null.
+     */
+    private final CompressionExecutor compressionExecutor;
+
     /**
      * Create new instance of GzCompressAction.
      *
@@ -67,6 +72,29 @@ public final class GzCompressAction extends AbstractAction {
      */
     public GzCompressAction(
             final File source, final File destination, final boolean deleteSource, final int compressionLevel) {
+        this(source, destination, deleteSource, compressionLevel, null);
+    }
+
+    /**
+     * Create new instance of GzCompressAction.
+     *
+     * @param source       file to compress, may not be null.
+     * @param destination  compressed file, may not be null.
+     * @param deleteSource if true, attempt to delete file on completion.  Failure to delete
+     *                     does not cause an exception to be thrown or affect return value.
+     * @param compressionLevel
+     *                     Gzip deflater compression level.
+     * @param compressionExecutor
+     *                     Executor used to compress blocks of the file in parallel; if null the file is
+     *                     compressed by the calling thread.
+     * @since 2.24.0
+     */
+    public GzCompressAction(
+            final File source,
+            final File destination,
+            final boolean deleteSource,
+            final int compressionLevel,
+            final CompressionExecutor compressionExecutor) {
         Objects.requireNonNull(source, "source");
         Objects.requireNonNull(destination, "destination");
 
@@ -74,6 +102,7 @@ public final class GzCompressAction extends AbstractAction {
         this.destination = destination;
         this.deleteSource = deleteSource;
         this.compressionLevel = compressionLevel;
+        this.compressionExecutor = compressionExecutor;
     }
 
     /**
@@ -94,7 +123,7 @@ public final class GzCompressAction extends AbstractAction {
      */
     @Override
     public boolean execute() throws IOException {
-        return execute(source, destination, deleteSource, compressionLevel);
+        return execute(source, destination, deleteSource, compressionLevel, compressionExecutor);
     }
 
     /**
@@ -129,18 +158,54 @@ public final class GzCompressAction extends AbstractAction {
     public static boolean execute(
             final File source, final File destination, final boolean deleteSource, final int compressionLevel)
             throws IOException {
+        return execute(source, destination, deleteSource, compressionLevel, null);
+    }
+
+    /**
+     * Compress a file.
+     * <p>
+     * If a {@link CompressionExecutor} is provided, the file is split into blocks that are compressed in parallel
+     * and written as consecutive GZIP members.
+     * </p>
+     *
+     * @param source       file to compress, may not be null.
+     * @param destination  compressed file, may not be null.
+     * @param deleteSource if true, attempt to delete file on completion.  Failure to delete
+     *                     does not cause an exception to be thrown or affect return value.
+     * @param compressionLevel
+     *                     Gzip deflater compression level.
+     * @param compressionExecutor
+     *                     Executor used to compress blocks of the file in parallel, may be null.
+     * @return true if source file compressed.
+     * @throws IOException on IO exception.
+     * @since 2.24.0
+     */
+    public static boolean execute(
+            final File source,
+            final File destination,
+            final boolean deleteSource,
+            final int compressionLevel,
+            final CompressionExecutor compressionExecutor)
+            throws IOException {
         if (source.exists()) {
-            try (final FileInputStream fis = new FileInputStream(source);
-                    final OutputStream fos = new FileOutputStream(destination);
-                    final OutputStream gzipOut =
-                            new ConfigurableLevelGZIPOutputStream(fos, BUF_SIZE, compressionLevel);
-                    // Reduce native invocations by buffering data into GZIPOutputStream
-                    final OutputStream os = new BufferedOutputStream(gzipOut, BUF_SIZE)) {
-                final byte[] inbuf = new byte[BUF_SIZE];
-                int n;
-
-                while ((n = fis.read(inbuf)) != -1) {
-                    os.write(inbuf, 0, n);
+            if (compressionExecutor != null) {
+                try (final FileInputStream fis = new FileInputStream(source);
+                        final OutputStream fos = new FileOutputStream(destination)) {
+                    compressionExecutor.gzip(fis, fos, compressionLevel);
+                }
+            } else {
+                try (final FileInputStream fis = new FileInputStream(source);
+                        final OutputStream fos = new FileOutputStream(destination);
+                        final OutputStream gzipOut =
+                                new ConfigurableLevelGZIPOutputStream(fos, BUF_SIZE, compressionLevel);
+                        // Reduce native invocations by buffering data into GZIPOutputStream
+                        final OutputStream os = new BufferedOutputStream(gzipOut, BUF_SIZE)) {
+                    final byte[] inbuf = new byte[BUF_SIZE];
+                    int n;
+
+                    while ((n = fis.read(inbuf)) != -1) {
+                        os.write(inbuf, 0, n);
+                    }
                 }
             }
 
@@ -190,4 +255,14 @@ public final class GzCompressAction extends AbstractAction {
     public boolean isDeleteSource() {
         return deleteSource;
     }
+
+    /**
+     * Returns the executor used to compress blocks in parallel.
+     *
+     * @return the compression executor or {@code null} if the file is compressed by a single thread.
+     * @since 2.24.0
+     */
+    public CompressionExecutor getCompressionExecutor() {
+        return compressionExecutor;
+    }
 }
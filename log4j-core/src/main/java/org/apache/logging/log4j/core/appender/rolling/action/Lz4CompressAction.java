@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.appender.rolling.action;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.zip.Deflater;
+import org.apache.commons.compress.compressors.lz4.BlockLZ4CompressorOutputStream;
+import org.apache.commons.compress.compressors.lz4.FramedLZ4CompressorOutputStream;
+import org.apache.commons.compress.compressors.lz4.FramedLZ4CompressorOutputStream.BlockSize;
+import org.apache.commons.compress.compressors.lz4.FramedLZ4CompressorOutputStream.Parameters;
+
+/**
+ * Compresses a file using the <a href="https://github.com/lz4/lz4/blob/dev/doc/lz4_Frame_format.md">LZ4 frame</a>
+ * format.
+ * <p>
+ * Requires the Apache Commons Compress library.
+ * </p>
+ * <p>
+ * LZ4 has no numeric compression levels: levels up to {@value #FAST_COMPRESSION_LEVEL} favor speed, levels from
+ * {@value #HIGH_COMPRESSION_LEVEL} favor compression ratio.
+ * </p>
+ *
+ * @since 2.24.0
+ */
+public final class Lz4CompressAction extends AbstractAction {
+
+    /**
+     * The highest compression level tuned for speed.
+     */
+    public static final int FAST_COMPRESSION_LEVEL = 3;
+
+    /**
+     * The lowest compression level tuned for compression ratio.
+     */
+    public static final int HIGH_COMPRESSION_LEVEL = 9;
+
+    private static final int BUF_SIZE = 64 * 1024;
+
+    /**
+     * Source file.
+     */
+    private final File source;
+
+    /**
+     * Destination file.
+     */
+    private final File destination;
+
+    /**
+     * If true, attempt to delete file on completion.
+     */
+    private final boolean deleteSource;
+
+    /**
+     * Compression level to use.
+     */
+    private final int compressionLevel;
+
+    /**
+     * Creates new instance of Lz4CompressAction.
+     *
+     * @param source       file to compress, may not be null.
+     * @param destination  compressed file, may not be null.
+     * @param deleteSource if true, attempt to delete file on completion.  Failure to delete
+     *                     does not cause an exception to be thrown or affect return value.
+     * @param compressionLevel
+     *                     Compression level, 0 (faster) through 9 (smaller), or {@link Deflater#DEFAULT_COMPRESSION}.
+     */
+    public Lz4CompressAction(
+            final File source, final File destination, final boolean deleteSource, final int compressionLevel) {
+        Objects.requireNonNull(source, "source");
+        Objects.requireNonNull(destination, "destination");
+
+        this.source = source;
+        this.destination = destination;
+        this.deleteSource = deleteSource;
+        this.compressionLevel = compressionLevel;
+    }
+
+    /**
+     * Compresses.
+     *
+     * @return true if successfully compressed.
+     * @throws IOException on IO exception.
+     */
+    @Override
+    public boolean execute() throws IOException {
+        return execute(source, destination, deleteSource, compressionLevel);
+    }
+
+    /**
+     * Compresses a file.
+     *
+     * @param source       file to compress, may not be null.
+     * @param destination  compressed file, may not be null.
+     * @param deleteSource if true, attempt to delete file on completion.  Failure to delete
+     *                     does not cause an exception to be thrown or affect return value.
+     * @param compressionLevel
+     *                     Compression level, 0 (faster) through 9 (smaller), or {@link Deflater#DEFAULT_COMPRESSION}.
+     * @return true if source file compressed.
+     * @throws IOException on IO exception.
+     */
+    public static boolean execute(
+            final File source, final File destination, final boolean deleteSource, final int compressionLevel)
+            throws IOException {
+        if (!source.exists()) {
+            return false;
+        }
+        LOGGER.debug("Starting lz4 compression of {}", source.getPath());
+        try (final FileInputStream fis = new FileInputStream(source);
+                final FramedLZ4CompressorOutputStream lz4Out = new FramedLZ4CompressorOutputStream(
+                        new FileOutputStream(destination), createParameters(compressionLevel))) {
+            final byte[] inbuf = new byte[BUF_SIZE];
+            int n;
+            while ((n = fis.read(inbuf)) != -1) {
+                lz4Out.write(inbuf, 0, n);
+            }
+        }
+        LOGGER.debug("Finished lz4 compression of {}", source.getPath());
+
+        if (deleteSource && !source.delete()) {
+            LOGGER.warn("Unable to delete {}.", source);
+        }
+
+        return true;
+    }
+
+    private static Parameters createParameters(final int compressionLevel) {
+        if (compressionLevel == Deflater.DEFAULT_COMPRESSION) {
+            return Parameters.DEFAULT;
+        }
+        if (compressionLevel <= FAST_COMPRESSION_LEVEL) {
+            return new Parameters(
+                    BlockSize.M4,
+                    BlockLZ4CompressorOutputStream.createParameterBuilder()
+                            .tunedForSpeed()
+                            .build());
+        }
+        if (compressionLevel >= HIGH_COMPRESSION_LEVEL) {
+            return new Parameters(
+                    BlockSize.M4,
+                    BlockLZ4CompressorOutputStream.createParameterBuilder()
+                            .tunedForCompressionRatio()
+                            .build());
+        }
+        return Parameters.DEFAULT;
+    }
+
+    /**
+     * Captures exception.
+     *
+     * @param ex exception.
+     */
+    @Override
+    protected void reportException(final Exception ex) {
+        LOGGER.warn("Exception during lz4 compression of '" + source.toString() + "'.", ex);
+    }
+
+    @Override
+    public String toString() {
+        return Lz4CompressAction.class.getSimpleName() + '[' + source + " to " + destination + ", deleteSource="
+                + deleteSource + ", compressionLevel=" + compressionLevel + ']';
+    }
+
+    public File getSource() {
+        return source;
+    }
+
+    public File getDestination() {
+        return destination;
+    }
+
+    public boolean isDeleteSource() {
+        return deleteSource;
+    }
+
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.appender.rolling.action;
+
+import com.github.luben.zstd.ZstdOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Objects;
+import java.util.zip.Deflater;
+
+/**
+ * Compresses a file using the <a href="https://facebook.github.io/zstd/">Zstandard</a> format.
+ * <p>
+ * Requires the {@code com.github.luben:zstd-jni} library.
+ * </p>
+ *
+ * @since 2.24.0
+ */
+public final class ZstdCompressAction extends AbstractAction {
+
+    /**
+     * The compression level used if none is configured.
+     */
+    public static final int DEFAULT_COMPRESSION_LEVEL = 3;
+
+    private static final int BUF_SIZE = 128 * 1024;
+
+    /**
+     * Source file.
+     */
+    private final File source;
+
+    /**
+     * Destination file.
+     */
+    private final File destination;
+
+    /**
+     * If true, attempt to delete file on completion.
+     */
+    private final boolean deleteSource;
+
+    /**
+     * Zstandard compression level to use.
+     */
+    private final int compressionLevel;
+
+    /**
+     * Base 2 logarithm of the long distance matching window, or 0 to use the window of the compression level.
+     */
+    private final int windowLog;
+
+    /**
+     * Dictionary used to compress the file, may be null.
+     */
+    private final File dictionary;
+
+    /**
+     * Creates new instance of ZstdCompressAction.
+     *
+     * @param source       file to compress, may not be null.
+     * @param destination  compressed file, may not be null.
+     * @param deleteSource if true, attempt to delete file on completion.  Failure to delete
+     *                     does not cause an exception to be thrown or affect return value.
+     * @param compressionLevel
+     *                     Zstandard compression level; {@link Deflater#DEFAULT_COMPRESSION} selects
+     *                     {@link #DEFAULT_COMPRESSION_LEVEL}.
+     */
+    public ZstdCompressAction(
+            final File source, final File destination, final boolean deleteSource, final int compressionLevel) {
+        this(source, destination, deleteSource, compressionLevel, 0, null);
+    }
+
+    /**
+     * Creates new instance of ZstdCompressAction.
+     *
+     * @param source       file to compress, may not be null.
+     * @param destination  compressed file, may not be null.
+     * @param deleteSource if true, attempt to delete file on completion.  Failure to delete
+     *                     does not cause an exception to be thrown or affect return value.
+     * @param compressionLevel
+     *                     Zstandard compression level; {@link Deflater#DEFAULT_COMPRESSION} selects
+     *                     {@link #DEFAULT_COMPRESSION_LEVEL}.
+     * @param windowLog    if positive, enables long distance matching with a window of {@code 2^windowLog} bytes.
+     * @param dictionary   a dictionary trained on similar files, may be null.
+     */
+    public ZstdCompressAction(
+            final File source,
+            final File destination,
+            final boolean deleteSource,
+            final int compressionLevel,
+            final int windowLog,
+            final File dictionary) {
+        Objects.requireNonNull(source, "source");
+        Objects.requireNonNull(destination, "destination");
+
+        this.source = source;
+        this.destination = destination;
+        this.deleteSource = deleteSource;
+        this.compressionLevel = compressionLevel;
+        this.windowLog = windowLog;
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Compresses.
+     *
+     * @return true if successfully compressed.
+     * @throws IOException on IO exception.
+     */
+    @Override
+    public boolean execute() throws IOException {
+        return execute(source, destination, deleteSource, compressionLevel, windowLog, dictionary);
+    }
+
+    /**
+     * Compresses a file.
+     *
+     * @param source       file to compress, may not be null.
+     * @param destination  compressed file, may not be null.
+     * @param deleteSource if true, attempt to delete file on completion.  Failure to delete
+     *                     does not cause an exception to be thrown or affect return value.
+     * @param compressionLevel
+     *                     Zstandard compression level; {@link Deflater#DEFAULT_COMPRESSION} selects
+     *                     {@link #DEFAULT_COMPRESSION_LEVEL}.
+     * @param windowLog    if positive, enables long distance matching with a window of {@code 2^windowLog} bytes.
+     * @param dictionary   a dictionary trained on similar files, may be null.
+     * @return true if source file compressed.
+     * @throws IOException on IO exception.
+     */
+    public static boolean execute(
+            final File source,
+            final File destination,
+            final boolean deleteSource,
+            final int compressionLevel,
+            final int windowLog,
+            final File dictionary)
+            throws IOException {
+        if (!source.exists()) {
+            return false;
+        }
+        LOGGER.debug("Starting zstd compression of {}", source.getPath());
+        final byte[] dictionaryBytes = dictionary != null ? Files.readAllBytes(dictionary.toPath()) : null;
+        try (final FileInputStream fis = new FileInputStream(source);
+                final ZstdOutputStream zstdOut = new ZstdOutputStream(new FileOutputStream(destination))) {
+            zstdOut.setChecksum(true);
+            zstdOut.setLevel(
+                    compressionLevel == Deflater.DEFAULT_COMPRESSION ? DEFAULT_COMPRESSION_LEVEL : compressionLevel);
+            if (windowLog > 0) {
+                zstdOut.setLong(windowLog);
+            }
+            if (dictionaryBytes != null) {
+                zstdOut.setDict(dictionaryBytes);
+            }
+            // ZstdOutputStream does not buffer, so large writes reduce native invocations
+            final byte[] inbuf = new byte[BUF_SIZE];
+            int n;
+            while ((n = fis.read(inbuf)) != -1) {
+                zstdOut.write(inbuf, 0, n);
+            }
+        }
+        LOGGER.debug("Finished zstd compression of {}", source.getPath());
+
+        if (deleteSource && !source.delete()) {
+            LOGGER.warn("Unable to delete {}.", source);
+        }
+
+        return true;
+    }
+
+    /**
+     * Captures exception.
+     *
+     * @param ex exception.
+     */
+    @Override
+    protected void reportException(final Exception ex) {
+        LOGGER.warn("Exception during zstd compression of '" + source.toString() + "'.", ex);
+    }
+
+    @Override
+    public String toString() {
+        return ZstdCompressAction.class.getSimpleName() + '[' + source + " to " + destination + ", deleteSource="
+                + deleteSource + ", compressionLevel=" + compressionLevel + ", windowLog=" + windowLog
+                + ", dictionary=" + dictionary + ']';
+    }
+
+    public File getSource() {
+        return source;
+    }
+
+    public File getDestination() {
+        return destination;
+    }
+
+    public boolean isDeleteSource() {
+        return deleteSource;
+    }
+
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    public int getWindowLog() {
+        return windowLog;
+    }
+
+    public File getDictionary() {
+        return dictionary;
+    }
+}
@@ -23,6 +23,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.logging.log4j.core.AbstractLifeCycle;
 import org.apache.logging.log4j.core.Core;
 import org.apache.logging.log4j.core.LogEvent;
@@ -43,7 +44,7 @@ public class IdlePurgePolicy extends AbstractLifeCycle implements PurgePolicy, R
 
     private final long timeToLive;
     private final long checkInterval;
-    private final ConcurrentMap<String, Long> appendersUsage = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicLong> appendersUsage = new ConcurrentHashMap<>();
     private RoutingAppender routingAppender;
     private final ConfigurationScheduler scheduler;
     private volatile ScheduledFuture<?> future;
@@ -73,13 +74,16 @@ public class IdlePurgePolicy extends AbstractLifeCycle implements PurgePolicy, R
     @Override
     public void purge() {
         final long createTime = System.currentTimeMillis() - timeToLive;
-        for (final Entry<String, Long> entry : appendersUsage.entrySet()) {
-            final long entryValue = entry.getValue();
-            if (entryValue < createTime) {
-                if (appendersUsage.remove(entry.getKey(), entryValue)) {
-                    LOGGER.debug("Removing appender {}", entry.getKey());
-                    routingAppender.deleteAppender(entry.getKey());
+        for (final Entry<String, AtomicLong> entry : appendersUsage.entrySet()) {
+            final AtomicLong lastUsed = entry.getValue();
+            if (lastUsed.get() < createTime && appendersUsage.remove(entry.getKey(), lastUsed)) {
+                if (lastUsed.get() >= createTime) {
+                    // Used while we were removing it
+                    appendersUsage.putIfAbsent(entry.getKey(), lastUsed);
+                    continue;
                 }
+                LOGGER.debug("Removing appender {}", entry.getKey());
+                routingAppender.deleteAppender(entry.getKey());
             }
         }
     }
@@ -87,7 +91,13 @@ public class IdlePurgePolicy extends AbstractLifeCycle implements PurgePolicy, R
     @Override
     public void update(final String key, final LogEvent event) {
         final long now = System.currentTimeMillis();
-        appendersUsage.put(key, now);
+        // Most events use an existing route: update its timestamp without allocating or modifying the map
+        final AtomicLong lastUsed = appendersUsage.get(key);
+        if (lastUsed == null) {
+            appendersUsage.put(key, new AtomicLong(now));
+        } else if (lastUsed.get() != now) {
+            lastUsed.set(now);
+        }
         if (future == null) {
             synchronized (this) {
                 if (future == null) {
@@ -105,9 +115,10 @@ public class IdlePurgePolicy extends AbstractLifeCycle implements PurgePolicy, R
 
     private void scheduleNext() {
         long updateTime = Long.MAX_VALUE;
-        for (final Entry<String, Long> entry : appendersUsage.entrySet()) {
-            if (entry.getValue() < updateTime) {
-                updateTime = entry.getValue();
+        for (final AtomicLong lastUsed : appendersUsage.values()) {
+            final long value = lastUsed.get();
+            if (value < updateTime) {
+                updateTime = value;
             }
         }
 
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.appender.routing;
+
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.logging.log4j.core.AbstractLifeCycle;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+
+/**
+ * Policy bounding the number of appenders created by a {@link RoutingAppender}: when a new route exceeds the maximum
+ * size, the least recently used routes are purged.
+ * <p>
+ * Purged appenders are stopped once the events being appended to them complete.
+ * </p>
+ * @since 2.24.0
+ */
+@Plugin(name = "LruPurgePolicy", category = Core.CATEGORY_NAME, printObject = true)
+public class LruPurgePolicy extends AbstractLifeCycle implements PurgePolicy {
+
+    private final int maxSize;
+    private final ConcurrentMap<String, AtomicLong> appendersUsage = new ConcurrentHashMap<>();
+    private RoutingAppender routingAppender;
+
+    public LruPurgePolicy(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public void initialize(@SuppressWarnings("hiding") final RoutingAppender routingAppender) {
+        this.routingAppender = routingAppender;
+    }
+
+    /**
+     * Purges the least recently used appenders, until at most {@code maxSize} remain.
+     */
+    @Override
+    public synchronized void purge() {
+        while (appendersUsage.size() > maxSize) {
+            Entry<String, AtomicLong> eldest = null;
+            long eldestTime = Long.MAX_VALUE;
+            for (final Entry<String, AtomicLong> entry : appendersUsage.entrySet()) {
+                final long lastUsed = entry.getValue().get();
+                if (lastUsed < eldestTime) {
+                    eldestTime = lastUsed;
+                    eldest = entry;
+                }
+            }
+            if (eldest == null) {
+                return;
+            }
+            if (appendersUsage.remove(eldest.getKey(), eldest.getValue())) {
+                LOGGER.debug("Removing least recently used appender {}", eldest.getKey());
+                routingAppender.deleteAppender(eldest.getKey());
+            }
+        }
+    }
+
+    @Override
+    public void update(final String key, final LogEvent event) {
+        final long now = System.nanoTime();
+        final AtomicLong lastUsed = appendersUsage.get(key);
+        if (lastUsed != null) {
+            lastUsed.set(now);
+        } else if (appendersUsage.putIfAbsent(key, new AtomicLong(now)) == null && appendersUsage.size() > maxSize) {
+            // Only new routes can exceed the maximum size
+            purge();
+        }
+    }
+
+    /**
+     * Returns the maximum number of appenders kept by the policy.
+     *
+     * @return the maximum number of appenders
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Creates the PurgePolicy.
+     *
+     * @param maxSize the maximum number of appenders to keep.
+     * @return The PurgePolicy or {@code null} if the maximum size is not positive.
+     */
+    @PluginFactory
+    public static LruPurgePolicy createPurgePolicy(
+            @PluginAttribute(value = "maxSize", defaultInt = 1000) final int maxSize) {
+        if (maxSize <= 0) {
+            LOGGER.error("maxSize must be positive, but was {}", maxSize);
+            return null;
+        }
+        return new LruPurgePolicy(maxSize);
+    }
+
+    @Override
+    public String toString() {
+        return "maxSize=" + maxSize;
+    }
+}
@@ -38,6 +38,7 @@ import org.apache.logging.log4j.core.config.Property;
 import org.apache.logging.log4j.core.config.plugins.Plugin;
 import org.apache.logging.log4j.core.config.plugins.PluginBuilderFactory;
 import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.metrics.ComponentMetrics;
 import org.apache.logging.log4j.core.script.AbstractScript;
 import org.apache.logging.log4j.core.script.ScriptManager;
 import org.apache.logging.log4j.core.script.ScriptRef;
@@ -270,10 +271,25 @@ public final class RoutingAppender extends AbstractAppender {
         }
     }
 
-    private synchronized RouteAppenderControl getControl(final String key, final LogEvent event) {
-        RouteAppenderControl control = getAppender(key);
+    private RouteAppenderControl getControl(final String key, final LogEvent event) {
+        // Existing routes are looked up without locking, since they serve almost all the events.
+        final RouteAppenderControl existing = checkoutAppender(key);
+        if (existing != null) {
+            countRouteHit();
+            return existing;
+        }
+        return createControl(key, event);
+    }
+
+    /**
+     * Creates the appender of a new route. Creating an appender may be expensive, so the creation is serialized to
+     * create at most one appender per key, but it does not block the routing of events to existing routes.
+     */
+    private synchronized RouteAppenderControl createControl(final String key, final LogEvent event) {
+        RouteAppenderControl control = checkoutAppender(key);
         if (control != null) {
-            control.checkout();
+            // Created by another thread in the meantime
+            countRouteHit();
             return control;
         }
         Route route = null;
@@ -285,9 +301,9 @@ public final class RoutingAppender extends AbstractAppender {
         }
         if (route == null) {
             route = defaultRoute;
-            control = getAppender(DEFAULT_KEY);
+            control = checkoutAppender(DEFAULT_KEY);
             if (control != null) {
-                control.checkout();
+                countRouteHit();
                 return control;
             }
         }
@@ -297,14 +313,31 @@ public final class RoutingAppender extends AbstractAppender {
                 return null;
             }
             final CreatedRouteAppenderControl created = new CreatedRouteAppenderControl(app);
-            control = created;
+            created.checkout();
             createdAppenders.put(key, created);
+            final ComponentMetrics metrics = getMetrics();
+            if (metrics != null) {
+                metrics.incrementRouteCreationCount();
+            }
+            return created;
         }
+        return null;
+    }
 
-        if (control != null) {
-            control.checkout();
+    /**
+     * Returns the control of an existing route after checking it out, or {@code null} if the route does not exist or
+     * is being deleted.
+     */
+    private RouteAppenderControl checkoutAppender(final String key) {
+        final RouteAppenderControl control = getAppender(key);
+        return control != null && control.checkout() ? control : null;
+    }
+
+    private void countRouteHit() {
+        final ComponentMetrics metrics = getMetrics();
+        if (metrics != null) {
+            metrics.incrementRouteHitCount();
         }
-        return control;
     }
 
     private RouteAppenderControl getAppender(final String key) {
@@ -353,13 +386,13 @@ public final class RoutingAppender extends AbstractAppender {
         final CreatedRouteAppenderControl control = createdAppenders.remove(key);
         if (null != control) {
             LOGGER.debug("Stopping route with {} key", key);
-            // Synchronize with getControl to avoid triggering stopAppender before RouteAppenderControl.checkout
-            // can be invoked.
-            synchronized (this) {
-                control.pendingDeletion = true;
+            final ComponentMetrics metrics = getMetrics();
+            if (metrics != null) {
+                metrics.incrementRouteEvictionCount();
             }
-            // Don't attempt to stop the appender in a synchronized block, since it may block flushing events
-            // to disk.
+            // Threads that checked out the control before this point will stop the appender when they release it,
+            // the others will fail to check it out and create a new route.
+            control.pendingDeletion = true;
             control.tryStopAppender();
         } else if (referencedAppenders.containsKey(key)) {
             LOGGER.debug(
@@ -453,7 +486,12 @@ public final class RoutingAppender extends AbstractAppender {
             super(appender, null, null);
         }
 
-        abstract void checkout();
+        /**
+         * Marks the usage of the appender.
+         *
+         * @return {@code false} if the appender is being deleted and must not be used
+         */
+        abstract boolean checkout();
 
         abstract void release();
     }
@@ -468,12 +506,21 @@ public final class RoutingAppender extends AbstractAppender {
         }
 
         @Override
-        void checkout() {
+        boolean checkout() {
+            int current;
+            do {
+                current = depth.get();
+                if (current < 0) {
+                    // Already stopped
+                    return false;
+                }
+            } while (!depth.compareAndSet(current, current + 1));
             if (pendingDeletion) {
-                LOGGER.warn("CreatedRouteAppenderControl.checkout invoked on a "
-                        + "RouteAppenderControl that is pending deletion");
+                // Deleted concurrently: give up the appender, stopping it if we were its last user.
+                release();
+                return false;
             }
-            depth.incrementAndGet();
+            return true;
         }
 
         @Override
@@ -502,8 +549,8 @@ public final class RoutingAppender extends AbstractAppender {
         }
 
         @Override
-        void checkout() {
-            // nop
+        boolean checkout() {
+            return true;
         }
 
         @Override
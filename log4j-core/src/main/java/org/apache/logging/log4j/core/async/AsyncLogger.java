@@ -33,6 +33,7 @@ import org.apache.logging.log4j.core.config.ReliabilityStrategy;
 import org.apache.logging.log4j.core.impl.ContextData;
 import org.apache.logging.log4j.core.impl.ContextDataFactory;
 import org.apache.logging.log4j.core.impl.ContextDataInjectorFactory;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
 import org.apache.logging.log4j.core.util.Clock;
 import org.apache.logging.log4j.core.util.ClockFactory;
 import org.apache.logging.log4j.core.util.NanoClock;
@@ -296,6 +297,16 @@ public class AsyncLogger extends Logger implements EventTranslatorVararg<RingBuf
             case DISCARD:
                 translator.clear();
                 break;
+            case SPILL:
+                spill(
+                        translator.location,
+                        translator.fqcn,
+                        translator.level,
+                        translator.marker,
+                        translator.message,
+                        translator.thrown);
+                translator.clear();
+                break;
             default:
                 throw new IllegalStateException("Unknown EventRoute " + eventRoute);
         }
@@ -401,19 +412,20 @@ public class AsyncLogger extends Logger implements EventTranslatorVararg<RingBuf
         if (!isReused(message)) {
             InternalAsyncUtil.makeMessageImmutable(message);
         }
-        StackTraceElement location = null;
+        final StackTraceElement location = calcLocationIfRequested(fqcn);
         // calls the translateTo method on this AsyncLogger
-        if (!disruptor
-                .getRingBuffer()
-                .tryPublishEvent(
-                        this,
-                        this, // asyncLogger: 0
-                        (location = calcLocationIfRequested(fqcn)), // location: 1
-                        fqcn, // 2
-                        level, // 3
-                        marker, // 4
-                        message, // 5
-                        thrown)) { // 6
+        // while events are spilled, new events are spilled after them to keep the order
+        if (loggerDisruptor.isSpilling()
+                || !disruptor
+                        .getRingBuffer()
+                        .tryPublishEvent(
+                                this, this, // asyncLogger: 0
+                                location, // location: 1
+                                fqcn, // 2
+                                level, // 3
+                                marker, // 4
+                                message, // 5
+                                thrown)) { // 6
             handleRingBufferFull(location, fqcn, level, marker, message, thrown);
         }
     }
@@ -450,16 +462,18 @@ public class AsyncLogger extends Logger implements EventTranslatorVararg<RingBuf
             InternalAsyncUtil.makeMessageImmutable(message);
         }
         // calls the translateTo method on this AsyncLogger
-        if (!disruptor
-                .getRingBuffer()
-                .tryPublishEvent(
-                        this, this, // asyncLogger: 0
-                        location, // location: 1
-                        fqcn, // 2
-                        level, // 3
-                        marker, // 4
-                        message, // 5
-                        thrown)) { // 6
+        // while events are spilled, new events are spilled after them to keep the order
+        if (loggerDisruptor.isSpilling()
+                || !disruptor
+                        .getRingBuffer()
+                        .tryPublishEvent(
+                                this, this, // asyncLogger: 0
+                                location, // location: 1
+                                fqcn, // 2
+                                level, // 3
+                                marker, // 4
+                                message, // 5
+                                thrown)) { // 6
             handleRingBufferFull(location, fqcn, level, marker, message, thrown);
         }
     }
@@ -555,11 +569,27 @@ public class AsyncLogger extends Logger implements EventTranslatorVararg<RingBuf
                 break;
             case DISCARD:
                 break;
+            case SPILL:
+                spill(location, fqcn, level, marker, msg, thrown);
+                break;
             default:
                 throw new IllegalStateException("Unknown EventRoute " + eventRoute);
         }
     }
 
+    private void spill(
+            final StackTraceElement location,
+            final String fqcn,
+            final Level level,
+            final Marker marker,
+            final Message msg,
+            final Throwable thrown) {
+        // captures the context data, context stack, thread and time of the caller
+        final Log4jLogEvent event = new Log4jLogEvent(getName(), marker, fqcn, location, level, msg, null, thrown);
+        event.setIncludeLocation(location != null);
+        loggerDisruptor.spill(this, event);
+    }
+
     /**
      * This method is called by the EventHandler that processes the RingBufferLogEvent in a separate thread.
      * Merges the contents of the configuration map into the contextData, after replacing any variables in the property
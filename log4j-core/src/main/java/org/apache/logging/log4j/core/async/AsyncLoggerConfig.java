@@ -24,6 +24,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.core.Core;
 import org.apache.logging.log4j.core.Filter;
 import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.AppenderControl;
 import org.apache.logging.log4j.core.config.AppenderRef;
 import org.apache.logging.log4j.core.config.Configuration;
 import org.apache.logging.log4j.core.config.LoggerConfig;
@@ -157,7 +158,19 @@ public class AsyncLoggerConfig extends LoggerConfig {
 
     @Override
     protected void callAppenders(final LogEvent event) {
-        super.callAppenders(event);
+        if (event instanceof ConsumerGroupLogEvent) {
+            // one of several consumer threads: only call the appenders of its group
+            final ConsumerGroupLogEvent groupEvent = (ConsumerGroupLogEvent) event;
+            final AppenderControl[] controls = getAppenderControls();
+            //noinspection ForLoopReplaceableByForEach
+            for (int i = 0; i < controls.length; i++) {
+                if (groupEvent.isInGroup(controls[i].getAppenderName())) {
+                    controls[i].callAppender(event);
+                }
+            }
+        } else {
+            super.callAppenders(event);
+        }
     }
 
     private void logToAsyncDelegate(final LogEvent event) {
@@ -190,6 +203,10 @@ public class AsyncLoggerConfig extends LoggerConfig {
         delegate.enqueueEvent(event, this);
     }
 
+    void spill(final LogEvent event) {
+        delegate.spillEvent(event, this);
+    }
+
     /**
      * Called by AsyncLoggerConfigHelper.RingBufferLog4jEventHandler.
      *
@@ -54,6 +54,16 @@ public interface AsyncLoggerConfigDelegate {
 
     boolean tryEnqueue(LogEvent event, AsyncLoggerConfig asyncLoggerConfig);
 
+    /**
+     * Writes the {@link LogEvent} to the disk journal of the {@link SpillingAsyncQueueFullPolicy}, to be enqueued once
+     * the ringbuffer has room again. The default implementation enqueues the event.
+     *
+     * @since 2.24.0
+     */
+    default void spillEvent(final LogEvent event, final AsyncLoggerConfig asyncLoggerConfig) {
+        enqueueEvent(event, asyncLoggerConfig);
+    }
+
     /**
      * Notifies the delegate what LogEventFactory an AsyncLoggerConfig is using, so the delegate can determine
      * whether to populate the ring buffer with mutable log events or not. This method may be invoked multiple times
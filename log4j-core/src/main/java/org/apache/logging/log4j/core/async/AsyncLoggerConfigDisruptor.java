@@ -23,12 +23,20 @@ import com.lmax.disruptor.ExceptionHandler;
 import com.lmax.disruptor.RingBuffer;
 import com.lmax.disruptor.Sequence;
 import com.lmax.disruptor.SequenceReportingEventHandler;
+import com.lmax.disruptor.Sequencer;
 import com.lmax.disruptor.TimeoutException;
 import com.lmax.disruptor.WaitStrategy;
 import com.lmax.disruptor.dsl.Disruptor;
 import com.lmax.disruptor.dsl.ProducerType;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.core.AbstractLifeCycle;
 import org.apache.logging.log4j.core.LogEvent;
@@ -100,6 +108,15 @@ public class AsyncLoggerConfigDisruptor extends AbstractLifeCycle implements Asy
         private static final int NOTIFY_PROGRESS_THRESHOLD = 50;
         private Sequence sequenceCallback;
         private int counter;
+        private ConsumerGroupLogEvent consumerGroupEvent;
+
+        /**
+         * Restricts this handler to the appenders of a consumer group. The event is then cleared by another handler,
+         * once all the consumer groups have processed it.
+         */
+        void setConsumerGroup(final ConsumerGroupLogEvent consumerGroupEvent) {
+            this.consumerGroupEvent = consumerGroupEvent;
+        }
 
         /*
          * Overrides a method from Disruptor 4.x. Do not remove.
@@ -111,13 +128,27 @@ public class AsyncLoggerConfigDisruptor extends AbstractLifeCycle implements Asy
         @Override
         public void onEvent(final Log4jEventWrapper event, final long sequence, final boolean endOfBatch)
                 throws Exception {
-            event.event.setEndOfBatch(endOfBatch);
-            event.loggerConfig.logToAsyncLoggerConfigsOnCurrentThread(event.event);
-            event.clear();
+            if (consumerGroupEvent == null) {
+                event.event.setEndOfBatch(endOfBatch);
+                event.loggerConfig.logToAsyncLoggerConfigsOnCurrentThread(event.event);
+                event.clear();
+            } else {
+                // the event is shared with the other consumer groups
+                consumerGroupEvent.set(event.event, endOfBatch);
+                event.loggerConfig.logToAsyncLoggerConfigsOnCurrentThread(consumerGroupEvent);
+                consumerGroupEvent.clear();
+            }
 
             notifyIntermediateProgress(sequence);
         }
 
+        /**
+         * Returns the sequence of the last event processed by this handler, as reported to the BatchEventProcessor.
+         */
+        long getSequence() {
+            return sequenceCallback != null ? sequenceCallback.get() : Sequencer.INITIAL_CURSOR_VALUE;
+        }
+
         /**
          * Notify the BatchEventProcessor that the sequence has progressed. Without this callback the sequence would not
          * be progressed until the batch has completely finished.
@@ -141,6 +172,17 @@ public class AsyncLoggerConfigDisruptor extends AbstractLifeCycle implements Asy
         public Log4jEventWrapperHandler3() {}
     }
 
+    /**
+     * Releases the references held by ring buffer events, once all the consumer groups have processed them.
+     */
+    private static final class Log4jEventWrapperCleaner implements EventHandler<Log4jEventWrapper> {
+
+        @Override
+        public void onEvent(final Log4jEventWrapper event, final long sequence, final boolean endOfBatch) {
+            event.clear();
+        }
+    }
+
     /**
      * Factory used to populate the RingBuffer with events. These event objects are then re-used during the life of the
      * RingBuffer.
@@ -186,8 +228,14 @@ public class AsyncLoggerConfigDisruptor extends AbstractLifeCycle implements Asy
         return new Log4jEventWrapperHandler();
     }
 
+    private static final String DEFAULT_CONSUMER_NAME = "default";
+
     private int ringBufferSize;
+    private Log4jEventWrapperHandler[] handlers;
+    private String[] consumerNames;
     private AsyncQueueFullPolicy asyncQueueFullPolicy;
+    private SpillingAsyncQueueFullPolicy spillingPolicy;
+    private final ConcurrentMap<String, AsyncLoggerConfig> spilledLoggerConfigs = new ConcurrentHashMap<>();
     private Boolean mutable = Boolean.FALSE;
 
     private volatile Disruptor<Log4jEventWrapper> disruptor;
@@ -251,16 +299,40 @@ public class AsyncLoggerConfigDisruptor extends AbstractLifeCycle implements Asy
         final ExceptionHandler<Log4jEventWrapper> errorHandler = DisruptorUtil.getAsyncLoggerConfigExceptionHandler();
         disruptor.setDefaultExceptionHandler(errorHandler);
 
-        final Log4jEventWrapperHandler[] handlers = {createEventHandler()};
-        disruptor.handleEventsWith(handlers);
+        final List<Set<String>> consumerGroups = DisruptorUtil.getConsumerGroups("AsyncLoggerConfig.ConsumerGroups");
+        handlers = new Log4jEventWrapperHandler[consumerGroups.size() + 1];
+        consumerNames = new String[handlers.length];
+        handlers[0] = createEventHandler();
+        consumerNames[0] = DEFAULT_CONSUMER_NAME;
+        if (consumerGroups.isEmpty()) {
+            disruptor.handleEventsWith(handlers);
+        } else {
+            // each group of appenders has its own consumer thread and sequence, the default consumer calls the
+            // other appenders
+            final Set<String> groupedAppenderNames = new HashSet<>();
+            for (int i = 0; i < consumerGroups.size(); i++) {
+                final Set<String> group = consumerGroups.get(i);
+                groupedAppenderNames.addAll(group);
+                handlers[i + 1] = createEventHandler();
+                handlers[i + 1].setConsumerGroup(new ConsumerGroupLogEvent(group, false));
+                consumerNames[i + 1] = String.join(",", group);
+            }
+            handlers[0].setConsumerGroup(new ConsumerGroupLogEvent(groupedAppenderNames, true));
+            disruptor.handleEventsWith(handlers).then(new Log4jEventWrapperCleaner());
+        }
 
         LOGGER.debug(
                 "Starting AsyncLoggerConfig disruptor for this configuration with ringbufferSize={}, "
-                        + "waitStrategy={}, exceptionHandler={}...",
+                        + "waitStrategy={}, exceptionHandler={}, consumers={}...",
                 disruptor.getRingBuffer().getBufferSize(),
                 waitStrategy.getClass().getSimpleName(),
-                errorHandler);
+                errorHandler,
+                Arrays.toString(consumerNames));
         disruptor.start();
+        spillingPolicy = SpillingAsyncQueueFullPolicy.asSpilling(asyncQueueFullPolicy);
+        if (spillingPolicy != null) {
+            spillingPolicy.start("AsyncLoggerConfig", this::replaySpilledEvent);
+        }
         super.start();
     }
 
@@ -278,6 +350,16 @@ public class AsyncLoggerConfigDisruptor extends AbstractLifeCycle implements Asy
         setStopping();
         LOGGER.trace("AsyncLoggerConfigDisruptor: shutting down disruptor for this configuration.");
 
+        if (spillingPolicy != null) {
+            // replay the spilled events while the disruptor still accepts them, waiting at least as long as for
+            // the ringbuffer to drain
+            final long replayTimeoutMillis = Math.max(
+                    timeUnit.toMillis(timeout),
+                    (long) MAX_DRAIN_ATTEMPTS_BEFORE_SHUTDOWN * SLEEP_MILLIS_BETWEEN_DRAIN_ATTEMPTS);
+            spillingPolicy.stop(replayTimeoutMillis, TimeUnit.MILLISECONDS);
+            spilledLoggerConfigs.clear();
+        }
+
         // We must guarantee that publishing to the RingBuffer has stopped before we call disruptor.shutdown().
         disruptor = null; // client code fails with NPE if log after stop = OK
 
@@ -423,10 +505,34 @@ public class AsyncLoggerConfigDisruptor extends AbstractLifeCycle implements Asy
 
     @Override
     public boolean tryEnqueue(final LogEvent event, final AsyncLoggerConfig asyncLoggerConfig) {
+        if (spillingPolicy != null && spillingPolicy.isSpilling()) {
+            // spilled events must be enqueued first
+            return false;
+        }
         final LogEvent logEvent = prepareEvent(event);
         return disruptor.getRingBuffer().tryPublishEvent(translator, logEvent, asyncLoggerConfig);
     }
 
+    @Override
+    public void spillEvent(final LogEvent event, final AsyncLoggerConfig asyncLoggerConfig) {
+        if (spillingPolicy == null) {
+            enqueueEvent(event, asyncLoggerConfig);
+            return;
+        }
+        spilledLoggerConfigs.put(asyncLoggerConfig.getName(), asyncLoggerConfig);
+        spillingPolicy.spill(asyncLoggerConfig.getName(), event);
+    }
+
+    private boolean replaySpilledEvent(final String loggerConfigName, final LogEvent event) {
+        final Disruptor<Log4jEventWrapper> temp = disruptor;
+        final AsyncLoggerConfig asyncLoggerConfig = spilledLoggerConfigs.get(loggerConfigName);
+        if (temp == null || asyncLoggerConfig == null) {
+            LOGGER.warn("Ignoring spilled log event of logger config {} after it was stopped", loggerConfigName);
+            return true;
+        }
+        return temp.getRingBuffer().tryPublishEvent(translator, prepareEvent(event), asyncLoggerConfig);
+    }
+
     private LogEvent ensureImmutable(final LogEvent event) {
         LogEvent result = event;
         if (event instanceof RingBufferLogEvent) {
@@ -449,6 +555,11 @@ public class AsyncLoggerConfigDisruptor extends AbstractLifeCycle implements Asy
      */
     @Override
     public RingBufferAdmin createRingBufferAdmin(final String contextName, final String loggerConfigName) {
-        return RingBufferAdmin.forAsyncLoggerConfig(disruptor.getRingBuffer(), contextName, loggerConfigName);
+        final LongSupplier[] consumerSequences = new LongSupplier[handlers.length];
+        for (int i = 0; i < handlers.length; i++) {
+            consumerSequences[i] = handlers[i]::getSequence;
+        }
+        return RingBufferAdmin.forAsyncLoggerConfig(
+                disruptor.getRingBuffer(), contextName, loggerConfigName, consumerNames.clone(), consumerSequences);
     }
 }
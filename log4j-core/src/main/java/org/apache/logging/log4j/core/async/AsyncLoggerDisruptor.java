@@ -17,6 +17,7 @@
 package org.apache.logging.log4j.core.async;
 
 import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.EventTranslatorTwoArg;
 import com.lmax.disruptor.EventTranslatorVararg;
 import com.lmax.disruptor.ExceptionHandler;
 import com.lmax.disruptor.RingBuffer;
@@ -25,13 +26,21 @@ import com.lmax.disruptor.WaitStrategy;
 import com.lmax.disruptor.dsl.Disruptor;
 import com.lmax.disruptor.dsl.ProducerType;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.Marker;
 import org.apache.logging.log4j.core.AbstractLifeCycle;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.ContextDataFactory;
 import org.apache.logging.log4j.core.jmx.RingBufferAdmin;
+import org.apache.logging.log4j.core.metrics.ComponentMetrics;
+import org.apache.logging.log4j.core.metrics.MetricsRegistry;
+import org.apache.logging.log4j.core.time.internal.FixedPreciseClock;
+import org.apache.logging.log4j.core.util.DummyNanoClock;
 import org.apache.logging.log4j.core.util.Log4jThread;
 import org.apache.logging.log4j.core.util.Log4jThreadFactory;
 import org.apache.logging.log4j.core.util.Throwables;
@@ -65,14 +74,40 @@ class AsyncLoggerDisruptor extends AbstractLifeCycle {
     private final Object queueFullEnqueueLock = new Object();
 
     private volatile Disruptor<RingBufferLogEvent> disruptor;
+    /**
+     * Copies a replayed spilled event, including its original thread and time, into the ring buffer.
+     */
+    private static final EventTranslatorTwoArg<RingBufferLogEvent, AsyncLogger, LogEvent> SPILLED_EVENT_TRANSLATOR =
+            (ringBufferEvent, sequence, asyncLogger, event) -> ringBufferEvent.setValues(
+                    asyncLogger,
+                    event.getLoggerName(),
+                    event.getMarker(),
+                    event.getLoggerFqcn(),
+                    event.getLevel(),
+                    event.getMessage(),
+                    event.getThrown(),
+                    ContextDataFactory.createContextData(event.getContextData()),
+                    event.getContextStack(),
+                    event.getThreadId(),
+                    event.getThreadName(),
+                    event.getThreadPriority(),
+                    event.isIncludeLocation() ? event.getSource() : null,
+                    new FixedPreciseClock(
+                            event.getInstant().getEpochMillisecond(),
+                            event.getInstant().getNanoOfMillisecond()),
+                    new DummyNanoClock(event.getNanoTime()));
+
     private String contextName;
     private final Supplier<AsyncWaitStrategyFactory> waitStrategyFactorySupplier;
 
     private boolean useThreadLocalTranslator = true;
     private long backgroundThreadId;
     private AsyncQueueFullPolicy asyncQueueFullPolicy;
+    private SpillingAsyncQueueFullPolicy spillingPolicy;
+    private final ConcurrentMap<String, AsyncLogger> spilledLoggers = new ConcurrentHashMap<>();
     private int ringBufferSize;
     private WaitStrategy waitStrategy;
+    private volatile ComponentMetrics metrics;
 
     AsyncLoggerDisruptor(
             final String contextName, final Supplier<AsyncWaitStrategyFactory> waitStrategyFactorySupplier) {
@@ -139,6 +174,10 @@ class AsyncLoggerDisruptor extends AbstractLifeCycle {
         disruptor.setDefaultExceptionHandler(errorHandler);
 
         final EventHandler<RingBufferLogEvent> handler = createEventHandler();
+        metrics = MetricsRegistry.createMetrics(ComponentMetrics.ASYNC_LOGGER, contextName);
+        if (metrics != null && handler instanceof RingBufferLogEventHandler4) {
+            ((RingBufferLogEventHandler4) handler).setMetrics(metrics);
+        }
         disruptor.handleEventsWith(handler);
 
         LOGGER.debug(
@@ -149,6 +188,11 @@ class AsyncLoggerDisruptor extends AbstractLifeCycle {
                 waitStrategy.getClass().getSimpleName(),
                 errorHandler);
         disruptor.start();
+        MetricsRegistry.register(metrics);
+        spillingPolicy = SpillingAsyncQueueFullPolicy.asSpilling(asyncQueueFullPolicy);
+        if (spillingPolicy != null) {
+            spillingPolicy.start("AsyncLogger[" + contextName + "]", this::replaySpilledEvent);
+        }
 
         LOGGER.trace(
                 "[{}] AsyncLoggers use a {} translator",
@@ -171,6 +215,16 @@ class AsyncLoggerDisruptor extends AbstractLifeCycle {
         setStopping();
         LOGGER.debug("[{}] AsyncLoggerDisruptor: shutting down disruptor for this context.", contextName);
 
+        if (spillingPolicy != null) {
+            // replay the spilled events while the disruptor still accepts them, waiting at least as long as for
+            // the ringbuffer to drain
+            final long replayTimeoutMillis = Math.max(
+                    timeUnit.toMillis(timeout),
+                    (long) MAX_DRAIN_ATTEMPTS_BEFORE_SHUTDOWN * SLEEP_MILLIS_BETWEEN_DRAIN_ATTEMPTS);
+            spillingPolicy.stop(replayTimeoutMillis, TimeUnit.MILLISECONDS);
+            spilledLoggers.clear();
+        }
+
         // We must guarantee that publishing to the RingBuffer has stopped before we call disruptor.shutdown().
         disruptor = null; // client code fails with NPE if log after stop. This is by design.
 
@@ -192,6 +246,7 @@ class AsyncLoggerDisruptor extends AbstractLifeCycle {
         }
 
         LOGGER.trace("[{}] AsyncLoggerDisruptor: disruptor has been shut down.", contextName);
+        MetricsRegistry.unregister(metrics);
 
         if (DiscardingAsyncQueueFullPolicy.getDiscardCount(asyncQueueFullPolicy) > 0) {
             LOGGER.trace(
@@ -227,7 +282,12 @@ class AsyncLoggerDisruptor extends AbstractLifeCycle {
         if (remainingCapacity < 0) {
             return EventRoute.DISCARD;
         }
-        return asyncQueueFullPolicy.getRoute(backgroundThreadId, logLevel);
+        final EventRoute route = asyncQueueFullPolicy.getRoute(backgroundThreadId, logLevel);
+        final ComponentMetrics currentMetrics = metrics;
+        if (route == EventRoute.DISCARD && currentMetrics != null) {
+            currentMetrics.incrementDroppedEventCount();
+        }
+        return route;
     }
 
     private int remainingDisruptorCapacity() {
@@ -248,7 +308,39 @@ class AsyncLoggerDisruptor extends AbstractLifeCycle {
         return false;
     }
 
+    /**
+     * Returns {@code true} if spilled events are waiting to be replayed: new events must be spilled after them.
+     */
+    boolean isSpilling() {
+        final SpillingAsyncQueueFullPolicy policy = spillingPolicy;
+        return policy != null && policy.isSpilling();
+    }
+
+    void spill(final AsyncLogger asyncLogger, final LogEvent event) {
+        final SpillingAsyncQueueFullPolicy policy = spillingPolicy;
+        if (policy == null) {
+            LOGGER.warn("[{}] Ignoring spilled log event: no spilling queue full policy", contextName);
+            return;
+        }
+        spilledLoggers.put(asyncLogger.getName(), asyncLogger);
+        policy.spill(asyncLogger.getName(), event);
+    }
+
+    private boolean replaySpilledEvent(final String loggerName, final LogEvent event) {
+        final Disruptor<RingBufferLogEvent> temp = disruptor;
+        final AsyncLogger asyncLogger = spilledLoggers.get(loggerName);
+        if (temp == null || asyncLogger == null) {
+            LOGGER.warn("[{}] Ignoring spilled log event of logger {} after shut down", contextName, loggerName);
+            return true;
+        }
+        return temp.getRingBuffer().tryPublishEvent(SPILLED_EVENT_TRANSLATOR, asyncLogger, event);
+    }
+
     boolean tryPublish(final RingBufferLogEventTranslator translator) {
+        if (isSpilling()) {
+            // spilled events must be published first
+            return false;
+        }
         try {
             // Note: we deliberately access the volatile disruptor field afresh here.
             // Avoiding this and using an older reference could result in adding a log event to the disruptor after it
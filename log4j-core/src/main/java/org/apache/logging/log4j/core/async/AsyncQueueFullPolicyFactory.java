@@ -16,6 +16,7 @@
  */
 package org.apache.logging.log4j.core.async;
 
+import java.io.File;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.status.StatusLogger;
@@ -35,6 +36,11 @@ import org.apache.logging.log4j.util.PropertiesUtil;
  * This can be adjusted with property {@code "log4j2.DiscardThreshold"} (name of the level at which to start
  * discarding).
  * </p> <p>
+ * If this property has value {@code "Spill"}, this factory creates {@link SpillingAsyncQueueFullPolicy} objects.
+ * The journal is created in a subdirectory of {@code "log4j2.AsyncQueueFullSpillDirectory"} (by default the temporary
+ * directory), with segment files of {@code "log4j2.AsyncQueueFullSpillSegmentSize"} bytes (16 MiB by default) and a
+ * maximum size of {@code "log4j2.AsyncQueueFullSpillMaxSize"} bytes (1 GiB by default).
+ * </p> <p>
  * For any other value, this
  * factory interprets the value as the fully qualified name of a class implementing the {@link AsyncQueueFullPolicy}
  * interface. The class must have a default constructor.
@@ -47,6 +53,10 @@ public class AsyncQueueFullPolicyFactory {
     static final String PROPERTY_VALUE_DEFAULT_ASYNC_EVENT_ROUTER = "Default";
     static final String PROPERTY_VALUE_DISCARDING_ASYNC_EVENT_ROUTER = "Discard";
     static final String PROPERTY_NAME_DISCARDING_THRESHOLD_LEVEL = "log4j2.DiscardThreshold";
+    static final String PROPERTY_VALUE_SPILLING_ASYNC_EVENT_ROUTER = "Spill";
+    static final String PROPERTY_NAME_SPILL_DIRECTORY = "log4j2.AsyncQueueFullSpillDirectory";
+    static final String PROPERTY_NAME_SPILL_SEGMENT_SIZE = "log4j2.AsyncQueueFullSpillSegmentSize";
+    static final String PROPERTY_NAME_SPILL_MAX_SIZE = "log4j2.AsyncQueueFullSpillMaxSize";
 
     private static final Logger LOGGER = StatusLogger.getLogger();
 
@@ -58,6 +68,8 @@ public class AsyncQueueFullPolicyFactory {
      * </p> <p>
      * If this property has value {@code "Discard"}, this method returns {@link DiscardingAsyncQueueFullPolicy} objects.
      * </p> <p>
+     * If this property has value {@code "Spill"}, this method returns {@link SpillingAsyncQueueFullPolicy} objects.
+     * </p> <p>
      * For any other value, this method interprets the value as the fully qualified name of a class implementing the
      * {@link AsyncQueueFullPolicy} interface. The class must have a default constructor.
      * </p>
@@ -75,6 +87,9 @@ public class AsyncQueueFullPolicyFactory {
                 router, DiscardingAsyncQueueFullPolicy.class, PROPERTY_VALUE_DISCARDING_ASYNC_EVENT_ROUTER)) {
             return createDiscardingAsyncQueueFullPolicy();
         }
+        if (isRouterSelected(router, SpillingAsyncQueueFullPolicy.class, PROPERTY_VALUE_SPILLING_ASYNC_EVENT_ROUTER)) {
+            return createSpillingAsyncQueueFullPolicy();
+        }
         return createCustomRouter(router);
     }
 
@@ -109,4 +124,19 @@ public class AsyncQueueFullPolicyFactory {
         LOGGER.debug("Creating custom DiscardingAsyncQueueFullPolicy(discardThreshold:{})", thresholdLevel);
         return new DiscardingAsyncQueueFullPolicy(thresholdLevel);
     }
+
+    private static AsyncQueueFullPolicy createSpillingAsyncQueueFullPolicy() {
+        final PropertiesUtil util = PropertiesUtil.getProperties();
+        final String directory = util.getStringProperty(PROPERTY_NAME_SPILL_DIRECTORY);
+        final int segmentSize = util.getIntegerProperty(
+                PROPERTY_NAME_SPILL_SEGMENT_SIZE, SpillingAsyncQueueFullPolicy.DEFAULT_SEGMENT_SIZE);
+        final long maxSize =
+                util.getLongProperty(PROPERTY_NAME_SPILL_MAX_SIZE, SpillingAsyncQueueFullPolicy.DEFAULT_MAX_SIZE);
+        LOGGER.debug(
+                "Creating custom SpillingAsyncQueueFullPolicy(directory:{}, segmentSize:{}, maxSize:{})",
+                directory,
+                segmentSize,
+                maxSize);
+        return new SpillingAsyncQueueFullPolicy(directory != null ? new File(directory) : null, segmentSize, maxSize);
+    }
 }
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.async;
+
+import java.util.Map;
+import java.util.Set;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.ThrowableProxy;
+import org.apache.logging.log4j.core.time.Instant;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.util.ReadOnlyStringMap;
+
+/**
+ * View of a ring buffer event used by one of several consumer threads of the {@link AsyncLoggerConfigDisruptor}.
+ * <p>
+ * Each consumer thread only calls the appenders of its group. Since the consumer threads process the same event
+ * concurrently, each one needs its own {@code endOfBatch} and {@code includeLocation} flags, the other properties are
+ * read from the shared event.
+ * </p>
+ */
+final class ConsumerGroupLogEvent implements LogEvent {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Set<String> appenderNames;
+    private final boolean excludeAppenderNames;
+    private transient LogEvent event;
+    private boolean endOfBatch;
+    private boolean includeLocation;
+
+    /**
+     * @param appenderNames the names of the appenders of the group.
+     * @param excludeAppenderNames if {@code true}, the group contains the appenders not in {@code appenderNames}.
+     */
+    ConsumerGroupLogEvent(final Set<String> appenderNames, final boolean excludeAppenderNames) {
+        this.appenderNames = appenderNames;
+        this.excludeAppenderNames = excludeAppenderNames;
+    }
+
+    void set(final LogEvent event, final boolean endOfBatch) {
+        this.event = event;
+        this.endOfBatch = endOfBatch;
+        this.includeLocation = event.isIncludeLocation();
+    }
+
+    void clear() {
+        this.event = null;
+    }
+
+    /**
+     * Returns {@code true} if an appender belongs to the group of this consumer.
+     */
+    boolean isInGroup(final String appenderName) {
+        return appenderNames.contains(appenderName) != excludeAppenderNames;
+    }
+
+    @Override
+    public LogEvent toImmutable() {
+        return event.toImmutable();
+    }
+
+    @Override
+    @Deprecated
+    public Map<String, String> getContextMap() {
+        return event.getContextMap();
+    }
+
+    @Override
+    public ReadOnlyStringMap getContextData() {
+        return event.getContextData();
+    }
+
+    @Override
+    public ThreadContext.ContextStack getContextStack() {
+        return event.getContextStack();
+    }
+
+    @Override
+    public String getLoggerFqcn() {
+        return event.getLoggerFqcn();
+    }
+
+    @Override
+    public Level getLevel() {
+        return event.getLevel();
+    }
+
+    @Override
+    public String getLoggerName() {
+        return event.getLoggerName();
+    }
+
+    @Override
+    public Marker getMarker() {
+        return event.getMarker();
+    }
+
+    @Override
+    public Message getMessage() {
+        return event.getMessage();
+    }
+
+    @Override
+    public long getTimeMillis() {
+        return event.getTimeMillis();
+    }
+
+    @Override
+    public Instant getInstant() {
+        return event.getInstant();
+    }
+
+    @Override
+    public StackTraceElement getSource() {
+        return event.getSource();
+    }
+
+    @Override
+    public String getThreadName() {
+        return event.getThreadName();
+    }
+
+    @Override
+    public long getThreadId() {
+        return event.getThreadId();
+    }
+
+    @Override
+    public int getThreadPriority() {
+        return event.getThreadPriority();
+    }
+
+    @Override
+    public Throwable getThrown() {
+        return event.getThrown();
+    }
+
+    @Override
+    public ThrowableProxy getThrownProxy() {
+        return event.getThrownProxy();
+    }
+
+    @Override
+    public boolean isEndOfBatch() {
+        return endOfBatch;
+    }
+
+    @Override
+    public boolean isIncludeLocation() {
+        return includeLocation;
+    }
+
+    @Override
+    public void setEndOfBatch(final boolean endOfBatch) {
+        this.endOfBatch = endOfBatch;
+    }
+
+    @Override
+    public void setIncludeLocation(final boolean includeLocation) {
+        this.includeLocation = includeLocation;
+    }
+
+    @Override
+    public long getNanoTime() {
+        return event.getNanoTime();
+    }
+
+    /**
+     * Serializes the shared event instead of this view.
+     */
+    private Object writeReplace() {
+        return event.toImmutable();
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(event);
+    }
+}
@@ -18,6 +18,11 @@ package org.apache.logging.log4j.core.async;
 
 import com.lmax.disruptor.ExceptionHandler;
 import com.lmax.disruptor.WaitStrategy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import org.apache.logging.log4j.Logger;
@@ -87,6 +92,37 @@ final class DisruptorUtil {
         return Integers.ceilingNextPowerOfTwo(ringBufferSize);
     }
 
+    /**
+     * Returns the groups of appenders that have their own consumer thread. In the property value, groups are separated
+     * by semicolons and the names of the appenders of a group by commas.
+     */
+    static List<Set<String>> getConsumerGroups(final String propertyName) {
+        final String value = PropertiesUtil.getProperties().getStringProperty(propertyName);
+        final List<Set<String>> groups = new ArrayList<>();
+        if (value == null) {
+            return groups;
+        }
+        final Set<String> groupedAppenderNames = new HashSet<>();
+        for (final String group : value.split(";", -1)) {
+            final Set<String> appenderNames = new LinkedHashSet<>();
+            for (final String appenderName : group.split(",", -1)) {
+                final String name = appenderName.trim();
+                if (name.isEmpty()) {
+                    continue;
+                }
+                if (groupedAppenderNames.add(name)) {
+                    appenderNames.add(name);
+                } else {
+                    LOGGER.warn("Appender {} is in several groups of {}, keeping the first one.", name, propertyName);
+                }
+            }
+            if (!appenderNames.isEmpty()) {
+                groups.add(appenderNames);
+            }
+        }
+        return groups;
+    }
+
     static ExceptionHandler<RingBufferLogEvent> getAsyncLoggerExceptionHandler() {
         try {
             return LoaderUtil.newCheckedInstanceOfProperty(
@@ -29,6 +29,7 @@ import org.apache.logging.log4j.message.Message;
  * @see AsyncQueueFullPolicyFactory
  * @see DefaultAsyncQueueFullPolicy
  * @see DiscardingAsyncQueueFullPolicy
+ * @see SpillingAsyncQueueFullPolicy
  * @since 2.6
  */
 public enum EventRoute {
@@ -104,6 +105,32 @@ public enum EventRoute {
         public void logMessage(final AsyncAppender asyncAppender, final LogEvent coreEvent) {
             // do nothing: drop the event
         }
+    },
+    /**
+     * Writes the event to the disk journal of a {@link SpillingAsyncQueueFullPolicy}, to be enqueued once the queue has
+     * room again.
+     *
+     * @since 2.24.0
+     */
+    SPILL {
+        @Override
+        public void logMessage(
+                final AsyncLogger asyncLogger,
+                final String fqcn,
+                final Level level,
+                final Marker marker,
+                final Message message,
+                final Throwable thrown) {}
+
+        @Override
+        public void logMessage(final AsyncLoggerConfig asyncLoggerConfig, final LogEvent event) {
+            asyncLoggerConfig.spill(event);
+        }
+
+        @Override
+        public void logMessage(final AsyncAppender asyncAppender, final LogEvent logEvent) {
+            asyncAppender.spill(logEvent);
+        }
     };
 
     public abstract void logMessage(
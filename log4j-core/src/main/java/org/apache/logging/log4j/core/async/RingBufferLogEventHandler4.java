@@ -18,6 +18,10 @@ package org.apache.logging.log4j.core.async;
 
 import com.lmax.disruptor.EventHandler;
 import com.lmax.disruptor.Sequence;
+import org.apache.logging.log4j.core.metrics.ComponentMetrics;
+import org.apache.logging.log4j.core.time.MutableInstant;
+import org.apache.logging.log4j.core.util.Clock;
+import org.apache.logging.log4j.core.util.ClockFactory;
 
 /**
  * This event handler gets passed messages from the RingBuffer as they become
@@ -34,6 +38,9 @@ class RingBufferLogEventHandler4 implements EventHandler<RingBufferLogEvent> {
     private Sequence sequenceCallback;
     private int counter;
     private long threadId = -1;
+    private ComponentMetrics metrics;
+    private Clock clock;
+    private final MutableInstant now = new MutableInstant();
 
     /*
      * Overrides a method from Disruptor 4.x. Do not remove.
@@ -51,6 +58,10 @@ class RingBufferLogEventHandler4 implements EventHandler<RingBufferLogEvent> {
             // still be published since a slot has already been claimed in the ring buffer. Ignore any such unpopulated
             // events. The exception that occurred during translation will have already been propagated.
             if (event.isPopulated()) {
+                if (metrics != null) {
+                    metrics.recordQueueWait(event.getInstant(), clock, now);
+                    metrics.incrementEventCount();
+                }
                 event.execute(endOfBatch);
             }
         } finally {
@@ -69,6 +80,17 @@ class RingBufferLogEventHandler4 implements EventHandler<RingBufferLogEvent> {
         }
     }
 
+    /**
+     * Sets the metrics that record the time events wait in the ring buffer; must be called before the Disruptor is
+     * started.
+     *
+     * @param metrics the metrics or {@code null}
+     */
+    void setMetrics(final ComponentMetrics metrics) {
+        this.metrics = metrics;
+        this.clock = ClockFactory.getClock();
+    }
+
     /**
      * Returns the thread ID of the background consumer thread, or {@code -1} if the background thread has not started
      * yet.
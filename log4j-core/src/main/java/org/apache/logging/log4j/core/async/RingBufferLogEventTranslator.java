@@ -49,7 +49,7 @@ public class RingBufferLogEventTranslator implements EventTranslator<RingBufferL
     private long threadId = Thread.currentThread().getId();
     private String threadName = Thread.currentThread().getName();
     private int threadPriority = Thread.currentThread().getPriority();
-    private StackTraceElement location;
+    StackTraceElement location;
     private Clock clock;
     private NanoClock nanoClock;
 
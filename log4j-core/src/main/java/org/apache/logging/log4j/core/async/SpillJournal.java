@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.async;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.zip.CRC32;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.util.internal.UnsafeUtil;
+import org.apache.logging.log4j.status.StatusLogger;
+
+/**
+ * First-in first-out queue of records stored in memory-mapped segment files.
+ * <p>
+ * Records are appended to the last segment and read from the first one. A segment file is deleted as soon as all
+ * its records have been read. Each record is stored with its length and CRC32 checksum. The total size of the
+ * segments is capped: records that would exceed it are rejected.
+ * </p>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ */
+final class SpillJournal implements Closeable {
+
+    /**
+     * Length and checksum of a record.
+     */
+    static final int RECORD_HEADER_SIZE = 8;
+
+    private static final Logger LOGGER = StatusLogger.getLogger();
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private final CRC32 crc = new CRC32();
+    private long segmentCount;
+    private long recordCount;
+
+    /**
+     * Creates a journal storing its segments in an existing directory.
+     *
+     * @param directory the directory of the segment files, deleted by {@link #close()}.
+     * @param segmentSize the size of a segment file in bytes.
+     * @param maxBytes the maximum total size of the segment files in bytes.
+     */
+    SpillJournal(final Path directory, final int segmentSize, final long maxBytes) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = (int) Math.max(1, Math.min(Integer.MAX_VALUE, maxBytes / segmentSize));
+    }
+
+    /**
+     * Appends a record.
+     *
+     * @return {@code false} if the record does not fit in a segment or if all the segments are in use.
+     * @throws IOException if a new segment file cannot be created.
+     */
+    boolean append(final byte[] record) throws IOException {
+        final int length = RECORD_HEADER_SIZE + record.length;
+        if (length > segmentSize) {
+            return false;
+        }
+        Segment segment = segments.peekLast();
+        if (segment == null || segment.writePosition + length > segmentSize) {
+            if (segments.size() >= maxSegments) {
+                return false;
+            }
+            segment = createSegment();
+            segments.addLast(segment);
+        }
+        crc.reset();
+        crc.update(record, 0, record.length);
+        final MappedByteBuffer buffer = segment.buffer;
+        ((Buffer) buffer).position(segment.writePosition);
+        buffer.putInt(record.length);
+        buffer.putInt((int) crc.getValue());
+        buffer.put(record);
+        segment.writePosition += length;
+        recordCount++;
+        return true;
+    }
+
+    /**
+     * Returns the oldest record, without removing it.
+     *
+     * @return the oldest record or {@code null} if the journal is empty.
+     * @throws IOException if the record is corrupted, in which case it is removed from the journal.
+     */
+    byte[] peek() throws IOException {
+        final Segment segment = segments.peekFirst();
+        if (segment == null || segment.readPosition == segment.writePosition) {
+            return null;
+        }
+        final MappedByteBuffer buffer = segment.buffer;
+        ((Buffer) buffer).position(segment.readPosition);
+        final int length = buffer.getInt();
+        final int checksum = buffer.getInt();
+        final byte[] record = new byte[length];
+        buffer.get(record);
+        crc.reset();
+        crc.update(record, 0, length);
+        if ((int) crc.getValue() != checksum) {
+            remove();
+            throw new IOException("Corrupted record in " + segment.file);
+        }
+        return record;
+    }
+
+    /**
+     * Removes the oldest record, deleting its segment file if it was the last one of a full segment.
+     */
+    void remove() {
+        final Segment segment = segments.peekFirst();
+        if (segment == null || segment.readPosition == segment.writePosition) {
+            return;
+        }
+        segment.readPosition += RECORD_HEADER_SIZE + segment.buffer.getInt(segment.readPosition);
+        recordCount--;
+        if (segment.readPosition == segment.writePosition) {
+            if (segments.size() > 1) {
+                segments.removeFirst();
+                segment.delete();
+            } else {
+                // reuse the last segment
+                segment.readPosition = 0;
+                segment.writePosition = 0;
+            }
+        }
+    }
+
+    boolean isEmpty() {
+        return recordCount == 0;
+    }
+
+    /**
+     * Returns the number of records in the journal.
+     */
+    long size() {
+        return recordCount;
+    }
+
+    /**
+     * Returns the number of segment files.
+     */
+    int getSegmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Deletes all the segment files and the directory of the journal.
+     */
+    @Override
+    public void close() {
+        while (!segments.isEmpty()) {
+            segments.removeFirst().delete();
+        }
+        recordCount = 0;
+        try {
+            Files.deleteIfExists(directory);
+        } catch (final IOException e) {
+            LOGGER.warn("Unable to delete spill directory {}", directory, e);
+        }
+    }
+
+    private Segment createSegment() throws IOException {
+        final Path file = directory.resolve(String.format("%020d.spill", segmentCount++));
+        try (final FileChannel channel = FileChannel.open(
+                file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // the mapping stays valid after the channel is closed
+            return new Segment(file, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize));
+        }
+    }
+
+    private static final class Segment {
+
+        private final Path file;
+        private final MappedByteBuffer buffer;
+        private int writePosition;
+        private int readPosition;
+
+        Segment(final Path file, final MappedByteBuffer buffer) {
+            this.file = file;
+            this.buffer = buffer;
+        }
+
+        void delete() {
+            try {
+                UnsafeUtil.clean(buffer);
+            } catch (final Exception e) {
+                LOGGER.debug("Unable to unmap spill segment {}", file, e);
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch (final IOException e) {
+                LOGGER.warn("Unable to delete spill segment {}", file, e);
+            }
+        }
+    }
+}
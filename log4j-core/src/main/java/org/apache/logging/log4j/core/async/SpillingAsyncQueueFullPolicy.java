@@ -0,0 +1,405 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.async;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.util.Log4jThread;
+import org.apache.logging.log4j.core.util.Log4jThreadFactory;
+import org.apache.logging.log4j.core.util.internal.SerializedLogEvents;
+import org.apache.logging.log4j.status.StatusLogger;
+import org.apache.logging.log4j.util.FilteredObjectInputStream;
+
+/**
+ * Spilling router: when the queue is full, serializes the event to a journal of memory-mapped segment files on local
+ * disk, instead of blocking the logging thread. A background thread replays the spilled events, in order, as soon as
+ * the queue has room again. While the journal is not empty, new events are spilled too, so that they are not logged
+ * before older events.
+ * <p>
+ * The total size of the journal is capped: when it is reached, events are discarded. Until the journal is started,
+ * this policy behaves like {@link DefaultAsyncQueueFullPolicy}.
+ * </p>
+ * <p>
+ * Spilled events are serialized like {@link Log4jLogEvent#serialize(LogEvent, boolean)} does: the exception of an event
+ * is replayed as a copy with the same class name, message and stack trace, and messages that are not serializable are
+ * replayed as their formatted text.
+ * </p>
+ * <p>
+ * This policy is used by AsyncLogger, AsyncLoggerConfig and AsyncAppender, which call
+ * {@link #start(String, Replayer)} and {@link #stop(long, TimeUnit)}. See {@link AsyncQueueFullPolicyFactory} for how
+ * to select it.
+ * </p>
+ *
+ * @since 2.24.0
+ */
+public class SpillingAsyncQueueFullPolicy implements AsyncQueueFullPolicy {
+
+    /**
+     * Receives the spilled events, when they are replayed.
+     */
+    @FunctionalInterface
+    public interface Replayer {
+
+        /**
+         * Tries to enqueue a spilled event, without blocking.
+         *
+         * @param target the target passed to {@link #spill(String, LogEvent)}.
+         * @param event the spilled event.
+         * @return {@code false} if the queue is still full, in which case the event is replayed again later.
+         */
+        boolean replay(String target, LogEvent event);
+    }
+
+    /**
+     * The default size of a segment file: 16 MiB.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+    /**
+     * The default maximum size of the journal: 1 GiB.
+     */
+    public static final long DEFAULT_MAX_SIZE = 1024L * 1024 * 1024;
+
+    private static final Logger LOGGER = StatusLogger.getLogger();
+
+    private static final long REPLAY_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final File directory;
+    private final int segmentSize;
+    private final long maxSize;
+
+    /**
+     * Guards the journal.
+     */
+    private final Object lock = new Object();
+
+    private SpillJournal journal;
+    private Thread replayThread;
+    private Replayer replayer;
+    private String name;
+    private boolean stopping;
+    private volatile boolean started;
+
+    /**
+     * Number of events in the journal, read without lock by {@link #isSpilling()}.
+     */
+    private volatile long pendingCount;
+
+    private final AtomicLong spillCount = new AtomicLong();
+    private final AtomicLong replayCount = new AtomicLong();
+    private final AtomicLong discardCount = new AtomicLong();
+
+    /**
+     * Constructs a router that spills events to the specified directory.
+     *
+     * @param directory the parent directory of the journal, or {@code null} to use the temporary directory.
+     * @param segmentSize the size of a segment file in bytes.
+     * @param maxSize the maximum size of the journal in bytes.
+     */
+    public SpillingAsyncQueueFullPolicy(final File directory, final int segmentSize, final long maxSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize > 0 ? segmentSize : DEFAULT_SEGMENT_SIZE;
+        this.maxSize = maxSize > 0 ? maxSize : DEFAULT_MAX_SIZE;
+    }
+
+    @Override
+    public EventRoute getRoute(final long backgroundThreadId, final Level level) {
+        if (started) {
+            // spilling never blocks, so it is safe for the background thread too
+            return EventRoute.SPILL;
+        }
+        final Thread currentThread = Thread.currentThread();
+        if (currentThread.getId() == backgroundThreadId || currentThread instanceof Log4jThread) {
+            return EventRoute.SYNCHRONOUS;
+        }
+        return EventRoute.ENQUEUE;
+    }
+
+    /**
+     * Creates the journal and starts the thread replaying the spilled events.
+     *
+     * @param name the name of the queue, used for the journal directory and the replay thread.
+     * @param replayer receives the spilled events.
+     */
+    @SuppressFBWarnings(
+            value = "PATH_TRAVERSAL_IN",
+            justification = "The spill directory is specified by a system property.")
+    public void start(final String name, final Replayer replayer) {
+        Objects.requireNonNull(replayer, "replayer");
+        synchronized (lock) {
+            if (journal != null) {
+                return;
+            }
+            final Path parent =
+                    (directory != null ? directory : new File(System.getProperty("java.io.tmpdir"))).toPath();
+            try {
+                Files.createDirectories(parent);
+                final Path path = Files.createTempDirectory(parent, "log4j-" + name.replaceAll("[^\\w.-]", "_") + '-');
+                journal = new SpillJournal(path, segmentSize, maxSize);
+            } catch (final IOException | RuntimeException e) {
+                LOGGER.error(
+                        "Unable to create spill journal in {}, events will be enqueued when the queue of {} is full",
+                        parent,
+                        name,
+                        e);
+                return;
+            }
+            this.name = name;
+            this.replayer = replayer;
+            this.stopping = false;
+            replayThread = Log4jThreadFactory.createDaemonThreadFactory("SpillReplay-" + name)
+                    .newThread(this::replay);
+            replayThread.start();
+            started = true;
+        }
+    }
+
+    /**
+     * Replays the spilled events, then deletes the journal.
+     *
+     * @param timeout how long to wait for the spilled events to be replayed, or 0 to wait until they are replayed.
+     * @param timeUnit the unit of the timeout.
+     * @return {@code true} if all the spilled events have been replayed.
+     */
+    public boolean stop(final long timeout, final TimeUnit timeUnit) {
+        final Thread thread;
+        synchronized (lock) {
+            if (journal == null) {
+                return true;
+            }
+            started = false;
+            stopping = true;
+            lock.notifyAll();
+            thread = replayThread;
+        }
+        try {
+            thread.join(timeUnit.toMillis(timeout));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread.interrupt();
+        synchronized (lock) {
+            final long lost = journal.size();
+            if (lost > 0) {
+                discardCount.addAndGet(lost);
+                LOGGER.warn("{} discarded {} spilled events that could not be replayed.", name, lost);
+            }
+            if (discardCount.get() > 0) {
+                LOGGER.warn(
+                        "{} spilled {} events and discarded {} events since it started.",
+                        name,
+                        spillCount.get(),
+                        discardCount.get());
+            }
+            journal.close();
+            journal = null;
+            pendingCount = 0;
+            replayThread = null;
+            return lost == 0;
+        }
+    }
+
+    /**
+     * Returns {@code true} if the journal contains events. In that case, new events must be spilled too, so that they
+     * are logged after the spilled events.
+     *
+     * @return whether the journal contains events.
+     */
+    public boolean isSpilling() {
+        return pendingCount > 0;
+    }
+
+    /**
+     * Appends an event to the journal, or discards it if the journal is full.
+     *
+     * @param target identifies where the event must be replayed, passed back to the {@link Replayer}.
+     * @param event the event to spill.
+     */
+    public void spill(final String target, final LogEvent event) {
+        final byte[] record;
+        try {
+            record = serialize(target, event);
+        } catch (final IOException e) {
+            LOGGER.error("Unable to serialize event for {}, discarding it.", name, e);
+            discardCount.incrementAndGet();
+            return;
+        }
+        synchronized (lock) {
+            if (journal != null) {
+                try {
+                    if (journal.append(record)) {
+                        if (pendingCount++ == 0) {
+                            lock.notifyAll();
+                        }
+                        spillCount.incrementAndGet();
+                        return;
+                    }
+                } catch (final IOException e) {
+                    LOGGER.error("Unable to write to spill journal of {}", name, e);
+                }
+            }
+        }
+        if (discardCount.getAndIncrement() == 0) {
+            LOGGER.warn(
+                    "Spill journal of {} is full, discarding event with level {}. "
+                            + "This message will only appear once; future events are silently discarded "
+                            + "until the journal has room again.",
+                    name,
+                    event.getLevel());
+        }
+    }
+
+    private void replay() {
+        while (true) {
+            final String target;
+            final LogEvent event;
+            synchronized (lock) {
+                byte[] record = null;
+                while (record == null) {
+                    if (journal == null) {
+                        return;
+                    }
+                    if (journal.isEmpty()) {
+                        if (stopping) {
+                            return;
+                        }
+                        try {
+                            lock.wait();
+                        } catch (final InterruptedException e) {
+                            return;
+                        }
+                        continue;
+                    }
+                    try {
+                        record = journal.peek();
+                    } catch (final IOException e) {
+                        LOGGER.error("Discarding spilled event of {}", name, e);
+                        pendingCount--;
+                        discardCount.incrementAndGet();
+                    }
+                }
+                try {
+                    final ObjectInputStream in = new FilteredObjectInputStream(new ByteArrayInputStream(record));
+                    target = in.readUTF();
+                    event = SerializedLogEvents.read(in);
+                } catch (final IOException | ClassNotFoundException | RuntimeException e) {
+                    LOGGER.error("Unable to deserialize spilled event of {}, discarding it.", name, e);
+                    journal.remove();
+                    pendingCount--;
+                    discardCount.incrementAndGet();
+                    continue;
+                }
+            }
+            while (!replayer.replay(target, event)) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                LockSupport.parkNanos(REPLAY_BACKOFF_NANOS);
+            }
+            synchronized (lock) {
+                if (journal == null) {
+                    return;
+                }
+                journal.remove();
+                pendingCount--;
+            }
+            replayCount.incrementAndGet();
+        }
+    }
+
+    private static byte[] serialize(final String target, final LogEvent event) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeUTF(target);
+            SerializedLogEvents.write(out, event, event.isIncludeLocation());
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Returns the number of events spilled to the journal.
+     *
+     * @return the number of spilled events.
+     */
+    public long getSpillCount() {
+        return spillCount.get();
+    }
+
+    /**
+     * Returns the number of spilled events that have been replayed.
+     *
+     * @return the number of replayed events.
+     */
+    public long getReplayCount() {
+        return replayCount.get();
+    }
+
+    /**
+     * Returns the number of events discarded because the journal was full or could not be written.
+     *
+     * @return the number of discarded events.
+     */
+    public long getDiscardCount() {
+        return discardCount.get();
+    }
+
+    /**
+     * Returns the number of events waiting in the journal.
+     *
+     * @return the number of pending events.
+     */
+    public long getPendingCount() {
+        return pendingCount;
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the argument as a {@code SpillingAsyncQueueFullPolicy}, or {@code null} if it is another kind of policy.
+     *
+     * @param router the policy of a queue.
+     * @return the spilling policy or {@code null}.
+     */
+    public static SpillingAsyncQueueFullPolicy asSpilling(final AsyncQueueFullPolicy router) {
+        return router instanceof SpillingAsyncQueueFullPolicy ? (SpillingAsyncQueueFullPolicy) router : null;
+    }
+}
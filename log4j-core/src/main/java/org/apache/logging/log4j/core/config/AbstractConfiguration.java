@@ -45,6 +45,7 @@ import org.apache.logging.log4j.core.LoggerContext;
 import org.apache.logging.log4j.core.Version;
 import org.apache.logging.log4j.core.appender.AsyncAppender;
 import org.apache.logging.log4j.core.appender.ConsoleAppender;
+import org.apache.logging.log4j.core.appender.JournalAppender;
 import org.apache.logging.log4j.core.async.AsyncLoggerConfig;
 import org.apache.logging.log4j.core.async.AsyncLoggerConfigDelegate;
 import org.apache.logging.log4j.core.async.AsyncLoggerConfigDisruptor;
@@ -458,7 +459,8 @@ public abstract class AbstractConfiguration extends AbstractFilterable implement
     private List<Appender> getAsyncAppenders(final Appender[] all) {
         final List<Appender> result = new ArrayList<>();
         for (int i = all.length - 1; i >= 0; --i) {
-            if (all[i] instanceof AsyncAppender) {
+            // JournalAppender delivers to other appenders from its own thread, like AsyncAppender
+            if (all[i] instanceof AsyncAppender || all[i] instanceof JournalAppender) {
                 result.add(all[i]);
             }
         }
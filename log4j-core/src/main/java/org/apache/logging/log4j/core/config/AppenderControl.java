@@ -21,9 +21,11 @@ import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.core.Appender;
 import org.apache.logging.log4j.core.Filter;
 import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
 import org.apache.logging.log4j.core.appender.AppenderLoggingException;
 import org.apache.logging.log4j.core.filter.AbstractFilterable;
 import org.apache.logging.log4j.core.filter.Filterable;
+import org.apache.logging.log4j.core.metrics.ComponentMetrics;
 import org.apache.logging.log4j.util.PerformanceSensitive;
 
 /**
@@ -41,6 +43,7 @@ public class AppenderControl extends AbstractFilterable {
     private final Level level;
     private final int intLevel;
     private final String appenderName;
+    private final ComponentMetrics metrics;
 
     /**
      * Constructor.
@@ -53,6 +56,7 @@ public class AppenderControl extends AbstractFilterable {
         super(filter);
         this.appender = Objects.requireNonNull(appender, "appender");
         this.appenderName = appender.getName();
+        this.metrics = appender instanceof AbstractAppender ? ((AbstractAppender) appender).getMetrics() : null;
         this.level = level;
         this.intLevel = level == null ? Level.ALL.intLevel() : level.intLevel();
         start();
@@ -156,8 +160,13 @@ public class AppenderControl extends AbstractFilterable {
     }
 
     private void tryCallAppender(final LogEvent event) {
+        final long startNanos = metrics != null ? System.nanoTime() : 0;
         try {
             appender.append(event);
+            if (metrics != null) {
+                metrics.incrementEventCount();
+                metrics.getAppendLatency().record(System.nanoTime() - startNanos);
+            }
         } catch (final RuntimeException error) {
             handleAppenderError(event, error);
         } catch (final Throwable throwable) {
@@ -166,6 +175,9 @@ public class AppenderControl extends AbstractFilterable {
     }
 
     private void handleAppenderError(final LogEvent event, final RuntimeException ex) {
+        if (metrics != null) {
+            metrics.incrementDroppedEventCount();
+        }
         appender.getHandler().error(createErrorMsg("An exception occurred processing Appender "), event, ex);
         if (!appender.ignoreExceptions()) {
             throw ex;
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.util.PerformanceSensitive;
+
+/**
+ * Immutable, flattened view of the additive chain of a {@link LoggerConfig}.
+ * <p>
+ * The plan lists the appender controls of a logger configuration and of its additive ancestors in the order in which
+ * {@link LoggerConfig#log(LogEvent)} calls them, so that delivering an event does not recurse through the hierarchy.
+ * If none of the ancestors has a filter and all of them agree on {@code includeLocation}, delivery is a single array
+ * iteration.
+ * </p>
+ * <p>
+ * Plans are created lazily and become stale whenever a logger configuration changes its parent, additivity,
+ * appenders or filters. Only chains made of plain {@link LoggerConfig} and {@link LoggerConfig.RootLogger} instances
+ * are compiled, since subclasses such as {@code AsyncLoggerConfig} override the delivery logic.
+ * </p>
+ *
+ * @since 2.24.0
+ */
+@PerformanceSensitive("allocation")
+final class DispatchPlan {
+
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+
+    private final int generation;
+
+    private final LoggerConfig[] loggerConfigs;
+
+    /** Exclusive end index in {@link #controls} of the appenders of each logger configuration. */
+    private final int[] ends;
+
+    private final AppenderControl[] controls;
+
+    private final boolean flat;
+
+    private final boolean includeLocation;
+
+    private DispatchPlan(
+            final int generation,
+            final LoggerConfig[] loggerConfigs,
+            final int[] ends,
+            final AppenderControl[] controls,
+            final boolean flat,
+            final boolean includeLocation) {
+        this.generation = generation;
+        this.loggerConfigs = loggerConfigs;
+        this.ends = ends;
+        this.controls = controls;
+        this.flat = flat;
+        this.includeLocation = includeLocation;
+    }
+
+    /**
+     * Marks all existing plans as stale.
+     */
+    static void invalidateAll() {
+        GENERATION.incrementAndGet();
+    }
+
+    /**
+     * Returns {@code plan} if it is still valid, otherwise compiles a new plan for {@code loggerConfig}.
+     */
+    static DispatchPlan validate(final DispatchPlan plan, final LoggerConfig loggerConfig) {
+        final int generation = GENERATION.get();
+        return plan != null && plan.generation == generation ? plan : compile(loggerConfig, generation);
+    }
+
+    private static DispatchPlan compile(final LoggerConfig loggerConfig, final int generation) {
+        final List<LoggerConfig> chain = new ArrayList<>();
+        for (LoggerConfig current = loggerConfig; current != null; current = current.getParent()) {
+            if (!isPlain(current)) {
+                return new DispatchPlan(generation, null, null, null, false, false);
+            }
+            chain.add(current);
+            if (!current.isAdditive()) {
+                break;
+            }
+        }
+        final LoggerConfig[] loggerConfigs = chain.toArray(new LoggerConfig[0]);
+        final int[] ends = new int[loggerConfigs.length];
+        AppenderControl[] controls = AppenderControl.EMPTY_ARRAY;
+        final boolean includeLocation = loggerConfig.isIncludeLocation();
+        boolean flat = true;
+        for (int i = 0; i < loggerConfigs.length; i++) {
+            final LoggerConfig current = loggerConfigs[i];
+            final AppenderControl[] own = current.getAppenderControls();
+            final int start = controls.length;
+            controls = Arrays.copyOf(controls, start + own.length);
+            System.arraycopy(own, 0, controls, start, own.length);
+            ends[i] = controls.length;
+            if ((i > 0 && current.hasFilter()) || current.isIncludeLocation() != includeLocation) {
+                flat = false;
+            }
+        }
+        return new DispatchPlan(generation, loggerConfigs, ends, controls, flat, includeLocation);
+    }
+
+    private static boolean isPlain(final LoggerConfig loggerConfig) {
+        final Class<?> type = loggerConfig.getClass();
+        return type == LoggerConfig.class || type == LoggerConfig.RootLogger.class;
+    }
+
+    /**
+     * Indicates whether this plan can deliver events.
+     *
+     * @return {@code false} if the chain contains logger configurations with custom delivery logic.
+     */
+    boolean isSupported() {
+        return loggerConfigs != null;
+    }
+
+    /**
+     * Delivers an event that passed the filter of the first logger configuration of the chain.
+     *
+     * @param event The log event.
+     */
+    void dispatch(final LogEvent event) {
+        if (flat) {
+            event.setIncludeLocation(includeLocation);
+            //noinspection ForLoopReplaceableByForEach
+            for (int i = 0; i < controls.length; i++) {
+                controls[i].callAppender(event);
+            }
+            return;
+        }
+        int start = 0;
+        for (int level = 0; level < loggerConfigs.length; level++) {
+            final LoggerConfig loggerConfig = loggerConfigs[level];
+            if (level > 0 && loggerConfig.isFiltered(event)) {
+                return;
+            }
+            event.setIncludeLocation(loggerConfig.isIncludeLocation());
+            final int end = ends[level];
+            for (int i = start; i < end; i++) {
+                controls[i].callAppender(event);
+            }
+            start = end;
+        }
+    }
+}
@@ -78,6 +78,7 @@ public class LoggerConfig extends AbstractFilterable implements LocationAware {
     private final boolean propertiesRequireLookup;
     private final Configuration config;
     private final ReliabilityStrategy reliabilityStrategy;
+    private volatile DispatchPlan dispatchPlan;
 
     static {
         try {
@@ -332,6 +333,7 @@ public class LoggerConfig extends AbstractFilterable implements LocationAware {
      */
     public void setParent(final LoggerConfig parent) {
         this.parent = parent;
+        DispatchPlan.invalidateAll();
     }
 
     /**
@@ -352,6 +354,7 @@ public class LoggerConfig extends AbstractFilterable implements LocationAware {
      */
     public void addAppender(final Appender appender, final Level level, final Filter filter) {
         appenders.add(new AppenderControl(appender, level, filter));
+        DispatchPlan.invalidateAll();
     }
 
     /**
@@ -364,6 +367,7 @@ public class LoggerConfig extends AbstractFilterable implements LocationAware {
         while ((removed = appenders.remove(name)) != null) {
             cleanupFilter(removed);
         }
+        DispatchPlan.invalidateAll();
     }
 
     /**
@@ -385,6 +389,7 @@ public class LoggerConfig extends AbstractFilterable implements LocationAware {
                 cleanupFilter(ctl);
             }
         } while (!appenders.isEmpty());
+        DispatchPlan.invalidateAll();
     }
 
     private void cleanupFilter(final AppenderControl ctl) {
@@ -464,6 +469,19 @@ public class LoggerConfig extends AbstractFilterable implements LocationAware {
      */
     public void setAdditive(final boolean additive) {
         this.additive = additive;
+        DispatchPlan.invalidateAll();
+    }
+
+    @Override
+    public synchronized void addFilter(final Filter filter) {
+        super.addFilter(filter);
+        DispatchPlan.invalidateAll();
+    }
+
+    @Override
+    public synchronized void removeFilter(final Filter filter) {
+        super.removeFilter(filter);
+        DispatchPlan.invalidateAll();
     }
 
     /**
@@ -645,10 +663,26 @@ public class LoggerConfig extends AbstractFilterable implements LocationAware {
      */
     protected void log(final LogEvent event, final LoggerConfigPredicate predicate) {
         if (!isFiltered(event)) {
+            if (predicate == null || predicate == LoggerConfigPredicate.ALL) {
+                final DispatchPlan plan = getDispatchPlan();
+                if (plan.isSupported()) {
+                    plan.dispatch(event);
+                    return;
+                }
+            }
             processLogEvent(event, predicate);
         }
     }
 
+    private DispatchPlan getDispatchPlan() {
+        final DispatchPlan current = dispatchPlan;
+        final DispatchPlan plan = DispatchPlan.validate(current, this);
+        if (plan != current) {
+            dispatchPlan = plan;
+        }
+        return plan;
+    }
+
     /**
      * Returns the object responsible for ensuring log events are delivered to a working appender, even during or after
      * a reconfiguration.
@@ -706,6 +740,16 @@ public class LoggerConfig extends AbstractFilterable implements LocationAware {
         }
     }
 
+    /**
+     * Returns the controls of the appenders of this LoggerConfig, without copying them.
+     *
+     * @return the appender controls, which must not be modified.
+     * @since 2.24.0
+     */
+    protected AppenderControl[] getAppenderControls() {
+        return appenders.get();
+    }
+
     @PerformanceSensitive("allocation")
     protected void callAppenders(final LogEvent event) {
         final AppenderControl[] controls = appenders.get();
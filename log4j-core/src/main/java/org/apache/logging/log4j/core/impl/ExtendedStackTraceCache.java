@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.impl;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.logging.log4j.core.util.Constants;
+
+/**
+ * Shares the extended stack traces of {@link ThrowableProxy} instances between the events logging the same exception:
+ * resolving the packaging data of a stack trace requires walking the current stack and loading the classes of its
+ * elements.
+ * <p>
+ * The cache holds at most {@link Constants#THROWABLE_PROXY_CACHE_SIZE} stack traces, and is cleared when it is full.
+ * It only references stack trace elements and strings, never classes or class loaders.
+ * </p>
+ */
+final class ExtendedStackTraceCache {
+
+    private static final ConcurrentMap<Key, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+    private ExtendedStackTraceCache() {}
+
+    static boolean isEnabled() {
+        return Constants.THROWABLE_PROXY_CACHE_SIZE > 0;
+    }
+
+    static Entry get(final Key key) {
+        return ENTRIES.get(key);
+    }
+
+    static void put(final Key key, final Entry entry) {
+        if (ENTRIES.size() >= Constants.THROWABLE_PROXY_CACHE_SIZE) {
+            ENTRIES.clear();
+        }
+        ENTRIES.putIfAbsent(key, entry);
+    }
+
+    static int size() {
+        return ENTRIES.size();
+    }
+
+    /**
+     * Identifies a stack trace by its elements, and by the elements of the stack trace of the enclosing exception, if
+     * any, that determine the number of elements in common.
+     */
+    static final class Key {
+
+        private final StackTraceElement[] rootTrace;
+        private final StackTraceElement[] stackTrace;
+        private final int hashCode;
+
+        Key(final StackTraceElement[] rootTrace, final StackTraceElement[] stackTrace) {
+            this.rootTrace = rootTrace;
+            this.stackTrace = stackTrace;
+            this.hashCode = 31 * Arrays.hashCode(rootTrace) + Arrays.hashCode(stackTrace);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return hashCode == other.hashCode
+                    && Arrays.equals(stackTrace, other.stackTrace)
+                    && Arrays.equals(rootTrace, other.rootTrace);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    static final class Entry {
+
+        final int commonElementCount;
+        final ExtendedStackTraceElement[] extendedStackTrace;
+
+        Entry(final int commonElementCount, final ExtendedStackTraceElement[] extendedStackTrace) {
+            this.commonElementCount = commonElementCount;
+            this.extendedStackTrace = extendedStackTrace;
+        }
+    }
+}
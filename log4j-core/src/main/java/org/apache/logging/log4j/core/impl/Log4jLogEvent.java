@@ -146,7 +146,8 @@ public class Log4jLogEvent implements LogEvent {
                     }
                     this.contextData.putAll(other.getContextData());
                 }
-                this.thrownProxy = other.getThrownProxy();
+                // the proxy of an exception is created on demand, by the converters that need it
+                this.thrownProxy = this.thrown == null ? other.getThrownProxy() : null;
                 this.source = other.getSource();
                 this.threadId = other.getThreadId();
                 this.threadName = other.getThreadName();
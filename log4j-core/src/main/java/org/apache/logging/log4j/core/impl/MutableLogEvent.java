@@ -103,7 +103,8 @@ public class MutableLogEvent implements LogEvent, ReusableMessage, ParameterVisi
         this.level = event.getLevel();
         this.loggerName = event.getLoggerName();
         this.thrown = event.getThrown();
-        this.thrownProxy = event.getThrownProxy();
+        // the proxy of an exception is created on demand, by the converters that need it
+        this.thrownProxy = this.thrown == null ? event.getThrownProxy() : null;
 
         this.instant.initFrom(event.getInstant());
 
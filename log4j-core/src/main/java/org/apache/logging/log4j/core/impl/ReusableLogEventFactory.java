@@ -27,6 +27,8 @@ import org.apache.logging.log4j.core.config.Property;
 import org.apache.logging.log4j.core.util.Clock;
 import org.apache.logging.log4j.core.util.ClockFactory;
 import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.spi.recycler.Recycler;
+import org.apache.logging.log4j.spi.recycler.RecyclerFactories;
 import org.apache.logging.log4j.util.StringMap;
 
 /**
@@ -37,7 +39,8 @@ public class ReusableLogEventFactory implements LogEventFactory, LocationAwareLo
     private static final ThreadNameCachingStrategy THREAD_NAME_CACHING_STRATEGY = ThreadNameCachingStrategy.create();
     private static final Clock CLOCK = ClockFactory.getClock();
 
-    private static final ThreadLocal<MutableLogEvent> mutableLogEventThreadLocal = new ThreadLocal<>();
+    private static final Recycler<MutableLogEvent> RECYCLER =
+            RecyclerFactories.getDefault().create(MutableLogEvent::new);
     private final ContextDataInjector injector = ContextDataInjectorFactory.createInjector();
 
     /**
@@ -87,10 +90,10 @@ public class ReusableLogEventFactory implements LogEventFactory, LocationAwareLo
             final Message message,
             final List<Property> properties,
             final Throwable t) {
-        final MutableLogEvent result = getOrCreateMutableLogEvent();
+        final MutableLogEvent result = RECYCLER.acquire();
         result.reserved = true;
         // No need to clear here, values are cleared in release when reserved is set to false.
-        // If the event was dirty we'd create a new one.
+        initThreadFields(result);
 
         result.setLoggerName(loggerName);
         result.setMarker(marker);
@@ -132,35 +135,32 @@ public class ReusableLogEventFactory implements LogEventFactory, LocationAwareLo
         }
     }
 
-    private static MutableLogEvent getOrCreateMutableLogEvent() {
-        final MutableLogEvent result = mutableLogEventThreadLocal.get();
-        return result == null || result.reserved ? createInstance(result) : result;
-    }
-
-    private static MutableLogEvent createInstance(final MutableLogEvent existing) {
-        final MutableLogEvent result = new MutableLogEvent();
-
-        // usually no need to re-initialize thread-specific fields since the event is stored in a ThreadLocal
-        result.setThreadId(Thread.currentThread().getId());
-        result.setThreadName(Thread.currentThread().getName()); // Thread.getName() allocates Objects on each call
-        result.setThreadPriority(Thread.currentThread().getPriority());
-        if (existing == null) {
-            mutableLogEventThreadLocal.set(result);
+    private static void initThreadFields(final MutableLogEvent result) {
+        // usually no need to re-initialize thread-specific fields since the recycler keeps events per thread
+        final Thread currentThread = Thread.currentThread();
+        final long threadId = currentThread.getId();
+        if (result.getThreadName() == null || result.getThreadId() != threadId) {
+            result.setThreadId(threadId);
+            result.setThreadName(currentThread.getName()); // Thread.getName() allocates Objects on each call
+            result.setThreadPriority(currentThread.getPriority());
         }
-        return result;
     }
 
     /**
      * Switches the {@code reserved} flag off if the specified event is a MutableLogEvent, otherwise does nothing.
      * This flag is used internally to verify that a reusable log event is no longer in use and can be reused.
+     * Reserved events are returned to the recycler.
      * @param logEvent the log event to make available again
      * @since 2.7
      */
     public static void release(final LogEvent logEvent) { // LOG4J2-1583
         if (logEvent instanceof MutableLogEvent) {
             final MutableLogEvent mutableLogEvent = (MutableLogEvent) logEvent;
-            mutableLogEvent.clear();
-            mutableLogEvent.reserved = false;
+            if (mutableLogEvent.reserved) {
+                mutableLogEvent.clear();
+                mutableLogEvent.reserved = false;
+                RECYCLER.release(mutableLogEvent);
+            }
         }
     }
 }
@@ -19,6 +19,7 @@ package org.apache.logging.log4j.core.impl;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.core.pattern.JAnsiTextRenderer;
 import org.apache.logging.log4j.core.pattern.PlainTextRenderer;
 import org.apache.logging.log4j.core.pattern.TextRenderer;
@@ -55,6 +56,16 @@ public final class ThrowableFormatOptions {
      */
     private static final String SHORT = "short";
 
+    /**
+     * Replace the stack traces printed recently by a reference.
+     */
+    private static final String SUPPRESS_REPEATS = "suppressRepeats";
+
+    /**
+     * The default suppression window of repeated stack traces, in seconds.
+     */
+    private static final long DEFAULT_REPEAT_SUPPRESSION_SECONDS = 60;
+
     /**
      * ANSI renderer
      */
@@ -77,6 +88,11 @@ public final class ThrowableFormatOptions {
      */
     private final List<String> ignorePackages;
 
+    /**
+     * How long repeated stack traces are replaced by a reference, zero if they are not.
+     */
+    private final long repeatSuppressionMillis;
+
     public static final String CLASS_NAME = "short.className";
     public static final String METHOD_NAME = "short.methodName";
     public static final String LINE_NUMBER = "short.lineNumber";
@@ -103,11 +119,22 @@ public final class ThrowableFormatOptions {
             final List<String> ignorePackages,
             final TextRenderer textRenderer,
             final String suffix) {
+        this(lines, separator, ignorePackages, textRenderer, suffix, 0);
+    }
+
+    private ThrowableFormatOptions(
+            final int lines,
+            final String separator,
+            final List<String> ignorePackages,
+            final TextRenderer textRenderer,
+            final String suffix,
+            final long repeatSuppressionMillis) {
         this.lines = lines;
         this.separator = separator == null ? Strings.LINE_SEPARATOR : separator;
         this.ignorePackages = ignorePackages;
         this.textRenderer = textRenderer == null ? PlainTextRenderer.getInstance() : textRenderer;
         this.suffix = suffix;
+        this.repeatSuppressionMillis = repeatSuppressionMillis;
     }
 
     /**
@@ -163,6 +190,17 @@ public final class ThrowableFormatOptions {
         return this.ignorePackages;
     }
 
+    /**
+     * Returns how long a stack trace that was printed is replaced by a reference when it is logged again.
+     *
+     * @return The suppression window in milliseconds, zero if repeated stack traces are printed in full.
+     * @see ThrowableRepeatTracker
+     * @since 2.24.0
+     */
+    public long getRepeatSuppressionMillis() {
+        return repeatSuppressionMillis;
+    }
+
     /**
      * Determines if all lines should be printed.
      *
@@ -258,6 +296,7 @@ public final class ThrowableFormatOptions {
         List<String> packages = DEFAULT.ignorePackages;
         TextRenderer ansiRenderer = DEFAULT.textRenderer;
         String suffix = DEFAULT.getSuffix();
+        long repeatSuppressionMillis = DEFAULT.repeatSuppressionMillis;
         for (final String rawOption : options) {
             if (rawOption != null) {
                 final String option = rawOption.trim();
@@ -279,6 +318,12 @@ public final class ThrowableFormatOptions {
                             }
                         }
                     }
+                } else if (option.equals(SUPPRESS_REPEATS)) {
+                    repeatSuppressionMillis = TimeUnit.SECONDS.toMillis(DEFAULT_REPEAT_SUPPRESSION_SECONDS);
+                } else if (option.startsWith(SUPPRESS_REPEATS + "(") && option.endsWith(")")) {
+                    repeatSuppressionMillis = TimeUnit.SECONDS.toMillis(
+                            Integers.parseInt(option.substring(SUPPRESS_REPEATS.length() + 1, option.length() - 1)
+                                    .trim()));
                 } else if (option.equalsIgnoreCase(NONE)) {
                     lines = 0;
                 } else if (option.equalsIgnoreCase(SHORT)
@@ -310,7 +355,7 @@ public final class ThrowableFormatOptions {
                 }
             }
         }
-        return new ThrowableFormatOptions(lines, separator, packages, ansiRenderer, suffix);
+        return new ThrowableFormatOptions(lines, separator, packages, ansiRenderer, suffix, repeatSuppressionMillis);
     }
 
     public String getSuffix() {
@@ -18,17 +18,13 @@ package org.apache.logging.log4j.core.impl;
 
 import java.io.Serializable;
 import java.util.Arrays;
-import java.util.Deque;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import org.apache.logging.log4j.core.pattern.PlainTextRenderer;
 import org.apache.logging.log4j.core.pattern.TextRenderer;
 import org.apache.logging.log4j.util.Chars;
-import org.apache.logging.log4j.util.StackLocatorUtil;
 import org.apache.logging.log4j.util.Strings;
 
 /**
@@ -107,15 +103,14 @@ public class ThrowableProxy implements Serializable {
         this.name = throwable.getClass().getName();
         this.message = throwable.getMessage();
         this.localizedMessage = throwable.getLocalizedMessage();
-        final Map<String, ThrowableProxyHelper.CacheEntry> map = new HashMap<>();
-        final Deque<Class<?>> stack = StackLocatorUtil.getCurrentStackTrace();
+        final ThrowableProxyHelper.ResolutionState state = new ThrowableProxyHelper.ResolutionState();
         this.extendedStackTrace =
-                ThrowableProxyHelper.toExtendedStackTrace(this, stack, map, null, throwable.getStackTrace());
+                ThrowableProxyHelper.toExtendedStackTrace(this, state, null, throwable.getStackTrace());
         final Throwable throwableCause = throwable.getCause();
         final Set<Throwable> causeVisited = new HashSet<>(1);
         this.causeProxy = throwableCause == null
                 ? null
-                : new ThrowableProxy(throwable, stack, map, throwableCause, visited, causeVisited);
+                : new ThrowableProxy(throwable, state, throwableCause, visited, causeVisited);
         this.suppressedProxies = ThrowableProxyHelper.toSuppressedProxies(throwable, visited);
     }
 
@@ -123,16 +118,14 @@ public class ThrowableProxy implements Serializable {
      * Constructs the wrapper for a Throwable that is referenced as the cause by another Throwable.
      *
      * @param parent            The Throwable referencing this Throwable.
-     * @param stack             The Class stack.
-     * @param map               The cache containing the packaging data.
+     * @param state             The Class stack and the cache containing the packaging data.
      * @param cause             The Throwable to wrap.
      * @param suppressedVisited TODO
      * @param causeVisited      TODO
      */
     private ThrowableProxy(
             final Throwable parent,
-            final Deque<Class<?>> stack,
-            final Map<String, ThrowableProxyHelper.CacheEntry> map,
+            final ThrowableProxyHelper.ResolutionState state,
             final Throwable cause,
             final Set<Throwable> suppressedVisited,
             final Set<Throwable> causeVisited) {
@@ -141,12 +134,12 @@ public class ThrowableProxy implements Serializable {
         this.name = cause.getClass().getName();
         this.message = this.throwable.getMessage();
         this.localizedMessage = this.throwable.getLocalizedMessage();
-        this.extendedStackTrace = ThrowableProxyHelper.toExtendedStackTrace(
-                this, stack, map, parent.getStackTrace(), cause.getStackTrace());
+        this.extendedStackTrace =
+                ThrowableProxyHelper.toExtendedStackTrace(this, state, parent.getStackTrace(), cause.getStackTrace());
         final Throwable causeCause = cause.getCause();
         this.causeProxy = causeCause == null || causeVisited.contains(causeCause)
                 ? null
-                : new ThrowableProxy(parent, stack, map, causeCause, suppressedVisited, causeVisited);
+                : new ThrowableProxy(parent, state, causeCause, suppressedVisited, causeVisited);
         this.suppressedProxies = ThrowableProxyHelper.toSuppressedProxies(cause, suppressedVisited);
     }
 
@@ -20,6 +20,7 @@ import java.net.URL;
 import java.security.CodeSource;
 import java.util.ArrayList;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +28,7 @@ import java.util.Set;
 import org.apache.logging.log4j.core.util.Loader;
 import org.apache.logging.log4j.status.StatusLogger;
 import org.apache.logging.log4j.util.LoaderUtil;
+import org.apache.logging.log4j.util.StackLocatorUtil;
 
 /**
  * {@link ThrowableProxyHelper} provides utilities required to initialize a new {@link ThrowableProxy}
@@ -54,6 +56,58 @@ final class ThrowableProxyHelper {
         }
     }
 
+    /**
+     * The state shared by the proxies of an exception, its causes and suppressed exceptions.
+     * <p>
+     * Consider this class private.
+     * </p>
+     */
+    static final class ResolutionState {
+        private final Map<String, CacheEntry> map = new HashMap<>();
+        private Deque<Class<?>> stack;
+
+        /**
+         * Returns the callers Class stack, walked on first use: the extended stack traces found in the
+         * {@link ExtendedStackTraceCache} do not need it.
+         */
+        private Deque<Class<?>> getStack() {
+            if (stack == null) {
+                stack = StackLocatorUtil.getCurrentStackTrace();
+            }
+            return stack;
+        }
+    }
+
+    /**
+     * Resolve all the stack entries in this stack trace that are not common with the parent, reusing the result of
+     * a previous resolution of the same stack traces if it is still in the {@link ExtendedStackTraceCache}.
+     *
+     * @param src        Instance for which to build an extended stack trace.
+     * @param state      The callers Class stack and the cache of CacheEntry objects.
+     * @param rootTrace  The first stack trace resolve or null.
+     * @param stackTrace The stack trace being resolved.
+     * @return The StackTracePackageElement array.
+     */
+    static ExtendedStackTraceElement[] toExtendedStackTrace(
+            final ThrowableProxy src,
+            final ResolutionState state,
+            final StackTraceElement[] rootTrace,
+            final StackTraceElement[] stackTrace) {
+        if (!ExtendedStackTraceCache.isEnabled()) {
+            return toExtendedStackTrace(src, state.getStack(), state.map, rootTrace, stackTrace);
+        }
+        final ExtendedStackTraceCache.Key key = new ExtendedStackTraceCache.Key(rootTrace, stackTrace);
+        final ExtendedStackTraceCache.Entry entry = ExtendedStackTraceCache.get(key);
+        if (entry != null) {
+            src.setCommonElementCount(entry.commonElementCount);
+            return entry.extendedStackTrace;
+        }
+        final ExtendedStackTraceElement[] extStackTrace =
+                toExtendedStackTrace(src, state.getStack(), state.map, rootTrace, stackTrace);
+        ExtendedStackTraceCache.put(key, new ExtendedStackTraceCache.Entry(src.getCommonElementCount(), extStackTrace));
+        return extStackTrace;
+    }
+
     /**
      * Resolve all the stack entries in this stack trace that are not common with the parent.
      *
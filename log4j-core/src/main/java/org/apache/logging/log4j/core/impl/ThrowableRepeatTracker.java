@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Detects the stack traces that were already printed recently, so that they can be replaced by a short reference.
+ * <p>
+ * A stack trace is identified by a 64-bit fingerprint of the class names and stack trace elements of an exception, its
+ * causes and its suppressed exceptions, but not of their messages. A printed stack trace is followed by its
+ * fingerprint, and the same stack trace is then only referenced by its fingerprint during the suppression window. At
+ * most {@value #MAX_SIZE} fingerprints are remembered: when more distinct stack traces are printed, they are all
+ * forgotten and printed in full again.
+ * </p>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ *
+ * @since 2.24.0
+ */
+public final class ThrowableRepeatTracker {
+
+    private static final int MAX_SIZE = 1024;
+
+    private static final long MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final long windowMillis;
+
+    private final ConcurrentMap<Long, Long> printTimeByFingerprint = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a tracker.
+     *
+     * @param windowMillis how long, in milliseconds, a printed stack trace is only referenced.
+     */
+    public ThrowableRepeatTracker(final long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * Returns the suppression window.
+     *
+     * @return how long, in milliseconds, a printed stack trace is only referenced.
+     */
+    public long getWindowMillis() {
+        return windowMillis;
+    }
+
+    /**
+     * Returns whether a stack trace was printed less than the suppression window ago. If not, the stack trace is
+     * recorded as printed at the given time.
+     *
+     * @param fingerprint the fingerprint of the stack trace.
+     * @param timeMillis the time of the event, in milliseconds since the epoch.
+     * @return {@code true} if the stack trace should be replaced by a reference.
+     */
+    public boolean isRepeated(final long fingerprint, final long timeMillis) {
+        final Long key = fingerprint;
+        final Long printTime = printTimeByFingerprint.get(key);
+        if (printTime != null && timeMillis - printTime < windowMillis) {
+            return true;
+        }
+        if (printTime == null && printTimeByFingerprint.size() >= MAX_SIZE) {
+            printTimeByFingerprint.clear();
+        }
+        printTimeByFingerprint.put(key, timeMillis);
+        return false;
+    }
+
+    /**
+     * Computes the fingerprint of the stack trace of an exception.
+     *
+     * @param throwable an exception.
+     * @return the fingerprint.
+     */
+    public static long fingerprint(final Throwable throwable) {
+        return mix(fingerprint(throwable, 0, 0));
+    }
+
+    private static long fingerprint(final Throwable throwable, long hash, final int depth) {
+        hash = hash * MULTIPLIER + throwable.getClass().getName().hashCode();
+        for (final StackTraceElement element : throwable.getStackTrace()) {
+            hash = hash * MULTIPLIER + element.hashCode();
+        }
+        // the depth bound protects against cycles of causes and suppressed exceptions
+        if (depth < 16) {
+            for (final Throwable suppressed : throwable.getSuppressed()) {
+                hash = fingerprint(suppressed, hash * MULTIPLIER + 1, depth + 1);
+            }
+            final Throwable cause = throwable.getCause();
+            if (cause != null && cause != throwable) {
+                hash = fingerprint(cause, hash * MULTIPLIER + 2, depth + 1);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Computes the fingerprint of the stack trace of an exception, from its proxy. It is the same as the one of the
+     * exception.
+     *
+     * @param proxy the proxy of an exception.
+     * @return the fingerprint.
+     */
+    public static long fingerprint(final ThrowableProxy proxy) {
+        return mix(fingerprint(proxy, null, 0, 0));
+    }
+
+    /**
+     * @param root the proxy of the outermost exception of the cause chain, whose stack trace has elements in common
+     *             with the one of the proxy, or {@code null}.
+     */
+    private static long fingerprint(final ThrowableProxy proxy, final ThrowableProxy root, long hash, final int depth) {
+        hash = hash * MULTIPLIER + proxy.getName().hashCode();
+        for (final ExtendedStackTraceElement element : proxy.getExtendedStackTrace()) {
+            hash = hash * MULTIPLIER + element.getStackTraceElement().hashCode();
+        }
+        // the elements in common with the outermost exception are not kept by the proxy
+        if (root != null && proxy.getCommonElementCount() > 0) {
+            final ExtendedStackTraceElement[] rootTrace = root.getExtendedStackTrace();
+            for (int i = rootTrace.length - proxy.getCommonElementCount(); i < rootTrace.length; i++) {
+                hash = hash * MULTIPLIER + rootTrace[i].getStackTraceElement().hashCode();
+            }
+        }
+        if (depth < 16) {
+            final ThrowableProxy[] suppressedProxies = proxy.getSuppressedProxies();
+            for (final ThrowableProxy suppressed :
+                    suppressedProxies != null ? suppressedProxies : ThrowableProxy.EMPTY_ARRAY) {
+                hash = fingerprint(suppressed, null, hash * MULTIPLIER + 1, depth + 1);
+            }
+            final ThrowableProxy cause = proxy.getCauseProxy();
+            if (cause != null) {
+                hash = fingerprint(cause, root != null ? root : proxy, hash * MULTIPLIER + 2, depth + 1);
+            }
+        }
+        return hash;
+    }
+
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    /**
+     * Appends a fingerprint as 16 hexadecimal digits.
+     *
+     * @param buffer the buffer to append to.
+     * @param fingerprint the fingerprint.
+     */
+    public static void formatFingerprint(final StringBuilder buffer, final long fingerprint) {
+        for (int shift = 60; shift >= 0; shift -= 4) {
+            buffer.append(HEX_DIGITS[(int) (fingerprint >>> shift) & 0xF]);
+        }
+    }
+}
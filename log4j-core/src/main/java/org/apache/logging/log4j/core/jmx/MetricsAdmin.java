@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.jmx;
+
+import java.util.Objects;
+import javax.management.ObjectName;
+import org.apache.logging.log4j.core.metrics.ComponentMetrics;
+import org.apache.logging.log4j.core.metrics.LatencyHistogram;
+
+/**
+ * Implementation of the {@code MetricsAdminMBean} interface.
+ *
+ * @since 2.24.0
+ */
+public class MetricsAdmin implements MetricsAdminMBean {
+
+    private final ComponentMetrics metrics;
+    private final ObjectName objectName;
+
+    /**
+     * Constructs a new {@code MetricsAdmin} for the specified metrics.
+     *
+     * @param metrics the instrumented metrics
+     */
+    public MetricsAdmin(final ComponentMetrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+        try {
+            final String name = String.format(
+                    PATTERN, Server.escape(metrics.getType()), Server.escape(metrics.getName()), metrics.getId());
+            objectName = new ObjectName(name);
+        } catch (final Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the {@code ObjectName} of this mbean.
+     *
+     * @return the {@code ObjectName}
+     * @see MetricsAdminMBean#PATTERN
+     */
+    public ObjectName getObjectName() {
+        return objectName;
+    }
+
+    @Override
+    public String getType() {
+        return metrics.getType();
+    }
+
+    @Override
+    public String getName() {
+        return metrics.getName();
+    }
+
+    @Override
+    public long getEventCount() {
+        return metrics.getEventCount();
+    }
+
+    @Override
+    public long getDroppedEventCount() {
+        return metrics.getDroppedEventCount();
+    }
+
+    @Override
+    public long getByteCount() {
+        return metrics.getByteCount();
+    }
+
+    @Override
+    public long getRouteHitCount() {
+        return metrics.getRouteHitCount();
+    }
+
+    @Override
+    public long getRouteCreationCount() {
+        return metrics.getRouteCreationCount();
+    }
+
+    @Override
+    public long getRouteEvictionCount() {
+        return metrics.getRouteEvictionCount();
+    }
+
+    @Override
+    public long[] getAppendLatency() {
+        return summarize(metrics.getAppendLatency());
+    }
+
+    @Override
+    public long[] getFlushLatency() {
+        return summarize(metrics.getFlushLatency());
+    }
+
+    @Override
+    public long[] getQueueWaitTime() {
+        return summarize(metrics.getQueueWaitTime());
+    }
+
+    @Override
+    public long[] getRolloverDuration() {
+        return summarize(metrics.getRolloverDuration());
+    }
+
+    private static long[] summarize(final LatencyHistogram histogram) {
+        return new long[] {
+            histogram.getCount(),
+            histogram.getValueAtPercentile(50),
+            histogram.getValueAtPercentile(90),
+            histogram.getValueAtPercentile(99),
+            histogram.getValueAtPercentile(99.9),
+            histogram.getMax()
+        };
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.jmx;
+
+/**
+ * The MBean interface for monitoring the metrics of a Log4j component.
+ * <p>
+ * Durations are reported as arrays of {@value #SUMMARY_SIZE} values in nanoseconds: the number of recorded
+ * durations, the 50th, 90th, 99th and 99.9th percentiles and the maximum.
+ * </p>
+ * @see org.apache.logging.log4j.core.metrics.MetricsRegistry
+ * @since 2.24.0
+ */
+public interface MetricsAdminMBean {
+    /**
+     * ObjectName pattern ({@value}) for MetricsAdmin MBeans.
+     * This pattern contains three variables: the type of the component, its name and a unique identifier that
+     * distinguishes components with the same name in different logger contexts.
+     * <p>
+     * You can find all registered MetricsAdmin MBeans of appenders like this:
+     * </p>
+     * <pre>
+     * MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+     * String pattern = String.format(MetricsAdminMBean.PATTERN, &quot;Appender&quot;, &quot;*&quot;, &quot;*&quot;);
+     * Set&lt;ObjectName&gt; metricsNames = mbs.queryNames(new ObjectName(pattern), null);
+     * </pre>
+     * @see Server#escape(String)
+     */
+    String PATTERN = Server.DOMAIN + ":type=Metrics,component=%s,name=%s,id=%s";
+
+    /**
+     * The length ({@value}) of the arrays returned for durations.
+     */
+    int SUMMARY_SIZE = 6;
+
+    /**
+     * Returns the type of the instrumented component.
+     *
+     * @return the type of the component
+     */
+    String getType();
+
+    /**
+     * Returns the name of the instrumented component.
+     *
+     * @return the name of the component
+     */
+    String getName();
+
+    /**
+     * Returns the number of events appended or processed by the component.
+     *
+     * @return the number of events
+     */
+    long getEventCount();
+
+    /**
+     * Returns the number of events dropped by the component.
+     *
+     * @return the number of dropped events
+     */
+    long getDroppedEventCount();
+
+    /**
+     * Returns the number of bytes written by the component.
+     *
+     * @return the number of bytes
+     */
+    long getByteCount();
+
+    /**
+     * Returns the number of events routed to an existing route of a routing appender.
+     *
+     * @return the number of route hits
+     */
+    long getRouteHitCount();
+
+    /**
+     * Returns the number of routes created by a routing appender.
+     *
+     * @return the number of created routes
+     */
+    long getRouteCreationCount();
+
+    /**
+     * Returns the number of created routes removed by the purge policy of a routing appender.
+     *
+     * @return the number of evicted routes
+     */
+    long getRouteEvictionCount();
+
+    /**
+     * Returns a summary of the time spent appending single events.
+     *
+     * @return the count, percentiles and maximum in nanoseconds
+     */
+    long[] getAppendLatency();
+
+    /**
+     * Returns a summary of the time spent flushing the destination.
+     *
+     * @return the count, percentiles and maximum in nanoseconds
+     */
+    long[] getFlushLatency();
+
+    /**
+     * Returns a summary of the time events spent in a queue.
+     *
+     * @return the count, percentiles and maximum in nanoseconds
+     */
+    long[] getQueueWaitTime();
+
+    /**
+     * Returns a summary of the time spent rolling over files.
+     *
+     * @return the count, percentiles and maximum in nanoseconds
+     */
+    long[] getRolloverDuration();
+}
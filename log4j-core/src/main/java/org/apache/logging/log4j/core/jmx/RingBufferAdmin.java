@@ -17,6 +17,7 @@
 package org.apache.logging.log4j.core.jmx;
 
 import com.lmax.disruptor.RingBuffer;
+import java.util.function.LongSupplier;
 import javax.management.ObjectName;
 
 /**
@@ -26,6 +27,8 @@ public class RingBufferAdmin implements RingBufferAdminMBean {
 
     private final RingBuffer<?> ringBuffer;
     private final ObjectName objectName;
+    private final String[] consumerNames;
+    private final LongSupplier[] consumerSequences;
 
     public static RingBufferAdmin forAsyncLogger(final RingBuffer<?> ringBuffer, final String contextName) {
         final String ctxName = Server.escape(contextName);
@@ -41,8 +44,47 @@ public class RingBufferAdmin implements RingBufferAdminMBean {
         return new RingBufferAdmin(ringBuffer, name);
     }
 
+    /**
+     * Creates the MBean of an {@code AsyncLoggerConfig} ring buffer with several consumers.
+     *
+     * @param ringBuffer the ring buffer
+     * @param contextName the name of the logger context
+     * @param configName the name of the logger config
+     * @param consumerNames the names of the consumers
+     * @param consumerSequences the sequence of each consumer, in the same order as {@code consumerNames}
+     * @return the MBean
+     * @since 2.24.0
+     */
+    public static RingBufferAdmin forAsyncLoggerConfig(
+            final RingBuffer<?> ringBuffer,
+            final String contextName,
+            final String configName,
+            final String[] consumerNames,
+            final LongSupplier[] consumerSequences) {
+        final String ctxName = Server.escape(contextName);
+        final String cfgName = Server.escape(configName);
+        final String name = String.format(PATTERN_ASYNC_LOGGER_CONFIG, ctxName, cfgName);
+        return new RingBufferAdmin(ringBuffer, name, consumerNames, consumerSequences);
+    }
+
     protected RingBufferAdmin(final RingBuffer<?> ringBuffer, final String mbeanName) {
+        this(ringBuffer, mbeanName, new String[0], new LongSupplier[0]);
+    }
+
+    /**
+     * @since 2.24.0
+     */
+    protected RingBufferAdmin(
+            final RingBuffer<?> ringBuffer,
+            final String mbeanName,
+            final String[] consumerNames,
+            final LongSupplier[] consumerSequences) {
+        if (consumerNames.length != consumerSequences.length) {
+            throw new IllegalArgumentException("Expected one sequence per consumer");
+        }
         this.ringBuffer = ringBuffer;
+        this.consumerNames = consumerNames;
+        this.consumerSequences = consumerSequences;
         try {
             objectName = new ObjectName(mbeanName);
         } catch (final Exception e) {
@@ -60,6 +102,21 @@ public class RingBufferAdmin implements RingBufferAdminMBean {
         return ringBuffer == null ? 0 : ringBuffer.remainingCapacity();
     }
 
+    @Override
+    public String[] getConsumerNames() {
+        return consumerNames.clone();
+    }
+
+    @Override
+    public long[] getConsumerLags() {
+        final long cursor = ringBuffer == null ? 0 : ringBuffer.getCursor();
+        final long[] lags = new long[consumerSequences.length];
+        for (int i = 0; i < lags.length; i++) {
+            lags[i] = Math.max(0, cursor - consumerSequences[i].getAsLong());
+        }
+        return lags;
+    }
+
     /**
      * Returns the {@code ObjectName} of this mbean.
      *
@@ -68,4 +68,22 @@ public interface RingBufferAdminMBean {
      * @return the number of available slots in the ring buffer
      */
     long getRemainingCapacity();
+
+    /**
+     * Returns the names of the consumers of the ring buffer. The ring buffer of {@code AsyncLoggerConfig} has one
+     * consumer per group of appenders.
+     *
+     * @return the names of the consumers, or an empty array if they are not known
+     * @since 2.24.0
+     */
+    String[] getConsumerNames();
+
+    /**
+     * Returns the number of events each consumer has not processed yet, in the order of {@link #getConsumerNames()}.
+     * May vary wildly between invocations.
+     *
+     * @return the lag of each consumer
+     * @since 2.24.0
+     */
+    long[] getConsumerLags();
 }
@@ -37,6 +37,7 @@ import org.apache.logging.log4j.core.async.AsyncLoggerConfig;
 import org.apache.logging.log4j.core.async.AsyncLoggerContext;
 import org.apache.logging.log4j.core.config.LoggerConfig;
 import org.apache.logging.log4j.core.impl.Log4jContextFactory;
+import org.apache.logging.log4j.core.metrics.ComponentMetrics;
 import org.apache.logging.log4j.core.selector.ContextSelector;
 import org.apache.logging.log4j.core.util.Constants;
 import org.apache.logging.log4j.core.util.Log4jThreadFactory;
@@ -351,6 +352,39 @@ public final class Server {
         }
     }
 
+    /**
+     * Registers an MBean for the metrics of a started component, unless JMX is disabled.
+     *
+     * @param metrics the metrics of the component
+     * @since 2.24.0
+     */
+    public static void registerMetrics(final ComponentMetrics metrics) {
+        if (isJmxDisabled()) {
+            return;
+        }
+        try {
+            final MetricsAdmin mbean = new MetricsAdmin(metrics);
+            register(ManagementFactory.getPlatformMBeanServer(), mbean, mbean.getObjectName());
+        } catch (final Exception ex) {
+            LOGGER.error("Could not register metrics MBean for {}", metrics, ex);
+        }
+    }
+
+    /**
+     * Unregisters the MBean for the metrics of a stopped component, unless JMX is disabled.
+     *
+     * @param metrics the metrics of the component
+     * @since 2.24.0
+     */
+    public static void unregisterMetrics(final ComponentMetrics metrics) {
+        if (isJmxDisabled()) {
+            return;
+        }
+        final String search = String.format(
+                MetricsAdminMBean.PATTERN, escape(metrics.getType()), escape(metrics.getName()), metrics.getId());
+        unregisterAllMatching(search, ManagementFactory.getPlatformMBeanServer());
+    }
+
     private static void registerLoggerConfigs(final LoggerContext ctx, final MBeanServer mbs, final Executor executor)
             throws InstanceAlreadyExistsException, MBeanRegistrationException, NotCompliantMBeanException {
 
@@ -32,6 +32,7 @@ import org.apache.logging.log4j.core.impl.LocationAware;
 import org.apache.logging.log4j.core.util.Constants;
 import org.apache.logging.log4j.core.util.StringEncoder;
 import org.apache.logging.log4j.spi.AbstractLogger;
+import org.apache.logging.log4j.spi.recycler.VirtualThreads;
 import org.apache.logging.log4j.util.PropertiesUtil;
 import org.apache.logging.log4j.util.StringBuilders;
 import org.apache.logging.log4j.util.Strings;
@@ -124,8 +125,9 @@ public abstract class AbstractStringLayout extends AbstractLayout<String> implem
      * @return a {@code StringBuilder}
      */
     protected static StringBuilder getStringBuilder() {
-        if (AbstractLogger.getRecursionDepth() > 1) { // LOG4J2-2368
+        if (AbstractLogger.getRecursionDepth() > 1 || VirtualThreads.isCurrentThreadVirtual()) { // LOG4J2-2368
             // Recursive logging may clobber the cached StringBuilder.
+            // Virtual threads are rarely reused, caching would only retain one StringBuilder per thread.
             return new StringBuilder(DEFAULT_STRING_BUILDER_SIZE);
         }
         StringBuilder result = threadLocal.get();
@@ -172,7 +174,7 @@ public abstract class AbstractStringLayout extends AbstractLayout<String> implem
         this.headerSerializer = null;
         this.footerSerializer = null;
         this.charset = aCharset == null ? StandardCharsets.UTF_8 : aCharset;
-        textEncoder = Constants.ENABLE_DIRECT_ENCODERS ? new StringBuilderEncoder(charset) : null;
+        textEncoder = Constants.ENABLE_DIRECT_ENCODERS ? createStringBuilderEncoder(charset) : null;
     }
 
     /**
@@ -192,7 +194,7 @@ public abstract class AbstractStringLayout extends AbstractLayout<String> implem
         this.headerSerializer = headerSerializer;
         this.footerSerializer = footerSerializer;
         this.charset = aCharset == null ? StandardCharsets.UTF_8 : aCharset;
-        textEncoder = Constants.ENABLE_DIRECT_ENCODERS ? new StringBuilderEncoder(charset) : null;
+        textEncoder = Constants.ENABLE_DIRECT_ENCODERS ? createStringBuilderEncoder(charset) : null;
     }
 
     protected byte[] getBytes(final String s) {
@@ -251,11 +253,17 @@ public abstract class AbstractStringLayout extends AbstractLayout<String> implem
      */
     protected Encoder<StringBuilder> getStringBuilderEncoder() {
         if (textEncoder == null) {
-            textEncoder = new StringBuilderEncoder(getCharset());
+            textEncoder = createStringBuilderEncoder(getCharset());
         }
         return textEncoder;
     }
 
+    private static Encoder<StringBuilder> createStringBuilderEncoder(final Charset charset) {
+        return Constants.ENCODER_BYPASS_CHARSET_ENCODER && DirectStringBuilderEncoder.isSupported(charset)
+                ? new DirectStringBuilderEncoder(charset)
+                : new StringBuilderEncoder(charset);
+    }
+
     protected byte[] serializeToBytes(final Serializer serializer, final byte[] defaultValue) {
         final String serializable = serializeToString(serializer);
         if (serializable == null) {
@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.layout;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.LocationAware;
+import org.apache.logging.log4j.core.pattern.DatePatternConverter;
+import org.apache.logging.log4j.core.pattern.FormattingInfo;
+import org.apache.logging.log4j.core.pattern.LevelPatternConverter;
+import org.apache.logging.log4j.core.pattern.LineSeparatorPatternConverter;
+import org.apache.logging.log4j.core.pattern.LiteralPatternConverter;
+import org.apache.logging.log4j.core.pattern.LogEventPatternConverter;
+import org.apache.logging.log4j.core.pattern.LoggerPatternConverter;
+import org.apache.logging.log4j.core.pattern.MessagePatternConverter;
+import org.apache.logging.log4j.core.pattern.PatternFormatter;
+import org.apache.logging.log4j.core.pattern.ThreadNamePatternConverter;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.util.PerformanceSensitive;
+import org.apache.logging.log4j.util.StringBuilderFormattable;
+import org.apache.logging.log4j.util.Strings;
+
+/**
+ * A {@link PatternLayout} serializer that runs a parsed pattern as a single specialized method.
+ * <p>
+ * Adjacent literals and line separators are merged into a single string, while the default {@code %c}, {@code %d},
+ * {@code %m}, {@code %p} and {@code %t} converters are inlined, so that the only remaining virtual calls are those to
+ * the converters that have no specialized instruction.
+ * </p>
+ */
+@PerformanceSensitive("allocation")
+final class CompiledPatternSerializer implements PatternLayout.PatternSerializer {
+
+    private static final int LITERAL = 0;
+    private static final int LOGGER = 1;
+    private static final int THREAD_NAME = 2;
+    private static final int LEVEL = 3;
+    private static final int MESSAGE = 4;
+    private static final int DATE = 5;
+    private static final int CONVERTER = 6;
+
+    // The default converters are singletons
+    private static final LogEventPatternConverter DEFAULT_LEVEL = LevelPatternConverter.newInstance(null);
+    private static final LogEventPatternConverter DEFAULT_LOGGER = LoggerPatternConverter.newInstance(null);
+    private static final LogEventPatternConverter DEFAULT_MESSAGE = MessagePatternConverter.newInstance(null, null);
+
+    private final int[] instructions;
+    private final String[] literals;
+    private final LogEventPatternConverter[] converters;
+    private final FormattingInfo[] fields;
+    private final boolean requiresLocation;
+
+    private CompiledPatternSerializer(
+            final int[] instructions,
+            final String[] literals,
+            final LogEventPatternConverter[] converters,
+            final FormattingInfo[] fields) {
+        this.instructions = instructions;
+        this.literals = literals;
+        this.converters = converters;
+        this.fields = fields;
+        boolean location = false;
+        for (final LogEventPatternConverter converter : converters) {
+            location |= converter instanceof LocationAware && ((LocationAware) converter).requiresLocation();
+        }
+        this.requiresLocation = location;
+    }
+
+    /**
+     * Compiles a list of pattern formatters.
+     *
+     * @param formatters The formatters returned by the pattern parser.
+     * @return A serializer producing the same output as the formatters.
+     */
+    static CompiledPatternSerializer compile(final PatternFormatter[] formatters) {
+        final List<Integer> instructions = new ArrayList<>(formatters.length);
+        final List<String> literals = new ArrayList<>(formatters.length);
+        final List<LogEventPatternConverter> converters = new ArrayList<>(formatters.length);
+        final List<FormattingInfo> fields = new ArrayList<>(formatters.length);
+        final StringBuilder pendingLiteral = new StringBuilder();
+        for (final PatternFormatter formatter : formatters) {
+            final LogEventPatternConverter converter = formatter.getConverter();
+            final FormattingInfo info = formatter.getFormattingInfo();
+            final FormattingInfo field = info == null || info == FormattingInfo.getDefault() ? null : info;
+            final String literal = field == null ? getConstant(converter) : null;
+            if (literal != null) {
+                pendingLiteral.append(literal);
+                continue;
+            }
+            if (pendingLiteral.length() > 0) {
+                instructions.add(LITERAL);
+                literals.add(pendingLiteral.toString());
+                converters.add(null);
+                fields.add(null);
+                pendingLiteral.setLength(0);
+            }
+            instructions.add(getInstruction(converter));
+            literals.add(null);
+            converters.add(converter);
+            fields.add(field);
+        }
+        if (pendingLiteral.length() > 0) {
+            instructions.add(LITERAL);
+            literals.add(pendingLiteral.toString());
+            converters.add(null);
+            fields.add(null);
+        }
+        final int[] codes = new int[instructions.size()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = instructions.get(i);
+        }
+        return new CompiledPatternSerializer(
+                codes,
+                literals.toArray(new String[0]),
+                converters.toArray(new LogEventPatternConverter[0]),
+                fields.toArray(new FormattingInfo[0]));
+    }
+
+    /**
+     * Returns the text of converters whose output does not depend on the event.
+     */
+    private static String getConstant(final LogEventPatternConverter converter) {
+        if (converter instanceof LineSeparatorPatternConverter) {
+            return Strings.LINE_SEPARATOR;
+        }
+        if (converter instanceof LiteralPatternConverter) {
+            final String literal = ((LiteralPatternConverter) converter).getLiteral();
+            // Literals containing lookups are evaluated for each event
+            return literal.contains("${") ? null : literal;
+        }
+        return null;
+    }
+
+    private static int getInstruction(final LogEventPatternConverter converter) {
+        if (converter == DEFAULT_LOGGER) {
+            return LOGGER;
+        }
+        if (converter instanceof ThreadNamePatternConverter) {
+            return THREAD_NAME;
+        }
+        if (converter == DEFAULT_LEVEL) {
+            return LEVEL;
+        }
+        if (converter == DEFAULT_MESSAGE) {
+            return MESSAGE;
+        }
+        if (converter instanceof DatePatternConverter) {
+            return DATE;
+        }
+        return CONVERTER;
+    }
+
+    @Override
+    public String toSerializable(final LogEvent event) {
+        final StringBuilder sb = AbstractStringLayout.getStringBuilder();
+        try {
+            return toSerializable(event, sb).toString();
+        } finally {
+            AbstractStringLayout.trimToMaxSize(sb);
+        }
+    }
+
+    @Override
+    public StringBuilder toSerializable(final LogEvent event, final StringBuilder buffer) {
+        final int[] instructions = this.instructions;
+        for (int i = 0; i < instructions.length; i++) {
+            final int start = buffer.length();
+            switch (instructions[i]) {
+                case LITERAL:
+                    buffer.append(literals[i]);
+                    break;
+                case LOGGER:
+                    buffer.append(event.getLoggerName());
+                    break;
+                case THREAD_NAME:
+                    buffer.append(event.getThreadName());
+                    break;
+                case LEVEL:
+                    buffer.append(event.getLevel());
+                    break;
+                case MESSAGE:
+                    formatMessage(event.getMessage(), buffer);
+                    break;
+                case DATE:
+                    ((DatePatternConverter) converters[i]).format(event, buffer);
+                    break;
+                default:
+                    converters[i].format(event, buffer);
+            }
+            final FormattingInfo field = fields[i];
+            if (field != null) {
+                field.format(start, buffer);
+            }
+        }
+        return buffer;
+    }
+
+    private static void formatMessage(final Message message, final StringBuilder buffer) {
+        if (message instanceof StringBuilderFormattable) {
+            ((StringBuilderFormattable) message).formatTo(buffer);
+        } else if (message != null) {
+            buffer.append(message.getFormattedMessage());
+        }
+    }
+
+    @Override
+    public boolean requiresLocation() {
+        return requiresLocation;
+    }
+
+    @Override
+    public String toString() {
+        return super.toString() + "[instructions=" + Arrays.toString(instructions) + ", literals="
+                + Arrays.toString(literals) + ", converters=" + Arrays.toString(converters) + "]";
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.layout;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import org.apache.logging.log4j.core.util.Constants;
+import org.apache.logging.log4j.status.StatusLogger;
+import org.apache.logging.log4j.util.PerformanceSensitive;
+
+/**
+ * Encoder for StringBuilders that converts characters to UTF-8, US-ASCII or ISO-8859-1 bytes without using a
+ * {@link java.nio.charset.CharsetEncoder}.
+ * <p>
+ * Unlike {@link StringBuilderEncoder}, the characters are converted by a single loop over a thread-local char array,
+ * with a fast path for ASCII text, instead of going through the {@link java.nio.CharBuffer} and
+ * {@link java.nio.charset.CoderResult} state machine of a {@code CharsetEncoder}. Unmappable and malformed characters
+ * are replaced with {@code '?'}, as the {@code CharsetEncoder} used by {@code StringBuilderEncoder} does.
+ * </p>
+ *
+ * @since 2.24.0
+ */
+@PerformanceSensitive("allocation")
+public final class DirectStringBuilderEncoder implements Encoder<StringBuilder> {
+
+    private static final byte REPLACEMENT = '?';
+
+    /**
+     * Stores a char array and a heap ByteBuffer. Only JDK classes are stored in this ThreadLocal, see
+     * {@link StringBuilderEncoder}.
+     */
+    private final ThreadLocal<Object[]> threadLocal = new ThreadLocal<>();
+
+    private final Charset charset;
+    private final boolean utf8;
+    private final char maxSingleByteChar;
+    private final int charBufferSize;
+    private final int byteBufferSize;
+
+    public DirectStringBuilderEncoder(final Charset charset) {
+        this(charset, Constants.ENCODER_CHAR_BUFFER_SIZE, Constants.ENCODER_BYTE_BUFFER_SIZE);
+    }
+
+    public DirectStringBuilderEncoder(final Charset charset, final int charBufferSize, final int byteBufferSize) {
+        this.charset = Objects.requireNonNull(charset, "charset");
+        if (!isSupported(charset)) {
+            throw new IllegalArgumentException("Unsupported charset " + charset);
+        }
+        this.utf8 = StandardCharsets.UTF_8.equals(charset);
+        this.maxSingleByteChar = StandardCharsets.ISO_8859_1.equals(charset) ? '\u00ff' : '\u007f';
+        // Each chunk holds at least a surrogate pair
+        this.charBufferSize = Math.max(charBufferSize, 3);
+        this.byteBufferSize = Math.max(byteBufferSize, 3 * 3);
+    }
+
+    /**
+     * Checks if a charset can be handled by this encoder.
+     *
+     * @param charset A charset.
+     * @return {@code true} for UTF-8, US-ASCII and ISO-8859-1.
+     */
+    public static boolean isSupported(final Charset charset) {
+        return StandardCharsets.UTF_8.equals(charset)
+                || StandardCharsets.US_ASCII.equals(charset)
+                || StandardCharsets.ISO_8859_1.equals(charset);
+    }
+
+    @Override
+    public void encode(final StringBuilder source, final ByteBufferDestination destination) {
+        try {
+            final Object[] threadLocalState = getThreadLocalState();
+            encodeText(source, (char[]) threadLocalState[0], (ByteBuffer) threadLocalState[1], destination);
+        } catch (final Exception ex) {
+            StatusLogger.getLogger()
+                    .error("Recovering from DirectStringBuilderEncoder.encode('{}') error: {}", source, ex, ex);
+            TextEncoderHelper.encodeTextFallBack(charset, source, destination);
+        }
+    }
+
+    /**
+     * Converts the specified text to bytes using caller-provided buffers and writes the resulting bytes to the
+     * specified destination, synchronizing on the destination only if the text does not fit into the buffers.
+     *
+     * @param source the text to convert and write to the destination
+     * @param chars a buffer of at least 3 characters
+     * @param byteBuffer an empty heap buffer of at least 9 bytes to temporarily hold converted bytes
+     * @param destination the destination to write the bytes to
+     */
+    public void encodeText(
+            final StringBuilder source,
+            final char[] chars,
+            final ByteBuffer byteBuffer,
+            final ByteBufferDestination destination) {
+        final int length = source.length();
+        if (length <= chars.length && length * maxBytesPerChar() <= byteBuffer.remaining()) {
+            // Common case: the whole text fits into the buffers
+            source.getChars(0, length, chars, 0);
+            encodeChunk(chars, length, byteBuffer);
+            byteBuffer.flip();
+            destination.writeBytes(byteBuffer);
+            byteBuffer.clear();
+            return;
+        }
+        // Hold the lock on the destination while writing all chunks.
+        synchronized (destination) {
+            encodeChunked(source, chars, byteBuffer, destination);
+        }
+    }
+
+    private void encodeChunk(final char[] chars, final int length, final ByteBuffer byteBuffer) {
+        final int offset = byteBuffer.arrayOffset();
+        final int position = encode(chars, 0, length, byteBuffer.array(), offset + byteBuffer.position());
+        byteBuffer.position(position - offset);
+    }
+
+    private int maxBytesPerChar() {
+        return utf8 ? 3 : 1;
+    }
+
+    private void encodeChunked(
+            final StringBuilder source,
+            final char[] chars,
+            final ByteBuffer byteBuffer,
+            final ByteBufferDestination destination) {
+        final int length = source.length();
+        // A chunk never ends between the two chars of a surrogate pair
+        final int maxChunk = Math.min(chars.length - 1, byteBuffer.capacity() / maxBytesPerChar() - 1);
+        int index = 0;
+        while (index < length) {
+            int end = Math.min(length, index + maxChunk);
+            if (end < length && Character.isHighSurrogate(source.charAt(end - 1))) {
+                end++;
+            }
+            source.getChars(index, end, chars, 0);
+            byteBuffer.clear();
+            encodeChunk(chars, end - index, byteBuffer);
+            byteBuffer.flip();
+            ByteBufferDestinationHelper.writeToUnsynchronized(byteBuffer, destination);
+            index = end;
+        }
+        byteBuffer.clear();
+    }
+
+    private Object[] getThreadLocalState() {
+        Object[] threadLocalState = threadLocal.get();
+        if (threadLocalState == null) {
+            threadLocalState = new Object[] {new char[charBufferSize], ByteBuffer.allocate(byteBufferSize)};
+            threadLocal.set(threadLocalState);
+        } else {
+            ((ByteBuffer) threadLocalState[1]).clear();
+        }
+        return threadLocalState;
+    }
+
+    /**
+     * Encodes characters into a byte array large enough to hold them.
+     *
+     * @param chars the characters to encode
+     * @param start the index of the first character to encode
+     * @param end the index after the last character to encode
+     * @param bytes the destination array
+     * @param offset the index of the first byte to write
+     * @return the index after the last written byte
+     */
+    int encode(final char[] chars, final int start, final int end, final byte[] bytes, final int offset) {
+        int position = offset;
+        int index = start;
+        // ASCII fast path
+        while (index < end) {
+            final char c = chars[index];
+            if (c >= 0x80) {
+                break;
+            }
+            bytes[position++] = (byte) c;
+            index++;
+        }
+        while (index < end) {
+            final char c = chars[index++];
+            if (c < 0x80) {
+                bytes[position++] = (byte) c;
+            } else if (!utf8) {
+                bytes[position++] = c <= maxSingleByteChar ? (byte) c : REPLACEMENT;
+                // A surrogate pair is replaced as a whole
+                if (Character.isHighSurrogate(c) && index < end && Character.isLowSurrogate(chars[index])) {
+                    index++;
+                }
+            } else if (c < 0x800) {
+                bytes[position++] = (byte) (0xc0 | (c >> 6));
+                bytes[position++] = (byte) (0x80 | (c & 0x3f));
+            } else if (!Character.isSurrogate(c)) {
+                bytes[position++] = (byte) (0xe0 | (c >> 12));
+                bytes[position++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                bytes[position++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isHighSurrogate(c) && index < end && Character.isLowSurrogate(chars[index])) {
+                final int codePoint = Character.toCodePoint(c, chars[index++]);
+                bytes[position++] = (byte) (0xf0 | (codePoint >> 18));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                bytes[position++] = (byte) (0x80 | (codePoint & 0x3f));
+            } else {
+                // Malformed surrogate
+                bytes[position++] = REPLACEMENT;
+            }
+        }
+        return position;
+    }
+}
@@ -99,6 +99,8 @@ public final class PatternLayout extends AbstractStringLayout {
      *            If {@code "true"}, do not output ANSI escape codes
      * @param noConsoleNoAnsi
      *            If {@code "true"} (default) and {@link System#console()} is null, do not output ANSI escape codes
+     * @param compiled
+     *            If {@code "true"}, compile the patterns into specialized serializers
      * @param headerPattern header conversion pattern.
      * @param footerPattern footer conversion pattern.
      */
@@ -111,6 +113,7 @@ public final class PatternLayout extends AbstractStringLayout {
             final boolean alwaysWriteExceptions,
             final boolean disableAnsi,
             final boolean noConsoleNoAnsi,
+            final boolean compiled,
             final String headerPattern,
             final String footerPattern) {
         super(
@@ -123,6 +126,7 @@ public final class PatternLayout extends AbstractStringLayout {
                         .setAlwaysWriteExceptions(alwaysWriteExceptions)
                         .setDisableAnsi(disableAnsi)
                         .setNoConsoleNoAnsi(noConsoleNoAnsi)
+                        .setCompiled(compiled)
                         .setPattern(headerPattern)
                         .build(),
                 newSerializerBuilder()
@@ -132,6 +136,7 @@ public final class PatternLayout extends AbstractStringLayout {
                         .setAlwaysWriteExceptions(alwaysWriteExceptions)
                         .setDisableAnsi(disableAnsi)
                         .setNoConsoleNoAnsi(noConsoleNoAnsi)
+                        .setCompiled(compiled)
                         .setPattern(footerPattern)
                         .build());
         this.conversionPattern = eventPattern;
@@ -143,6 +148,7 @@ public final class PatternLayout extends AbstractStringLayout {
                 .setAlwaysWriteExceptions(alwaysWriteExceptions)
                 .setDisableAnsi(disableAnsi)
                 .setNoConsoleNoAnsi(noConsoleNoAnsi)
+                .setCompiled(compiled)
                 .setPattern(eventPattern)
                 .setDefaultPattern(DEFAULT_CONVERSION_PATTERN)
                 .build();
@@ -326,7 +332,7 @@ public final class PatternLayout extends AbstractStringLayout {
                 .build();
     }
 
-    private interface PatternSerializer extends Serializer, LocationAware {}
+    interface PatternSerializer extends Serializer, LocationAware {}
 
     private static final class NoFormatPatternSerializer implements PatternSerializer {
 
@@ -466,6 +472,7 @@ public final class PatternLayout extends AbstractStringLayout {
         private boolean alwaysWriteExceptions;
         private boolean disableAnsi;
         private boolean noConsoleNoAnsi;
+        private boolean compiled;
 
         @Override
         public Serializer build() {
@@ -481,6 +488,10 @@ public final class PatternLayout extends AbstractStringLayout {
                             disableAnsi,
                             noConsoleNoAnsi);
                     final PatternFormatter[] formatters = list.toArray(PatternFormatter.EMPTY_ARRAY);
+                    if (compiled) {
+                        final PatternSerializer serializer = CompiledPatternSerializer.compile(formatters);
+                        return replace == null ? serializer : new PatternSerializerWithReplacement(serializer, replace);
+                    }
                     boolean hasFormattingInfo = false;
                     for (PatternFormatter formatter : formatters) {
                         final FormattingInfo info = formatter.getFormattingInfo();
@@ -539,6 +550,16 @@ public final class PatternLayout extends AbstractStringLayout {
             this.noConsoleNoAnsi = noConsoleNoAnsi;
             return this;
         }
+
+        /**
+         * @param compiled
+         *        If {@code true}, the pattern is compiled into a single specialized serializer.
+         * @since 2.24.0
+         */
+        public SerializerBuilder setCompiled(final boolean compiled) {
+            this.compiled = compiled;
+            return this;
+        }
     }
 
     private static final class PatternSelectorSerializer implements Serializer, LocationAware {
@@ -657,6 +678,9 @@ public final class PatternLayout extends AbstractStringLayout {
         @PluginBuilderAttribute
         private boolean noConsoleNoAnsi;
 
+        @PluginBuilderAttribute
+        private boolean compiled;
+
         @PluginBuilderAttribute
         private String header;
 
@@ -748,6 +772,17 @@ public final class PatternLayout extends AbstractStringLayout {
             return this;
         }
 
+        /**
+         * @param compiled
+         *        If {@code "true"} (default is false), the pattern is compiled into a single specialized formatter
+         *        that inlines literals, padding and the most common converters.
+         * @since 2.24.0
+         */
+        public Builder withCompiled(final boolean compiled) {
+            this.compiled = compiled;
+            return this;
+        }
+
         /**
          * @param header
          *        The header to place at the top of the document, once.
@@ -778,6 +813,7 @@ public final class PatternLayout extends AbstractStringLayout {
                     alwaysWriteExceptions,
                     disableAnsi,
                     noConsoleNoAnsi,
+                    compiled,
                     header,
                     footer);
         }
@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.logging.log4j.core.time.Instant;
+import org.apache.logging.log4j.core.time.MutableInstant;
+import org.apache.logging.log4j.core.util.Clock;
+
+/**
+ * The metrics of a single Log4j component, like an appender, a manager or the ring buffer of asynchronous loggers.
+ * <p>
+ * Components only update the metrics that apply to them, the others stay at zero. All updates are lock-free and do
+ * not allocate.
+ * </p>
+ * @see MetricsRegistry
+ * @since 2.24.0
+ */
+public final class ComponentMetrics {
+
+    /**
+     * The type of the metrics of an {@link org.apache.logging.log4j.core.Appender}.
+     */
+    public static final String APPENDER = "Appender";
+
+    /**
+     * The type of the metrics of an {@link org.apache.logging.log4j.core.appender.AbstractManager}.
+     */
+    public static final String MANAGER = "Manager";
+
+    /**
+     * The type of the metrics of the ring buffer shared by the asynchronous loggers of a logger context.
+     */
+    public static final String ASYNC_LOGGER = "AsyncLogger";
+
+    private static final AtomicLong ID_GENERATOR = new AtomicLong();
+
+    private final long id = ID_GENERATOR.incrementAndGet();
+    private final String type;
+    private final String name;
+    private final LongAdder eventCount = new LongAdder();
+    private final LongAdder droppedEventCount = new LongAdder();
+    private final LongAdder byteCount = new LongAdder();
+    private final LongAdder routeHitCount = new LongAdder();
+    private final LongAdder routeCreationCount = new LongAdder();
+    private final LongAdder routeEvictionCount = new LongAdder();
+    private final LatencyHistogram appendLatency = new LatencyHistogram();
+    private final LatencyHistogram flushLatency = new LatencyHistogram();
+    private final LatencyHistogram queueWaitTime = new LatencyHistogram();
+    private final LatencyHistogram rolloverDuration = new LatencyHistogram();
+
+    ComponentMetrics(final String type, final String name) {
+        this.type = type;
+        this.name = name;
+    }
+
+    /**
+     * Returns a number that distinguishes components of the same type and name, e.g. in different logger contexts.
+     *
+     * @return a unique identifier
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Returns the type of the component, e.g. {@value #APPENDER}.
+     *
+     * @return the type of the component
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Returns the name of the component.
+     *
+     * @return the name of the component
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Counts an event appended or processed by the component.
+     */
+    public void incrementEventCount() {
+        eventCount.increment();
+    }
+
+    /**
+     * Returns the number of events appended or processed by the component.
+     *
+     * @return the number of events
+     */
+    public long getEventCount() {
+        return eventCount.sum();
+    }
+
+    /**
+     * Counts an event that was dropped, because the component failed or its queue was full.
+     */
+    public void incrementDroppedEventCount() {
+        droppedEventCount.increment();
+    }
+
+    /**
+     * Returns the number of events dropped by the component.
+     *
+     * @return the number of dropped events
+     */
+    public long getDroppedEventCount() {
+        return droppedEventCount.sum();
+    }
+
+    /**
+     * Counts bytes written by the component to its destination.
+     *
+     * @param bytes a number of bytes
+     */
+    public void addBytes(final long bytes) {
+        byteCount.add(bytes);
+    }
+
+    /**
+     * Returns the number of bytes written by the component to its destination.
+     *
+     * @return the number of bytes
+     */
+    public long getByteCount() {
+        return byteCount.sum();
+    }
+
+    /**
+     * Counts an event routed to an existing route of a routing appender.
+     */
+    public void incrementRouteHitCount() {
+        routeHitCount.increment();
+    }
+
+    /**
+     * Returns the number of events routed to an existing route.
+     *
+     * @return the number of route hits
+     */
+    public long getRouteHitCount() {
+        return routeHitCount.sum();
+    }
+
+    /**
+     * Counts the creation of a route, together with its appender, by a routing appender.
+     */
+    public void incrementRouteCreationCount() {
+        routeCreationCount.increment();
+    }
+
+    /**
+     * Returns the number of routes created.
+     *
+     * @return the number of created routes
+     */
+    public long getRouteCreationCount() {
+        return routeCreationCount.sum();
+    }
+
+    /**
+     * Counts a created route that was removed by the purge policy of a routing appender.
+     */
+    public void incrementRouteEvictionCount() {
+        routeEvictionCount.increment();
+    }
+
+    /**
+     * Returns the number of created routes removed by a purge policy.
+     *
+     * @return the number of evicted routes
+     */
+    public long getRouteEvictionCount() {
+        return routeEvictionCount.sum();
+    }
+
+    /**
+     * Returns the time spent appending single events.
+     *
+     * @return the histogram of append latencies
+     */
+    public LatencyHistogram getAppendLatency() {
+        return appendLatency;
+    }
+
+    /**
+     * Returns the time spent flushing the destination.
+     *
+     * @return the histogram of flush latencies
+     */
+    public LatencyHistogram getFlushLatency() {
+        return flushLatency;
+    }
+
+    /**
+     * Returns the time events spent in a queue, measured from the timestamp of the event.
+     *
+     * @return the histogram of queue wait times
+     */
+    public LatencyHistogram getQueueWaitTime() {
+        return queueWaitTime;
+    }
+
+    /**
+     * Returns the time spent rolling over files.
+     *
+     * @return the histogram of rollover durations
+     */
+    public LatencyHistogram getRolloverDuration() {
+        return rolloverDuration;
+    }
+
+    /**
+     * Records the time an event spent in a queue, from its timestamp until now.
+     * <p>
+     * The precision of the measure is that of the clock: milliseconds unless a precise clock is used.
+     * </p>
+     *
+     * @param timestamp the timestamp of the event
+     * @param clock the clock that created the timestamp
+     * @param now a mutable instant confined to the calling thread, to avoid allocation
+     */
+    public void recordQueueWait(final Instant timestamp, final Clock clock, final MutableInstant now) {
+        now.initFrom(clock);
+        final long millis = now.getEpochMillisecond() - timestamp.getEpochMillisecond();
+        queueWaitTime.record(millis * 1_000_000L + now.getNanoOfMillisecond() - timestamp.getNanoOfMillisecond());
+    }
+
+    @Override
+    public String toString() {
+        return type + '[' + name + ']';
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of durations in nanoseconds with logarithmic buckets, in the style of an HDR histogram.
+ * <p>
+ * Each power of two is split into {@value #SUB_BUCKET_COUNT} linear sub-buckets, so the values reported by
+ * {@link #getValueAtPercentile(double)} are at most 12.5% larger than the recorded values. Recording a value is
+ * lock-free and does not allocate.
+ * </p>
+ * @since 2.24.0
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_MASK = SUB_BUCKET_COUNT - 1;
+    // the highest bit of a positive long is 62
+    private static final int BUCKET_COUNT = bucketIndex(Long.MAX_VALUE) + 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos a duration in nanoseconds, negative values are recorded as zero
+     */
+    public void record(final long nanos) {
+        final long value = Math.max(0, nanos);
+        buckets.incrementAndGet(bucketIndex(value));
+        count.increment();
+        total.add(value);
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * Returns the number of recorded durations.
+     *
+     * @return the number of recorded durations
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the sum of all recorded durations.
+     *
+     * @return the sum of all recorded durations in nanoseconds
+     */
+    public long getTotal() {
+        return total.sum();
+    }
+
+    /**
+     * Returns the largest recorded duration.
+     *
+     * @return the largest recorded duration in nanoseconds or {@code 0} if no duration was recorded
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns an upper bound of the given percentile of the recorded durations.
+     *
+     * @param percentile a percentile between {@code 0} and {@code 100}
+     * @return the highest value of the bucket containing the percentile, in nanoseconds, or {@code 0} if no duration
+     * was recorded
+     */
+    public long getValueAtPercentile(final double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        final long[] counts = new long[BUCKET_COUNT];
+        long recorded = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            recorded += counts[i];
+        }
+        if (recorded == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * recorded));
+        long cumulated = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulated += counts[i];
+            if (cumulated >= rank) {
+                return Math.min(highestValue(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    static int bucketIndex(final long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & SUB_BUCKET_MASK;
+        return ((exponent - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) + subBucket;
+    }
+
+    static long lowestValue(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int exponent = (index >>> SUB_BUCKET_BITS) + SUB_BUCKET_BITS - 1;
+        return (long) (SUB_BUCKET_COUNT + (index & SUB_BUCKET_MASK)) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    static long highestValue(final int index) {
+        return index + 1 < BUCKET_COUNT ? lowestValue(index + 1) - 1 : Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.metrics;
+
+/**
+ * Service that publishes the metrics of Log4j components to a monitoring system.
+ * <p>
+ * Implementations are found with {@link java.util.ServiceLoader} and must have a public no-arg constructor. The
+ * registry calls them when components start and stop; implementations typically keep the registered metrics and
+ * read them when the monitoring system polls. All methods must be thread-safe and must not log through Log4j.
+ * </p>
+ * @since 2.24.0
+ */
+public interface MetricsExporter {
+
+    /**
+     * Called when a component starts.
+     *
+     * @param metrics the metrics of the component
+     */
+    void register(ComponentMetrics metrics);
+
+    /**
+     * Called when a component stops.
+     *
+     * @param metrics the metrics of the component
+     */
+    void unregister(ComponentMetrics metrics);
+}
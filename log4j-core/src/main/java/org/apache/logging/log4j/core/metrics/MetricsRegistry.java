@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.metrics;
+
+import aQute.bnd.annotation.Cardinality;
+import aQute.bnd.annotation.Resolution;
+import aQute.bnd.annotation.spi.ServiceConsumer;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.jmx.Server;
+import org.apache.logging.log4j.status.StatusLogger;
+import org.apache.logging.log4j.util.PropertiesUtil;
+import org.apache.logging.log4j.util.ServiceLoaderUtil;
+
+/**
+ * Keeps track of the metrics of running components and publishes them through JMX and {@link MetricsExporter}s.
+ *
+ * @since 2.24.0
+ */
+@ServiceConsumer(value = MetricsExporter.class, resolution = Resolution.OPTIONAL, cardinality = Cardinality.MULTIPLE)
+public final class MetricsRegistry {
+
+    /**
+     * The property ({@value}) that enables the collection of metrics.
+     */
+    public static final String ENABLED_PROPERTY = "log4j2.enableMetrics";
+
+    private static final Logger LOGGER = StatusLogger.getLogger();
+
+    private static final Set<ComponentMetrics> METRICS = ConcurrentHashMap.newKeySet();
+
+    private MetricsRegistry() {}
+
+    /**
+     * Returns {@code true} if components should collect metrics.
+     *
+     * @return {@code true} if metrics are enabled
+     */
+    public static boolean isEnabled() {
+        return PropertiesUtil.getProperties().getBooleanProperty(ENABLED_PROPERTY, false);
+    }
+
+    /**
+     * Creates the metrics of a component, if metrics are enabled.
+     *
+     * @param type the type of the component, e.g. {@value ComponentMetrics#APPENDER}
+     * @param name the name of the component
+     * @return new metrics or {@code null} if metrics are disabled
+     */
+    public static ComponentMetrics createMetrics(final String type, final String name) {
+        return isEnabled() ? new ComponentMetrics(type, name) : null;
+    }
+
+    /**
+     * Publishes the metrics of a started component.
+     *
+     * @param metrics the metrics of the component, may be {@code null}
+     */
+    public static void register(final ComponentMetrics metrics) {
+        if (metrics != null && METRICS.add(metrics)) {
+            Server.registerMetrics(metrics);
+            for (final MetricsExporter exporter : Exporters.EXPORTERS) {
+                try {
+                    exporter.register(metrics);
+                } catch (final RuntimeException e) {
+                    LOGGER.warn("Metrics exporter {} failed to register {}.", exporter, metrics, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops publishing the metrics of a stopped component.
+     *
+     * @param metrics the metrics of the component, may be {@code null}
+     */
+    public static void unregister(final ComponentMetrics metrics) {
+        if (metrics != null && METRICS.remove(metrics)) {
+            for (final MetricsExporter exporter : Exporters.EXPORTERS) {
+                try {
+                    exporter.unregister(metrics);
+                } catch (final RuntimeException e) {
+                    LOGGER.warn("Metrics exporter {} failed to unregister {}.", exporter, metrics, e);
+                }
+            }
+            Server.unregisterMetrics(metrics);
+        }
+    }
+
+    /**
+     * Returns the metrics of all running components.
+     *
+     * @return an unmodifiable view of the registered metrics
+     */
+    public static Collection<ComponentMetrics> getMetrics() {
+        return Collections.unmodifiableSet(METRICS);
+    }
+
+    // Lazily loads the exporters, only if metrics are enabled
+    private static final class Exporters {
+
+        private static final List<MetricsExporter> EXPORTERS = ServiceLoaderUtil.safeStream(
+                        MetricsExporter.class,
+                        ServiceLoader.load(MetricsExporter.class, MetricsRegistry.class.getClassLoader()),
+                        LOGGER)
+                .collect(Collectors.toList());
+    }
+}
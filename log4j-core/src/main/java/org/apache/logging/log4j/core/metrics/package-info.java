@@ -0,0 +1,31 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * Lightweight, allocation-free metrics of Log4j components: appenders, their managers and asynchronous loggers.
+ * <p>
+ * Metrics are collected only if the {@value org.apache.logging.log4j.core.metrics.MetricsRegistry#ENABLED_PROPERTY}
+ * property is set to {@code true}. They are published as JMX MBeans, if JMX is enabled, and to all
+ * {@link org.apache.logging.log4j.core.metrics.MetricsExporter} services found by {@link java.util.ServiceLoader}.
+ * </p>
+ * @since 2.24.0
+ */
+@Export
+@Version("2.24.0")
+package org.apache.logging.log4j.core.metrics;
+
+import org.osgi.annotation.bundle.Export;
+import org.osgi.annotation.versioning.Version;
@@ -0,0 +1,801 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.net;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.appender.AppenderLoggingException;
+import org.apache.logging.log4j.core.appender.ManagerFactory;
+import org.apache.logging.log4j.core.util.Closer;
+import org.apache.logging.log4j.core.util.Log4jThreadFactory;
+import org.apache.logging.log4j.core.util.NullOutputStream;
+import org.apache.logging.log4j.util.Strings;
+
+/**
+ * Manager of non-blocking TCP connections.
+ * <p>
+ * Logging threads only copy events to a bounded off-heap ring buffer. A dedicated I/O thread connects to the server,
+ * writes the content of the ring buffer to a non-blocking {@link SocketChannel} with gathering writes, coalescing all
+ * the events queued since its previous write, and reconnects after a failure, so that a slow or unavailable server
+ * does not hold the logging threads. When the ring buffer is full, the {@link OverflowPolicy} determines if events are
+ * dropped, if the logging thread waits, or if events are spilled to a local file that is sent once the ring buffer has
+ * been drained.
+ * </p>
+ *
+ * @since 2.24.0
+ */
+public class NioTcpSocketManager extends AbstractSocketManager {
+
+    /**
+     * What to do with an event that does not fit in the ring buffer.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * Drops the event.
+         */
+        DROP,
+
+        /**
+         * Waits until the I/O thread has made enough room.
+         */
+        BLOCK,
+
+        /**
+         * Appends the event to a local file, sent after the ring buffer, or drops it if the file has reached its
+         * maximum size.
+         */
+        SPILL
+    }
+
+    /**
+     * The default size of the ring buffer (1 MiB).
+     */
+    public static final int DEFAULT_RING_BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * The default maximum size of the spill file (64 MiB).
+     */
+    public static final long DEFAULT_MAX_SPILL_BYTES = 64L * 1024 * 1024;
+
+    /**
+     * How long the pending events are sent when the manager is stopped without a timeout.
+     */
+    private static final long DEFAULT_DRAIN_TIMEOUT_MILLIS = 5000;
+
+    private static final int DEFAULT_PORT = 4560;
+
+    private static final int SPILL_BUFFER_SIZE = 64 * 1024;
+
+    private static final NioTcpSocketManagerFactory FACTORY = new NioTcpSocketManagerFactory();
+
+    private final int connectTimeoutMillis;
+    private final int reconnectionDelayMillis;
+    private final SocketOptions socketOptions;
+    private final OverflowPolicy overflowPolicy;
+    private final File spillDirectory;
+    private final long maxSpillBytes;
+
+    /**
+     * Guards the positions of the ring buffer and of the spill file.
+     */
+    private final Object lock = new Object();
+
+    private final ByteBuffer ring;
+    private final ByteBuffer producerView;
+    private final int capacity;
+    private long head;
+    private long tail;
+    private int blockedProducers;
+    private boolean closing;
+    private boolean ioThreadIdle;
+
+    private FileChannel spillChannel;
+    private File spillFile;
+    private long spillReadPosition;
+    private long spillWritePosition;
+
+    private final AtomicLong writtenBytes = new AtomicLong();
+    private final AtomicLong droppedBytes = new AtomicLong();
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicLong spilledBytes = new AtomicLong();
+
+    private final Selector selector;
+    private final Thread ioThread;
+    private volatile boolean shutdown;
+    private volatile boolean connected;
+
+    /**
+     * Constructs a manager and starts its I/O thread.
+     *
+     * @param name The unique name of this connection.
+     * @param inetAddress The Internet address of the host.
+     * @param host The name of the host.
+     * @param port The port number on the host.
+     * @param connectTimeoutMillis The connect timeout in milliseconds.
+     * @param reconnectionDelayMillis The delay between connection attempts in milliseconds.
+     * @param layout The Layout.
+     * @param bufferSize The size of the buffer used to encode events.
+     * @param socketOptions The socket options, may be null.
+     * @param ringBufferSize The size of the ring buffer in bytes.
+     * @param overflowPolicy What to do with events that do not fit in the ring buffer.
+     * @param spillDirectory The directory of the spill file.
+     * @param maxSpillBytes The maximum size of the spill file in bytes.
+     * @throws IOException if the selector cannot be opened.
+     */
+    public NioTcpSocketManager(
+            final String name,
+            final InetAddress inetAddress,
+            final String host,
+            final int port,
+            final int connectTimeoutMillis,
+            final int reconnectionDelayMillis,
+            final Layout<? extends Serializable> layout,
+            final int bufferSize,
+            final SocketOptions socketOptions,
+            final int ringBufferSize,
+            final OverflowPolicy overflowPolicy,
+            final File spillDirectory,
+            final long maxSpillBytes)
+            throws IOException {
+        super(name, NullOutputStream.getInstance(), inetAddress, host, port, layout, false, bufferSize);
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.reconnectionDelayMillis = reconnectionDelayMillis;
+        this.socketOptions = socketOptions;
+        this.overflowPolicy = overflowPolicy;
+        this.spillDirectory = spillDirectory;
+        this.maxSpillBytes = maxSpillBytes;
+        this.ring = ByteBuffer.allocateDirect(ringBufferSize);
+        this.producerView = ring.duplicate();
+        this.capacity = ringBufferSize;
+        this.selector = Selector.open();
+        if (layout != null && layout.getHeader() != null) {
+            final byte[] header = layout.getHeader();
+            writeToDestination(header, 0, header.length);
+        }
+        this.ioThread = Log4jThreadFactory.createDaemonThreadFactory("NioTcpSocketManager")
+                .newThread(new IoLoop());
+        this.ioThread.start();
+    }
+
+    /**
+     * Obtains a NioTcpSocketManager.
+     *
+     * @param host The host to connect to.
+     * @param port The port on the host.
+     * @param connectTimeoutMillis The connect timeout in milliseconds.
+     * @param reconnectDelayMillis The interval to pause between connection attempts.
+     * @param layout The Layout.
+     * @param bufferSize The size of the buffer used to encode events.
+     * @param socketOptions The socket options, may be null.
+     * @param ringBufferSize The size of the ring buffer in bytes.
+     * @param overflowPolicy What to do with events that do not fit in the ring buffer.
+     * @param spillDirectory The directory of the spill file, may be null to use the temporary directory.
+     * @param maxSpillBytes The maximum size of the spill file in bytes.
+     * @return A NioTcpSocketManager.
+     */
+    public static NioTcpSocketManager getSocketManager(
+            final String host,
+            int port,
+            final int connectTimeoutMillis,
+            int reconnectDelayMillis,
+            final Layout<? extends Serializable> layout,
+            final int bufferSize,
+            final SocketOptions socketOptions,
+            final int ringBufferSize,
+            final OverflowPolicy overflowPolicy,
+            final String spillDirectory,
+            final long maxSpillBytes) {
+        if (Strings.isEmpty(host)) {
+            throw new IllegalArgumentException("A host name is required");
+        }
+        if (port <= 0) {
+            port = DEFAULT_PORT;
+        }
+        if (reconnectDelayMillis == 0) {
+            reconnectDelayMillis = TcpSocketManager.DEFAULT_RECONNECTION_DELAY_MILLIS;
+        }
+        return (NioTcpSocketManager) getManager(
+                "NIO:TCP:" + host + ':' + port,
+                new FactoryData(
+                        host,
+                        port,
+                        connectTimeoutMillis,
+                        reconnectDelayMillis,
+                        layout,
+                        bufferSize,
+                        socketOptions,
+                        ringBufferSize > 0 ? ringBufferSize : DEFAULT_RING_BUFFER_SIZE,
+                        overflowPolicy != null ? overflowPolicy : OverflowPolicy.BLOCK,
+                        spillDirectory,
+                        maxSpillBytes > 0 ? maxSpillBytes : DEFAULT_MAX_SPILL_BYTES),
+                FACTORY);
+    }
+
+    /**
+     * Queues bytes for the I/O thread.
+     */
+    @Override
+    protected synchronized void writeToDestination(final byte[] bytes, final int offset, final int length) {
+        if (length == 0) {
+            return;
+        }
+        synchronized (lock) {
+            if (closing) {
+                throw new AppenderLoggingException("Error writing to " + getName() + ": manager is closed");
+            }
+            if (spillWritePosition > spillReadPosition) {
+                // keep the order of events until the spill file has been sent
+                spill(bytes, offset, length);
+            } else if (length <= capacity - (int) (tail - head)) {
+                put(bytes, offset, length);
+            } else {
+                switch (overflowPolicy) {
+                    case BLOCK:
+                        putBlocking(bytes, offset, length);
+                        break;
+                    case SPILL:
+                        spill(bytes, offset, length);
+                        break;
+                    default:
+                        drop(length);
+                }
+            }
+            wakeUpIoThread();
+        }
+    }
+
+    // guarded by lock
+    private void wakeUpIoThread() {
+        if (ioThreadIdle) {
+            ioThreadIdle = false;
+            selector.wakeup();
+        }
+    }
+
+    @Override
+    protected synchronized void flushDestination() {
+        // the I/O thread writes events as soon as they are queued
+    }
+
+    // guarded by lock
+    private void put(final byte[] bytes, final int offset, final int length) {
+        final int position = (int) (tail % capacity);
+        final int first = Math.min(length, capacity - position);
+        ((Buffer) producerView).clear();
+        ((Buffer) producerView).position(position);
+        producerView.put(bytes, offset, first);
+        if (first < length) {
+            ((Buffer) producerView).position(0);
+            producerView.put(bytes, offset + first, length - first);
+        }
+        tail += length;
+    }
+
+    // guarded by lock
+    private void putBlocking(final byte[] bytes, final int offset, final int length) {
+        int written = 0;
+        while (written < length) {
+            final int free = capacity - (int) (tail - head);
+            if (free == 0) {
+                wakeUpIoThread();
+                blockedProducers++;
+                try {
+                    lock.wait();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new AppenderLoggingException("Interrupted while writing to " + getName(), e);
+                } finally {
+                    blockedProducers--;
+                }
+                if (closing) {
+                    throw new AppenderLoggingException("Error writing to " + getName() + ": manager is closed");
+                }
+                continue;
+            }
+            final int n = Math.min(free, length - written);
+            put(bytes, offset + written, n);
+            written += n;
+        }
+    }
+
+    // guarded by lock
+    @SuppressFBWarnings(
+            value = "PATH_TRAVERSAL_IN",
+            justification = "The spill directory is specified in a configuration file.")
+    private void spill(final byte[] bytes, final int offset, final int length) {
+        if (spillWritePosition + length > maxSpillBytes) {
+            drop(length);
+            return;
+        }
+        try {
+            if (spillChannel == null) {
+                spillFile = File.createTempFile("log4j-" + host + '-' + port + '-', ".spill", spillDirectory);
+                spillFile.deleteOnExit();
+                spillChannel = FileChannel.open(spillFile.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+            }
+            final ByteBuffer src = ByteBuffer.wrap(bytes, offset, length);
+            while (src.hasRemaining()) {
+                spillWritePosition += spillChannel.write(src, spillWritePosition);
+            }
+            spilledBytes.addAndGet(length);
+        } catch (final IOException e) {
+            logError("Unable to write to spill file " + spillFile, e);
+            drop(length);
+        }
+    }
+
+    private void drop(final int length) {
+        droppedBytes.addAndGet(length);
+        droppedEvents.incrementAndGet();
+    }
+
+    /**
+     * Sends the pending events, waiting at most the given timeout, then closes the connection.
+     */
+    @Override
+    public boolean releaseSub(final long timeout, final TimeUnit timeUnit) {
+        writeFooter();
+        flush();
+        synchronized (lock) {
+            closing = true;
+            lock.notifyAll();
+        }
+        selector.wakeup();
+        final long timeoutMillis = timeout > 0 ? timeUnit.toMillis(timeout) : DEFAULT_DRAIN_TIMEOUT_MILLIS;
+        boolean drained = true;
+        try {
+            ioThread.join(timeoutMillis);
+            if (ioThread.isAlive()) {
+                drained = false;
+                shutdown = true;
+                ioThread.interrupt();
+                ioThread.join(timeoutMillis);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            drained = false;
+        }
+        final long lost = getQueuedBytes();
+        if (lost > 0) {
+            LOGGER.warn("{} closed with {} bytes not sent to {}:{}", getName(), lost, host, port);
+        }
+        Closer.closeSilently(selector);
+        closeSpillFile();
+        return drained && lost == 0;
+    }
+
+    private void closeSpillFile() {
+        synchronized (lock) {
+            if (spillChannel != null) {
+                Closer.closeSilently(spillChannel);
+                spillChannel = null;
+                try {
+                    Files.deleteIfExists(spillFile.toPath());
+                } catch (final IOException e) {
+                    logWarn("Unable to delete spill file " + spillFile, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of bytes waiting to be sent, in the ring buffer and in the spill file.
+     *
+     * @return the number of queued bytes.
+     */
+    public long getQueuedBytes() {
+        synchronized (lock) {
+            return tail - head + spillWritePosition - spillReadPosition;
+        }
+    }
+
+    /**
+     * Returns the number of bytes sent to the server.
+     *
+     * @return the number of written bytes.
+     */
+    public long getWrittenBytes() {
+        return writtenBytes.get();
+    }
+
+    /**
+     * Returns the number of bytes dropped because the ring buffer and the spill file were full.
+     *
+     * @return the number of dropped bytes.
+     */
+    public long getDroppedBytes() {
+        return droppedBytes.get();
+    }
+
+    /**
+     * Returns the number of writes dropped because the ring buffer and the spill file were full. A write contains one
+     * or more events, depending on the buffering of the appender.
+     *
+     * @return the number of dropped writes.
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    /**
+     * Returns the number of bytes written to the spill file.
+     *
+     * @return the number of spilled bytes.
+     */
+    public long getSpilledBytes() {
+        return spilledBytes.get();
+    }
+
+    /**
+     * Determines if the I/O thread is connected to the server.
+     *
+     * @return true if connected.
+     */
+    public boolean isConnected() {
+        return connected;
+    }
+
+    public int getConnectTimeoutMillis() {
+        return connectTimeoutMillis;
+    }
+
+    public int getReconnectionDelayMillis() {
+        return reconnectionDelayMillis;
+    }
+
+    public int getRingBufferSize() {
+        return capacity;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public long getMaxSpillBytes() {
+        return maxSpillBytes;
+    }
+
+    /**
+     * Gets this NioTcpSocketManager's content format. Specified by:
+     * <ul>
+     * <li>Key: "protocol" Value: "tcp"</li>
+     * <li>Key: "direction" Value: "out"</li>
+     * </ul>
+     *
+     * @return Map of content format keys supporting NioTcpSocketManager
+     */
+    @Override
+    public Map<String, String> getContentFormat() {
+        final Map<String, String> result = new HashMap<>(super.getContentFormat());
+        result.put("protocol", "tcp");
+        result.put("direction", "out");
+        return result;
+    }
+
+    /**
+     * Connects, writes the queued bytes and reconnects until the manager is closed.
+     */
+    private final class IoLoop implements Runnable {
+
+        private final ByteBuffer[] views = {ring.duplicate(), ring.duplicate()};
+
+        private final ByteBuffer spillBuffer = ByteBuffer.allocateDirect(SPILL_BUFFER_SIZE);
+
+        private final ByteBuffer readBuffer = ByteBuffer.allocate(512);
+
+        private SocketChannel channel;
+
+        private SelectionKey key;
+
+        IoLoop() {
+            ((Buffer) spillBuffer).limit(0);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!shutdown) {
+                    if (channel == null) {
+                        synchronized (lock) {
+                            if (closing) {
+                                return;
+                            }
+                        }
+                        if (!connect()) {
+                            waitBeforeReconnecting();
+                        }
+                        continue;
+                    }
+                    try {
+                        if (!writeQueuedBytes()) {
+                            return;
+                        }
+                    } catch (final IOException e) {
+                        LOGGER.debug("Connection to {}:{} lost: {}", host, port, e.getMessage());
+                        disconnect();
+                    }
+                }
+            } finally {
+                disconnect();
+                synchronized (lock) {
+                    lock.notifyAll();
+                }
+            }
+        }
+
+        /**
+         * Writes once, or waits for events or for the socket to be writable.
+         *
+         * @return false if the manager is closed and all the bytes have been sent.
+         */
+        private boolean writeQueuedBytes() throws IOException {
+            final int count;
+            final boolean fromSpill;
+            synchronized (lock) {
+                final int available = (int) (tail - head);
+                if (available > 0) {
+                    count = prepareViews(available);
+                    fromSpill = false;
+                } else if (spillBuffer.hasRemaining() || spillWritePosition > spillReadPosition) {
+                    count = 1;
+                    fromSpill = true;
+                } else if (closing) {
+                    return false;
+                } else {
+                    count = 0;
+                    fromSpill = false;
+                    ioThreadIdle = true;
+                }
+            }
+            if (count == 0) {
+                // nothing to write: wait for events or for the server to close the connection
+                await(SelectionKey.OP_READ, 0);
+                synchronized (lock) {
+                    ioThreadIdle = false;
+                }
+                return true;
+            }
+            final long written = fromSpill ? writeSpilledBytes() : channel.write(views, 0, count);
+            if (written == 0) {
+                await(SelectionKey.OP_READ | SelectionKey.OP_WRITE, 0);
+                return true;
+            }
+            writtenBytes.addAndGet(written);
+            synchronized (lock) {
+                if (!fromSpill) {
+                    head += written;
+                    if (blockedProducers > 0) {
+                        lock.notifyAll();
+                    }
+                }
+            }
+            return true;
+        }
+
+        // guarded by lock
+        private int prepareViews(final int available) {
+            final int position = (int) (head % capacity);
+            final int first = Math.min(available, capacity - position);
+            ((Buffer) views[0]).clear();
+            ((Buffer) views[0]).position(position);
+            ((Buffer) views[0]).limit(position + first);
+            if (first == available) {
+                return 1;
+            }
+            ((Buffer) views[1]).clear();
+            ((Buffer) views[1]).limit(available - first);
+            return 2;
+        }
+
+        private long writeSpilledBytes() throws IOException {
+            if (!spillBuffer.hasRemaining()) {
+                final FileChannel file;
+                final long position;
+                synchronized (lock) {
+                    file = spillChannel;
+                    position = spillReadPosition;
+                }
+                ((Buffer) spillBuffer).clear();
+                if (file.read(spillBuffer, position) < 0) {
+                    throw new IOException("Unexpected end of spill file " + spillFile);
+                }
+                ((Buffer) spillBuffer).flip();
+            }
+            final int written = channel.write(spillBuffer);
+            synchronized (lock) {
+                spillReadPosition += written;
+                if (spillReadPosition == spillWritePosition && !spillBuffer.hasRemaining()) {
+                    // the spill file has been sent: the next events go to the ring buffer again
+                    spillChannel.truncate(0);
+                    spillReadPosition = 0;
+                    spillWritePosition = 0;
+                }
+            }
+            return written;
+        }
+
+        private void await(final int interestOps, final long timeoutMillis) throws IOException {
+            key.interestOps(interestOps);
+            if (selector.select(timeoutMillis) > 0) {
+                if (key.isReadable()) {
+                    ((Buffer) readBuffer).clear();
+                    if (channel.read(readBuffer) < 0) {
+                        throw new IOException("Connection closed by server");
+                    }
+                }
+                selector.selectedKeys().clear();
+            }
+        }
+
+        @SuppressFBWarnings(value = "UNENCRYPTED_SOCKET")
+        private boolean connect() {
+            SocketChannel newChannel = null;
+            try {
+                newChannel = SocketChannel.open();
+                if (socketOptions != null) {
+                    socketOptions.apply(newChannel.socket());
+                }
+                newChannel.socket().connect(new InetSocketAddress(host, port), connectTimeoutMillis);
+                if (socketOptions != null) {
+                    socketOptions.apply(newChannel.socket());
+                }
+                newChannel.configureBlocking(false);
+                key = newChannel.register(selector, SelectionKey.OP_READ);
+                channel = newChannel;
+                connected = true;
+                LOGGER.debug("Connection to {}:{} established: {}", host, port, newChannel);
+                return true;
+            } catch (final IOException e) {
+                LOGGER.debug("Unable to connect to {}:{}: {}", host, port, e.getMessage());
+                Closer.closeSilently(newChannel);
+                return false;
+            }
+        }
+
+        private void disconnect() {
+            connected = false;
+            if (key != null) {
+                key.cancel();
+                key = null;
+            }
+            Closer.closeSilently(channel);
+            channel = null;
+        }
+
+        private void waitBeforeReconnecting() {
+            synchronized (lock) {
+                if (!closing) {
+                    try {
+                        lock.wait(reconnectionDelayMillis);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        shutdown = true;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Data for the factory.
+     */
+    private static final class FactoryData {
+        private final String host;
+        private final int port;
+        private final int connectTimeoutMillis;
+        private final int reconnectDelayMillis;
+        private final Layout<? extends Serializable> layout;
+        private final int bufferSize;
+        private final SocketOptions socketOptions;
+        private final int ringBufferSize;
+        private final OverflowPolicy overflowPolicy;
+        private final String spillDirectory;
+        private final long maxSpillBytes;
+
+        FactoryData(
+                final String host,
+                final int port,
+                final int connectTimeoutMillis,
+                final int reconnectDelayMillis,
+                final Layout<? extends Serializable> layout,
+                final int bufferSize,
+                final SocketOptions socketOptions,
+                final int ringBufferSize,
+                final OverflowPolicy overflowPolicy,
+                final String spillDirectory,
+                final long maxSpillBytes) {
+            this.host = host;
+            this.port = port;
+            this.connectTimeoutMillis = connectTimeoutMillis;
+            this.reconnectDelayMillis = reconnectDelayMillis;
+            this.layout = layout;
+            this.bufferSize = bufferSize;
+            this.socketOptions = socketOptions;
+            this.ringBufferSize = ringBufferSize;
+            this.overflowPolicy = overflowPolicy;
+            this.spillDirectory = spillDirectory;
+            this.maxSpillBytes = maxSpillBytes;
+        }
+
+        @Override
+        public String toString() {
+            return "FactoryData [host=" + host + ", port=" + port + ", connectTimeoutMillis=" + connectTimeoutMillis
+                    + ", reconnectDelayMillis=" + reconnectDelayMillis + ", layout=" + layout + ", bufferSize="
+                    + bufferSize + ", socketOptions=" + socketOptions + ", ringBufferSize=" + ringBufferSize
+                    + ", overflowPolicy=" + overflowPolicy + ", spillDirectory=" + spillDirectory
+                    + ", maxSpillBytes=" + maxSpillBytes + "]";
+        }
+    }
+
+    /**
+     * Factory to create a NioTcpSocketManager.
+     */
+    private static final class NioTcpSocketManagerFactory implements ManagerFactory<NioTcpSocketManager, FactoryData> {
+
+        @Override
+        @SuppressFBWarnings(
+                value = "PATH_TRAVERSAL_IN",
+                justification = "The spill directory is specified in a configuration file.")
+        public NioTcpSocketManager createManager(final String name, final FactoryData data) {
+            final InetAddress inetAddress;
+            try {
+                inetAddress = InetAddress.getByName(data.host);
+            } catch (final UnknownHostException ex) {
+                LOGGER.error("Could not find address of {}: {}", data.host, ex, ex);
+                return null;
+            }
+            try {
+                return new NioTcpSocketManager(
+                        name,
+                        inetAddress,
+                        data.host,
+                        data.port,
+                        data.connectTimeoutMillis,
+                        data.reconnectDelayMillis,
+                        data.layout,
+                        data.bufferSize,
+                        data.socketOptions,
+                        data.ringBufferSize,
+                        data.overflowPolicy,
+                        data.spillDirectory != null ? new File(data.spillDirectory) : null,
+                        data.maxSpillBytes);
+            } catch (final IOException ex) {
+                LOGGER.error("Could not create NioTcpSocketManager {}", name, ex);
+                return null;
+            }
+        }
+    }
+}
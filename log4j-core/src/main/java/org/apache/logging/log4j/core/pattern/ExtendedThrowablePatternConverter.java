@@ -20,6 +20,7 @@ import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.config.Configuration;
 import org.apache.logging.log4j.core.config.plugins.Plugin;
 import org.apache.logging.log4j.core.impl.ThrowableProxy;
+import org.apache.logging.log4j.core.impl.ThrowableRepeatTracker;
 
 /**
  * Outputs the Throwable portion of the LoggingEvent as a full stack trace
@@ -28,11 +29,18 @@ import org.apache.logging.log4j.core.impl.ThrowableProxy;
  * <p>
  * The extended stack trace will also include the location of where the class was loaded from and the
  * version of the jar if available.
+ * <p>
+ * With the {@code suppressRepeats} option, or {@code suppressRepeats(seconds)}, a stack trace is followed by its
+ * {@linkplain ThrowableRepeatTracker fingerprint}, and during the next 60 seconds, or the given number of seconds, the
+ * same stack trace is replaced by the first line of the exception and a reference to the fingerprint.
+ * </p>
  */
 @Plugin(name = "ExtendedThrowablePatternConverter", category = PatternConverter.CATEGORY)
 @ConverterKeys({"xEx", "xThrowable", "xException"})
 public final class ExtendedThrowablePatternConverter extends ThrowablePatternConverter {
 
+    private final ThrowableRepeatTracker repeatTracker;
+
     /**
      * Private constructor.
      *
@@ -41,6 +49,8 @@ public final class ExtendedThrowablePatternConverter extends ThrowablePatternCon
      */
     private ExtendedThrowablePatternConverter(final Configuration config, final String[] options) {
         super("ExtendedThrowable", "throwable", options, config);
+        final long repeatSuppressionMillis = this.options.getRepeatSuppressionMillis();
+        this.repeatTracker = repeatSuppressionMillis > 0 ? new ThrowableRepeatTracker(repeatSuppressionMillis) : null;
     }
 
     /**
@@ -60,6 +70,50 @@ public final class ExtendedThrowablePatternConverter extends ThrowablePatternCon
      */
     @Override
     public void format(final LogEvent event, final StringBuilder toAppendTo) {
+        if (repeatTracker != null) {
+            formatSuppressingRepeats(event, toAppendTo);
+            return;
+        }
+        formatExtended(event, toAppendTo);
+    }
+
+    private void formatSuppressingRepeats(final LogEvent event, final StringBuilder toAppendTo) {
+        final Throwable throwable = event.getThrown();
+        // the proxy of a repeated exception is not needed, and not created
+        final ThrowableProxy proxy = throwable == null ? event.getThrownProxy() : null;
+        if ((throwable == null && proxy == null) || !options.anyLines()) {
+            return;
+        }
+        final long fingerprint = throwable != null
+                ? ThrowableRepeatTracker.fingerprint(throwable)
+                : ThrowableRepeatTracker.fingerprint(proxy);
+        final TextRenderer textRenderer = options.getTextRenderer();
+        final String separator = options.getSeparator();
+        if (repeatTracker.isRepeated(fingerprint, event.getTimeMillis())) {
+            final int len = toAppendTo.length();
+            if (len > 0 && !Character.isWhitespace(toAppendTo.charAt(len - 1))) {
+                toAppendTo.append(' ');
+            }
+            textRenderer.render(
+                    throwable != null ? throwable.getClass().getName() : proxy.getName(), toAppendTo, "Name");
+            final String message = throwable != null ? throwable.getLocalizedMessage() : proxy.getLocalizedMessage();
+            if (message != null) {
+                textRenderer.render(": ", toAppendTo, "NameMessageSeparator");
+                textRenderer.render(message, toAppendTo, "Message");
+            }
+            textRenderer.render(separator, toAppendTo, "Text");
+            textRenderer.render("\tStack trace repeated, id: ", toAppendTo, "Text");
+        } else {
+            formatExtended(event, toAppendTo);
+            textRenderer.render("\tStack trace id: ", toAppendTo, "Text");
+        }
+        final StringBuilder id = new StringBuilder(16);
+        ThrowableRepeatTracker.formatFingerprint(id, fingerprint);
+        textRenderer.render(id.toString(), toAppendTo, "Text");
+        textRenderer.render(separator, toAppendTo, "Text");
+    }
+
+    private void formatExtended(final LogEvent event, final StringBuilder toAppendTo) {
         final ThrowableProxy proxy = event.getThrownProxy();
         final Throwable throwable = event.getThrown();
         if ((throwable != null || proxy != null) && options.anyLines()) {
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.tools;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.core.tools.picocli.CommandLine;
+import org.apache.logging.log4j.core.tools.picocli.CommandLine.Command;
+import org.apache.logging.log4j.core.tools.picocli.CommandLine.Option;
+import org.apache.logging.log4j.core.tools.picocli.CommandLine.Parameters;
+import org.apache.logging.log4j.core.util.internal.BinaryLogReader;
+
+/**
+ * Renders the files written by the {@code BinaryFile} appender as text, with a {@link PatternLayout}.
+ * <p>
+ * Usage:
+ * </p>
+ * <pre>
+ * java -cp log4j-api.jar:log4j-core.jar org.apache.logging.log4j.core.tools.BinaryLogRenderer \
+ *     [--pattern=PATTERN] [--charset=CHARSET] [--from=TIME] [--to=TIME] [--index] FILE...
+ * </pre>
+ * <p>
+ * Times are either ISO-8601 instants, like {@code 2024-01-31T12:00:00Z}, or milliseconds since the epoch. Blocks
+ * outside the time range are skipped without being decoded.
+ * </p>
+ *
+ * @since 2.24.0
+ */
+public final class BinaryLogRenderer {
+
+    static final String DEFAULT_PATTERN = "%d %-5level [%t] %logger - %msg%n%throwable";
+
+    private BinaryLogRenderer() {}
+
+    public static void main(final String[] args) {
+        CommandLine.run(new Renderer(System.out), System.err, args);
+    }
+
+    @Command(
+            name = "BinaryLogRenderer",
+            description = "Renders binary log files, written by the BinaryFile appender, as text.")
+    private static final class Renderer extends BasicCommandLineArguments implements Runnable {
+
+        @Option(
+                names = {"--pattern", "-p"},
+                description = "The PatternLayout pattern of the events, by default: " + DEFAULT_PATTERN)
+        private String pattern = DEFAULT_PATTERN;
+
+        @Option(
+                names = {"--charset"},
+                description = "The charset of the output, by default the one of the platform.")
+        private String charset = Charset.defaultCharset().name();
+
+        @Option(
+                names = {"--from"},
+                description = "Only renders the events at or after this time.")
+        private String from;
+
+        @Option(
+                names = {"--to"},
+                description = "Only renders the events before this time.")
+        private String to;
+
+        @Option(
+                names = {"--index"},
+                description = "Prints the offset, event count and time range of each block instead of the events.")
+        private boolean index;
+
+        @Parameters(arity = "1..*", paramLabel = "FILE", description = "The binary log files.")
+        private File[] files;
+
+        private final PrintStream out;
+
+        Renderer(final PrintStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void run() {
+            final long fromMillis = from != null ? parseTime(from) : Long.MIN_VALUE;
+            final long toMillis = to != null ? parseTime(to) : Long.MAX_VALUE;
+            final PatternLayout layout = PatternLayout.newBuilder()
+                    .withPattern(pattern)
+                    .withCharset(Charset.forName(charset))
+                    .build();
+            for (final File file : files) {
+                try (final BinaryLogReader reader = new BinaryLogReader(file.toPath())) {
+                    BinaryLogReader.Block block;
+                    while ((block = reader.nextBlock()) != null) {
+                        if (block.getLastTimeMillis() < fromMillis || block.getFirstTimeMillis() >= toMillis) {
+                            continue;
+                        }
+                        if (index) {
+                            out.printf(
+                                    "%s offset=%d events=%d bytes=%d from=%s to=%s%n",
+                                    file,
+                                    block.getOffset(),
+                                    block.getEventCount(),
+                                    block.getPayloadLength(),
+                                    Instant.ofEpochMilli(block.getFirstTimeMillis()),
+                                    Instant.ofEpochMilli(block.getLastTimeMillis()));
+                            continue;
+                        }
+                        for (final LogEvent event : block.getEvents()) {
+                            final long millis = event.getTimeMillis();
+                            if (millis >= fromMillis && millis < toMillis) {
+                                out.write(layout.toByteArray(event));
+                            }
+                        }
+                    }
+                    out.flush();
+                    if (reader.getSkippedByteCount() > 0) {
+                        System.err.printf("%s: skipped %d corrupted bytes%n", file, reader.getSkippedByteCount());
+                    }
+                } catch (final IOException e) {
+                    throw new UncheckedIOException("Unable to read " + file, e);
+                }
+            }
+        }
+
+        private static long parseTime(final String time) {
+            try {
+                return Long.parseLong(time);
+            } catch (final NumberFormatException e) {
+                try {
+                    return Instant.parse(time).toEpochMilli();
+                } catch (final DateTimeParseException e2) {
+                    throw new IllegalArgumentException("Invalid time: " + time, e2);
+                }
+            }
+        }
+    }
+}
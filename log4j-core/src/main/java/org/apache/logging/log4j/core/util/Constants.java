@@ -147,6 +147,27 @@ public final class Constants {
      */
     public static final int ENCODER_BYTE_BUFFER_SIZE = size("log4j.encoder.byteBufferSize", 8 * 1024);
 
+    /**
+     * Whether text layouts encode UTF-8, US-ASCII and ISO-8859-1 text without a {@link java.nio.charset.CharsetEncoder}.
+     * <p>
+     * The default value is {@code false}, since recent JVMs provide vectorized intrinsics for these charset encoders.
+     * Users can override with system property "log4j.encoder.bypassCharsetEncoder".
+     * </p>
+     *
+     * @see org.apache.logging.log4j.core.layout.DirectStringBuilderEncoder
+     * @since 2.24.0
+     */
+    public static final boolean ENCODER_BYPASS_CHARSET_ENCODER =
+            PropertiesUtil.getProperties().getBooleanProperty("log4j.encoder.bypassCharsetEncoder", false);
+
+    /**
+     * The maximum number of extended stack traces shared by the {@link org.apache.logging.log4j.core.impl.ThrowableProxy}
+     * instances of events logging the same exceptions. Zero disables the cache.
+     *
+     * @since 2.24.0
+     */
+    public static final int THROWABLE_PROXY_CACHE_SIZE = size("log4j.throwableProxy.cacheSize", 1024);
+
     private static int size(final String property, final int defaultValue) {
         return PropertiesUtil.getProperties().getIntegerProperty(property, defaultValue);
     }
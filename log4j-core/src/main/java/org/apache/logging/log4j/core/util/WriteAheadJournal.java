@@ -0,0 +1,614 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.zip.CRC32;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.util.internal.UnsafeUtil;
+import org.apache.logging.log4j.status.StatusLogger;
+
+/**
+ * A durable first-in first-out journal of records, stored in append-only segment files.
+ * <p>
+ * Records are appended at the end of the last segment file and read through memory mappings of the segment files.
+ * Each record is stored with its length and a CRC32 checksum. The <em>offset</em> of a record is the number of bytes
+ * written to the journal before it.
+ * </p>
+ * <p>
+ * Records are read in order. Once the reader has processed them, it {@linkplain #acknowledge(long) acknowledges} their
+ * offset: the acknowledged offset is stored in a checkpoint file and the segment files that only contain acknowledged
+ * records are deleted. When the journal is opened again, reading resumes at the acknowledged offset, so records are
+ * delivered at least once. {@link #rewind()} makes the records read since the last acknowledgement readable again.
+ * </p>
+ * <p>
+ * Appended records survive a crash of the process. They only survive a crash of the operating system once
+ * {@link #sync()} has been called. When the journal is opened, a record truncated or corrupted by a crash ends the
+ * journal: it is removed, together with the records after it.
+ * </p>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ *
+ * @since 2.24.0
+ */
+public final class WriteAheadJournal implements Closeable {
+
+    /**
+     * The default maximum size of a segment file: 16 MiB.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+    /**
+     * The default maximum size of the records that have not been acknowledged: 1 GiB.
+     */
+    public static final long DEFAULT_MAX_SIZE = 1024L * 1024 * 1024;
+
+    private static final Logger LOGGER = StatusLogger.getLogger();
+
+    /**
+     * Length and checksum of a record.
+     */
+    private static final int RECORD_HEADER_SIZE = 8;
+
+    private static final String SEGMENT_SUFFIX = ".wal";
+
+    private static final String CHECKPOINT_FILE_NAME = "checkpoint";
+
+    /**
+     * Acknowledged offset and its checksum.
+     */
+    private static final int CHECKPOINT_SIZE = 12;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long maxSize;
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private final FileChannel checkpointChannel;
+    private final ByteBuffer headerBuffer = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+    private final ByteBuffer checkpointBuffer = ByteBuffer.allocate(CHECKPOINT_SIZE);
+    private final CRC32 crc = new CRC32();
+    private long writeOffset;
+    private long readOffset;
+    private long acknowledgedOffset;
+    private long checkpointOffset = -1;
+    private boolean unsynced;
+    private boolean closed;
+
+    private WriteAheadJournal(
+            final Path directory, final int segmentSize, final long maxSize, final FileChannel checkpointChannel) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSize = maxSize;
+        this.checkpointChannel = checkpointChannel;
+    }
+
+    /**
+     * Opens the journal stored in a directory, creating it if needed.
+     * <p>
+     * The records that were not acknowledged become readable again. Records truncated or corrupted by a crash are
+     * removed.
+     * </p>
+     *
+     * @param directory the directory of the journal.
+     * @param segmentSize the maximum size of a segment file in bytes.
+     * @param maxSize the maximum size in bytes of the records that have not been acknowledged.
+     * @return the journal.
+     * @throws IOException if the journal cannot be read or created.
+     */
+    public static WriteAheadJournal open(final Path directory, final int segmentSize, final long maxSize)
+            throws IOException {
+        if (segmentSize <= RECORD_HEADER_SIZE) {
+            throw new IllegalArgumentException("Invalid segment size: " + segmentSize);
+        }
+        Files.createDirectories(directory);
+        final FileChannel checkpointChannel = FileChannel.open(
+                directory.resolve(CHECKPOINT_FILE_NAME),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        final WriteAheadJournal journal = new WriteAheadJournal(directory, segmentSize, maxSize, checkpointChannel);
+        try {
+            journal.recover();
+        } catch (final IOException | RuntimeException e) {
+            journal.closeChannels();
+            throw e;
+        }
+        return journal;
+    }
+
+    /**
+     * Appends a record at the end of the journal.
+     *
+     * @param record the record.
+     * @return the offset of the record, or {@code -1} if the journal is full.
+     * @throws IOException if the record cannot be written.
+     * @throws IllegalArgumentException if the record is larger than a segment file.
+     */
+    public synchronized long append(final byte[] record) throws IOException {
+        ensureOpen();
+        final int length = RECORD_HEADER_SIZE + record.length;
+        if (length > segmentSize || length < 0) {
+            throw new IllegalArgumentException(
+                    "Record of " + record.length + " bytes does not fit in a segment of " + segmentSize + " bytes");
+        }
+        if (writeOffset - acknowledgedOffset + length > maxSize) {
+            return -1;
+        }
+        Segment segment = segments.peekLast();
+        if (segment == null || segment.size + length > segmentSize) {
+            if (segment != null && unsynced) {
+                segment.channel.force(false);
+                unsynced = false;
+            }
+            segment = createSegment(writeOffset);
+            segments.addLast(segment);
+        }
+        ((Buffer) headerBuffer).clear();
+        headerBuffer.putInt(record.length);
+        crc.reset();
+        crc.update(headerBuffer.array(), 0, Integer.BYTES);
+        crc.update(record, 0, record.length);
+        headerBuffer.putInt((int) crc.getValue());
+        ((Buffer) headerBuffer).flip();
+        final ByteBuffer payload = ByteBuffer.wrap(record);
+        final ByteBuffer[] buffers = {headerBuffer, payload};
+        try {
+            while (headerBuffer.hasRemaining() || payload.hasRemaining()) {
+                segment.channel.write(buffers);
+            }
+        } catch (final IOException e) {
+            // do not leave a partial record before the next ones
+            segment.truncate(segment.size);
+            throw e;
+        }
+        final long offset = writeOffset;
+        segment.size += length;
+        writeOffset += length;
+        unsynced = true;
+        return offset;
+    }
+
+    /**
+     * Forces the appended records to the storage device.
+     *
+     * @throws IOException if the records cannot be forced.
+     */
+    public synchronized void sync() throws IOException {
+        ensureOpen();
+        if (unsynced) {
+            final Segment segment = segments.peekLast();
+            if (segment != null) {
+                segment.channel.force(false);
+            }
+            unsynced = false;
+        }
+        if (checkpointOffset != acknowledgedOffset) {
+            writeCheckpoint();
+        }
+    }
+
+    /**
+     * Reads the record following the last record read.
+     *
+     * @return the record, or {@code null} if all the records have been read.
+     * @throws IOException if the record is corrupted, in which case it is skipped.
+     */
+    public synchronized byte[] read() throws IOException {
+        ensureOpen();
+        if (readOffset >= writeOffset) {
+            return null;
+        }
+        final Segment segment = getSegment(readOffset);
+        final int position = (int) (readOffset - segment.baseOffset);
+        ByteBuffer buffer = segment.map(position + RECORD_HEADER_SIZE);
+        final int length = buffer.getInt(position);
+        final int checksum = buffer.getInt(position + Integer.BYTES);
+        if (length < 0 || position + RECORD_HEADER_SIZE + length > segment.size) {
+            readOffset = segment.getEndOffset();
+            throw new IOException("Corrupted record at offset " + (segment.baseOffset + position) + " in "
+                    + segment.file + ", skipping the rest of the segment");
+        }
+        buffer = segment.map(position + RECORD_HEADER_SIZE + length);
+        final byte[] record = new byte[length];
+        final ByteBuffer view = buffer.duplicate();
+        ((Buffer) view).limit(position + Integer.BYTES).position(position);
+        crc.reset();
+        crc.update(view);
+        ((Buffer) view).limit(position + RECORD_HEADER_SIZE + length).position(position + RECORD_HEADER_SIZE);
+        view.get(record);
+        crc.update(record, 0, length);
+        readOffset += RECORD_HEADER_SIZE + length;
+        if ((int) crc.getValue() != checksum) {
+            throw new IOException(
+                    "Corrupted record at offset " + (segment.baseOffset + position) + " in " + segment.file);
+        }
+        return record;
+    }
+
+    /**
+     * Acknowledges all the records before an offset: they will not be read again, even after the journal is opened
+     * again.
+     *
+     * @param offset an offset not greater than {@link #getReadOffset()}, usually the read offset itself.
+     * @throws IOException if the checkpoint cannot be written.
+     */
+    public synchronized void acknowledge(final long offset) throws IOException {
+        ensureOpen();
+        if (offset > readOffset) {
+            throw new IllegalArgumentException("Offset " + offset + " has not been read yet");
+        }
+        if (offset <= acknowledgedOffset) {
+            return;
+        }
+        acknowledgedOffset = offset;
+        // the last segment is kept for the next appends
+        while (segments.size() > 1 && segments.peekFirst().getEndOffset() <= acknowledgedOffset) {
+            if (checkpointOffset != acknowledgedOffset) {
+                // the checkpoint must not refer to a deleted record
+                writeCheckpoint();
+            }
+            segments.removeFirst().delete();
+        }
+    }
+
+    /**
+     * Makes the records read since the last acknowledgement readable again.
+     */
+    public synchronized void rewind() {
+        readOffset = acknowledgedOffset;
+    }
+
+    /**
+     * Returns the offset following the last record read.
+     *
+     * @return the read offset.
+     */
+    public synchronized long getReadOffset() {
+        return readOffset;
+    }
+
+    /**
+     * Returns the offset following the last acknowledged record.
+     *
+     * @return the acknowledged offset.
+     */
+    public synchronized long getAcknowledgedOffset() {
+        return acknowledgedOffset;
+    }
+
+    /**
+     * Returns the offset following the last appended record.
+     *
+     * @return the write offset.
+     */
+    public synchronized long getWriteOffset() {
+        return writeOffset;
+    }
+
+    /**
+     * Returns the size in bytes of the records that have not been acknowledged.
+     *
+     * @return the pending size.
+     */
+    public synchronized long getPendingSize() {
+        return writeOffset - acknowledgedOffset;
+    }
+
+    /**
+     * Returns the number of segment files.
+     *
+     * @return the segment count.
+     */
+    public synchronized int getSegmentCount() {
+        return segments.size();
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Syncs and closes the journal. The segment files are kept, to be read when the journal is opened again.
+     *
+     * @throws IOException if the records cannot be forced to the storage device.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            sync();
+        } finally {
+            closed = true;
+            closeChannels();
+        }
+    }
+
+    private void recover() throws IOException {
+        final long checkpoint = readCheckpoint();
+        for (final Path file : listSegmentFiles()) {
+            final long baseOffset = parseBaseOffset(file);
+            final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            segments.addLast(new Segment(file, baseOffset, channel, (int) Math.min(channel.size(), Integer.MAX_VALUE)));
+        }
+        if (segments.isEmpty()) {
+            writeOffset = Math.max(checkpoint, 0);
+            acknowledgedOffset = writeOffset;
+        } else {
+            final long firstOffset = segments.peekFirst().baseOffset;
+            final long ack = Math.max(checkpoint, firstOffset);
+            // the acknowledged offset is the last record boundary not after the checkpoint
+            long ackBoundary = firstOffset;
+            long endOffset = firstOffset;
+            boolean truncated = false;
+            final Iterator<Segment> iterator = segments.iterator();
+            while (iterator.hasNext()) {
+                final Segment segment = iterator.next();
+                if (truncated || segment.baseOffset != endOffset) {
+                    LOGGER.warn("Deleting journal segment {} following a corrupted or missing segment.", segment.file);
+                    truncated = true;
+                    iterator.remove();
+                    segment.delete();
+                    continue;
+                }
+                int position = 0;
+                while (position < segment.size) {
+                    if (segment.baseOffset + position <= ack) {
+                        ackBoundary = segment.baseOffset + position;
+                    }
+                    final int length = getValidRecordLength(segment, position);
+                    if (length < 0) {
+                        LOGGER.warn(
+                                "Truncating journal segment {} at the corrupted record at offset {}, {} bytes lost.",
+                                segment.file,
+                                segment.baseOffset + position,
+                                segment.size - position);
+                        segment.truncate(position);
+                        truncated = true;
+                        break;
+                    }
+                    position += length;
+                }
+                endOffset = segment.baseOffset + position;
+                if (endOffset <= ack) {
+                    ackBoundary = endOffset;
+                }
+            }
+            writeOffset = endOffset;
+            acknowledgedOffset = ackBoundary;
+            while (!segments.isEmpty() && segments.peekFirst().getEndOffset() <= acknowledgedOffset) {
+                segments.removeFirst().delete();
+            }
+        }
+        readOffset = acknowledgedOffset;
+        checkpointOffset = checkpoint;
+        if (checkpointOffset != acknowledgedOffset) {
+            writeCheckpoint();
+        }
+    }
+
+    /**
+     * Returns the total length of the record at a position, or {@code -1} if it is truncated or corrupted.
+     */
+    private int getValidRecordLength(final Segment segment, final int position) throws IOException {
+        if (position + RECORD_HEADER_SIZE > segment.size) {
+            return -1;
+        }
+        final ByteBuffer buffer = segment.map(segment.size);
+        final int length = buffer.getInt(position);
+        if (length < 0 || position + RECORD_HEADER_SIZE + length > segment.size) {
+            return -1;
+        }
+        final ByteBuffer view = buffer.duplicate();
+        ((Buffer) view).limit(position + Integer.BYTES).position(position);
+        crc.reset();
+        crc.update(view);
+        ((Buffer) view).limit(position + RECORD_HEADER_SIZE + length).position(position + RECORD_HEADER_SIZE);
+        crc.update(view);
+        return (int) crc.getValue() == buffer.getInt(position + Integer.BYTES) ? RECORD_HEADER_SIZE + length : -1;
+    }
+
+    private long readCheckpoint() throws IOException {
+        if (checkpointChannel.size() < CHECKPOINT_SIZE) {
+            return -1;
+        }
+        ((Buffer) checkpointBuffer).clear();
+        while (checkpointBuffer.hasRemaining()) {
+            if (checkpointChannel.read(checkpointBuffer, checkpointBuffer.position()) < 0) {
+                return -1;
+            }
+        }
+        final long offset = checkpointBuffer.getLong(0);
+        crc.reset();
+        crc.update(checkpointBuffer.array(), 0, Long.BYTES);
+        if ((int) crc.getValue() != checkpointBuffer.getInt(Long.BYTES) || offset < 0) {
+            LOGGER.warn("Ignoring corrupted journal checkpoint in {}", directory);
+            return -1;
+        }
+        return offset;
+    }
+
+    /**
+     * Writes the acknowledged offset to the checkpoint file, without forcing it: a lost checkpoint only causes records
+     * to be read again.
+     */
+    private void writeCheckpoint() throws IOException {
+        ((Buffer) checkpointBuffer).clear();
+        checkpointBuffer.putLong(acknowledgedOffset);
+        crc.reset();
+        crc.update(checkpointBuffer.array(), 0, Long.BYTES);
+        checkpointBuffer.putInt((int) crc.getValue());
+        ((Buffer) checkpointBuffer).flip();
+        while (checkpointBuffer.hasRemaining()) {
+            checkpointChannel.write(checkpointBuffer, checkpointBuffer.position());
+        }
+        checkpointOffset = acknowledgedOffset;
+    }
+
+    private List<Path> listSegmentFiles() throws IOException {
+        final List<Path> files = new ArrayList<>();
+        try (final DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SEGMENT_SUFFIX)) {
+            for (final Path file : stream) {
+                if (parseBaseOffset(file) >= 0) {
+                    files.add(file);
+                } else {
+                    LOGGER.warn("Ignoring unexpected file {} in journal directory", file);
+                }
+            }
+        }
+        files.sort(Comparator.comparingLong(WriteAheadJournal::parseBaseOffset));
+        return files;
+    }
+
+    private static long parseBaseOffset(final Path file) {
+        final String name = file.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+        } catch (final NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private Segment createSegment(final long baseOffset) throws IOException {
+        final Path file = directory.resolve(String.format("%020d%s", baseOffset, SEGMENT_SUFFIX));
+        final FileChannel channel = FileChannel.open(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        return new Segment(file, baseOffset, channel, 0);
+    }
+
+    private Segment getSegment(final long offset) {
+        for (final Segment segment : segments) {
+            if (offset < segment.getEndOffset()) {
+                return segment;
+            }
+        }
+        throw new IllegalStateException("No segment contains offset " + offset);
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Journal " + directory + " is closed");
+        }
+    }
+
+    private void closeChannels() {
+        for (final Segment segment : segments) {
+            segment.close();
+        }
+        segments.clear();
+        Closer.closeSilently(checkpointChannel);
+    }
+
+    @Override
+    public String toString() {
+        return "WriteAheadJournal[directory=" + directory + ", segmentSize=" + segmentSize + ", maxSize=" + maxSize
+                + ']';
+    }
+
+    private static final class Segment {
+
+        private final Path file;
+        private final long baseOffset;
+        private final FileChannel channel;
+        private int size;
+        private MappedByteBuffer mapping;
+
+        Segment(final Path file, final long baseOffset, final FileChannel channel, final int size) throws IOException {
+            this.file = file;
+            this.baseOffset = baseOffset;
+            this.channel = channel;
+            this.size = size;
+            channel.position(size);
+        }
+
+        long getEndOffset() {
+            return baseOffset + size;
+        }
+
+        /**
+         * Returns a mapping of the segment covering at least the specified number of bytes.
+         */
+        ByteBuffer map(final int required) throws IOException {
+            if (mapping == null || mapping.capacity() < required) {
+                unmap();
+                mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+            return mapping;
+        }
+
+        void truncate(final int newSize) throws IOException {
+            unmap();
+            channel.truncate(newSize);
+            channel.position(newSize);
+            size = newSize;
+        }
+
+        void unmap() {
+            if (mapping != null) {
+                try {
+                    UnsafeUtil.clean(mapping);
+                } catch (final Exception e) {
+                    LOGGER.debug("Unable to unmap journal segment {}", file, e);
+                }
+                mapping = null;
+            }
+        }
+
+        void close() {
+            unmap();
+            Closer.closeSilently(channel);
+        }
+
+        void delete() {
+            close();
+            try {
+                Files.deleteIfExists(file);
+            } catch (final IOException e) {
+                LOGGER.warn("Unable to delete journal segment {}", file, e);
+            }
+        }
+    }
+}
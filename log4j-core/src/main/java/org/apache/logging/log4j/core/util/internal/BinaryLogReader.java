@@ -0,0 +1,370 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.util.internal;
+
+import static org.apache.logging.log4j.core.util.internal.BinaryLogWriter.BLOCK_HEADER_SIZE;
+import static org.apache.logging.log4j.core.util.internal.BinaryLogWriter.BLOCK_MAGIC;
+import static org.apache.logging.log4j.core.util.internal.BinaryLogWriter.CONSTANT_MESSAGE;
+import static org.apache.logging.log4j.core.util.internal.BinaryLogWriter.CONTEXT_DATA;
+import static org.apache.logging.log4j.core.util.internal.BinaryLogWriter.CONTEXT_STACK;
+import static org.apache.logging.log4j.core.util.internal.BinaryLogWriter.END_OF_BATCH;
+import static org.apache.logging.log4j.core.util.internal.BinaryLogWriter.FILE_HEADER;
+import static org.apache.logging.log4j.core.util.internal.BinaryLogWriter.MARKER;
+import static org.apache.logging.log4j.core.util.internal.BinaryLogWriter.PARAMETERIZED;
+import static org.apache.logging.log4j.core.util.internal.BinaryLogWriter.SOURCE;
+import static org.apache.logging.log4j.core.util.internal.BinaryLogWriter.THROWN;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.ContextDataFactory;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.time.MutableInstant;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.spi.MutableThreadContextStack;
+import org.apache.logging.log4j.util.StringMap;
+
+/**
+ * Reads the files written in the binary log format described in {@link BinaryLogWriter}.
+ * <p>
+ * Blocks are returned in file order. A block whose header or checksum is invalid is skipped, together with the bytes
+ * up to the next block marker, and the number of skipped bytes is reported by {@link #getSkippedByteCount()}.
+ * </p>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ */
+public final class BinaryLogReader implements Closeable {
+
+    private static final int SCAN_BUFFER_SIZE = 8192;
+
+    private final FileChannel channel;
+    private final ByteBuffer header = ByteBuffer.allocate(BLOCK_HEADER_SIZE);
+    private final CRC32 crc = new CRC32();
+    private long position = FILE_HEADER.length;
+    private long skippedByteCount;
+
+    /**
+     * Opens a binary log file.
+     *
+     * @param path the file.
+     * @throws IOException if the file cannot be read or is not a binary log file.
+     */
+    public BinaryLogReader(final Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        final ByteBuffer fileHeader = ByteBuffer.allocate(FILE_HEADER.length);
+        readFully(fileHeader, 0);
+        if (fileHeader.hasRemaining() || !Arrays.equals(fileHeader.array(), FILE_HEADER)) {
+            channel.close();
+            throw new IOException("Not a binary log file: " + path);
+        }
+    }
+
+    /**
+     * Returns the next valid block.
+     *
+     * @return the next block, or {@code null} at the end of the file.
+     * @throws IOException if the file cannot be read.
+     */
+    public Block nextBlock() throws IOException {
+        final long size = channel.size();
+        while (position + BLOCK_HEADER_SIZE <= size) {
+            header.clear();
+            readFully(header, position);
+            header.flip();
+            final int magic = header.getInt();
+            final int length = header.getInt();
+            final int eventCount = header.getInt();
+            final long firstMillis = header.getLong();
+            final long lastMillis = header.getLong();
+            final int checksum = header.getInt();
+            if (magic == BLOCK_MAGIC && length >= 0 && length <= size - position - BLOCK_HEADER_SIZE) {
+                final ByteBuffer payload = ByteBuffer.allocate(length);
+                readFully(payload, position + BLOCK_HEADER_SIZE);
+                crc.reset();
+                crc.update(header.array(), 4, BLOCK_HEADER_SIZE - 8);
+                crc.update(payload.array(), 0, length);
+                if ((int) crc.getValue() == checksum) {
+                    final Block block = new Block(position, eventCount, firstMillis, lastMillis, payload.array());
+                    position += BLOCK_HEADER_SIZE + length;
+                    return block;
+                }
+            }
+            resynchronize(size);
+        }
+        skippedByteCount += size - Math.min(position, size);
+        position = size;
+        return null;
+    }
+
+    /**
+     * Moves to the next block marker after the current position, or to the end of the file.
+     */
+    private void resynchronize(final long size) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        final long start = position;
+        long offset = position + 1;
+        while (offset + 4 <= size) {
+            buffer.clear();
+            readFully(buffer, offset);
+            buffer.flip();
+            for (int i = 0; i + 4 <= buffer.limit(); i++) {
+                if (buffer.getInt(i) == BLOCK_MAGIC) {
+                    position = offset + i;
+                    skippedByteCount += position - start;
+                    return;
+                }
+            }
+            // the last 3 bytes can start a marker
+            offset += Math.max(1, buffer.limit() - 3);
+        }
+        position = size;
+        skippedByteCount += size - start;
+    }
+
+    private void readFully(final ByteBuffer buffer, final long offset) throws IOException {
+        long pos = offset;
+        while (buffer.hasRemaining()) {
+            final int read = channel.read(buffer, pos);
+            if (read < 0) {
+                break;
+            }
+            pos += read;
+        }
+    }
+
+    /**
+     * Returns the number of bytes skipped because they did not belong to a valid block.
+     *
+     * @return the number of skipped bytes.
+     */
+    public long getSkippedByteCount() {
+        return skippedByteCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * A block of events, whose header can be inspected without decoding the events.
+     */
+    public static final class Block {
+
+        private final long offset;
+        private final int eventCount;
+        private final long firstTimeMillis;
+        private final long lastTimeMillis;
+        private final byte[] payload;
+        private final List<String> dictionary = new ArrayList<>();
+        private int position;
+
+        Block(
+                final long offset,
+                final int eventCount,
+                final long firstTimeMillis,
+                final long lastTimeMillis,
+                final byte[] payload) {
+            this.offset = offset;
+            this.eventCount = eventCount;
+            this.firstTimeMillis = firstTimeMillis;
+            this.lastTimeMillis = lastTimeMillis;
+            this.payload = payload;
+        }
+
+        public long getOffset() {
+            return offset;
+        }
+
+        public int getEventCount() {
+            return eventCount;
+        }
+
+        public long getFirstTimeMillis() {
+            return firstTimeMillis;
+        }
+
+        public long getLastTimeMillis() {
+            return lastTimeMillis;
+        }
+
+        public int getPayloadLength() {
+            return payload.length;
+        }
+
+        /**
+         * Decodes the events of the block.
+         *
+         * @return the events.
+         * @throws IOException if the payload is malformed.
+         */
+        public List<LogEvent> getEvents() throws IOException {
+            position = 0;
+            dictionary.clear();
+            final List<LogEvent> events = new ArrayList<>(eventCount);
+            long millis = firstTimeMillis;
+            try {
+                for (int i = 0; i < eventCount; i++) {
+                    final int flags = readByte();
+                    millis += unzigzag(readVarLong());
+                    final MutableInstant instant = new MutableInstant();
+                    instant.initFromEpochMilli(millis, readVarInt());
+                    final Log4jLogEvent.Builder builder = Log4jLogEvent.newBuilder()
+                            .setInstant(instant)
+                            .setLevel(Level.forName(readInterned(), readVarInt()))
+                            .setLoggerName(readInterned())
+                            .setThreadName(readInterned())
+                            .setThreadId(readVarLong())
+                            .setThreadPriority(readVarInt())
+                            .setEndOfBatch((flags & END_OF_BATCH) != 0);
+                    if ((flags & PARAMETERIZED) != 0) {
+                        final String format = readInterned();
+                        final Object[] parameters = new Object[readVarInt()];
+                        for (int j = 0; j < parameters.length; j++) {
+                            parameters[j] = readString();
+                        }
+                        builder.setMessage(new ParameterizedMessage(format, parameters));
+                    } else {
+                        builder.setMessage(
+                                new SimpleMessage((flags & CONSTANT_MESSAGE) != 0 ? readInterned() : readString()));
+                    }
+                    if ((flags & MARKER) != 0) {
+                        builder.setMarker(MarkerManager.getMarker(readInterned()));
+                    }
+                    if ((flags & CONTEXT_DATA) != 0) {
+                        final int size = readVarInt();
+                        final StringMap contextData = ContextDataFactory.createContextData(size);
+                        for (int j = 0; j < size; j++) {
+                            contextData.putValue(readInterned(), readString());
+                        }
+                        builder.setContextData(contextData);
+                    }
+                    if ((flags & CONTEXT_STACK) != 0) {
+                        final int depth = readVarInt();
+                        final List<String> contextStack = new ArrayList<>(depth);
+                        for (int j = 0; j < depth; j++) {
+                            contextStack.add(readString());
+                        }
+                        builder.setContextStack(new MutableThreadContextStack(contextStack));
+                    }
+                    if ((flags & SOURCE) != 0) {
+                        builder.setSource(readStackTraceElement()).setIncludeLocation(true);
+                    }
+                    if ((flags & THROWN) != 0) {
+                        builder.setThrown(readThrowable());
+                    }
+                    events.add(builder.build());
+                }
+            } catch (final RuntimeException e) {
+                throw new IOException("Malformed block at offset " + offset, e);
+            }
+            return events;
+        }
+
+        private Throwable readThrowable() {
+            final String name = readInterned();
+            final String message = readString();
+            final StackTraceElement[] stackTrace = new StackTraceElement[readVarInt()];
+            for (int i = 0; i < stackTrace.length; i++) {
+                stackTrace[i] = readStackTraceElement();
+            }
+            final RestoredThrowable thrown = new RestoredThrowable(name, message, stackTrace);
+            if (readByte() != 0) {
+                thrown.initCause(readThrowable());
+            }
+            final int suppressedCount = readVarInt();
+            for (int i = 0; i < suppressedCount; i++) {
+                thrown.addSuppressed(readThrowable());
+            }
+            return thrown;
+        }
+
+        private StackTraceElement readStackTraceElement() {
+            final String className = readInterned();
+            final String methodName = readInterned();
+            final String fileName = readInterned();
+            return new StackTraceElement(className, methodName, fileName, unzigzag(readVarInt()));
+        }
+
+        private String readInterned() {
+            final int index = readVarInt();
+            if (index == 0) {
+                return null;
+            }
+            if (index == 1) {
+                final String value = readString();
+                dictionary.add(value);
+                return value;
+            }
+            return dictionary.get(index - 2);
+        }
+
+        private String readString() {
+            final int length = readVarInt() - 1;
+            if (length < 0) {
+                return null;
+            }
+            if (length > payload.length - position) {
+                throw new IndexOutOfBoundsException("String length " + length + " beyond the end of the block");
+            }
+            final String value = new String(payload, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        private int readByte() {
+            return payload[position++] & 0xFF;
+        }
+
+        private int readVarInt() {
+            return (int) readVarLong();
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                final int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalStateException("Malformed variable-length integer");
+        }
+
+        private static long unzigzag(final long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        private static int unzigzag(final int value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
@@ -0,0 +1,400 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.util.internal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.time.Instant;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.logging.log4j.message.ReusableParameterizedMessage;
+import org.apache.logging.log4j.message.ReusableSimpleMessage;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.util.ReadOnlyStringMap;
+import org.apache.logging.log4j.util.TriConsumer;
+
+/**
+ * Encodes log events in the compact binary log format, read back by {@link BinaryLogReader}.
+ * <p>
+ * A file starts with the 8 bytes {@link #FILE_HEADER}, followed by blocks. Each block has a header of
+ * {@value #BLOCK_HEADER_SIZE} big-endian bytes: the {@link #BLOCK_MAGIC} synchronization marker, the length of the
+ * payload, the number of events, the timestamps in milliseconds of the first and last events, and the CRC-32 of
+ * the preceding header fields and the payload. The headers are a sparse index of the file: a reader skips the blocks
+ * outside a time range without decoding them, and resynchronizes on the next marker after a corrupted block.
+ * </p>
+ * <p>
+ * The payload is a sequence of event records. Logger names, thread names, levels, markers, context keys, stack trace
+ * elements and the format strings of parameterized messages are interned in a dictionary local to the block, so that
+ * a block can be decoded on its own: a dictionary string is written as its index plus 2, or as 1 followed by the
+ * string, which defines the next index, or as 0 for {@code null}. Other strings are written as their UTF-8 length
+ * plus 1, or 0 for {@code null}, followed by their UTF-8 bytes. Of a parameterized message, only the format string
+ * and the formatted parameters are written. Timestamps are written as the zigzag-encoded difference in milliseconds
+ * with the previous event, and the nanoseconds within the millisecond. Integers are written as variable-length
+ * quantities, 7 bits per byte, least significant group first.
+ * </p>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ */
+public final class BinaryLogWriter {
+
+    /** The header of a binary log file: {@code L4JB} followed by the format version. */
+    public static final byte[] FILE_HEADER = {'L', '4', 'J', 'B', 0, 0, 0, 1};
+
+    /** The marker starting each block. */
+    public static final int BLOCK_MAGIC = 0xB10CB10C;
+
+    /** The size in bytes of a block header. */
+    public static final int BLOCK_HEADER_SIZE = 32;
+
+    /** The default size of the payload above which a block is written. */
+    public static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+
+    static final int PARAMETERIZED = 1;
+    static final int CONSTANT_MESSAGE = 1 << 1;
+    static final int MARKER = 1 << 2;
+    static final int CONTEXT_DATA = 1 << 3;
+    static final int CONTEXT_STACK = 1 << 4;
+    static final int SOURCE = 1 << 5;
+    static final int THROWN = 1 << 6;
+    static final int END_OF_BATCH = 1 << 7;
+
+    private static final TriConsumer<String, Object, BinaryLogWriter> CONTEXT_DATA_WRITER = (key, value, writer) -> {
+        writer.writeInterned(key);
+        writer.writeString(value != null ? String.valueOf(value) : null);
+    };
+
+    private final int blockSize;
+    private final boolean includeLocation;
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    private final CRC32 crc = new CRC32();
+    private byte[] buffer;
+    private int position;
+    private int eventCount;
+    private long firstMillis;
+    private long lastMillis;
+
+    /**
+     * Creates a writer.
+     *
+     * @param blockSize the size of the payload above which {@link #append(LogEvent)} reports that the block is full.
+     * @param includeLocation whether to write the location of the events.
+     */
+    public BinaryLogWriter(final int blockSize, final boolean includeLocation) {
+        this.blockSize = blockSize;
+        this.includeLocation = includeLocation;
+        this.buffer = new byte[Math.min(blockSize, DEFAULT_BLOCK_SIZE) + BLOCK_HEADER_SIZE + 1024];
+        this.position = BLOCK_HEADER_SIZE;
+    }
+
+    /**
+     * Appends an event to the current block.
+     *
+     * @param event the event.
+     * @return {@code true} if the block is full and should be {@linkplain #writeBlock(OutputStream) written}.
+     */
+    public boolean append(final LogEvent event) {
+        final Instant instant = event.getInstant();
+        final long millis = instant.getEpochMillisecond();
+        final Message message = event.getMessage();
+        final Marker marker = event.getMarker();
+        final ReadOnlyStringMap contextData = event.getContextData();
+        final ThreadContext.ContextStack contextStack = event.getContextStack();
+        final StackTraceElement source = includeLocation ? event.getSource() : null;
+        Throwable thrown = event.getThrown();
+        if (thrown == null && event.getThrownProxy() != null) {
+            thrown = new RestoredThrowable(event.getThrownProxy());
+        }
+        int flags = 0;
+        if (message instanceof ParameterizedMessage || message instanceof ReusableParameterizedMessage) {
+            flags |= PARAMETERIZED;
+        } else if (message instanceof SimpleMessage || message instanceof ReusableSimpleMessage) {
+            flags |= CONSTANT_MESSAGE;
+        }
+        if (marker != null) {
+            flags |= MARKER;
+        }
+        if (contextData != null && !contextData.isEmpty()) {
+            flags |= CONTEXT_DATA;
+        }
+        if (contextStack != null && contextStack.getDepth() > 0) {
+            flags |= CONTEXT_STACK;
+        }
+        if (source != null) {
+            flags |= SOURCE;
+        }
+        if (thrown != null) {
+            flags |= THROWN;
+        }
+        if (event.isEndOfBatch()) {
+            flags |= END_OF_BATCH;
+        }
+        if (eventCount == 0) {
+            firstMillis = millis;
+            lastMillis = millis;
+        }
+        writeByte(flags);
+        writeVarLong(zigzag(millis - lastMillis));
+        writeVarInt(instant.getNanoOfMillisecond());
+        writeInterned(event.getLevel().name());
+        writeVarInt(event.getLevel().intLevel());
+        writeInterned(event.getLoggerName());
+        writeInterned(event.getThreadName());
+        writeVarLong(event.getThreadId());
+        writeVarInt(event.getThreadPriority());
+        if ((flags & PARAMETERIZED) != 0) {
+            writeInterned(message.getFormat());
+            final Object[] parameters = message.getParameters();
+            final int count = parameters != null ? parameters.length : 0;
+            writeVarInt(count);
+            for (int i = 0; i < count; i++) {
+                writeString(parameters[i] != null ? ParameterizedMessage.deepToString(parameters[i]) : null);
+            }
+        } else if ((flags & CONSTANT_MESSAGE) != 0) {
+            writeInterned(message.getFormattedMessage());
+        } else {
+            writeString(message != null ? message.getFormattedMessage() : null);
+        }
+        if (marker != null) {
+            writeInterned(marker.getName());
+        }
+        if ((flags & CONTEXT_DATA) != 0) {
+            writeVarInt(contextData.size());
+            contextData.forEach(CONTEXT_DATA_WRITER, this);
+        }
+        if ((flags & CONTEXT_STACK) != 0) {
+            writeVarInt(contextStack.getDepth());
+            for (final String element : contextStack.asList()) {
+                writeString(element);
+            }
+        }
+        if (source != null) {
+            writeStackTraceElement(source);
+        }
+        if (thrown != null) {
+            writeThrowable(thrown, Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+        lastMillis = millis;
+        eventCount++;
+        return position - BLOCK_HEADER_SIZE >= blockSize;
+    }
+
+    private void writeThrowable(final Throwable thrown, final Set<Throwable> visited) {
+        visited.add(thrown);
+        writeInterned(
+                thrown instanceof RestoredThrowable
+                        ? ((RestoredThrowable) thrown).getName()
+                        : thrown.getClass().getName());
+        writeString(thrown.getMessage());
+        final StackTraceElement[] stackTrace = thrown.getStackTrace();
+        writeVarInt(stackTrace.length);
+        for (final StackTraceElement element : stackTrace) {
+            writeStackTraceElement(element);
+        }
+        final Throwable cause = thrown.getCause();
+        if (cause != null && !visited.contains(cause)) {
+            writeByte(1);
+            writeThrowable(cause, visited);
+        } else {
+            writeByte(0);
+        }
+        final Throwable[] suppressed = thrown.getSuppressed();
+        int count = 0;
+        for (final Throwable throwable : suppressed) {
+            if (!visited.contains(throwable)) {
+                count++;
+            }
+        }
+        writeVarInt(count);
+        for (final Throwable throwable : suppressed) {
+            if (!visited.contains(throwable)) {
+                writeThrowable(throwable, visited);
+            }
+        }
+    }
+
+    private void writeStackTraceElement(final StackTraceElement element) {
+        writeInterned(element.getClassName());
+        writeInterned(element.getMethodName());
+        writeInterned(element.getFileName());
+        writeVarInt(zigzag(element.getLineNumber()));
+    }
+
+    /**
+     * Returns whether the current block contains events.
+     *
+     * @return {@code true} if there are events to write.
+     */
+    public boolean hasEvents() {
+        return eventCount > 0;
+    }
+
+    /**
+     * Writes the current block, if it contains events, and starts a new one.
+     *
+     * @param out the stream to write to.
+     * @return the number of bytes written.
+     * @throws IOException if the block cannot be written.
+     */
+    public int writeBlock(final OutputStream out) throws IOException {
+        if (eventCount == 0) {
+            return 0;
+        }
+        final int length = position;
+        position = 0;
+        writeInt(BLOCK_MAGIC);
+        writeInt(length - BLOCK_HEADER_SIZE);
+        writeInt(eventCount);
+        writeLong(firstMillis);
+        writeLong(lastMillis);
+        crc.reset();
+        crc.update(buffer, 4, BLOCK_HEADER_SIZE - 8);
+        crc.update(buffer, BLOCK_HEADER_SIZE, length - BLOCK_HEADER_SIZE);
+        writeInt((int) crc.getValue());
+        try {
+            out.write(buffer, 0, length);
+        } finally {
+            position = BLOCK_HEADER_SIZE;
+            eventCount = 0;
+            dictionary.clear();
+        }
+        return length;
+    }
+
+    private void writeInterned(final String value) {
+        if (value == null) {
+            writeByte(0);
+            return;
+        }
+        final Integer index = dictionary.get(value);
+        if (index != null) {
+            writeVarInt(index + 2);
+        } else {
+            dictionary.put(value, dictionary.size());
+            writeByte(1);
+            writeString(value);
+        }
+    }
+
+    private void writeString(final String value) {
+        if (value == null) {
+            writeByte(0);
+            return;
+        }
+        final int length = value.length();
+        int utf8Length = length;
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                continue;
+            }
+            if (c < 0x800) {
+                utf8Length += 1;
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < length
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                utf8Length += 2;
+                i++;
+            } else if (!Character.isSurrogate(c)) {
+                utf8Length += 2;
+            }
+        }
+        writeVarInt(utf8Length + 1);
+        ensureCapacity(utf8Length);
+        final byte[] bytes = buffer;
+        int pos = position;
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[pos++] = (byte) (0xC0 | c >> 6);
+                bytes[pos++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < length
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                bytes[pos++] = (byte) (0xF0 | codePoint >> 18);
+                bytes[pos++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                bytes[pos++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                bytes[pos++] = (byte) (0x80 | codePoint & 0x3F);
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogate: replaced, like String.getBytes() does
+                bytes[pos++] = '?';
+            } else {
+                bytes[pos++] = (byte) (0xE0 | c >> 12);
+                bytes[pos++] = (byte) (0x80 | c >> 6 & 0x3F);
+                bytes[pos++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+        position = pos;
+    }
+
+    private static long zigzag(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static int zigzag(final int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private void writeVarInt(final int value) {
+        writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    private void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) (value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeByte(final int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeInt(final int value) {
+        buffer[position++] = (byte) (value >>> 24);
+        buffer[position++] = (byte) (value >>> 16);
+        buffer[position++] = (byte) (value >>> 8);
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeLong(final long value) {
+        writeInt((int) (value >>> 32));
+        writeInt((int) value);
+    }
+
+    private void ensureCapacity(final int length) {
+        if (position + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.util.internal;
+
+import org.apache.logging.log4j.core.impl.ExtendedStackTraceElement;
+import org.apache.logging.log4j.core.impl.ThrowableProxy;
+
+/**
+ * Stands in for the exception of a deserialized event: the original exception is not serialized, only its
+ * {@link ThrowableProxy} or its description in a {@linkplain BinaryLogWriter binary log}. It prints like the original
+ * exception, with its class name, message, stack trace, causes and suppressed exceptions.
+ */
+final class RestoredThrowable extends Throwable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String name;
+
+    RestoredThrowable(final ThrowableProxy proxy) {
+        super(proxy.getMessage());
+        this.name = proxy.getName();
+        final ExtendedStackTraceElement[] extendedStackTrace = proxy.getExtendedStackTrace();
+        final StackTraceElement[] stackTrace = new StackTraceElement[extendedStackTrace.length];
+        for (int i = 0; i < stackTrace.length; i++) {
+            stackTrace[i] = extendedStackTrace[i].getStackTraceElement();
+        }
+        setStackTrace(stackTrace);
+        if (proxy.getCauseProxy() != null) {
+            initCause(new RestoredThrowable(proxy.getCauseProxy()));
+        }
+        final ThrowableProxy[] suppressedProxies = proxy.getSuppressedProxies();
+        if (suppressedProxies != null) {
+            for (final ThrowableProxy suppressed : suppressedProxies) {
+                addSuppressed(new RestoredThrowable(suppressed));
+            }
+        }
+    }
+
+    RestoredThrowable(final String name, final String message, final StackTraceElement[] stackTrace) {
+        super(message);
+        this.name = name;
+        setStackTrace(stackTrace);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        // the stack trace is the one of the original exception
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        final String message = getLocalizedMessage();
+        return message != null ? name + ": " + message : name;
+    }
+}
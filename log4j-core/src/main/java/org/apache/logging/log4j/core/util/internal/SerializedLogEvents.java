@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.core.util.internal;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.impl.ThrowableProxy;
+
+/**
+ * Serializes log events to be logged later, possibly by another process.
+ * <p>
+ * Events are serialized like {@link Log4jLogEvent#serialize(LogEvent, boolean)} does. The exception of a deserialized
+ * event is a copy with the same class name, message and stack trace, and messages that are not serializable are
+ * deserialized as their formatted text.
+ * </p>
+ */
+public final class SerializedLogEvents {
+
+    private SerializedLogEvents() {}
+
+    /**
+     * Serializes an event.
+     *
+     * @param out the output.
+     * @param event the event.
+     * @param includeLocation whether to include the location of the event.
+     * @throws IOException if the event cannot be written.
+     */
+    public static void write(final ObjectOutput out, final LogEvent event, final boolean includeLocation)
+            throws IOException {
+        out.writeObject(Log4jLogEvent.serialize(event, includeLocation));
+    }
+
+    /**
+     * Deserializes an event written by {@link #write(ObjectOutput, LogEvent, boolean)}.
+     *
+     * @param in the input, which should filter the classes it deserializes.
+     * @return the event.
+     * @throws IOException if the event cannot be read.
+     * @throws ClassNotFoundException if the class of a serialized object cannot be found.
+     */
+    public static LogEvent read(final ObjectInput in) throws IOException, ClassNotFoundException {
+        final Object object = in.readObject();
+        if (!(object instanceof LogEvent)) {
+            throw new IOException("Not a serialized log event: " + object);
+        }
+        // the serialized proxy resolves to a Log4jLogEvent
+        final LogEvent event = (LogEvent) object;
+        final ThrowableProxy thrownProxy = event.getThrownProxy();
+        if (event.getThrown() != null || thrownProxy == null) {
+            return event;
+        }
+        return new Log4jLogEvent.Builder(event)
+                .setThrown(new RestoredThrowable(thrownProxy))
+                .build();
+    }
+}
@@ -55,6 +55,11 @@ public class UnsafeUtil {
             LOGGER.warn("sun.misc.Cleaner#clean() is not accessible. This will impact memory usage.", wrapped);
             cleanerMethod = null;
             cleanMethod = null;
+        } catch (final RuntimeException e) {
+            // Java 9+ throws InaccessibleObjectException if the java.nio package is not opened
+            LOGGER.warn("sun.misc.Cleaner#clean() is not accessible. This will impact memory usage.", e);
+            cleanerMethod = null;
+            cleanMethod = null;
         }
     }
 
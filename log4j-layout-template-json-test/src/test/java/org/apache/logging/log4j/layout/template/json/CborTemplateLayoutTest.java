@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.layout.template.json;
+
+import static org.apache.logging.log4j.layout.template.json.TestHelpers.CONFIGURATION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.layout.template.json.util.JsonReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CborTemplateLayoutTest {
+
+    private static final List<LogEvent> LOG_EVENTS = createLogEvents();
+
+    private static List<LogEvent> createLogEvents() {
+        final List<LogEvent> logEvents = new ArrayList<>(LogEventFixture.createLiteLogEvents(10));
+        logEvents.addAll(LogEventFixture.createFullLogEvents(10));
+        return logEvents;
+    }
+
+    private static JsonTemplateLayout createJsonTemplateLayout(final String eventTemplateUri) {
+        return JsonTemplateLayout.newBuilder()
+                .setConfiguration(CONFIGURATION)
+                .setEventTemplateUri(eventTemplateUri)
+                .setEventDelimiter("")
+                .build();
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "classpath:EcsLayout.json",
+                "classpath:GcpLayout.json",
+                "classpath:GelfLayout.json",
+                "classpath:JsonLayout.json",
+                "classpath:LogstashJsonEventLayoutV1.json"
+            })
+    void frames_should_decode_to_the_json_output(final String eventTemplateUri) throws IOException {
+        final JsonTemplateLayout jsonLayout = createJsonTemplateLayout(eventTemplateUri);
+        for (final boolean stringReferencesEnabled : new boolean[] {true, false}) {
+            final CborTemplateLayout cborLayout = CborTemplateLayout.newBuilder()
+                    .setLayout(jsonLayout)
+                    .setStringReferencesEnabled(stringReferencesEnabled)
+                    .build();
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            for (final LogEvent logEvent : LOG_EVENTS) {
+                outputStream.write(cborLayout.toByteArray(logEvent));
+            }
+            final StringWriter writer = new StringWriter();
+            CborTemplateLayoutDecoder.decode(new ByteArrayInputStream(outputStream.toByteArray()), writer);
+            final List<Object> actualEvents = Arrays.stream(writer.toString().split("\n"))
+                    .map(CborTemplateLayoutTest::readEvent)
+                    .collect(Collectors.toList());
+            final List<Object> expectedEvents = LOG_EVENTS.stream()
+                    .map(jsonLayout::toSerializable)
+                    .map(CborTemplateLayoutTest::readEvent)
+                    .collect(Collectors.toList());
+            assertThat(actualEvents).isEqualTo(expectedEvents);
+        }
+    }
+
+    /**
+     * Reads the event, excluding the counter of {@code GcpLayout.json}, which differs between the rendering rounds.
+     */
+    private static Object readEvent(final String json) {
+        @SuppressWarnings("unchecked")
+        final Map<String, Object> event = (Map<String, Object>) JsonReader.read(json);
+        event.remove("logging.googleapis.com/insertId");
+        return event;
+    }
+
+    @Test
+    void string_references_should_shrink_stack_traces() {
+        final JsonTemplateLayout jsonLayout = createJsonTemplateLayout("classpath:JsonLayout.json");
+        final CborTemplateLayout referencingLayout =
+                CborTemplateLayout.newBuilder().setLayout(jsonLayout).build();
+        final CborTemplateLayout plainLayout = CborTemplateLayout.newBuilder()
+                .setLayout(jsonLayout)
+                .setStringReferencesEnabled(false)
+                .build();
+        final LogEvent logEvent = LogEventFixture.createFullLogEvents(1).get(0);
+        final int jsonLength = jsonLayout.toByteArray(logEvent).length;
+        final int plainLength = plainLayout.toByteArray(logEvent).length;
+        final int referencingLength = referencingLayout.toByteArray(logEvent).length;
+        assertThat(plainLength).isLessThan(jsonLength);
+        assertThat(referencingLength).isLessThan(plainLength);
+    }
+
+    @Test
+    void frames_should_be_length_prefixed() {
+        final CborTemplateLayout layout = CborTemplateLayout.newBuilder()
+                .setLayout(createJsonTemplateLayout("classpath:EcsLayout.json"))
+                .build();
+        final byte[] frame = layout.toByteArray(LOG_EVENTS.get(0));
+        final int length =
+                ((frame[0] & 0xff) << 24) | ((frame[1] & 0xff) << 16) | ((frame[2] & 0xff) << 8) | (frame[3] & 0xff);
+        assertThat(length).isEqualTo(frame.length - 4);
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "null",
+                "[true, false, null]",
+                "[0, 1, 23, 24, 255, 256, 65535, 65536, 4294967295, 4294967296, 9223372036854775807]",
+                "[-1, -24, -25, -256, -257, -9223372036854775808, 18446744073709551616, -18446744073709551617]",
+                "[0.5, -0.5, 1.0E10, 1.5e-3, 1581082727.982123456, 12345678901234567890.123456789]",
+                "{\"escaped\": \"\\\"\\\\\\b\\f\\n\\r\\t\\u0001\", \"unicode\": \"ç\\u00e7€\\ud83d\\ude00😀\"}",
+                "{\"a\": {\"b\": [\"repeated\", \"repeated\", {\"repeated\": \"repeated\"}]}, \"repeated\": 1}"
+            })
+    void transcoder_should_preserve_values(final String json) {
+        assertRoundTrip(json);
+    }
+
+    @Test
+    void transcoder_should_preserve_large_containers_and_strings() {
+        final String longString = IntStream.range(0, 300).mapToObj(i -> "x").collect(Collectors.joining());
+        final String json = IntStream.range(0, 300)
+                .mapToObj(i -> "\"key" + i + "\": [\"value" + (i % 7) + "\", \"" + longString + "\"]")
+                .collect(Collectors.joining(", ", "{", "}"));
+        assertRoundTrip(json);
+        assertRoundTrip("[" + json + ", " + json + "]");
+    }
+
+    private static void assertRoundTrip(final String json) {
+        for (final boolean stringReferencesEnabled : new boolean[] {true, false}) {
+            final CborTranscoder transcoder = new CborTranscoder(stringReferencesEnabled, 0);
+            // Run twice to verify that the transcoder state is reset.
+            for (int i = 0; i < 2; i++) {
+                final int frameLength = transcoder.transcode(json);
+                final String decodedJson = CborTemplateLayoutDecoder.decodeFrame(
+                        transcoder.getBytes(), CborTranscoder.FRAME_HEADER_LENGTH, frameLength - 4);
+                assertThat(JsonReader.read(decodedJson)).isEqualTo(JsonReader.read(json));
+            }
+        }
+    }
+
+    @Test
+    void transcoder_should_reject_malformed_json() {
+        final CborTranscoder transcoder = new CborTranscoder(true, 0);
+        assertThatThrownBy(() -> transcoder.transcode("{\"a\" 1}"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("index 5");
+        assertThatThrownBy(() -> transcoder.transcode("[1] 2")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> transcoder.transcode("tru")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void nested_layout_should_be_a_json_template_layout() {
+        final CborTemplateLayout.Builder builder = CborTemplateLayout.newBuilder()
+                .setLayout(PatternLayout.newBuilder()
+                        .withConfiguration(CONFIGURATION)
+                        .build());
+        assertThatThrownBy(builder::build)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("was expecting a nested JsonTemplateLayout");
+    }
+}
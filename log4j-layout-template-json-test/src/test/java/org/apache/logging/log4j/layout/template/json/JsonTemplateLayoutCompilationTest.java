@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.layout.template.json;
+
+import static org.apache.logging.log4j.layout.template.json.TestHelpers.CONFIGURATION;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.logging.log4j.core.LogEvent;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class JsonTemplateLayoutCompilationTest {
+
+    private static final List<LogEvent> LOG_EVENTS = createLogEvents();
+
+    private static List<LogEvent> createLogEvents() {
+        final List<LogEvent> logEvents = new ArrayList<>(LogEventFixture.createLiteLogEvents(10));
+        logEvents.addAll(LogEventFixture.createFullLogEvents(10));
+        return logEvents;
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "classpath:EcsLayout.json",
+                "classpath:GcpLayout.json",
+                "classpath:GelfLayout.json",
+                "classpath:JsonLayout.json",
+                "classpath:LogstashJsonEventLayoutV1.json"
+            })
+    void compiled_shipped_templates_should_match_uncompiled_ones(final String eventTemplateUri) {
+        final JsonTemplateLayout.Builder layoutBuilder = JsonTemplateLayout.newBuilder()
+                .setConfiguration(CONFIGURATION)
+                .setEventTemplateUri(eventTemplateUri)
+                .setLocationInfoEnabled(true);
+        assertCompiledOutputMatches(layoutBuilder);
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "{\"version\": \"1.1\", \"ok\": true, \"count\": 42, \"nothing\": null}",
+                "{\"nested\": {\"a\": [1, \"two\", false, [], {}], \"b\": {\"c\": \"d\"}}}",
+                "{\"message\": {\"$resolver\": \"message\"}, \"tag\": \"x\", \"level\": {\"$resolver\": \"level\", \"field\": \"name\"}}",
+                "{\"tag\": \"x\", \"mdc\": {\"$resolver\": \"mdc\", \"flatten\": true}, \"other\": \"y\"}",
+                "{\"mdc\": {\"$resolver\": \"mdc\", \"flatten\": true}, \"tag\": \"x\"}",
+                "{\"error\": {\"type\": {\"$resolver\": \"exception\", \"field\": \"className\"}}, \"tag\": \"x\"}",
+                "{\"items\": [\"a\", {\"$resolver\": \"level\", \"field\": \"name\"}, {\"b\": 1}]}",
+                "[\"a\", {\"b\": {\"$resolver\": \"thread\", \"field\": \"name\"}}]",
+                "{\"empty\": {}, \"array\": []}"
+            })
+    void compiled_templates_should_match_uncompiled_ones(final String eventTemplate) {
+        final JsonTemplateLayout.Builder layoutBuilder =
+                JsonTemplateLayout.newBuilder().setConfiguration(CONFIGURATION).setEventTemplate(eventTemplate);
+        assertCompiledOutputMatches(layoutBuilder);
+    }
+
+    private static void assertCompiledOutputMatches(final JsonTemplateLayout.Builder layoutBuilder) {
+        final JsonTemplateLayout layout =
+                layoutBuilder.setTemplateCompilationEnabled(false).build();
+        final JsonTemplateLayout compiledLayout =
+                layoutBuilder.setTemplateCompilationEnabled(true).build();
+        for (final LogEvent logEvent : LOG_EVENTS) {
+            assertThat(compiledLayout.toSerializable(logEvent)).isEqualTo(layout.toSerializable(logEvent));
+        }
+    }
+}
@@ -623,6 +623,51 @@ class StackTraceStringResolverTest {
                 .contains(NonAsciiUtf8MethodNameContainingException.NON_ASCII_UTF8_TEXT));
     }
 
+    @Test
+    void repeated_stack_traces_should_be_suppressed() {
+
+        // Create the event template.
+        final String eventTemplate = writeJson(asMap(
+                "ex_stacktrace",
+                asMap(
+                        "$resolver", "exception",
+                        "field", "stackTrace",
+                        "stackTrace", asMap("stringified", true, "suppressRepeats", 10))));
+
+        // Create the layout.
+        final JsonTemplateLayout layout = JsonTemplateLayout.newBuilder()
+                .setConfiguration(CONFIGURATION)
+                .setStackTraceEnabled(true)
+                .setEventTemplate(eventTemplate)
+                .build();
+
+        // Resolve the same stack trace within and after the suppression window.
+        final String[] stackTraces = new String[3];
+        for (int i = 0; i < stackTraces.length; i++) {
+            final LogEvent logEvent = Log4jLogEvent.newBuilder()
+                    .setThrown(exception1())
+                    .setTimeMillis(1_000_000L + i * 6_000L)
+                    .build();
+            final int index = i;
+            usingSerializedLogEventAccessor(
+                    layout, logEvent, accessor -> stackTraces[index] = accessor.getString("ex_stacktrace"));
+        }
+
+        // Check the serialized stack traces.
+        assertThat(stackTraces[0])
+                .matches(EXCEPTION_REGEX_FLAGS + exception1Regex(false))
+                .containsPattern("\tStack trace id: [0-9a-f]{16}\r?\n$");
+        final String id = stackTraces[0]
+                .substring(stackTraces[0].indexOf("Stack trace id: ") + 16, stackTraces[0].length())
+                .trim();
+        assertThat(stackTraces[1])
+                .matches("java.lang.ArithmeticException: Division by zero\r?\n\tStack trace repeated, id: " + id
+                        + "\r?\n");
+        assertThat(stackTraces[2])
+                .matches(EXCEPTION_REGEX_FLAGS + exception1Regex(false))
+                .endsWith(id + System.lineSeparator());
+    }
+
     private static final class NonAsciiUtf8MethodNameContainingException extends RuntimeException {
 
         public static final long serialVersionUID = 0;
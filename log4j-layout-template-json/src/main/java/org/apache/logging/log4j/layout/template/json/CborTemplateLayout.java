@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.layout.template.json;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.Node;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginBuilderAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginBuilderFactory;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.impl.LocationAware;
+import org.apache.logging.log4j.core.layout.ByteBufferDestination;
+import org.apache.logging.log4j.layout.template.json.util.JsonWriter;
+import org.apache.logging.log4j.layout.template.json.util.Recycler;
+
+/**
+ * Renders events using the template of a nested {@link JsonTemplateLayout}
+ * and writes them as length-prefixed
+ * <a href="https://www.rfc-editor.org/rfc/rfc8949">CBOR</a> frames.
+ * <p>
+ * Each frame is a 4-byte big-endian length followed by a single CBOR data
+ * item. Strings repeated within an event are replaced with
+ * <a href="http://cbor.schmorp.de/stringref">string references</a>, unless
+ * {@code stringReferencesEnabled} is set to {@code false}.
+ * {@link CborTemplateLayoutDecoder} converts frames back to JSON.
+ * </p>
+ *
+ * @since 2.24.0
+ */
+@Plugin(name = "CborTemplateLayout", category = Node.CATEGORY, elementType = Layout.ELEMENT_TYPE)
+public class CborTemplateLayout implements Layout<byte[]>, LocationAware {
+
+    private static final Map<String, String> CONTENT_FORMAT = Collections.singletonMap("version", "1");
+
+    private final JsonTemplateLayout jsonTemplateLayout;
+
+    private final Recycler<Context> contextRecycler;
+
+    private static final class Context implements AutoCloseable {
+
+        final JsonWriter jsonWriter;
+
+        final CborTranscoder transcoder;
+
+        private Context(final JsonWriter jsonWriter, final CborTranscoder transcoder) {
+            this.jsonWriter = jsonWriter;
+            this.transcoder = transcoder;
+        }
+
+        @Override
+        public void close() {
+            jsonWriter.close();
+        }
+    }
+
+    private CborTemplateLayout(final Builder builder) {
+        this.jsonTemplateLayout = (JsonTemplateLayout) builder.layout;
+        final boolean stringReferencesEnabled = builder.stringReferencesEnabled;
+        final Supplier<Context> supplier = () -> {
+            final JsonWriter jsonWriter = jsonTemplateLayout.createJsonWriter();
+            final CborTranscoder transcoder =
+                    new CborTranscoder(stringReferencesEnabled, jsonWriter.getMaxStringLength());
+            return new Context(jsonWriter, transcoder);
+        };
+        this.contextRecycler = jsonTemplateLayout.getRecyclerFactory().create(supplier, Context::close);
+    }
+
+    @Override
+    public byte[] toByteArray(final LogEvent event) {
+
+        // Acquire a context.
+        final Recycler<Context> contextRecycler = this.contextRecycler;
+        final Context context = contextRecycler.acquire();
+        final JsonWriter jsonWriter = context.jsonWriter;
+        final CborTranscoder transcoder = context.transcoder;
+
+        // Render the frame.
+        try {
+            jsonTemplateLayout.resolve(event, jsonWriter);
+            final int frameLength = transcoder.transcode(jsonWriter.getStringBuilder());
+            return Arrays.copyOf(transcoder.getBytes(), frameLength);
+        }
+
+        // Release the context.
+        finally {
+            contextRecycler.release(context);
+        }
+    }
+
+    @Override
+    public byte[] toSerializable(final LogEvent event) {
+        return toByteArray(event);
+    }
+
+    @Override
+    public void encode(final LogEvent event, final ByteBufferDestination destination) {
+
+        // Acquire a context.
+        final Recycler<Context> contextRecycler = this.contextRecycler;
+        final Context context = contextRecycler.acquire();
+        final JsonWriter jsonWriter = context.jsonWriter;
+        final CborTranscoder transcoder = context.transcoder;
+
+        // Render & write the frame.
+        try {
+            jsonTemplateLayout.resolve(event, jsonWriter);
+            final int frameLength = transcoder.transcode(jsonWriter.getStringBuilder());
+            destination.writeBytes(transcoder.getBytes(), 0, frameLength);
+        }
+
+        // Release the context.
+        finally {
+            contextRecycler.release(context);
+        }
+    }
+
+    @Override
+    public byte[] getFooter() {
+        return null;
+    }
+
+    @Override
+    public byte[] getHeader() {
+        return null;
+    }
+
+    @Override
+    public boolean requiresLocation() {
+        return jsonTemplateLayout.requiresLocation();
+    }
+
+    @Override
+    public String getContentType() {
+        return "application/cbor";
+    }
+
+    @Override
+    public Map<String, String> getContentFormat() {
+        return CONTENT_FORMAT;
+    }
+
+    @PluginBuilderFactory
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    public static final class Builder implements org.apache.logging.log4j.core.util.Builder<CborTemplateLayout> {
+
+        @PluginElement("Layout")
+        private Layout<?> layout;
+
+        @PluginBuilderAttribute
+        private boolean stringReferencesEnabled = true;
+
+        private Builder() {
+            // Do nothing.
+        }
+
+        public Layout<?> getLayout() {
+            return layout;
+        }
+
+        /**
+         * @param layout the {@link JsonTemplateLayout} whose template is used to render events
+         */
+        public Builder setLayout(final Layout<?> layout) {
+            this.layout = layout;
+            return this;
+        }
+
+        public boolean isStringReferencesEnabled() {
+            return stringReferencesEnabled;
+        }
+
+        public Builder setStringReferencesEnabled(final boolean stringReferencesEnabled) {
+            this.stringReferencesEnabled = stringReferencesEnabled;
+            return this;
+        }
+
+        @Override
+        public CborTemplateLayout build() {
+            validate();
+            return new CborTemplateLayout(this);
+        }
+
+        private void validate() {
+            if (!(layout instanceof JsonTemplateLayout)) {
+                throw new IllegalArgumentException("was expecting a nested JsonTemplateLayout, found: " + layout);
+            }
+        }
+    }
+}
@@ -0,0 +1,457 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.layout.template.json;
+
+import static org.apache.logging.log4j.layout.template.json.CborTranscoder.FRAME_HEADER_LENGTH;
+import static org.apache.logging.log4j.layout.template.json.CborTranscoder.MAJOR_TYPE_ARRAY;
+import static org.apache.logging.log4j.layout.template.json.CborTranscoder.MAJOR_TYPE_BYTE_STRING;
+import static org.apache.logging.log4j.layout.template.json.CborTranscoder.MAJOR_TYPE_MAP;
+import static org.apache.logging.log4j.layout.template.json.CborTranscoder.MAJOR_TYPE_NEGATIVE_INTEGER;
+import static org.apache.logging.log4j.layout.template.json.CborTranscoder.MAJOR_TYPE_TAG;
+import static org.apache.logging.log4j.layout.template.json.CborTranscoder.MAJOR_TYPE_TEXT_STRING;
+import static org.apache.logging.log4j.layout.template.json.CborTranscoder.MAJOR_TYPE_UNSIGNED_INTEGER;
+import static org.apache.logging.log4j.layout.template.json.CborTranscoder.TAG_DECIMAL_FRACTION;
+import static org.apache.logging.log4j.layout.template.json.CborTranscoder.TAG_NEGATIVE_BIGNUM;
+import static org.apache.logging.log4j.layout.template.json.CborTranscoder.TAG_POSITIVE_BIGNUM;
+import static org.apache.logging.log4j.layout.template.json.CborTranscoder.TAG_STRING_REFERENCE;
+import static org.apache.logging.log4j.layout.template.json.CborTranscoder.TAG_STRING_REFERENCE_NAMESPACE;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Converts the length-prefixed CBOR frames written by {@link CborTemplateLayout} back to JSON.
+ * <p>
+ * When run from the command line, reads the files given as arguments, or the
+ * standard input if there are none, and writes one JSON document per line to
+ * the standard output:
+ * </p>
+ * <pre>
+ * java -cp log4j-api.jar:log4j-core.jar:log4j-layout-template-json.jar \
+ *     org.apache.logging.log4j.layout.template.json.CborTemplateLayoutDecoder app.cbor
+ * </pre>
+ * <p>
+ * Besides the subset produced by {@link CborTemplateLayout}, indefinite-length
+ * items and half, single, and double precision floats are supported. Byte
+ * strings are rendered as Base64-encoded JSON strings.
+ * </p>
+ *
+ * @since 2.24.0
+ */
+public final class CborTemplateLayoutDecoder {
+
+    private final byte[] bytes;
+
+    private final int endPosition;
+
+    private int position;
+
+    /**
+     * Strings of the innermost string reference namespace, rendered as JSON, or null outside namespaces.
+     */
+    private List<String> references;
+
+    private CborTemplateLayoutDecoder(final byte[] bytes, final int offset, final int length) {
+        this.bytes = bytes;
+        this.position = offset;
+        this.endPosition = offset + length;
+    }
+
+    public static void main(final String[] args) throws IOException {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        if (args.length == 0) {
+            decode(System.in, writer);
+        } else {
+            for (final String arg : args) {
+                try (final InputStream inputStream = Files.newInputStream(Paths.get(arg))) {
+                    decode(inputStream, writer);
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * Reads frames from the given input stream until its end and writes them as JSON, one per line.
+     *
+     * @throws EOFException if the input ends in the middle of a frame
+     */
+    public static void decode(final InputStream inputStream, final Writer writer) throws IOException {
+        final DataInputStream dataInputStream = new DataInputStream(new BufferedInputStream(inputStream));
+        final byte[] header = new byte[FRAME_HEADER_LENGTH];
+        byte[] frame = new byte[1024];
+        while (true) {
+            final int headerLength = dataInputStream.read(header);
+            if (headerLength < 0) {
+                break;
+            }
+            dataInputStream.readFully(header, headerLength, FRAME_HEADER_LENGTH - headerLength);
+            final int frameLength = ((header[0] & 0xff) << 24)
+                    | ((header[1] & 0xff) << 16)
+                    | ((header[2] & 0xff) << 8)
+                    | (header[3] & 0xff);
+            if (frameLength < 0) {
+                throw new IOException("invalid frame length: " + (frameLength & 0xffffffffL));
+            }
+            if (frame.length < frameLength) {
+                frame = new byte[frameLength];
+            }
+            dataInputStream.readFully(frame, 0, frameLength);
+            writer.write(decodeFrame(frame, 0, frameLength));
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Converts the CBOR data item of a single frame, excluding its length prefix, to JSON.
+     */
+    public static String decodeFrame(final byte[] bytes, final int offset, final int length) {
+        final CborTemplateLayoutDecoder decoder = new CborTemplateLayoutDecoder(bytes, offset, length);
+        final StringBuilder stringBuilder = new StringBuilder();
+        decoder.decodeItem(stringBuilder);
+        if (decoder.position != decoder.endPosition) {
+            throw new IllegalArgumentException("was expecting the frame to end at position " + decoder.endPosition
+                    + ", found: " + decoder.position);
+        }
+        return stringBuilder.toString();
+    }
+
+    private void decodeItem(final StringBuilder stringBuilder) {
+        final int initialByte = readByte();
+        final int majorType = initialByte >>> 5;
+        final int additionalInfo = initialByte & 0x1f;
+        switch (majorType) {
+            case MAJOR_TYPE_UNSIGNED_INTEGER:
+                stringBuilder.append(Long.toUnsignedString(readArgument(additionalInfo)));
+                break;
+            case MAJOR_TYPE_NEGATIVE_INTEGER:
+                stringBuilder.append(toNegativeInteger(readArgument(additionalInfo)));
+                break;
+            case MAJOR_TYPE_BYTE_STRING:
+                final byte[] byteString = readByteString(MAJOR_TYPE_BYTE_STRING, additionalInfo);
+                appendString(
+                        stringBuilder,
+                        Base64.getEncoder().encodeToString(byteString),
+                        additionalInfo != 31 ? byteString.length : 0);
+                break;
+            case MAJOR_TYPE_TEXT_STRING:
+                final byte[] textString = readByteString(MAJOR_TYPE_TEXT_STRING, additionalInfo);
+                appendString(
+                        stringBuilder,
+                        new String(textString, StandardCharsets.UTF_8),
+                        additionalInfo != 31 ? textString.length : 0);
+                break;
+            case MAJOR_TYPE_ARRAY:
+                decodeArray(stringBuilder, additionalInfo);
+                break;
+            case MAJOR_TYPE_MAP:
+                decodeMap(stringBuilder, additionalInfo);
+                break;
+            case MAJOR_TYPE_TAG:
+                decodeTag(stringBuilder, readArgument(additionalInfo));
+                break;
+            default:
+                decodeSimple(stringBuilder, additionalInfo);
+        }
+    }
+
+    private void decodeArray(final StringBuilder stringBuilder, final int additionalInfo) {
+        stringBuilder.append('[');
+        if (additionalInfo == 31) {
+            for (int itemIndex = 0; !readBreak(); itemIndex++) {
+                if (itemIndex > 0) {
+                    stringBuilder.append(',');
+                }
+                decodeItem(stringBuilder);
+            }
+        } else {
+            final long itemCount = readArgument(additionalInfo);
+            for (long itemIndex = 0; itemIndex < itemCount; itemIndex++) {
+                if (itemIndex > 0) {
+                    stringBuilder.append(',');
+                }
+                decodeItem(stringBuilder);
+            }
+        }
+        stringBuilder.append(']');
+    }
+
+    private void decodeMap(final StringBuilder stringBuilder, final int additionalInfo) {
+        stringBuilder.append('{');
+        if (additionalInfo == 31) {
+            for (int entryIndex = 0; !readBreak(); entryIndex++) {
+                decodeEntry(stringBuilder, entryIndex);
+            }
+        } else {
+            final long entryCount = readArgument(additionalInfo);
+            for (long entryIndex = 0; entryIndex < entryCount; entryIndex++) {
+                decodeEntry(stringBuilder, entryIndex);
+            }
+        }
+        stringBuilder.append('}');
+    }
+
+    private void decodeEntry(final StringBuilder stringBuilder, final long entryIndex) {
+        if (entryIndex > 0) {
+            stringBuilder.append(',');
+        }
+        // JSON only allows string keys, quote the others.
+        final int keyStartIndex = stringBuilder.length();
+        decodeItem(stringBuilder);
+        if (stringBuilder.charAt(keyStartIndex) != '"') {
+            final String key = stringBuilder.substring(keyStartIndex);
+            stringBuilder.setLength(keyStartIndex);
+            appendQuoted(stringBuilder, key);
+        }
+        stringBuilder.append(':');
+        decodeItem(stringBuilder);
+    }
+
+    private void decodeTag(final StringBuilder stringBuilder, final long tag) {
+        if (tag == TAG_STRING_REFERENCE_NAMESPACE) {
+            final List<String> parentReferences = references;
+            references = new ArrayList<>();
+            decodeItem(stringBuilder);
+            references = parentReferences;
+        } else if (tag == TAG_STRING_REFERENCE) {
+            final BigInteger referenceIndex = readInteger();
+            if (references == null
+                    || referenceIndex.signum() < 0
+                    || referenceIndex.compareTo(BigInteger.valueOf(references.size())) >= 0) {
+                throw new IllegalArgumentException("invalid string reference: " + referenceIndex);
+            }
+            stringBuilder.append(references.get(referenceIndex.intValue()));
+        } else if (tag == TAG_DECIMAL_FRACTION) {
+            final int initialByte = readByte();
+            if (initialByte != ((MAJOR_TYPE_ARRAY << 5) | 2)) {
+                throw new IllegalArgumentException("was expecting a 2-element array for a decimal fraction");
+            }
+            final int exponent = readInteger().intValueExact();
+            final BigInteger mantissa = readInteger();
+            stringBuilder.append(new BigDecimal(mantissa, -exponent));
+        } else if (tag == TAG_POSITIVE_BIGNUM || tag == TAG_NEGATIVE_BIGNUM) {
+            position--;
+            stringBuilder.append(readInteger());
+        } else {
+            // Ignore unknown tags.
+            decodeItem(stringBuilder);
+        }
+    }
+
+    private void decodeSimple(final StringBuilder stringBuilder, final int additionalInfo) {
+        switch (additionalInfo) {
+            case 20:
+                stringBuilder.append("false");
+                break;
+            case 21:
+                stringBuilder.append("true");
+                break;
+            case 22:
+            case 23:
+                stringBuilder.append("null");
+                break;
+            case 25:
+                stringBuilder.append(toFloat16((int) readUnsigned(2)));
+                break;
+            case 26:
+                stringBuilder.append(Float.intBitsToFloat((int) readUnsigned(4)));
+                break;
+            case 27:
+                stringBuilder.append(Double.longBitsToDouble(readUnsigned(8)));
+                break;
+            default:
+                throw new IllegalArgumentException("unsupported simple value: " + additionalInfo);
+        }
+    }
+
+    /**
+     * Reads an integer, or a bignum, the latter being the case if the integer was preceded by a tag.
+     */
+    private BigInteger readInteger() {
+        final int initialByte = readByte();
+        final int majorType = initialByte >>> 5;
+        final int additionalInfo = initialByte & 0x1f;
+        if (majorType == MAJOR_TYPE_UNSIGNED_INTEGER) {
+            return new BigInteger(Long.toUnsignedString(readArgument(additionalInfo)));
+        } else if (majorType == MAJOR_TYPE_NEGATIVE_INTEGER) {
+            return toNegativeInteger(readArgument(additionalInfo));
+        } else if (majorType == MAJOR_TYPE_TAG) {
+            final long tag = readArgument(additionalInfo);
+            final int stringByte = readByte();
+            if ((tag != TAG_POSITIVE_BIGNUM && tag != TAG_NEGATIVE_BIGNUM)
+                    || (stringByte >>> 5) != MAJOR_TYPE_BYTE_STRING) {
+                throw new IllegalArgumentException("was expecting a bignum, found tag: " + tag);
+            }
+            final BigInteger magnitude = new BigInteger(1, readByteString(MAJOR_TYPE_BYTE_STRING, stringByte & 0x1f));
+            return tag == TAG_POSITIVE_BIGNUM ? magnitude : magnitude.not();
+        }
+        throw new IllegalArgumentException("was expecting an integer, found major type: " + majorType);
+    }
+
+    private static BigInteger toNegativeInteger(final long argument) {
+        return new BigInteger(Long.toUnsignedString(argument)).not();
+    }
+
+    private byte[] readByteString(final int majorType, final int additionalInfo) {
+        if (additionalInfo == 31) {
+            // Indefinite-length strings are concatenations of definite-length chunks.
+            final List<byte[]> chunks = new ArrayList<>();
+            int length = 0;
+            while (!readBreak()) {
+                final int chunkByte = readByte();
+                if ((chunkByte >>> 5) != majorType || (chunkByte & 0x1f) == 31) {
+                    throw new IllegalArgumentException("invalid indefinite-length string chunk");
+                }
+                final byte[] chunk = readByteString(majorType, chunkByte & 0x1f);
+                chunks.add(chunk);
+                length += chunk.length;
+            }
+            final byte[] string = new byte[length];
+            int offset = 0;
+            for (final byte[] chunk : chunks) {
+                System.arraycopy(chunk, 0, string, offset, chunk.length);
+                offset += chunk.length;
+            }
+            return string;
+        }
+        final long length = readArgument(additionalInfo);
+        if (length < 0 || length > endPosition - position) {
+            throw new IllegalArgumentException("string length exceeds the frame: " + length);
+        }
+        final byte[] string = new byte[(int) length];
+        System.arraycopy(bytes, position, string, 0, string.length);
+        position += string.length;
+        return string;
+    }
+
+    /**
+     * @param byteCount the length of the encoded string, or zero for indefinite-length strings, which are never referenced
+     */
+    private void appendString(final StringBuilder stringBuilder, final String string, final int byteCount) {
+        final int startIndex = stringBuilder.length();
+        appendQuoted(stringBuilder, string);
+        if (references != null && CborTranscoder.isReferenceable(byteCount, references.size())) {
+            references.add(stringBuilder.substring(startIndex));
+        }
+    }
+
+    private static void appendQuoted(final StringBuilder stringBuilder, final String string) {
+        stringBuilder.append('"');
+        for (int charIndex = 0; charIndex < string.length(); charIndex++) {
+            final char c = string.charAt(charIndex);
+            switch (c) {
+                case '"':
+                    stringBuilder.append("\\\"");
+                    break;
+                case '\\':
+                    stringBuilder.append("\\\\");
+                    break;
+                case '\b':
+                    stringBuilder.append("\\b");
+                    break;
+                case '\f':
+                    stringBuilder.append("\\f");
+                    break;
+                case '\n':
+                    stringBuilder.append("\\n");
+                    break;
+                case '\r':
+                    stringBuilder.append("\\r");
+                    break;
+                case '\t':
+                    stringBuilder.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        stringBuilder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        stringBuilder.append(c);
+                    }
+            }
+        }
+        stringBuilder.append('"');
+    }
+
+    private static float toFloat16(final int bits) {
+        final int exponent = (bits >>> 10) & 0x1f;
+        final int fraction = bits & 0x3ff;
+        final float magnitude;
+        if (exponent == 0) {
+            magnitude = (float) (fraction * Math.pow(2, -24));
+        } else if (exponent == 0x1f) {
+            magnitude = fraction == 0 ? Float.POSITIVE_INFINITY : Float.NaN;
+        } else {
+            magnitude = (float) ((fraction + 1024) * Math.pow(2, exponent - 25));
+        }
+        return (bits & 0x8000) != 0 ? -magnitude : magnitude;
+    }
+
+    private long readArgument(final int additionalInfo) {
+        if (additionalInfo < 24) {
+            return additionalInfo;
+        }
+        switch (additionalInfo) {
+            case 24:
+                return readUnsigned(1);
+            case 25:
+                return readUnsigned(2);
+            case 26:
+                return readUnsigned(4);
+            case 27:
+                return readUnsigned(8);
+            default:
+                throw new IllegalArgumentException("unsupported additional information: " + additionalInfo);
+        }
+    }
+
+    private long readUnsigned(final int byteCount) {
+        long value = 0;
+        for (int byteIndex = 0; byteIndex < byteCount; byteIndex++) {
+            value = (value << 8) | readByte();
+        }
+        return value;
+    }
+
+    private boolean readBreak() {
+        if (position < endPosition && (bytes[position] & 0xff) == 0xff) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private int readByte() {
+        if (position >= endPosition) {
+            throw new IllegalArgumentException("unexpected end of frame");
+        }
+        return bytes[position++] & 0xff;
+    }
+}
@@ -0,0 +1,636 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.layout.template.json;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Transcodes the JSON text rendered by {@link JsonTemplateLayout} into a
+ * length-prefixed <a href="https://www.rfc-editor.org/rfc/rfc8949">CBOR</a>
+ * frame.
+ * <p>
+ * A frame is composed of a 4-byte big-endian length followed by a single CBOR
+ * data item. If string references are enabled, the item is wrapped in a
+ * <a href="http://cbor.schmorp.de/stringref">string reference namespace</a>
+ * (tag 256) and repeated strings (e.g., the keys of stack trace elements) are
+ * replaced with references (tag 25) to their first occurrence. Non-integral
+ * numbers are encoded as decimal fractions (tag 4) to preserve their exact
+ * value.
+ * </p>
+ * <p>
+ * Instances are not thread-safe and are meant to be recycled. Once the
+ * buffers have grown to fit the largest event, transcoding is garbage-free,
+ * except for numbers that do not fit into a {@code long}.
+ * </p>
+ */
+final class CborTranscoder {
+
+    static final int FRAME_HEADER_LENGTH = 4;
+
+    static final int MAJOR_TYPE_UNSIGNED_INTEGER = 0;
+
+    static final int MAJOR_TYPE_NEGATIVE_INTEGER = 1;
+
+    static final int MAJOR_TYPE_BYTE_STRING = 2;
+
+    static final int MAJOR_TYPE_TEXT_STRING = 3;
+
+    static final int MAJOR_TYPE_ARRAY = 4;
+
+    static final int MAJOR_TYPE_MAP = 5;
+
+    static final int MAJOR_TYPE_TAG = 6;
+
+    static final int MAJOR_TYPE_SIMPLE = 7;
+
+    static final int TAG_POSITIVE_BIGNUM = 2;
+
+    static final int TAG_NEGATIVE_BIGNUM = 3;
+
+    static final int TAG_DECIMAL_FRACTION = 4;
+
+    static final int TAG_STRING_REFERENCE = 25;
+
+    static final int TAG_STRING_REFERENCE_NAMESPACE = 256;
+
+    static final int SIMPLE_FALSE = 20;
+
+    static final int SIMPLE_TRUE = 21;
+
+    static final int SIMPLE_NULL = 22;
+
+    static final int SIMPLE_FLOAT64 = 27;
+
+    private static final char REPLACEMENT_CHAR = '?';
+
+    private final boolean stringReferencesEnabled;
+
+    private byte[] bytes;
+
+    private int position;
+
+    private int[] referenceOffsets;
+
+    private int[] referenceLengths;
+
+    private int referenceCount;
+
+    /**
+     * Open-addressing hash table of string reference indices incremented by
+     * one, where zero denotes an empty slot.
+     */
+    private int[] referenceTable;
+
+    CborTranscoder(final boolean stringReferencesEnabled, final int initialCapacity) {
+        this.stringReferencesEnabled = stringReferencesEnabled;
+        this.bytes = new byte[Math.max(FRAME_HEADER_LENGTH + 16, initialCapacity)];
+        this.referenceOffsets = new int[32];
+        this.referenceLengths = new int[32];
+        this.referenceTable = new int[64];
+    }
+
+    /**
+     * Indicates if a string of the given byte length is assigned an index in
+     * a string reference namespace, where {@code nextIndex} denotes the number
+     * of already indexed strings.
+     */
+    static boolean isReferenceable(final int length, final int nextIndex) {
+        if (nextIndex < 24) {
+            return length >= 3;
+        } else if (nextIndex < 0x100) {
+            return length >= 4;
+        } else if (nextIndex < 0x10000) {
+            return length >= 5;
+        }
+        return length >= 7;
+    }
+
+    /**
+     * @return the buffer containing the frame produced by the last {@link #transcode(CharSequence)} call
+     */
+    byte[] getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Transcodes the given JSON text into a frame.
+     *
+     * @param json a single JSON value
+     * @return the length of the frame, including its length prefix
+     */
+    int transcode(final CharSequence json) {
+        position = FRAME_HEADER_LENGTH;
+        if (stringReferencesEnabled) {
+            clearReferences();
+            writeHeader(MAJOR_TYPE_TAG, TAG_STRING_REFERENCE_NAMESPACE);
+        }
+        final int endIndex = skipWhitespace(json, writeValue(json, skipWhitespace(json, 0)));
+        if (endIndex != json.length()) {
+            throw unexpectedChar(json, endIndex);
+        }
+        final int length = position - FRAME_HEADER_LENGTH;
+        bytes[0] = (byte) (length >>> 24);
+        bytes[1] = (byte) (length >>> 16);
+        bytes[2] = (byte) (length >>> 8);
+        bytes[3] = (byte) length;
+        return position;
+    }
+
+    private int writeValue(final CharSequence json, final int index) {
+        final char c = json.charAt(index);
+        switch (c) {
+            case '{':
+                return writeContainer(json, index, MAJOR_TYPE_MAP, '}');
+            case '[':
+                return writeContainer(json, index, MAJOR_TYPE_ARRAY, ']');
+            case '"':
+                return writeString(json, index);
+            case 't':
+                return writeLiteral(json, index, "true", SIMPLE_TRUE);
+            case 'f':
+                return writeLiteral(json, index, "false", SIMPLE_FALSE);
+            case 'n':
+                return writeLiteral(json, index, "null", SIMPLE_NULL);
+            default:
+                return writeNumber(json, index);
+        }
+    }
+
+    private int writeLiteral(final CharSequence json, final int index, final String literal, final int simpleValue) {
+        requireLiteral(json, index, literal);
+        writeHeader(MAJOR_TYPE_SIMPLE, simpleValue);
+        return index + literal.length();
+    }
+
+    private int writeContainer(final CharSequence json, final int startIndex, final int majorType, final char endChar) {
+
+        // Reserve a single byte for the header, which fits containers with less than 24 entries.
+        final int headerPosition = position;
+        ensureCapacity(1);
+        position++;
+
+        // Write entries.
+        int count = 0;
+        int index = skipWhitespace(json, startIndex + 1);
+        if (json.charAt(index) != endChar) {
+            while (true) {
+                if (majorType == MAJOR_TYPE_MAP) {
+                    if (json.charAt(index) != '"') {
+                        throw unexpectedChar(json, index);
+                    }
+                    index = skipWhitespace(json, writeString(json, index));
+                    if (json.charAt(index) != ':') {
+                        throw unexpectedChar(json, index);
+                    }
+                    index = skipWhitespace(json, index + 1);
+                }
+                index = skipWhitespace(json, writeValue(json, index));
+                count++;
+                final char c = json.charAt(index);
+                if (c == endChar) {
+                    break;
+                } else if (c != ',') {
+                    throw unexpectedChar(json, index);
+                }
+                index = skipWhitespace(json, index + 1);
+            }
+        }
+
+        // Write the header.
+        final int headerLength = getHeaderLength(count);
+        if (headerLength > 1) {
+            shift(headerPosition + 1, headerLength - 1);
+        }
+        putHeader(headerPosition, majorType, count);
+        return index + 1;
+    }
+
+    private int writeString(final CharSequence json, final int startIndex) {
+
+        // Reserve a single byte for the header, which fits strings shorter than 24 bytes.
+        final int headerPosition = position;
+        ensureCapacity(1);
+        position++;
+        final int contentPosition = position;
+
+        // Write the unescaped content.
+        int index = startIndex + 1;
+        char highSurrogate = 0;
+        while (true) {
+            char c = json.charAt(index++);
+            if (c == '"') {
+                break;
+            } else if (c == '\\') {
+                final char escapedChar = json.charAt(index++);
+                switch (escapedChar) {
+                    case 'b':
+                        c = '\b';
+                        break;
+                    case 'f':
+                        c = '\f';
+                        break;
+                    case 'n':
+                        c = '\n';
+                        break;
+                    case 'r':
+                        c = '\r';
+                        break;
+                    case 't':
+                        c = '\t';
+                        break;
+                    case 'u':
+                        c = parseHexChar(json, index);
+                        index += 4;
+                        break;
+                    default:
+                        c = escapedChar;
+                }
+            }
+            if (Character.isHighSurrogate(c)) {
+                if (highSurrogate != 0) {
+                    writeUtf8(REPLACEMENT_CHAR);
+                }
+                highSurrogate = c;
+            } else if (Character.isLowSurrogate(c)) {
+                if (highSurrogate != 0) {
+                    writeUtf8(Character.toCodePoint(highSurrogate, c));
+                    highSurrogate = 0;
+                } else {
+                    writeUtf8(REPLACEMENT_CHAR);
+                }
+            } else {
+                if (highSurrogate != 0) {
+                    writeUtf8(REPLACEMENT_CHAR);
+                    highSurrogate = 0;
+                }
+                writeUtf8(c);
+            }
+        }
+        if (highSurrogate != 0) {
+            writeUtf8(REPLACEMENT_CHAR);
+        }
+
+        // Write the header.
+        final int length = position - contentPosition;
+        final int headerLength = getHeaderLength(length);
+        if (headerLength > 1) {
+            shift(contentPosition, headerLength - 1);
+        }
+        putHeader(headerPosition, MAJOR_TYPE_TEXT_STRING, length);
+
+        // Replace the string with a reference, if possible.
+        if (stringReferencesEnabled) {
+            referenceString(headerPosition, headerPosition + headerLength, length);
+        }
+        return index;
+    }
+
+    private static char parseHexChar(final CharSequence json, final int index) {
+        int value = 0;
+        for (int hexIndex = index; hexIndex < index + 4; hexIndex++) {
+            final int digit = Character.digit(json.charAt(hexIndex), 16);
+            if (digit < 0) {
+                throw unexpectedChar(json, hexIndex);
+            }
+            value = (value << 4) | digit;
+        }
+        return (char) value;
+    }
+
+    private void writeUtf8(final int codePoint) {
+        ensureCapacity(4);
+        if (codePoint < 0x80) {
+            bytes[position++] = (byte) codePoint;
+        } else if (codePoint < 0x800) {
+            bytes[position++] = (byte) (0xc0 | (codePoint >> 6));
+            bytes[position++] = (byte) (0x80 | (codePoint & 0x3f));
+        } else if (codePoint < 0x10000) {
+            bytes[position++] = (byte) (0xe0 | (codePoint >> 12));
+            bytes[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+            bytes[position++] = (byte) (0x80 | (codePoint & 0x3f));
+        } else {
+            bytes[position++] = (byte) (0xf0 | (codePoint >> 18));
+            bytes[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+            bytes[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+            bytes[position++] = (byte) (0x80 | (codePoint & 0x3f));
+        }
+    }
+
+    private void referenceString(final int headerPosition, final int contentPosition, final int length) {
+        final int hash = hash(contentPosition, length);
+        final int mask = referenceTable.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            final int entry = referenceTable[slot];
+            if (entry == 0) {
+                if (isReferenceable(length, referenceCount)) {
+                    addReference(slot, contentPosition, length);
+                }
+                return;
+            }
+            final int referenceIndex = entry - 1;
+            if (referenceLengths[referenceIndex] == length
+                    && contentEquals(referenceOffsets[referenceIndex], contentPosition, length)) {
+                position = headerPosition;
+                writeHeader(MAJOR_TYPE_TAG, TAG_STRING_REFERENCE);
+                writeHeader(MAJOR_TYPE_UNSIGNED_INTEGER, referenceIndex);
+                return;
+            }
+        }
+    }
+
+    private void addReference(final int slot, final int contentPosition, final int length) {
+        if (referenceCount == referenceOffsets.length) {
+            referenceOffsets = Arrays.copyOf(referenceOffsets, 2 * referenceCount);
+            referenceLengths = Arrays.copyOf(referenceLengths, 2 * referenceCount);
+        }
+        referenceOffsets[referenceCount] = contentPosition;
+        referenceLengths[referenceCount] = length;
+        referenceTable[slot] = ++referenceCount;
+        if (2 * referenceCount > referenceTable.length) {
+            rehashReferences();
+        }
+    }
+
+    private void rehashReferences() {
+        referenceTable = new int[2 * referenceTable.length];
+        final int mask = referenceTable.length - 1;
+        for (int referenceIndex = 0; referenceIndex < referenceCount; referenceIndex++) {
+            int slot = hash(referenceOffsets[referenceIndex], referenceLengths[referenceIndex]) & mask;
+            while (referenceTable[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            referenceTable[slot] = referenceIndex + 1;
+        }
+    }
+
+    private void clearReferences() {
+        if (referenceCount > 0) {
+            Arrays.fill(referenceTable, 0);
+            referenceCount = 0;
+        }
+    }
+
+    private int hash(final int offset, final int length) {
+        int hash = length;
+        for (int index = offset; index < offset + length; index++) {
+            hash = 31 * hash + bytes[index];
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private boolean contentEquals(final int offset1, final int offset2, final int length) {
+        for (int index = 0; index < length; index++) {
+            if (bytes[offset1 + index] != bytes[offset2 + index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int writeNumber(final CharSequence json, final int startIndex) {
+        final int length = json.length();
+        int index = startIndex;
+        final boolean negative = json.charAt(index) == '-';
+        if (negative) {
+            index++;
+        }
+
+        // Check non-finite values, which JsonWriter renders as is.
+        if (index < length && json.charAt(index) == 'N') {
+            requireLiteral(json, index, "NaN");
+            writeFloat64(Double.NaN);
+            return index + 3;
+        } else if (index < length && json.charAt(index) == 'I') {
+            requireLiteral(json, index, "Infinity");
+            writeFloat64(negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY);
+            return index + 8;
+        }
+
+        // Parse the integral and fractional digits into a mantissa.
+        long mantissa = 0;
+        boolean overflow = false;
+        int exponent = 0;
+        boolean integral = true;
+        final int digitsStartIndex = index;
+        boolean fraction = false;
+        for (; index < length; index++) {
+            final char c = json.charAt(index);
+            if (c == '.' && !fraction) {
+                fraction = true;
+                integral = false;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                break;
+            }
+            final int digit = c - '0';
+            if (mantissa > (Long.MAX_VALUE - digit) / 10) {
+                overflow = true;
+            } else {
+                mantissa = 10 * mantissa + digit;
+            }
+            if (fraction) {
+                exponent--;
+            }
+        }
+        if (index == digitsStartIndex) {
+            throw unexpectedChar(json, index);
+        }
+
+        // Parse the exponent.
+        if (index < length && (json.charAt(index) == 'e' || json.charAt(index) == 'E')) {
+            integral = false;
+            index++;
+            final boolean negativeExponent = index < length && json.charAt(index) == '-';
+            if (index < length && (json.charAt(index) == '-' || json.charAt(index) == '+')) {
+                index++;
+            }
+            final int exponentStartIndex = index;
+            int exponentValue = 0;
+            for (; index < length; index++) {
+                final char c = json.charAt(index);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                if (exponentValue > 100_000_000) {
+                    overflow = true;
+                } else {
+                    exponentValue = 10 * exponentValue + (c - '0');
+                }
+            }
+            if (index == exponentStartIndex) {
+                throw unexpectedChar(json, index);
+            }
+            exponent += negativeExponent ? -exponentValue : exponentValue;
+        }
+
+        // Write the number.
+        if (overflow) {
+            writeBigDecimal(new BigDecimal(json.subSequence(startIndex, index).toString()));
+        } else if (integral) {
+            writeInteger(negative, mantissa);
+        } else {
+            writeHeader(MAJOR_TYPE_TAG, TAG_DECIMAL_FRACTION);
+            writeHeader(MAJOR_TYPE_ARRAY, 2);
+            writeInteger(exponent < 0, Math.abs((long) exponent));
+            writeInteger(negative, mantissa);
+        }
+        return index;
+    }
+
+    private static void requireLiteral(final CharSequence json, final int index, final String literal) {
+        for (int literalIndex = 0; literalIndex < literal.length(); literalIndex++) {
+            final int jsonIndex = index + literalIndex;
+            if (jsonIndex >= json.length() || json.charAt(jsonIndex) != literal.charAt(literalIndex)) {
+                throw unexpectedChar(json, jsonIndex);
+            }
+        }
+    }
+
+    private void writeInteger(final boolean negative, final long magnitude) {
+        if (negative && magnitude != 0) {
+            writeHeader(MAJOR_TYPE_NEGATIVE_INTEGER, magnitude - 1);
+        } else {
+            writeHeader(MAJOR_TYPE_UNSIGNED_INTEGER, magnitude);
+        }
+    }
+
+    private void writeBigDecimal(final BigDecimal number) {
+        if (number.scale() <= 0) {
+            writeBigInteger(number.toBigIntegerExact());
+        } else {
+            writeHeader(MAJOR_TYPE_TAG, TAG_DECIMAL_FRACTION);
+            writeHeader(MAJOR_TYPE_ARRAY, 2);
+            writeInteger(true, number.scale());
+            writeBigInteger(number.unscaledValue());
+        }
+    }
+
+    private void writeBigInteger(final BigInteger number) {
+        final boolean negative = number.signum() < 0;
+        // CBOR encodes negative integers as -1 - n.
+        final BigInteger magnitude = negative ? number.not() : number;
+        if (magnitude.bitLength() < 64) {
+            writeHeader(negative ? MAJOR_TYPE_NEGATIVE_INTEGER : MAJOR_TYPE_UNSIGNED_INTEGER, magnitude.longValue());
+            return;
+        }
+        final byte[] magnitudeBytes = magnitude.toByteArray();
+        final int offset = magnitudeBytes[0] == 0 ? 1 : 0;
+        final int length = magnitudeBytes.length - offset;
+        writeHeader(MAJOR_TYPE_TAG, negative ? TAG_NEGATIVE_BIGNUM : TAG_POSITIVE_BIGNUM);
+        writeHeader(MAJOR_TYPE_BYTE_STRING, length);
+        ensureCapacity(length);
+        System.arraycopy(magnitudeBytes, offset, bytes, position, length);
+        position += length;
+    }
+
+    private void writeFloat64(final double value) {
+        ensureCapacity(9);
+        bytes[position++] = (byte) ((MAJOR_TYPE_SIMPLE << 5) | SIMPLE_FLOAT64);
+        final long bits = Double.doubleToLongBits(value);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            bytes[position++] = (byte) (bits >>> shift);
+        }
+    }
+
+    private void writeHeader(final int majorType, final long value) {
+        ensureCapacity(9);
+        position = putHeader(position, majorType, value);
+    }
+
+    private int putHeader(final int headerPosition, final int majorType, final long value) {
+        final int type = majorType << 5;
+        int index = headerPosition;
+        if (value < 24) {
+            bytes[index++] = (byte) (type | value);
+        } else if (value < 0x100) {
+            bytes[index++] = (byte) (type | 24);
+            bytes[index++] = (byte) value;
+        } else if (value < 0x10000) {
+            bytes[index++] = (byte) (type | 25);
+            bytes[index++] = (byte) (value >>> 8);
+            bytes[index++] = (byte) value;
+        } else if (value < 0x100000000L) {
+            bytes[index++] = (byte) (type | 26);
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                bytes[index++] = (byte) (value >>> shift);
+            }
+        } else {
+            bytes[index++] = (byte) (type | 27);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                bytes[index++] = (byte) (value >>> shift);
+            }
+        }
+        return index;
+    }
+
+    private static int getHeaderLength(final long value) {
+        if (value < 24) {
+            return 1;
+        } else if (value < 0x100) {
+            return 2;
+        } else if (value < 0x10000) {
+            return 3;
+        } else if (value < 0x100000000L) {
+            return 5;
+        }
+        return 9;
+    }
+
+    /**
+     * Shifts the bytes starting at the given position to the right, adjusting the offsets of the referenced strings.
+     */
+    private void shift(final int fromPosition, final int delta) {
+        ensureCapacity(delta);
+        System.arraycopy(bytes, fromPosition, bytes, fromPosition + delta, position - fromPosition);
+        position += delta;
+        for (int referenceIndex = referenceCount - 1; referenceIndex >= 0; referenceIndex--) {
+            if (referenceOffsets[referenceIndex] < fromPosition) {
+                break;
+            }
+            referenceOffsets[referenceIndex] += delta;
+        }
+    }
+
+    private void ensureCapacity(final int length) {
+        final int requiredCapacity = position + length;
+        if (requiredCapacity > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(requiredCapacity, 2 * bytes.length));
+        }
+    }
+
+    private static int skipWhitespace(final CharSequence json, final int startIndex) {
+        int index = startIndex;
+        while (index < json.length()) {
+            final char c = json.charAt(index);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                break;
+            }
+            index++;
+        }
+        return index;
+    }
+
+    private static IllegalArgumentException unexpectedChar(final CharSequence json, final int index) {
+        final String message = index < json.length()
+                ? String.format("unexpected character at index %d: '%c'", index, json.charAt(index))
+                : String.format("unexpected end of JSON at index %d", index);
+        return new IllegalArgumentException(message);
+    }
+}
@@ -38,6 +38,7 @@ import org.apache.logging.log4j.core.config.plugins.PluginConfiguration;
 import org.apache.logging.log4j.core.config.plugins.PluginElement;
 import org.apache.logging.log4j.core.impl.LocationAware;
 import org.apache.logging.log4j.core.layout.ByteBufferDestination;
+import org.apache.logging.log4j.core.layout.DirectStringBuilderEncoder;
 import org.apache.logging.log4j.core.layout.Encoder;
 import org.apache.logging.log4j.core.layout.TextEncoderHelper;
 import org.apache.logging.log4j.core.util.Constants;
@@ -74,6 +75,10 @@ public class JsonTemplateLayout implements StringLayout, LocationAware {
 
     private final Recycler<Context> contextRecycler;
 
+    private final JsonWriter jsonWriter;
+
+    private final RecyclerFactory recyclerFactory;
+
     private static final class Context implements AutoCloseable {
 
         final JsonWriter jsonWriter;
@@ -104,6 +109,8 @@ public class JsonTemplateLayout implements StringLayout, LocationAware {
                 .build();
         this.eventResolver = createEventResolver(builder, configuration, charset, jsonWriter);
         this.contextRecycler = createContextRecycler(builder, jsonWriter);
+        this.jsonWriter = jsonWriter;
+        this.recyclerFactory = builder.recyclerFactory;
     }
 
     private TemplateResolver<LogEvent> createEventResolver(
@@ -152,6 +159,7 @@ public class JsonTemplateLayout implements StringLayout, LocationAware {
                 .setStackTraceElementTemplate(stackTraceElementTemplate)
                 .setEventTemplateRootObjectKey(builder.eventTemplateRootObjectKey)
                 .setEventTemplateAdditionalFields(eventTemplateAdditionalFields)
+                .setTemplateCompilationEnabled(builder.templateCompilationEnabled)
                 .build();
 
         // Compile the resolver template.
@@ -178,11 +186,45 @@ public class JsonTemplateLayout implements StringLayout, LocationAware {
     private static Supplier<Context> createContextSupplier(final Charset charset, final JsonWriter jsonWriter) {
         return () -> {
             final JsonWriter clonedJsonWriter = jsonWriter.clone();
-            final Encoder<StringBuilder> encoder = new StringBuilderEncoder(charset);
+            final Encoder<StringBuilder> encoder =
+                    Constants.ENCODER_BYPASS_CHARSET_ENCODER && DirectStringBuilderEncoder.isSupported(charset)
+                            ? new DirectEncoder(charset)
+                            : new StringBuilderEncoder(charset);
             return new Context(clonedJsonWriter, encoder);
         };
     }
 
+    /**
+     * {@link DirectStringBuilderEncoder} clone replacing thread-local allocations with instance fields.
+     */
+    private static final class DirectEncoder implements Encoder<StringBuilder> {
+
+        private final Charset charset;
+
+        private final DirectStringBuilderEncoder encoder;
+
+        private final char[] charBuffer;
+
+        private final ByteBuffer byteBuffer;
+
+        private DirectEncoder(final Charset charset) {
+            this.charset = charset;
+            this.encoder = new DirectStringBuilderEncoder(charset);
+            this.charBuffer = new char[Constants.ENCODER_CHAR_BUFFER_SIZE];
+            this.byteBuffer = ByteBuffer.allocate(Constants.ENCODER_BYTE_BUFFER_SIZE);
+        }
+
+        @Override
+        public void encode(final StringBuilder source, final ByteBufferDestination destination) {
+            try {
+                encoder.encodeText(source, charBuffer, byteBuffer, destination);
+            } catch (final Exception error) {
+                byteBuffer.clear();
+                StringBuilderEncoder.fallbackEncode(charset, source, destination, error);
+            }
+        }
+    }
+
     /**
      * {@link org.apache.logging.log4j.core.layout.StringBuilderEncoder} clone replacing thread-local allocations with instance fields.
      */
@@ -276,6 +318,27 @@ public class JsonTemplateLayout implements StringLayout, LocationAware {
         }
     }
 
+    /**
+     * Renders the event into the given {@link JsonWriter}, without the event delimiter.
+     * <p>
+     * Used by layouts sharing the template and resolvers of this layout, e.g., {@link CborTemplateLayout}.
+     * </p>
+     */
+    void resolve(final LogEvent event, final JsonWriter jsonWriter) {
+        eventResolver.resolve(event, jsonWriter);
+    }
+
+    /**
+     * @return a new {@link JsonWriter} configured the same way as the ones used by this layout
+     */
+    JsonWriter createJsonWriter() {
+        return jsonWriter.clone();
+    }
+
+    RecyclerFactory getRecyclerFactory() {
+        return recyclerFactory;
+    }
+
     @Override
     public byte[] getFooter() {
         return null;
@@ -360,6 +423,9 @@ public class JsonTemplateLayout implements StringLayout, LocationAware {
         @PluginBuilderAttribute
         private RecyclerFactory recyclerFactory = JsonTemplateLayoutDefaults.getRecyclerFactory();
 
+        @PluginBuilderAttribute
+        private boolean templateCompilationEnabled = JsonTemplateLayoutDefaults.isTemplateCompilationEnabled();
+
         private Builder() {
             // Do nothing.
         }
@@ -500,6 +566,21 @@ public class JsonTemplateLayout implements StringLayout, LocationAware {
             return this;
         }
 
+        /**
+         * @since 2.24.0
+         */
+        public boolean isTemplateCompilationEnabled() {
+            return templateCompilationEnabled;
+        }
+
+        /**
+         * @since 2.24.0
+         */
+        public Builder setTemplateCompilationEnabled(final boolean templateCompilationEnabled) {
+            this.templateCompilationEnabled = templateCompilationEnabled;
+            return this;
+        }
+
         @Override
         public JsonTemplateLayout build() {
             validate();
@@ -113,6 +113,13 @@ public final class JsonTemplateLayoutDefaults {
         return PROPERTIES.getStringProperty("log4j.layout.jsonTemplate.truncatedStringSuffix", "…");
     }
 
+    /**
+     * @since 2.24.0
+     */
+    public static boolean isTemplateCompilationEnabled() {
+        return PROPERTIES.getBooleanProperty("log4j.layout.jsonTemplate.templateCompilationEnabled", false);
+    }
+
     public static RecyclerFactory getRecyclerFactory() {
         final String recyclerFactorySpec = PROPERTIES.getStringProperty("log4j.layout.jsonTemplate.recyclerFactory");
         return RecyclerFactories.ofSpec(recyclerFactorySpec);
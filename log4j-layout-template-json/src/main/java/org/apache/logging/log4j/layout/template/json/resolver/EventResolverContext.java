@@ -63,6 +63,8 @@ public final class EventResolverContext implements TemplateResolverContext<LogEv
 
     private final EventTemplateAdditionalField[] eventTemplateAdditionalFields;
 
+    private final boolean templateCompilationEnabled;
+
     private EventResolverContext(final Builder builder) {
         this.configuration = builder.configuration;
         this.resolverFactoryByName = builder.resolverFactoryByName;
@@ -78,6 +80,7 @@ public final class EventResolverContext implements TemplateResolverContext<LogEv
         this.stackTraceElementTemplate = builder.stackTraceElementTemplate;
         this.eventTemplateRootObjectKey = builder.eventTemplateRootObjectKey;
         this.eventTemplateAdditionalFields = builder.eventTemplateAdditionalFields;
+        this.templateCompilationEnabled = builder.templateCompilationEnabled;
     }
 
     @Override
@@ -145,6 +148,14 @@ public final class EventResolverContext implements TemplateResolverContext<LogEv
         return eventTemplateAdditionalFields;
     }
 
+    /**
+     * @since 2.24.0
+     */
+    @Override
+    public boolean isTemplateCompilationEnabled() {
+        return templateCompilationEnabled;
+    }
+
     public static Builder newBuilder() {
         return new Builder();
     }
@@ -179,6 +190,8 @@ public final class EventResolverContext implements TemplateResolverContext<LogEv
 
         private EventTemplateAdditionalField[] eventTemplateAdditionalFields;
 
+        private boolean templateCompilationEnabled;
+
         private Builder() {
             // Do nothing.
         }
@@ -254,6 +267,14 @@ public final class EventResolverContext implements TemplateResolverContext<LogEv
             return this;
         }
 
+        /**
+         * @since 2.24.0
+         */
+        public Builder setTemplateCompilationEnabled(final boolean templateCompilationEnabled) {
+            this.templateCompilationEnabled = templateCompilationEnabled;
+            return this;
+        }
+
         public EventResolverContext build() {
             validate();
             return new EventResolverContext(this);
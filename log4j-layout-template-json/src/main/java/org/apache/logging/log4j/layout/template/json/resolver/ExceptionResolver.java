@@ -19,6 +19,7 @@ package org.apache.logging.log4j.layout.template.json.resolver;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import org.apache.logging.log4j.Logger;
@@ -45,6 +46,7 @@ import org.apache.logging.log4j.status.StatusLogger;
  * stackTrace          = "stackTrace" -> (
  *                         [ stringified ]
  *                       , [ elementTemplate ]
+ *                       , [ suppressRepeats ]
  *                       )
  *
  * stringified         = "stringified" -> ( boolean | truncation )
@@ -58,6 +60,8 @@ import org.apache.logging.log4j.status.StatusLogger;
  * pointMatcherRegexes = "pointMatcherRegexes" -> string[]
  *
  * elementTemplate     = "elementTemplate" -> object
+ *
+ * suppressRepeats     = "suppressRepeats" -> ( boolean | number )
  * </pre>
  *
  * <tt>stringified</tt> is set to <tt>false</tt> by default.
@@ -78,6 +82,12 @@ import org.apache.logging.log4j.status.StatusLogger;
  * <tt>Suppressed:</tt> label blocks. That is, matchers are executed against
  * each label in isolation.
  * <p>
+ * <tt>suppressRepeats</tt> replaces a stringified stack trace that has already
+ * been resolved within the given number of seconds (60, if set to
+ * <tt>true</tt>) with the exception summary and a reference to the earlier
+ * trace. Full traces are followed by a <tt>Stack trace id:</tt> line to resolve
+ * these references. It has no effect unless <tt>stringified</tt> is enabled.
+ * <p>
  * <tt>elementTemplate</tt> is an object describing the template to be used
  * while resolving the {@link StackTraceElement} array. If <tt>stringified</tt>
  * is set to <tt>true</tt>, <tt>elementTemplate</tt> will be discarded. By
@@ -193,6 +203,8 @@ public class ExceptionResolver implements EventResolver {
 
     private static final Logger LOGGER = StatusLogger.getLogger();
 
+    private static final long DEFAULT_REPEAT_SUPPRESSION_SECONDS = 60;
+
     private static final EventResolver NULL_RESOLVER = (ignored, jsonGenerator) -> jsonGenerator.writeNull();
 
     private final boolean stackTraceEnabled;
@@ -275,10 +287,15 @@ public class ExceptionResolver implements EventResolver {
         final String truncationSuffix = readTruncationSuffix(context, config);
         final List<String> truncationPointMatcherStrings = readTruncationPointMatcherStrings(config);
         final List<String> truncationPointMatcherRegexes = readTruncationPointMatcherRegexes(config);
+        final long repeatSuppressionMillis = readRepeatSuppressionMillis(config);
 
         // Create the resolver.
         final StackTraceStringResolver resolver = new StackTraceStringResolver(
-                context, truncationSuffix, truncationPointMatcherStrings, truncationPointMatcherRegexes);
+                context,
+                truncationSuffix,
+                truncationPointMatcherStrings,
+                truncationPointMatcherRegexes,
+                repeatSuppressionMillis);
 
         // Create the null-protected resolver.
         return (final LogEvent logEvent, final JsonWriter jsonWriter) -> {
@@ -286,11 +303,24 @@ public class ExceptionResolver implements EventResolver {
             if (exception == null) {
                 jsonWriter.writeNull();
             } else {
-                resolver.resolve(exception, jsonWriter);
+                resolver.resolve(exception, logEvent.getTimeMillis(), jsonWriter);
             }
         };
     }
 
+    private static long readRepeatSuppressionMillis(final TemplateResolverConfig config) {
+        final Object suppressRepeats = config.getObject(new String[] {"stackTrace", "suppressRepeats"});
+        if (suppressRepeats == null || Boolean.FALSE.equals(suppressRepeats)) {
+            return 0;
+        } else if (Boolean.TRUE.equals(suppressRepeats)) {
+            return TimeUnit.SECONDS.toMillis(DEFAULT_REPEAT_SUPPRESSION_SECONDS);
+        } else if (suppressRepeats instanceof Number && ((Number) suppressRepeats).longValue() >= 0) {
+            return TimeUnit.SECONDS.toMillis(((Number) suppressRepeats).longValue());
+        }
+        throw new IllegalArgumentException("was expecting a boolean or a non-negative number of seconds for "
+                + "\"stackTrace.suppressRepeats\": " + config);
+    }
+
     private static String readTruncationSuffix(
             final EventResolverContext context, final TemplateResolverConfig config) {
         final String suffix = config.getString(new String[] {"stackTrace", "stringified", "truncation", "suffix"});
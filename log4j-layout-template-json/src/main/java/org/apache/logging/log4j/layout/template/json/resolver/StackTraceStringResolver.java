@@ -22,6 +22,7 @@ import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import org.apache.logging.log4j.core.impl.ThrowableRepeatTracker;
 import org.apache.logging.log4j.layout.template.json.util.CharSequencePointer;
 import org.apache.logging.log4j.layout.template.json.util.JsonWriter;
 import org.apache.logging.log4j.layout.template.json.util.Recycler;
@@ -47,11 +48,22 @@ final class StackTraceStringResolver implements StackTraceResolver {
 
     private final List<Pattern> groupedTruncationPointMatcherRegexes;
 
+    private final ThrowableRepeatTracker repeatTracker;
+
     StackTraceStringResolver(
             final EventResolverContext context,
             final String truncationSuffix,
             final List<String> truncationPointMatcherStrings,
             final List<String> truncationPointMatcherRegexes) {
+        this(context, truncationSuffix, truncationPointMatcherStrings, truncationPointMatcherRegexes, 0);
+    }
+
+    StackTraceStringResolver(
+            final EventResolverContext context,
+            final String truncationSuffix,
+            final List<String> truncationPointMatcherStrings,
+            final List<String> truncationPointMatcherRegexes,
+            final long repeatSuppressionMillis) {
         final Supplier<TruncatingBufferedPrintWriter> writerSupplier =
                 () -> TruncatingBufferedPrintWriter.ofCapacity(context.getMaxStringByteCount());
         final RecyclerFactory recyclerFactory = context.getRecyclerFactory();
@@ -62,6 +74,7 @@ final class StackTraceStringResolver implements StackTraceResolver {
         this.truncationSuffix = truncationSuffix;
         this.truncationPointMatcherStrings = truncationPointMatcherStrings;
         this.groupedTruncationPointMatcherRegexes = groupTruncationPointMatcherRegexes(truncationPointMatcherRegexes);
+        this.repeatTracker = repeatSuppressionMillis > 0 ? new ThrowableRepeatTracker(repeatSuppressionMillis) : null;
     }
 
     private static List<Pattern> groupTruncationPointMatcherRegexes(final List<String> regexes) {
@@ -86,6 +99,35 @@ final class StackTraceStringResolver implements StackTraceResolver {
         }
     }
 
+    /**
+     * Resolves the stack trace of an exception, replaced by a reference if it was already resolved within the
+     * repeat suppression window.
+     */
+    void resolve(final Throwable throwable, final long timeMillis, final JsonWriter jsonWriter) {
+        if (repeatTracker == null) {
+            resolve(throwable, jsonWriter);
+            return;
+        }
+        final long fingerprint = ThrowableRepeatTracker.fingerprint(throwable);
+        final boolean repeated = repeatTracker.isRepeated(fingerprint, timeMillis);
+        final TruncatingBufferedPrintWriter srcWriter = srcWriterRecycler.acquire();
+        try {
+            if (repeated) {
+                srcWriter.println(throwable);
+                srcWriter.print("\tStack trace repeated, id: ");
+            } else {
+                throwable.printStackTrace(srcWriter);
+                srcWriter.print("\tStack trace id: ");
+            }
+            final StringBuilder id = new StringBuilder(16);
+            ThrowableRepeatTracker.formatFingerprint(id, fingerprint);
+            srcWriter.println(id);
+            truncate(srcWriter, jsonWriter::writeString);
+        } finally {
+            srcWriterRecycler.release(srcWriter);
+        }
+    }
+
     private void truncate(
             final TruncatingBufferedPrintWriter srcWriter,
             final Consumer<TruncatingBufferedPrintWriter> effectiveWriterConsumer) {
@@ -42,6 +42,15 @@ interface TemplateResolverContext<V, C extends TemplateResolverContext<V, C>> {
 
     JsonWriter getJsonWriter();
 
+    /**
+     * Indicates if {@link TemplateResolvers#ofTemplate(TemplateResolverContext, String)}
+     * should compile the resolver tree into constant text chunks and linear
+     * field instructions.
+     */
+    default boolean isTemplateCompilationEnabled() {
+        return false;
+    }
+
     /**
      * Process the read template before compiler (i.e.,
      * {@link TemplateResolvers#ofTemplate(TemplateResolverContext, String)}
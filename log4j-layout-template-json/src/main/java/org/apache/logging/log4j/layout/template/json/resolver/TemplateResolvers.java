@@ -104,7 +104,8 @@ public final class TemplateResolvers {
         }
 
         // Resolve the template.
-        return ofObject(context, node);
+        final TemplateResolver<V> resolver = ofObject(context, node);
+        return context.isTemplateCompilationEnabled() ? compile(resolver) : resolver;
     }
 
     static <V, C extends TemplateResolverContext<V, C>> TemplateResolver<V> ofObject(
@@ -246,7 +247,8 @@ public final class TemplateResolvers {
                         final String fieldPrefix = fieldPrefixes.get(fieldIndex);
                         fieldResolverMethod = new PrefixedFieldResolverMethod<>(fieldPrefix, fieldResolver);
                     }
-                    return new FieldResolverContext<>(fieldResolver, fieldResolverMethod);
+                    return new FieldResolverContext<>(
+                            fieldResolver, fieldResolverMethod, flattening ? null : fieldPrefixes.get(fieldIndex));
                 })
                 .collect(Collectors.toList());
     }
@@ -257,9 +259,18 @@ public final class TemplateResolvers {
 
         private final FieldResolverMethod<V> resolverMethod;
 
-        private FieldResolverContext(final TemplateResolver<V> resolver, final FieldResolverMethod<V> resolverMethod) {
+        /**
+         * The escaped field name followed by a colon, or null for flattening resolvers.
+         */
+        private final String fieldPrefix;
+
+        private FieldResolverContext(
+                final TemplateResolver<V> resolver,
+                final FieldResolverMethod<V> resolverMethod,
+                final String fieldPrefix) {
             this.resolver = resolver;
             this.resolverMethod = resolverMethod;
+            this.fieldPrefix = fieldPrefix;
         }
     }
 
@@ -509,4 +520,229 @@ public final class TemplateResolvers {
             jsonWriter.writeBoolean(value);
         }
     }
+
+    /**
+     * Compiles the given resolver tree for faster evaluation.
+     * <p>
+     * Constant nodes (strings, numbers, booleans, and objects and arrays
+     * composed of them) are rendered once into their JSON text, adjacent
+     * constant fields of an object are fused into a single text chunk, and
+     * each object is turned into a linear array of instructions checking the
+     * resolvability of every field only once. The output is identical to the
+     * one of the uncompiled resolvers.
+     */
+    static <V> TemplateResolver<V> compile(final TemplateResolver<V> resolver) {
+        if (resolver instanceof MapResolver) {
+            return compileMap((MapResolver<V>) resolver);
+        } else if (resolver instanceof ArrayResolver) {
+            return compileArray((ArrayResolver<V>) resolver);
+        }
+        return resolver;
+    }
+
+    /**
+     * @return the JSON text of the given resolver, if it does not depend on the resolved value; {@code null}, otherwise
+     */
+    private static String getConstantText(final TemplateResolver<?> resolver) {
+        if (resolver instanceof RawStringResolver) {
+            return ((RawStringResolver<?>) resolver).rawString;
+        } else if (resolver instanceof NumberResolver) {
+            return ((NumberResolver<?>) resolver).numberString;
+        } else if (resolver instanceof BooleanResolver) {
+            return String.valueOf(((BooleanResolver<?>) resolver).value);
+        } else if (resolver == NULL_RESOLVER) {
+            return "null";
+        } else if (resolver == EMPTY_ARRAY_RESOLVER) {
+            return "[]";
+        } else if (resolver == EMPTY_OBJECT_RESOLVER) {
+            return "{}";
+        }
+        return null;
+    }
+
+    private static <V> TemplateResolver<V> compileArray(final ArrayResolver<V> arrayResolver) {
+
+        // Compile each item.
+        final List<TemplateResolver<V>> itemResolvers = arrayResolver.itemResolvers.stream()
+                .map(TemplateResolvers::compile)
+                .collect(Collectors.toList());
+
+        // Render the array once, if all items are constant.
+        final StringBuilder text = new StringBuilder().append('[');
+        for (int itemIndex = 0; itemIndex < itemResolvers.size(); itemIndex++) {
+            final String itemText = getConstantText(itemResolvers.get(itemIndex));
+            if (itemText == null) {
+                return new ArrayResolver<>(itemResolvers);
+            }
+            if (itemIndex > 0) {
+                text.append(',');
+            }
+            text.append(itemText);
+        }
+        return new RawStringResolver<>(text.append(']').toString());
+    }
+
+    private static <V> TemplateResolver<V> compileMap(final MapResolver<V> mapResolver) {
+
+        // Collect instructions, fusing adjacent constant fields into a single text chunk.
+        final List<TemplateResolver<V>> fieldResolvers = new ArrayList<>();
+        final List<String> leadingTexts = new ArrayList<>();
+        final List<String> succeedingTexts = new ArrayList<>();
+        final StringBuilder constantText = new StringBuilder();
+        for (final FieldResolverContext<V> fieldResolverContext : mapResolver.fieldResolverContexts) {
+            final TemplateResolver<V> fieldResolver = compile(fieldResolverContext.resolver);
+            final String fieldPrefix = fieldResolverContext.fieldPrefix;
+            final String fieldText = fieldPrefix != null ? getConstantText(fieldResolver) : null;
+            if (fieldText != null) {
+                if (constantText.length() > 0) {
+                    constantText.append(',');
+                }
+                constantText.append(fieldPrefix).append(fieldText);
+                continue;
+            }
+            addConstantText(fieldResolvers, leadingTexts, succeedingTexts, constantText);
+            fieldResolvers.add(fieldResolver);
+            leadingTexts.add(fieldPrefix);
+            succeedingTexts.add(fieldPrefix != null ? ',' + fieldPrefix : null);
+        }
+        addConstantText(fieldResolvers, leadingTexts, succeedingTexts, constantText);
+
+        // Fuse the object start and end into the constant text chunks at the edges.
+        final int lastIndex = fieldResolvers.size() - 1;
+        final boolean startFused = fieldResolvers.get(0) == null;
+        if (startFused) {
+            leadingTexts.set(0, '{' + leadingTexts.get(0));
+        }
+        final boolean endFused = fieldResolvers.get(lastIndex) == null;
+        if (endFused) {
+            leadingTexts.set(lastIndex, leadingTexts.get(lastIndex) + '}');
+            succeedingTexts.set(lastIndex, succeedingTexts.get(lastIndex) + '}');
+        }
+
+        // Short-circuit if all fields are constant.
+        if (lastIndex == 0 && startFused) {
+            return new RawStringResolver<>(leadingTexts.get(0));
+        }
+
+        // Create the resolver.
+        return new CompiledMapResolver<>(fieldResolvers, leadingTexts, succeedingTexts, startFused, endFused);
+    }
+
+    private static <V> void addConstantText(
+            final List<TemplateResolver<V>> fieldResolvers,
+            final List<String> leadingTexts,
+            final List<String> succeedingTexts,
+            final StringBuilder constantText) {
+        if (constantText.length() > 0) {
+            fieldResolvers.add(null);
+            leadingTexts.add(constantText.toString());
+            succeedingTexts.add(',' + constantText.toString());
+            constantText.setLength(0);
+        }
+    }
+
+    /**
+     * The compiled form of {@link MapResolver} evaluating a linear array of
+     * field instructions.
+     */
+    private static final class CompiledMapResolver<V> implements TemplateResolver<V> {
+
+        /**
+         * Field resolvers, where {@code null} denotes a constant text chunk.
+         */
+        private final TemplateResolver<V>[] fieldResolvers;
+
+        private final boolean[] flattenings;
+
+        /**
+         * Texts to write if no preceding field is written, i.e., either field
+         * prefixes or constant text chunks.
+         */
+        private final String[] leadingTexts;
+
+        /**
+         * {@link #leadingTexts} preceded by a separator.
+         */
+        private final String[] succeedingTexts;
+
+        private final boolean startFused;
+
+        private final boolean endFused;
+
+        private final boolean constantTextFound;
+
+        @SuppressWarnings("unchecked")
+        private CompiledMapResolver(
+                final List<TemplateResolver<V>> fieldResolvers,
+                final List<String> leadingTexts,
+                final List<String> succeedingTexts,
+                final boolean startFused,
+                final boolean endFused) {
+            this.fieldResolvers = fieldResolvers.toArray(new TemplateResolver[0]);
+            this.flattenings = new boolean[this.fieldResolvers.length];
+            boolean constantTextFound = false;
+            for (int fieldIndex = 0; fieldIndex < this.fieldResolvers.length; fieldIndex++) {
+                final TemplateResolver<V> fieldResolver = this.fieldResolvers[fieldIndex];
+                if (fieldResolver == null) {
+                    constantTextFound = true;
+                } else {
+                    flattenings[fieldIndex] = fieldResolver.isFlattening();
+                }
+            }
+            this.leadingTexts = leadingTexts.toArray(new String[0]);
+            this.succeedingTexts = succeedingTexts.toArray(new String[0]);
+            this.startFused = startFused;
+            this.endFused = endFused;
+            this.constantTextFound = constantTextFound;
+        }
+
+        @Override
+        public boolean isResolvable() {
+            return true;
+        }
+
+        @Override
+        public boolean isResolvable(final V value) {
+            if (constantTextFound) {
+                return true;
+            }
+            // noinspection ForLoopReplaceableByForEach (avoid iterator instantiation)
+            for (int fieldIndex = 0; fieldIndex < fieldResolvers.length; fieldIndex++) {
+                if (fieldResolvers[fieldIndex].isResolvable(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void resolve(final V value, final JsonWriter jsonWriter) {
+            if (!startFused) {
+                jsonWriter.writeObjectStart();
+            }
+            boolean succeedingEntry = false;
+            for (int fieldIndex = 0; fieldIndex < fieldResolvers.length; fieldIndex++) {
+                final TemplateResolver<V> fieldResolver = fieldResolvers[fieldIndex];
+                if (fieldResolver == null) {
+                    jsonWriter.writeRawString(succeedingEntry ? succeedingTexts[fieldIndex] : leadingTexts[fieldIndex]);
+                    succeedingEntry = true;
+                } else if (fieldResolver.isResolvable(value)) {
+                    if (flattenings[fieldIndex]) {
+                        final StringBuilder jsonWriterStringBuilder = jsonWriter.getStringBuilder();
+                        final int initLength = jsonWriterStringBuilder.length();
+                        fieldResolver.resolve(value, jsonWriter, succeedingEntry);
+                        succeedingEntry |= jsonWriterStringBuilder.length() > initLength;
+                    } else {
+                        jsonWriter.writeRawString(
+                                succeedingEntry ? succeedingTexts[fieldIndex] : leadingTexts[fieldIndex]);
+                        fieldResolver.resolve(value, jsonWriter, succeedingEntry);
+                        succeedingEntry = true;
+                    }
+                }
+            }
+            if (!endFused) {
+                jsonWriter.writeObjectEnd();
+            }
+        }
+    }
 }
@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.layout.template.json;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import org.apache.logging.log4j.core.layout.ByteBufferDestination;
+import org.apache.logging.log4j.core.util.NetUtils;
+import org.apache.logging.log4j.layout.template.json.JsonTemplateLayout.EventTemplateAdditionalField;
+import org.apache.logging.log4j.layout.template.json.util.ThreadLocalRecyclerFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the encode throughput and the encoded size of {@link CborTemplateLayout} with {@link JsonTemplateLayout}.
+ * <p>
+ * The {@code encodedBytes} secondary result is the encoded byte rate; dividing it by the operation rate gives the
+ * average encoded size of an event.
+ * </p>
+ * <p>
+ * You can run this test as follows:
+ * <pre>{@code
+ * java \
+ *     -jar log4j-perf/target/benchmarks.jar \
+ *     -f 2 \
+ *     -wi 3 -w 20s \
+ *     -i 5 -r 30s \
+ *     -prof gc \
+ *     ".*CborTemplateLayoutBenchmark.*"
+ * }</pre>
+ * </p>
+ */
+public class CborTemplateLayoutBenchmark {
+
+    @State(Scope.Thread)
+    public static class LayoutState {
+
+        private static final Configuration CONFIGURATION = new DefaultConfiguration();
+
+        private static final int LOG_EVENT_COUNT = 1_000;
+
+        private final CountingByteBufferDestination destination = new CountingByteBufferDestination(1024 * 512);
+
+        private final JsonTemplateLayout jsonEcsLayout = createJsonTemplateLayout("classpath:EcsLayout.json");
+
+        private final CborTemplateLayout cborEcsLayout = createCborTemplateLayout(jsonEcsLayout, true);
+
+        private final CborTemplateLayout plainCborEcsLayout = createCborTemplateLayout(jsonEcsLayout, false);
+
+        private final JsonTemplateLayout jsonGelfLayout = createJsonTemplateLayout("classpath:GelfLayout.json");
+
+        private final CborTemplateLayout cborGelfLayout = createCborTemplateLayout(jsonGelfLayout, true);
+
+        private final CborTemplateLayout plainCborGelfLayout = createCborTemplateLayout(jsonGelfLayout, false);
+
+        private final List<LogEvent> fullLogEvents = LogEventFixture.createFullLogEvents(LOG_EVENT_COUNT);
+
+        private final List<LogEvent> liteLogEvents = LogEventFixture.createLiteLogEvents(LOG_EVENT_COUNT);
+
+        private int logEventIndex = 0;
+
+        private static JsonTemplateLayout createJsonTemplateLayout(final String eventTemplateUri) {
+            return JsonTemplateLayout.newBuilder()
+                    .setConfiguration(CONFIGURATION)
+                    .setCharset(StandardCharsets.UTF_8)
+                    .setEventTemplateUri(eventTemplateUri)
+                    .setRecyclerFactory(ThreadLocalRecyclerFactory.getInstance())
+                    .setEventTemplateAdditionalFields(new EventTemplateAdditionalField[] {
+                        EventTemplateAdditionalField.newBuilder()
+                                .setKey("host")
+                                .setValue(NetUtils.getLocalHostname())
+                                .build()
+                    })
+                    .build();
+        }
+
+        private static CborTemplateLayout createCborTemplateLayout(
+                final JsonTemplateLayout layout, final boolean stringReferencesEnabled) {
+            return CborTemplateLayout.newBuilder()
+                    .setLayout(layout)
+                    .setStringReferencesEnabled(stringReferencesEnabled)
+                    .build();
+        }
+
+        private LogEvent nextLogEvent(final List<LogEvent> logEvents) {
+            final LogEvent logEvent = logEvents.get(logEventIndex);
+            logEventIndex = (logEventIndex + 1) % LOG_EVENT_COUNT;
+            return logEvent;
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class EncodedSize {
+
+        public long encodedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            encodedBytes = 0;
+        }
+    }
+
+    @Benchmark
+    public static void fullJsonEcsLayout(final LayoutState state, final EncodedSize size) {
+        benchmark(state, state.jsonEcsLayout, state.fullLogEvents, size);
+    }
+
+    @Benchmark
+    public static void liteJsonEcsLayout(final LayoutState state, final EncodedSize size) {
+        benchmark(state, state.jsonEcsLayout, state.liteLogEvents, size);
+    }
+
+    @Benchmark
+    public static void fullCborEcsLayout(final LayoutState state, final EncodedSize size) {
+        benchmark(state, state.cborEcsLayout, state.fullLogEvents, size);
+    }
+
+    @Benchmark
+    public static void liteCborEcsLayout(final LayoutState state, final EncodedSize size) {
+        benchmark(state, state.cborEcsLayout, state.liteLogEvents, size);
+    }
+
+    @Benchmark
+    public static void fullPlainCborEcsLayout(final LayoutState state, final EncodedSize size) {
+        benchmark(state, state.plainCborEcsLayout, state.fullLogEvents, size);
+    }
+
+    @Benchmark
+    public static void litePlainCborEcsLayout(final LayoutState state, final EncodedSize size) {
+        benchmark(state, state.plainCborEcsLayout, state.liteLogEvents, size);
+    }
+
+    @Benchmark
+    public static void fullJsonGelfLayout(final LayoutState state, final EncodedSize size) {
+        benchmark(state, state.jsonGelfLayout, state.fullLogEvents, size);
+    }
+
+    @Benchmark
+    public static void liteJsonGelfLayout(final LayoutState state, final EncodedSize size) {
+        benchmark(state, state.jsonGelfLayout, state.liteLogEvents, size);
+    }
+
+    @Benchmark
+    public static void fullCborGelfLayout(final LayoutState state, final EncodedSize size) {
+        benchmark(state, state.cborGelfLayout, state.fullLogEvents, size);
+    }
+
+    @Benchmark
+    public static void liteCborGelfLayout(final LayoutState state, final EncodedSize size) {
+        benchmark(state, state.cborGelfLayout, state.liteLogEvents, size);
+    }
+
+    @Benchmark
+    public static void fullPlainCborGelfLayout(final LayoutState state, final EncodedSize size) {
+        benchmark(state, state.plainCborGelfLayout, state.fullLogEvents, size);
+    }
+
+    @Benchmark
+    public static void litePlainCborGelfLayout(final LayoutState state, final EncodedSize size) {
+        benchmark(state, state.plainCborGelfLayout, state.liteLogEvents, size);
+    }
+
+    private static void benchmark(
+            final LayoutState state, final Layout<?> layout, final List<LogEvent> logEvents, final EncodedSize size) {
+        final LogEvent logEvent = state.nextLogEvent(logEvents);
+        layout.encode(logEvent, state.destination);
+        size.encodedBytes += state.destination.takeByteCount();
+    }
+
+    private static final class CountingByteBufferDestination implements ByteBufferDestination {
+
+        private final ByteBuffer byteBuffer;
+
+        private long drainedByteCount;
+
+        private CountingByteBufferDestination(final int maxByteCount) {
+            this.byteBuffer = ByteBuffer.allocate(maxByteCount);
+        }
+
+        /**
+         * @return the number of bytes written since the last call
+         */
+        private long takeByteCount() {
+            final long byteCount = drainedByteCount + byteBuffer.position();
+            drainedByteCount = 0;
+            byteBuffer.clear();
+            return byteCount;
+        }
+
+        @Override
+        public ByteBuffer getByteBuffer() {
+            return byteBuffer;
+        }
+
+        @Override
+        public ByteBuffer drain(final ByteBuffer buffer) {
+            drainedByteCount += buffer.position();
+            buffer.clear();
+            return buffer;
+        }
+
+        @Override
+        public void writeBytes(final ByteBuffer data) {
+            drainedByteCount += data.remaining();
+            data.position(data.limit());
+        }
+
+        @Override
+        public void writeBytes(final byte[] data, final int offset, final int length) {
+            drainedByteCount += length;
+        }
+    }
+}
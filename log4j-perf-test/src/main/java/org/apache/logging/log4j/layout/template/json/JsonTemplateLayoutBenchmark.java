@@ -22,6 +22,7 @@ import org.apache.logging.log4j.core.Layout;
 import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.layout.ByteBufferDestination;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
 
 /**
  * Benchmark suite for various JSON layouts.
@@ -43,6 +44,8 @@ import org.openjdk.jmh.annotations.Benchmark;
  */
 public class JsonTemplateLayoutBenchmark {
 
+    private static final String BYPASS_CHARSET_ENCODER = "-Dlog4j.encoder.bypassCharsetEncoder=true";
+
     @Benchmark
     public static int fullJtl4JsonLayout(final JsonTemplateLayoutBenchmarkState state) {
         return benchmark(state, state.getJtl4JsonLayout(), state.getFullLogEvents());
@@ -53,6 +56,28 @@ public class JsonTemplateLayoutBenchmark {
         return benchmark(state, state.getJtl4JsonLayout(), state.getLiteLogEvents());
     }
 
+    @Benchmark
+    public static int fullCompiledJtl4JsonLayout(final JsonTemplateLayoutBenchmarkState state) {
+        return benchmark(state, state.getCompiledJtl4JsonLayout(), state.getFullLogEvents());
+    }
+
+    @Benchmark
+    public static int liteCompiledJtl4JsonLayout(final JsonTemplateLayoutBenchmarkState state) {
+        return benchmark(state, state.getCompiledJtl4JsonLayout(), state.getLiteLogEvents());
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = BYPASS_CHARSET_ENCODER)
+    public static int fullJtl4JsonLayoutBypassingCharsetEncoder(final JsonTemplateLayoutBenchmarkState state) {
+        return benchmark(state, state.getJtl4JsonLayout(), state.getFullLogEvents());
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = BYPASS_CHARSET_ENCODER)
+    public static int liteJtl4JsonLayoutBypassingCharsetEncoder(final JsonTemplateLayoutBenchmarkState state) {
+        return benchmark(state, state.getJtl4JsonLayout(), state.getLiteLogEvents());
+    }
+
     @Benchmark
     public static int fullJtl4EcsLayout(final JsonTemplateLayoutBenchmarkState state) {
         return benchmark(state, state.getJtl4EcsLayout(), state.getFullLogEvents());
@@ -63,6 +88,16 @@ public class JsonTemplateLayoutBenchmark {
         return benchmark(state, state.getJtl4EcsLayout(), state.getLiteLogEvents());
     }
 
+    @Benchmark
+    public static int fullCompiledJtl4EcsLayout(final JsonTemplateLayoutBenchmarkState state) {
+        return benchmark(state, state.getCompiledJtl4EcsLayout(), state.getFullLogEvents());
+    }
+
+    @Benchmark
+    public static int liteCompiledJtl4EcsLayout(final JsonTemplateLayoutBenchmarkState state) {
+        return benchmark(state, state.getCompiledJtl4EcsLayout(), state.getLiteLogEvents());
+    }
+
     @Benchmark
     public static int fullJtl4GelfLayout(final JsonTemplateLayoutBenchmarkState state) {
         return benchmark(state, state.getJtl4GelfLayout(), state.getFullLogEvents());
@@ -73,6 +108,16 @@ public class JsonTemplateLayoutBenchmark {
         return benchmark(state, state.getJtl4GelfLayout(), state.getLiteLogEvents());
     }
 
+    @Benchmark
+    public static int fullCompiledJtl4GelfLayout(final JsonTemplateLayoutBenchmarkState state) {
+        return benchmark(state, state.getCompiledJtl4GelfLayout(), state.getFullLogEvents());
+    }
+
+    @Benchmark
+    public static int liteCompiledJtl4GelfLayout(final JsonTemplateLayoutBenchmarkState state) {
+        return benchmark(state, state.getCompiledJtl4GelfLayout(), state.getLiteLogEvents());
+    }
+
     @Benchmark
     public static int fullDefaultJsonLayout(final JsonTemplateLayoutBenchmarkState state) {
         return benchmark(state, state.getDefaultJsonLayout(), state.getFullLogEvents());
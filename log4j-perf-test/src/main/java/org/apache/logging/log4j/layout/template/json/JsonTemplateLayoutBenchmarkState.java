@@ -47,10 +47,16 @@ public class JsonTemplateLayoutBenchmarkState {
 
     private final Layout<?> jtl4JsonLayout;
 
+    private final Layout<?> compiledJtl4JsonLayout;
+
     private final Layout<?> jtl4EcsLayout;
 
+    private final Layout<?> compiledJtl4EcsLayout;
+
     private final Layout<?> jtl4GelfLayout;
 
+    private final Layout<?> compiledJtl4GelfLayout;
+
     private final Layout<?> defaultJsonLayout;
 
     private final Layout<?> customJsonLayout;
@@ -67,9 +73,12 @@ public class JsonTemplateLayoutBenchmarkState {
 
     public JsonTemplateLayoutBenchmarkState() {
         this.byteBufferDestination = new BlackHoleByteBufferDestination(1024 * 512);
-        this.jtl4JsonLayout = createJtl4JsonLayout();
-        this.jtl4EcsLayout = createJtl4EcsLayout();
-        this.jtl4GelfLayout = createJtl4GelfLayout();
+        this.jtl4JsonLayout = createJtl4JsonLayout(false);
+        this.compiledJtl4JsonLayout = createJtl4JsonLayout(true);
+        this.jtl4EcsLayout = createJtl4EcsLayout(false);
+        this.compiledJtl4EcsLayout = createJtl4EcsLayout(true);
+        this.jtl4GelfLayout = createJtl4GelfLayout(false);
+        this.compiledJtl4GelfLayout = createJtl4GelfLayout(true);
         this.defaultJsonLayout = createDefaultJsonLayout();
         this.customJsonLayout = createCustomJsonLayout();
         this.ecsLayout = createEcsLayout();
@@ -78,16 +87,17 @@ public class JsonTemplateLayoutBenchmarkState {
         this.liteLogEvents = LogEventFixture.createLiteLogEvents(LOG_EVENT_COUNT);
     }
 
-    private static JsonTemplateLayout createJtl4JsonLayout() {
+    private static JsonTemplateLayout createJtl4JsonLayout(final boolean templateCompilationEnabled) {
         return JsonTemplateLayout.newBuilder()
                 .setConfiguration(CONFIGURATION)
                 .setCharset(CHARSET)
                 .setEventTemplateUri("classpath:JsonLayout.json")
                 .setRecyclerFactory(ThreadLocalRecyclerFactory.getInstance())
+                .setTemplateCompilationEnabled(templateCompilationEnabled)
                 .build();
     }
 
-    private static JsonTemplateLayout createJtl4EcsLayout() {
+    private static JsonTemplateLayout createJtl4EcsLayout(final boolean templateCompilationEnabled) {
         final EventTemplateAdditionalField[] additionalFields = new EventTemplateAdditionalField[] {
             EventTemplateAdditionalField.newBuilder()
                     .setKey("service.name")
@@ -99,16 +109,18 @@ public class JsonTemplateLayoutBenchmarkState {
                 .setCharset(CHARSET)
                 .setEventTemplateUri("classpath:EcsLayout.json")
                 .setRecyclerFactory(ThreadLocalRecyclerFactory.getInstance())
+                .setTemplateCompilationEnabled(templateCompilationEnabled)
                 .setEventTemplateAdditionalFields(additionalFields)
                 .build();
     }
 
-    private static JsonTemplateLayout createJtl4GelfLayout() {
+    private static JsonTemplateLayout createJtl4GelfLayout(final boolean templateCompilationEnabled) {
         return JsonTemplateLayout.newBuilder()
                 .setConfiguration(CONFIGURATION)
                 .setCharset(CHARSET)
                 .setEventTemplateUri("classpath:GelfLayout.json")
                 .setRecyclerFactory(ThreadLocalRecyclerFactory.getInstance())
+                .setTemplateCompilationEnabled(templateCompilationEnabled)
                 .setEventTemplateAdditionalFields(new EventTemplateAdditionalField[] {
                     // Adding "host" as a constant rather than using
                     // the "hostName" property lookup at runtime, which
@@ -167,14 +179,26 @@ public class JsonTemplateLayoutBenchmarkState {
         return jtl4JsonLayout;
     }
 
+    Layout<?> getCompiledJtl4JsonLayout() {
+        return compiledJtl4JsonLayout;
+    }
+
     Layout<?> getJtl4EcsLayout() {
         return jtl4EcsLayout;
     }
 
+    Layout<?> getCompiledJtl4EcsLayout() {
+        return compiledJtl4EcsLayout;
+    }
+
     Layout<?> getJtl4GelfLayout() {
         return jtl4GelfLayout;
     }
 
+    Layout<?> getCompiledJtl4GelfLayout() {
+        return compiledJtl4GelfLayout;
+    }
+
     Layout<?> getDefaultJsonLayout() {
         return defaultJsonLayout;
     }
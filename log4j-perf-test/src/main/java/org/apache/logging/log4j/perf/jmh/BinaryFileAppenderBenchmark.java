@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.perf.jmh;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.BinaryFileAppender;
+import org.apache.logging.log4j.core.appender.FileAppender;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import org.apache.logging.log4j.core.impl.ContextDataFactory;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.logging.log4j.util.StringMap;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the write throughput and the file size of the {@link BinaryFileAppender} with a {@link FileAppender} using
+ * a {@link PatternLayout}, which writes the same information as text.
+ * <p>
+ * The {@code writtenBytes} secondary result is the rate at which the file grows; dividing it by the operation rate
+ * gives the average size of an event in the file.
+ * </p>
+ */
+// HOW TO RUN THIS TEST
+// java -jar log4j-perf-test/target/benchmarks.jar ".*BinaryFileAppenderBenchmark.*"
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BinaryFileAppenderBenchmark {
+
+    private static final String PATTERN = "%d %-5level [%t] %logger %marker %X - %msg%n";
+
+    private static final int EVENT_COUNT = 64;
+
+    @Param({"binary", "pattern"})
+    private String format;
+
+    private File file;
+
+    private Appender appender;
+
+    private LogEvent[] events;
+
+    private int index;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class FileSize {
+
+        public long writtenBytes;
+
+        private long startLength;
+
+        @Setup(org.openjdk.jmh.annotations.Level.Iteration)
+        public void setUp(final BinaryFileAppenderBenchmark benchmark) {
+            startLength = benchmark.file.length();
+        }
+
+        @TearDown(org.openjdk.jmh.annotations.Level.Iteration)
+        public void tearDown(final BinaryFileAppenderBenchmark benchmark) {
+            writtenBytes = benchmark.file.length() - startLength;
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("BinaryFileAppenderBenchmark", ".log").toFile();
+        final Configuration configuration = new DefaultConfiguration();
+        if ("binary".equals(format)) {
+            appender = BinaryFileAppender.newBuilder()
+                    .setName("BinaryFile")
+                    .setConfiguration(configuration)
+                    .setFileName(file.getPath())
+                    .setAppend(false)
+                    .build();
+        } else {
+            appender = FileAppender.newBuilder()
+                    .setName("File")
+                    .setConfiguration(configuration)
+                    .withFileName(file.getPath())
+                    .withAppend(false)
+                    .withImmediateFlush(false)
+                    .setLayout(PatternLayout.newBuilder()
+                            .withPattern(PATTERN)
+                            .withConfiguration(configuration)
+                            .build())
+                    .build();
+        }
+        appender.start();
+        events = new LogEvent[EVENT_COUNT];
+        final long time = System.currentTimeMillis();
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            final StringMap contextData = ContextDataFactory.createContextData();
+            contextData.putValue("requestId", Integer.toHexString(0x3ade68b1 + i));
+            events[i] = Log4jLogEvent.newBuilder()
+                    .setLoggerName("org.example.service.OrderService" + i % 8)
+                    .setLevel(i % 16 == 0 ? Level.WARN : Level.INFO)
+                    .setThreadName("http-nio-8080-exec-" + i % 4)
+                    .setTimeMillis(time + i * 3L)
+                    .setMarker(i % 16 == 0 ? MarkerManager.getMarker("AUDIT") : null)
+                    .setContextData(contextData)
+                    .setMessage(new ParameterizedMessage(
+                            "Processed order {} for customer {} in {} ms", 12345 + i, "c" + i % 10, i % 50))
+                    .build();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        appender.stop();
+        file.delete();
+    }
+
+    @Benchmark
+    public void append(final FileSize fileSize) {
+        appender.append(events[index++ & (EVENT_COUNT - 1)]);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.perf.jmh;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.core.appender.rolling.action.GzCompressAction;
+import org.apache.logging.log4j.core.appender.rolling.action.Lz4CompressAction;
+import org.apache.logging.log4j.core.appender.rolling.action.ZstdCompressAction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the time needed to compress a rolled over log file with {@link GzCompressAction},
+ * {@link ZstdCompressAction} and {@link Lz4CompressAction}. The size of the compressed file is printed at the end of
+ * each iteration.
+ */
+// HOW TO RUN THIS TEST
+// java -jar log4j-perf-test/target/benchmarks.jar ".*CompressActionBenchmark.*"
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CompressActionBenchmark {
+
+    private static final String[] LEVELS = {"TRACE", "DEBUG", "INFO ", "WARN ", "ERROR"};
+
+    private static final String[] LOGGERS = {
+        "org.example.OrderService", "org.example.http.RequestHandler", "org.example.db.ConnectionPool"
+    };
+
+    @Param({"64"})
+    private int fileSizeMb;
+
+    @Param({"1", "6", "9"})
+    private int compressionLevel;
+
+    private File source;
+
+    private File destination;
+
+    @Setup
+    public void setUp() throws IOException {
+        source = File.createTempFile("rollover", ".log");
+        destination = File.createTempFile("rollover", ".log.compressed");
+        final long size = fileSizeMb * 1024L * 1024L;
+        try (final BufferedWriter writer = Files.newBufferedWriter(source.toPath(), StandardCharsets.UTF_8)) {
+            long written = 0;
+            for (long i = 0; written < size; i++) {
+                final String line = createLine(i);
+                writer.write(line);
+                written += line.length();
+            }
+        }
+    }
+
+    /**
+     * Creates a log line with a realistic mix of repeated and varying content.
+     */
+    private static String createLine(final long i) {
+        final long millis = 1_704_112_496_789L + i * 7;
+        return "2024-01-01 " + (millis / 3_600_000 % 24) + ':' + (millis / 60_000 % 60) + ':' + (millis / 1000 % 60)
+                + ',' + (millis % 1000) + ' ' + LEVELS[(int) (i * 31 % LEVELS.length)] + " [http-nio-8080-exec-"
+                + (i * 13 % 200) + "] " + LOGGERS[(int) (i % LOGGERS.length)] + " - Processed order " + (i * 7919)
+                + " for customer " + Long.toHexString(i * 2_654_435_761L) + " in " + (i * 17 % 1000) + " ms\n";
+    }
+
+    @TearDown
+    public void tearDown() {
+        source.delete();
+        destination.delete();
+    }
+
+    @TearDown(Level.Iteration)
+    public void printRatio() {
+        System.out.printf(" [%d -> %d bytes] ", source.length(), destination.length());
+    }
+
+    @Benchmark
+    public boolean gzip() throws IOException {
+        return GzCompressAction.execute(source, destination, false, compressionLevel);
+    }
+
+    @Benchmark
+    public boolean zstd() throws IOException {
+        return ZstdCompressAction.execute(source, destination, false, compressionLevel, 0, null);
+    }
+
+    @Benchmark
+    public boolean lz4() throws IOException {
+        return Lz4CompressAction.execute(source, destination, false, compressionLevel);
+    }
+}
@@ -16,8 +16,10 @@
  */
 package org.apache.logging.log4j.perf.jmh;
 
+import java.net.URISyntaxException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.LoggerContext;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
@@ -38,10 +40,12 @@ public class DebugDisabledBenchmark {
     Logger log4jLogger;
     org.slf4j.Logger slf4jLogger;
     org.apache.log4j.Logger log4jClassicLogger;
+    LoggerContext globalFiltersContext;
+    Logger globalFiltersLogger;
     Integer j;
 
     @Setup
-    public void setUp() {
+    public void setUp() throws URISyntaxException {
         System.setProperty("log4j.configurationFile", "log4j2-perf2.xml");
         System.setProperty("log4j.configuration", "log4j12-perf2.xml");
         System.setProperty("logback.configurationFile", "logback-perf2.xml");
@@ -49,6 +53,8 @@ public class DebugDisabledBenchmark {
         log4jLogger = LogManager.getLogger(DebugDisabledBenchmark.class);
         slf4jLogger = LoggerFactory.getLogger(DebugDisabledBenchmark.class);
         log4jClassicLogger = org.apache.log4j.Logger.getLogger(DebugDisabledBenchmark.class);
+        globalFiltersContext = LoggingDisabledBenchmark.createGlobalFiltersContext();
+        globalFiltersLogger = globalFiltersContext.getLogger(DebugDisabledBenchmark.class);
         j = Integer.valueOf(2);
     }
 
@@ -57,6 +63,7 @@ public class DebugDisabledBenchmark {
         System.clearProperty("log4j.configurationFile");
         System.clearProperty("log4j.configuration");
         System.clearProperty("logback.configurationFile");
+        globalFiltersContext.stop();
     }
 
     @Benchmark
@@ -69,6 +76,11 @@ public class DebugDisabledBenchmark {
         return log4jLogger.isDebugEnabled();
     }
 
+    @Benchmark
+    public boolean log4jGlobalFiltersIsDebugEnabled() {
+        return globalFiltersLogger.isDebugEnabled();
+    }
+
     @Benchmark
     public boolean slf4jIsDebugEnabled() {
         return slf4jLogger.isDebugEnabled();
@@ -99,6 +111,11 @@ public class DebugDisabledBenchmark {
         log4jLogger.debug("This is a debug [{}] message", j);
     }
 
+    @Benchmark
+    public void log4jGlobalFiltersDebugParameterizedString() {
+        globalFiltersLogger.debug("This is a debug [{}] message", j);
+    }
+
     @Benchmark
     public void slf4jDebugParameterizedString() {
         slf4jLogger.debug("This is a debug [{}] message", j);
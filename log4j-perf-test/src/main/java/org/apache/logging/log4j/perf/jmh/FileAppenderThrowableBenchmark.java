@@ -219,6 +219,22 @@ public class FileAppenderThrowableBenchmark {
                 logger.error(message, throwable);
             }
         },
+        LOG4J2_EXTENDED_THROWABLE_SUPPRESS_REPEATS() {
+            Logger logger;
+
+            @Override
+            void setUp() throws Exception {
+                logger = LogManager.getLogger("RAFExtendedExceptionSuppressRepeats");
+            }
+
+            @Override
+            void tearDown() throws Exception {}
+
+            @Override
+            void log(final String message, final Throwable throwable) {
+                logger.error(message, throwable);
+            }
+        },
         LOG4J2_EXTENDED_THROWABLE_ASYNC() {
             Logger logger;
 
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.perf.jmh;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.HttpAppender;
+import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of the {@link HttpAppender} sending to an in-process HTTP server, with one request per
+ * event ({@code batchSize=0}) and with batches.
+ */
+// HOW TO RUN THIS TEST
+// java -jar log4j-perf-test/target/benchmarks.jar ".*HttpAppenderBenchmark.*"
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HttpAppenderBenchmark {
+
+    @Param({"0", "100", "1000"})
+    private int batchSize;
+
+    @Param({"false", "true"})
+    private boolean compress;
+
+    private HttpServer server;
+
+    private ExecutorService serverExecutor;
+
+    private HttpAppender appender;
+
+    private LogEvent event;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/logs", exchange -> {
+            try (final InputStream in = exchange.getRequestBody()) {
+                final byte[] buf = new byte[8192];
+                while (in.read(buf) != -1) {
+                    // discard
+                }
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverExecutor);
+        server.start();
+        final InetSocketAddress address = server.getAddress();
+        appender = HttpAppender.newBuilder()
+                .setName("Http")
+                .setConfiguration(new DefaultConfiguration())
+                .setLayout(PatternLayout.newBuilder()
+                        .withPattern("{\"level\":\"%p\",\"logger\":\"%c\",\"message\":\"%m\"}%n")
+                        .build())
+                .setUrl(new URL("http://" + address.getHostString() + ':' + address.getPort() + "/logs"))
+                .setBatchSize(batchSize)
+                .setLingerMillis(100)
+                .setMaxInFlightRequests(4)
+                .setCompress(compress)
+                .build();
+        appender.start();
+        event = Log4jLogEvent.newBuilder()
+                .setLoggerName(HttpAppenderBenchmark.class.getName())
+                .setLevel(Level.INFO)
+                .setMessage(new SimpleMessage("Processed order 12345 for customer 0x3ade68b1 in 42 ms"))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        appender.stop();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void threads01() {
+        appender.append(event);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void threads04() {
+        appender.append(event);
+    }
+}
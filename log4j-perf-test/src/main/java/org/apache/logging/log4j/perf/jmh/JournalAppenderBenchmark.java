@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.perf.jmh;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.JournalAppender;
+import org.apache.logging.log4j.core.appender.NullAppender;
+import org.apache.logging.log4j.core.config.AppenderRef;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of the {@link JournalAppender} delivering to a {@link NullAppender}, with the journal forced
+ * to disk every {@code syncBatchSize} events.
+ */
+// HOW TO RUN THIS TEST
+// java -jar log4j-perf-test/target/benchmarks.jar ".*JournalAppenderBenchmark.*"
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JournalAppenderBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int syncBatchSize;
+
+    private Path directory;
+
+    private JournalAppender appender;
+
+    private LogEvent event;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("journal");
+        final Configuration configuration = new DefaultConfiguration();
+        final NullAppender target = NullAppender.createAppender("Null");
+        target.start();
+        configuration.addAppender(target);
+        appender = JournalAppender.newBuilder()
+                .setName("Journal")
+                .setConfiguration(configuration)
+                .setAppenderRef(AppenderRef.createAppenderRef(target.getName(), null, null))
+                .setDirectory(directory.toString())
+                .setSyncBatchSize(syncBatchSize)
+                .build();
+        appender.start();
+        event = Log4jLogEvent.newBuilder()
+                .setLoggerName(JournalAppenderBenchmark.class.getName())
+                .setLevel(Level.INFO)
+                .setMessage(new SimpleMessage("Processed order 12345 for customer 0x3ade68b1 in 42 ms"))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        appender.stop();
+        try (final Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder())
+                    .forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void threads01() {
+        appender.append(event);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void threads04() {
+        appender.append(event);
+    }
+}
@@ -63,6 +63,23 @@ public class LoggerConfigBenchmark {
     private final LogEvent LOGEVENT = createLogEventWithoutException();
     private final SimpleListAppender listAppender = new SimpleListAppender();
 
+    /** Depth of the additive hierarchies used by the {@code hierarchy*} benchmarks. */
+    private static final int HIERARCHY_DEPTH = 5;
+
+    private LoggerConfig compiledHierarchy;
+    private LoggerConfig recursiveHierarchy;
+
+    /**
+     * Subclasses of {@link LoggerConfig} are not compiled into a dispatch plan and walk the parent chain for each
+     * event, like all logger configurations did before.
+     */
+    private static class RecursiveLoggerConfig extends LoggerConfig {
+
+        RecursiveLoggerConfig(final String name) {
+            super(name, Level.ALL, true);
+        }
+    }
+
     private static class SimpleListAppender extends AbstractAppender {
         private static final long serialVersionUID = 1L;
         private final AtomicInteger count = new AtomicInteger();
@@ -87,6 +104,23 @@ public class LoggerConfigBenchmark {
         listAppender.start();
         final AppenderControl control = new AppenderControl(listAppender, Level.ALL, null);
         appenderSet.add(control);
+
+        compiledHierarchy = createHierarchy(false);
+        recursiveHierarchy = createHierarchy(true);
+    }
+
+    private LoggerConfig createHierarchy(final boolean recursive) {
+        LoggerConfig parent = null;
+        String name = "";
+        for (int i = 0; i < HIERARCHY_DEPTH; i++) {
+            name = i == 0 ? "a" : name + ".a";
+            final LoggerConfig loggerConfig =
+                    recursive ? new RecursiveLoggerConfig(name) : new LoggerConfig(name, Level.ALL, true);
+            loggerConfig.addAppender(listAppender, null, null);
+            loggerConfig.setParent(parent);
+            parent = loggerConfig;
+        }
+        return parent;
     }
 
     @Benchmark
@@ -120,6 +154,18 @@ public class LoggerConfigBenchmark {
         return listAppender.size();
     }
 
+    @Benchmark
+    public int hierarchyCompiled() {
+        compiledHierarchy.log(LOGEVENT);
+        return listAppender.size();
+    }
+
+    @Benchmark
+    public int hierarchyRecursive() {
+        recursiveHierarchy.log(LOGEVENT);
+        return listAppender.size();
+    }
+
     /**
      * Logs an event.
      *
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.perf.jmh;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.MessageFactory;
+import org.apache.logging.log4j.message.ParameterizedMessageFactory;
+import org.apache.logging.log4j.spi.ConcurrentLoggerRegistry;
+import org.apache.logging.log4j.spi.ExtendedLogger;
+import org.apache.logging.log4j.spi.LoggerRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures the cost of {@link LogManager#getLogger} lookups of existing loggers under contention, as done by
+ * frameworks that call {@code LogManager.getLogger(getClass())} for each request.
+ */
+// ============================== HOW TO RUN THIS TEST: ====================================
+// (Quick build: mvn -DskipTests=true clean package -pl log4j-perf-test -am )
+//
+// java -jar log4j-perf-test/target/benchmarks.jar ".*LoggerRegistryBenchmark.*" -f 1 -wi 5 -i 10 -prof gc
+//
+// Usage help:
+// java -jar log4j-perf-test/target/benchmarks.jar -help
+//
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class LoggerRegistryBenchmark {
+
+    private static final String LOGGER_NAME = LoggerRegistryBenchmark.class.getName();
+
+    private static final MessageFactory MESSAGE_FACTORY = ParameterizedMessageFactory.INSTANCE;
+
+    private final LoggerRegistry<ExtendedLogger> legacyRegistry = new LoggerRegistry<>();
+
+    private final LoggerRegistry<ExtendedLogger> concurrentRegistry = new ConcurrentLoggerRegistry<>();
+
+    @Setup
+    public void setUp() {
+        final ExtendedLogger logger = (ExtendedLogger) LogManager.getLogger(LoggerRegistryBenchmark.class);
+        legacyRegistry.putIfAbsent(LOGGER_NAME, null, logger);
+        legacyRegistry.putIfAbsent(LOGGER_NAME, MESSAGE_FACTORY, logger);
+        concurrentRegistry.putIfAbsent(LOGGER_NAME, null, logger);
+        concurrentRegistry.putIfAbsent(LOGGER_NAME, MESSAGE_FACTORY, logger);
+    }
+
+    @Benchmark
+    public Logger getLoggerByClass() {
+        return LogManager.getLogger(LoggerRegistryBenchmark.class);
+    }
+
+    @Benchmark
+    public Logger getLoggerByName() {
+        return LogManager.getLogger(LOGGER_NAME);
+    }
+
+    @Benchmark
+    public ExtendedLogger legacyRegistryDefaultFactory() {
+        return legacyRegistry.getLogger(LOGGER_NAME, null);
+    }
+
+    @Benchmark
+    public ExtendedLogger concurrentRegistryDefaultFactory() {
+        return concurrentRegistry.getLogger(LOGGER_NAME, null);
+    }
+
+    @Benchmark
+    public ExtendedLogger legacyRegistryCustomFactory() {
+        return legacyRegistry.getLogger(LOGGER_NAME, MESSAGE_FACTORY);
+    }
+
+    @Benchmark
+    public ExtendedLogger concurrentRegistryCustomFactory() {
+        return concurrentRegistry.getLogger(LOGGER_NAME, MESSAGE_FACTORY);
+    }
+}
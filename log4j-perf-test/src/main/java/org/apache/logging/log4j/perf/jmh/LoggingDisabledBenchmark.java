@@ -17,9 +17,11 @@
 package org.apache.logging.log4j.perf.jmh;
 
 import java.io.File;
+import java.net.URISyntaxException;
 import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.LoggerContext;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
@@ -52,6 +54,8 @@ public class LoggingDisabledBenchmark {
     Logger log4j2Logger;
     org.slf4j.Logger slf4jLogger;
     org.apache.log4j.Logger log4j1Logger;
+    LoggerContext globalFiltersContext;
+    Logger globalFiltersLogger;
 
     @Setup
     public void setUp() throws Exception {
@@ -64,6 +68,23 @@ public class LoggingDisabledBenchmark {
         log4j2Logger = LogManager.getLogger(FileAppenderWithLocationBenchmark.class);
         slf4jLogger = LoggerFactory.getLogger(FileAppenderWithLocationBenchmark.class);
         log4j1Logger = org.apache.log4j.Logger.getLogger(FileAppenderWithLocationBenchmark.class);
+        globalFiltersContext = createGlobalFiltersContext();
+        globalFiltersLogger = globalFiltersContext.getLogger(FileAppenderWithLocationBenchmark.class);
+    }
+
+    /**
+     * Creates a logger context whose configuration has global filters, which can deny but never enable events.
+     */
+    static LoggerContext createGlobalFiltersContext() throws URISyntaxException {
+        final LoggerContext context = new LoggerContext(
+                "GlobalFilters",
+                null,
+                LoggingDisabledBenchmark.class
+                        .getClassLoader()
+                        .getResource("log4j2-perf-global-filters.xml")
+                        .toURI());
+        context.start();
+        return context;
     }
 
     @TearDown
@@ -71,6 +92,7 @@ public class LoggingDisabledBenchmark {
         System.clearProperty("log4j.configurationFile");
         System.clearProperty("log4j.configuration");
         System.clearProperty("logback.configurationFile");
+        globalFiltersContext.stop();
 
         deleteLogFiles();
     }
@@ -107,6 +129,13 @@ public class LoggingDisabledBenchmark {
         log4j2Logger.debug("This won't be logged");
     }
 
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void log4j2GlobalFilters() {
+        globalFiltersLogger.debug("This won't be logged");
+    }
+
     @Benchmark
     @BenchmarkMode(Mode.AverageTime)
     @OutputTimeUnit(TimeUnit.NANOSECONDS)
@@ -123,6 +152,15 @@ public class LoggingDisabledBenchmark {
         }
     }
 
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void log4j2GlobalFiltersIsDebugEnabled() {
+        if (globalFiltersLogger.isDebugEnabled()) {
+            globalFiltersLogger.debug("This won't be logged");
+        }
+    }
+
     @Benchmark
     @BenchmarkMode(Mode.AverageTime)
     @OutputTimeUnit(TimeUnit.NANOSECONDS)
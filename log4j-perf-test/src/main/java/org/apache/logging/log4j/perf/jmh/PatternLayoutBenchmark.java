@@ -82,6 +82,24 @@ public class PatternLayoutBenchmark {
             PatternLayout.createLayout("%d %m%ex%n", null, null, null, CHARSET_DEFAULT, false, true, null, null);
     private final PatternLayout PATTERN_M_C_D_EX =
             PatternLayout.createLayout("%d %c %m%ex%n", null, null, null, CHARSET_DEFAULT, false, true, null, null);
+    private final PatternLayout PATTERN_M_C_D_COMPILED = createCompiledLayout("%d %c %m%n");
+    private final PatternLayout PATTERN_M_C_D_EX_COMPILED = createCompiledLayout("%d %c %m%ex%n");
+    private final PatternLayout PATTERN_SIMPLE = createLayout(PatternLayout.SIMPLE_CONVERSION_PATTERN, false);
+    private final PatternLayout PATTERN_SIMPLE_COMPILED = createCompiledLayout(PatternLayout.SIMPLE_CONVERSION_PATTERN);
+
+    private static PatternLayout createCompiledLayout(final String pattern) {
+        return createLayout(pattern, true);
+    }
+
+    private static PatternLayout createLayout(final String pattern, final boolean compiled) {
+        return PatternLayout.newBuilder()
+                .withPattern(pattern)
+                .withCharset(CHARSET_DEFAULT)
+                .withAlwaysWriteExceptions(false)
+                .withNoConsoleNoAnsi(true)
+                .withCompiled(compiled)
+                .build();
+    }
 
     private static LogEvent createLogEvent() {
         final Marker marker = null;
@@ -285,4 +303,32 @@ public class PatternLayoutBenchmark {
     public String serializableMCNoSpace() {
         return PATTERN_M_C_NOSPACE.toSerializable(EVENT);
     }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String serializableMCDCompiled() {
+        return PATTERN_M_C_D_COMPILED.toSerializable(EVENT);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String serializableMCDExCompiled() {
+        return PATTERN_M_C_D_EX_COMPILED.toSerializable(EVENT);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String serializableSimple() {
+        return PATTERN_SIMPLE.toSerializable(EVENT);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String serializableSimpleCompiled() {
+        return PATTERN_SIMPLE_COMPILED.toSerializable(EVENT);
+    }
 }
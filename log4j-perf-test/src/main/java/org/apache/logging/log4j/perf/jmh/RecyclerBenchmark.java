@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.perf.jmh;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.spi.recycler.Recycler;
+import org.apache.logging.log4j.spi.recycler.RecyclerFactories;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the recycler strategies used by the garbage-free code paths on platform and virtual threads.
+ * <p>
+ * Each invocation submits {@value #TASKS} short tasks, each acquiring and releasing {@value #CALLS} objects, which
+ * is the usage pattern of a request handled by a thread-per-task executor. Virtual threads require Java 21.
+ * </p>
+ */
+// ============================== HOW TO RUN THIS TEST: ====================================
+// (Quick build: mvn -DskipTests=true clean package -pl log4j-perf-test -am )
+//
+// java -jar log4j-perf-test/target/benchmarks.jar ".*RecyclerBenchmark.*" -f 1 -wi 5 -i 10 -prof gc
+//
+// Usage help:
+// java -jar log4j-perf-test/target/benchmarks.jar -help
+//
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RecyclerBenchmark {
+
+    private static final int TASKS = 1000;
+
+    private static final int CALLS = 10;
+
+    @Param({"platform", "virtual"})
+    public String threadType;
+
+    @Param({"threadLocal", "striped", "dummy"})
+    public String recyclerFactory;
+
+    private ExecutorService executor;
+
+    private Recycler<StringBuilder> recycler;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Throwable {
+        executor = "virtual".equals(threadType)
+                ? newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        recycler = RecyclerFactories.ofSpec(recyclerFactory)
+                .create(() -> new StringBuilder(128), builder -> builder.setLength(0));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() throws Throwable {
+        try {
+            return (ExecutorService) MethodHandles.publicLookup()
+                    .findStatic(
+                            Executors.class,
+                            "newVirtualThreadPerTaskExecutor",
+                            MethodType.methodType(ExecutorService.class))
+                    .invokeExact();
+        } catch (final NoSuchMethodException e) {
+            throw new IllegalStateException("Virtual threads require Java 21 or later", e);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS * CALLS)
+    public void acquireAndRelease(final Blackhole blackhole) throws ExecutionException, InterruptedException {
+        final List<Future<?>> futures = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < CALLS; j++) {
+                    final StringBuilder builder = recycler.acquire();
+                    builder.append("Hello, ").append(j);
+                    blackhole.consume(builder.length());
+                    recycler.release(builder);
+                }
+            }));
+        }
+        for (final Future<?> future : futures) {
+            future.get();
+        }
+    }
+}
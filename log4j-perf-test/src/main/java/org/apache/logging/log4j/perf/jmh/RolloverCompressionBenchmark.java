@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.perf.jmh;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import org.apache.logging.log4j.core.appender.rolling.action.CompressionExecutor;
+import org.apache.logging.log4j.core.appender.rolling.action.GzCompressAction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time needed to compress a rolled over file with {@link GzCompressAction}, either single-threaded or
+ * block-parallel using a {@link CompressionExecutor}.
+ */
+// HOW TO RUN THIS TEST
+// java -jar log4j-perf-test/target/benchmarks.jar ".*RolloverCompressionBenchmark.*"
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RolloverCompressionBenchmark {
+
+    private static final String LINE =
+            "2024-01-01 12:34:56,789 INFO  [http-nio-8080-exec-12] org.example.OrderService - Processed order ";
+
+    @Param({"1024"})
+    private int fileSizeMb;
+
+    @Param({"0", "2", "4", "8"})
+    private int compressionThreads;
+
+    private File source;
+
+    private File destination;
+
+    private CompressionExecutor executor;
+
+    @Setup
+    public void setUp() throws IOException {
+        source = File.createTempFile("rollover", ".log");
+        destination = new File(source.getPath() + ".gz");
+        final long size = fileSizeMb * 1024L * 1024L;
+        try (final BufferedWriter writer = Files.newBufferedWriter(source.toPath(), StandardCharsets.UTF_8)) {
+            long written = 0;
+            for (long i = 0; written < size; i++) {
+                final String line = LINE + i + '\n';
+                writer.write(line);
+                written += line.length();
+            }
+        }
+        executor = compressionThreads > 0
+                ? new CompressionExecutor("benchmark", compressionThreads, CompressionExecutor.DEFAULT_BLOCK_SIZE)
+                : null;
+    }
+
+    @TearDown
+    public void tearDown() {
+        source.delete();
+        destination.delete();
+    }
+
+    @Benchmark
+    public boolean gzip() throws IOException {
+        return GzCompressAction.execute(source, destination, false, Deflater.DEFAULT_COMPRESSION, executor);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.perf.jmh;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.apache.logging.log4j.core.impl.ContextDataFactory;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.util.StringMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the routing of events with many distinct keys, e.g. one route per tenant, by concurrent threads.
+ * <p>
+ * The routes are created on demand and write to {@code CountingNoOp} appenders, so that only the cost of the routing
+ * itself is measured. The {@code BoundedRouting} appender also keeps track of the least recently used routes.
+ * </p>
+ */
+// HOW TO RUN THIS TEST
+// java -jar log4j-perf-test/target/benchmarks.jar ".*RoutingAppenderBenchmark.*" -f 1 -wi 5 -i 5
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RoutingAppenderBenchmark {
+
+    @Param({"16", "2000"})
+    private int keyCount;
+
+    @Param({"Routing", "BoundedRouting"})
+    private String appenderName;
+
+    private LoggerContext context;
+    private Appender appender;
+    private LogEvent[] events;
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        private int index = ThreadLocalRandom.current().nextInt(1 << 16);
+    }
+
+    @Setup
+    public void setUp() {
+        context = Configurator.initialize("RoutingAppenderBenchmark", "log4j2-perf-routing.xml");
+        appender = context.getConfiguration().getAppender(appenderName);
+        events = new LogEvent[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            final StringMap contextData = ContextDataFactory.createContextData();
+            contextData.putValue("tenant", "tenant-" + i);
+            contextData.freeze();
+            events[i] = Log4jLogEvent.newBuilder()
+                    .setLoggerName(RoutingAppenderBenchmark.class.getName())
+                    .setLevel(Level.INFO)
+                    .setMessage(new SimpleMessage("Routed message"))
+                    .setContextData(contextData)
+                    .build();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        Configurator.shutdown(context);
+    }
+
+    @Benchmark
+    public void route(final ThreadState state) {
+        appender.append(events[state.index++ % keyCount]);
+    }
+}
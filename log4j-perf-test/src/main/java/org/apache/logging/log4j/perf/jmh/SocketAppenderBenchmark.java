@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.perf.jmh;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.SocketAppender;
+import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.core.net.NioTcpSocketManager;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the throughput of the blocking and non-blocking TCP {@link SocketAppender} sending to a loopback server
+ * that discards its input.
+ */
+// HOW TO RUN THIS TEST
+// java -jar log4j-perf-test/target/benchmarks.jar ".*SocketAppenderBenchmark.*"
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SocketAppenderBenchmark {
+
+    @Param({"false", "true"})
+    private boolean nonBlocking;
+
+    private ServerSocket serverSocket;
+
+    private SocketAppender appender;
+
+    private LogEvent event;
+
+    @Setup
+    public void setUp() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        final Thread server = new Thread(
+                () -> {
+                    try (final Socket socket = serverSocket.accept();
+                            final InputStream in = socket.getInputStream()) {
+                        final byte[] buf = new byte[64 * 1024];
+                        while (in.read(buf) != -1) {
+                            // discard
+                        }
+                    } catch (final IOException e) {
+                        // server closed
+                    }
+                },
+                "SocketAppenderBenchmark-Server");
+        server.setDaemon(true);
+        server.start();
+        appender = SocketAppender.newBuilder()
+                .setName("Socket")
+                .setConfiguration(new DefaultConfiguration())
+                .setLayout(PatternLayout.newBuilder()
+                        .withPattern("%d %p [%t] %c - %m%n")
+                        .build())
+                .setHost(InetAddress.getLoopbackAddress().getHostAddress())
+                .setPort(serverSocket.getLocalPort())
+                .setNonBlocking(nonBlocking)
+                .setOverflowPolicy(NioTcpSocketManager.OverflowPolicy.BLOCK)
+                .build();
+        appender.start();
+        event = Log4jLogEvent.newBuilder()
+                .setLoggerName(SocketAppenderBenchmark.class.getName())
+                .setLevel(Level.INFO)
+                .setMessage(new SimpleMessage("Processed order 12345 for customer 0x3ade68b1 in 42 ms"))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        appender.stop();
+        serverSocket.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void threads01() {
+        appender.append(event);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void threads04() {
+        appender.append(event);
+    }
+}
@@ -20,6 +20,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.perf.util.StackDriver;
+import org.apache.logging.log4j.util.StackLocatorUtil;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
@@ -101,6 +102,14 @@ public class StackWalkBenchmark {
         });
     }
 
+    @Benchmark
+    public void stackLocatorUtil(final Blackhole bh) {
+        stackDriver.deepCall(initialDepth, callDepth, StackLocatorUtil::calcLocation);
+    }
+
+    /**
+     * The cost of a location supplied by the call site, e.g. using {@code LogBuilder.withLocation(StackTraceElement)}.
+     */
     @Benchmark
     public void baseline(final Blackhole bh) {
 
@@ -21,7 +21,12 @@ import java.nio.CharBuffer;
 import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.core.layout.ByteBufferDestination;
+import org.apache.logging.log4j.core.layout.ByteBufferDestinationHelper;
+import org.apache.logging.log4j.core.layout.DirectStringBuilderEncoder;
+import org.apache.logging.log4j.core.layout.StringBuilderEncoder;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
@@ -58,6 +63,36 @@ public class StringEncodingBenchmark {
     private static final Charset CHARSET_US_ASCII = Charset.forName(STRING_US_ASCII);
     private static final CharsetEncoder ENCODER_SHIFT_JIS = CHARSET_SHIFT_JIS.newEncoder();
     private static final CharsetEncoder ENCODER_ISO8859_1 = CHARSET_ISO8859_1.newEncoder();
+    private static final StringBuilder LOGMSG_BUILDER = new StringBuilder(LOGMSG);
+
+    private final StringBuilderEncoder utf8StringBuilderEncoder = new StringBuilderEncoder(StandardCharsets.UTF_8);
+    private final DirectStringBuilderEncoder utf8DirectEncoder = new DirectStringBuilderEncoder(StandardCharsets.UTF_8);
+    private final Destination destination = new Destination();
+
+    private static final class Destination implements ByteBufferDestination {
+        private final ByteBuffer buffer = ByteBuffer.allocate(8 * 1024);
+
+        @Override
+        public ByteBuffer getByteBuffer() {
+            return buffer;
+        }
+
+        @Override
+        public ByteBuffer drain(final ByteBuffer buf) {
+            buf.clear();
+            return buf;
+        }
+
+        @Override
+        public void writeBytes(final ByteBuffer data) {
+            ByteBufferDestinationHelper.writeToUnsynchronized(data, this);
+        }
+
+        @Override
+        public void writeBytes(final byte[] data, final int offset, final int length) {
+            ByteBufferDestinationHelper.writeToUnsynchronized(data, offset, length, this);
+        }
+    }
 
     @Benchmark
     @BenchmarkMode(Mode.SampleTime)
@@ -138,6 +173,24 @@ public class StringEncodingBenchmark {
         return buf.array();
     }
 
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int utf8StringBuilderEncoder() {
+        destination.buffer.clear();
+        utf8StringBuilderEncoder.encode(LOGMSG_BUILDER, destination);
+        return destination.buffer.position();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int utf8DirectStringBuilderEncoder() {
+        destination.buffer.clear();
+        utf8DirectEncoder.encode(LOGMSG_BUILDER, destination);
+        return destination.buffer.position();
+    }
+
     @Benchmark
     @BenchmarkMode(Mode.SampleTime)
     @OutputTimeUnit(TimeUnit.NANOSECONDS)
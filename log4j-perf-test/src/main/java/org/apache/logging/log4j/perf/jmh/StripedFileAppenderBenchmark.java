@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.perf.jmh;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.LifeCycle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a synchronous {@code FileAppender} with the same appender using {@code stripedBuffers="true"} as the
+ * number of logging threads grows.
+ *
+ * @see FileAppenderBenchmark
+ */
+// HOW TO RUN THIS TEST
+// java -jar log4j-perf-test/target/benchmarks.jar ".*StripedFileAppenderBenchmark.*"
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StripedFileAppenderBenchmark {
+
+    public static final String MESSAGE = "This is a debug message";
+
+    @Param({"File", "StripedFile"})
+    private String appender;
+
+    private Logger logger;
+
+    @Setup
+    public void setUp() {
+        System.setProperty("log4j.configurationFile", "log4j2-striped-perf.xml");
+        System.setProperty("log4j2.enableThreadlocals", "true");
+        deleteLogFiles();
+        logger = LogManager.getLogger(appender);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ((LifeCycle) LogManager.getContext(false)).stop();
+        System.clearProperty("log4j.configurationFile");
+        System.clearProperty("log4j2.enableThreadlocals");
+        deleteLogFiles();
+    }
+
+    private void deleteLogFiles() {
+        new File("target/testlog4j2.log").delete();
+        new File("target/testStripedlog4j2.log").delete();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void threads01() {
+        logger.debug(MESSAGE);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void threads08() {
+        logger.debug(MESSAGE);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public void threads32() {
+        logger.debug(MESSAGE);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void threads64() {
+        logger.debug(MESSAGE);
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.logging.log4j.perf.jmh;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.Marker;
@@ -27,6 +28,7 @@ import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.impl.Log4jLogEvent;
 import org.apache.logging.log4j.core.layout.ByteBufferDestination;
 import org.apache.logging.log4j.core.layout.ByteBufferDestinationHelper;
+import org.apache.logging.log4j.core.layout.DirectStringBuilderEncoder;
 import org.apache.logging.log4j.core.layout.PatternLayout;
 import org.apache.logging.log4j.core.layout.StringBuilderEncoder;
 import org.apache.logging.log4j.message.Message;
@@ -60,6 +62,9 @@ public class TextEncoderHelperBenchmark {
     static final String STR_TEXT =
             "20:01:59.9876 INFO [org.apache.logging.log4j.perf.jmh.TextEncoderHelperBenchmark] AB!(%087936DZYXQWEIOP$#^~-=/><nb"; // length=32
     static final StringBuilder BUFF_TEXT = new StringBuilder(STR_TEXT);
+    static final StringBuilder BUFF_TEXT_NON_ASCII =
+            new StringBuilder("20:01:59.9876 INFO [org.apache.logging.log4j.perf.jmh.TextEncoderHelperBenchmark] "
+                    + "Grüße aus Köln, 日本語のテキスト");
     static final CharBuffer CHAR_BUFFER = CharBuffer.wrap(STR.toCharArray());
 
     static final LogEvent EVENT = createLogEvent();
@@ -148,6 +153,41 @@ public class TextEncoderHelperBenchmark {
         return destination.count;
     }
 
+    private final StringBuilderEncoder utf8TextEncoder = new StringBuilderEncoder(StandardCharsets.UTF_8);
+    private final DirectStringBuilderEncoder utf8DirectEncoder = new DirectStringBuilderEncoder(StandardCharsets.UTF_8);
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public long utf8TextEncoderEncode() {
+        utf8TextEncoder.encode(BUFF_TEXT, destination);
+        return destination.count;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public long utf8DirectEncoderEncode() {
+        utf8DirectEncoder.encode(BUFF_TEXT, destination);
+        return destination.count;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public long utf8TextEncoderEncodeNonAscii() {
+        utf8TextEncoder.encode(BUFF_TEXT_NON_ASCII, destination);
+        return destination.count;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public long utf8DirectEncoderEncodeNonAscii() {
+        utf8DirectEncoder.encode(BUFF_TEXT_NON_ASCII, destination);
+        return destination.count;
+    }
+
     //    @Benchmark
     //    @BenchmarkMode(Mode.SampleTime)
     //    @OutputTimeUnit(TimeUnit.NANOSECONDS)
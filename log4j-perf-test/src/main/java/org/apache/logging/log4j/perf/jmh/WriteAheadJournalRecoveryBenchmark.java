@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.logging.log4j.perf.jmh;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.core.util.WriteAheadJournal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to open a {@link WriteAheadJournal} after a crash: all the records are unacknowledged and the last
+ * one is torn, so recovery verifies the checksum of every record and truncates the last segment.
+ */
+// HOW TO RUN THIS TEST
+// java -jar log4j-perf-test/target/benchmarks.jar ".*WriteAheadJournalRecoveryBenchmark.*"
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WriteAheadJournalRecoveryBenchmark {
+
+    private static final byte[] TORN_RECORD = {0, 0, 1};
+
+    @Param({"10000", "1000000"})
+    private int recordCount;
+
+    private Path directory;
+
+    private Path lastSegment;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("journal");
+        final byte[] record = "{\"level\":\"INFO\",\"message\":\"Processed order 12345 for customer 0x3ade68b1\"}"
+                .getBytes(StandardCharsets.UTF_8);
+        try (final WriteAheadJournal journal = WriteAheadJournal.open(
+                directory, WriteAheadJournal.DEFAULT_SEGMENT_SIZE, WriteAheadJournal.DEFAULT_MAX_SIZE)) {
+            for (int i = 0; i < recordCount; i++) {
+                journal.append(record);
+            }
+        }
+        try (final Stream<Path> files = Files.list(directory)) {
+            lastSegment = files.filter(file -> file.toString().endsWith(".wal"))
+                    .max(Comparator.naturalOrder())
+                    .orElseThrow(IllegalStateException::new);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void tearLastRecord() throws IOException {
+        try (final FileChannel channel = FileChannel.open(lastSegment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(TORN_RECORD), channel.size());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (final Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder())
+                    .forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long recover() throws IOException {
+        try (final WriteAheadJournal journal = WriteAheadJournal.open(
+                directory, WriteAheadJournal.DEFAULT_SEGMENT_SIZE, WriteAheadJournal.DEFAULT_MAX_SIZE)) {
+            return journal.getWriteOffset();
+        }
+    }
+}